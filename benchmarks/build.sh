@@ -0,0 +1,70 @@
+#!/bin/bash
+#
+# Build script for the JMH benchmark suite
+#
+# Compiles the taskprocessor sources and the benchmarks, running the JMH
+# annotation processor to generate the benchmark harness.
+#
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+SRC_DIR="$SCRIPT_DIR/src"
+OUT_DIR="$SCRIPT_DIR/out"
+LIB_DIR="$PROJECT_ROOT/lib"
+
+echo "========================================"
+echo "  Building Benchmarks"
+echo "========================================"
+
+MAVEN_REPO="https://repo1.maven.org/maven2"
+
+declare -a JARS=(
+    "org/apache/poi/poi/5.2.3/poi-5.2.3.jar"
+    "org/apache/poi/poi-ooxml/5.2.3/poi-ooxml-5.2.3.jar"
+    "org/apache/poi/poi-ooxml-lite/5.2.3/poi-ooxml-lite-5.2.3.jar"
+    "org/apache/commons/commons-compress/1.21/commons-compress-1.21.jar"
+    "org/apache/xmlbeans/xmlbeans/5.1.1/xmlbeans-5.1.1.jar"
+    "commons-io/commons-io/2.11.0/commons-io-2.11.0.jar"
+    "org/apache/commons/commons-collections4/4.4/commons-collections4-4.4.jar"
+    "org/apache/logging/log4j/log4j-api/2.18.0/log4j-api-2.18.0.jar"
+    "org/openjdk/jmh/jmh-core/1.37/jmh-core-1.37.jar"
+    "org/openjdk/jmh/jmh-generator-annprocess/1.37/jmh-generator-annprocess-1.37.jar"
+    "net/sf/jopt-simple/jopt-simple/5.0.4/jopt-simple-5.0.4.jar"
+    "org/apache/commons/commons-math3/3.6.1/commons-math3-3.6.1.jar"
+)
+
+# Download missing dependencies
+mkdir -p "$LIB_DIR"
+for jar_path in "${JARS[@]}"; do
+    jar_name=$(basename "$jar_path")
+    if [ ! -f "$LIB_DIR/$jar_name" ]; then
+        echo "Downloading $jar_name..."
+        curl -sLko "$LIB_DIR/$jar_name" "$MAVEN_REPO/$jar_path"
+    fi
+done
+
+SEP=":"
+if [[ "$OSTYPE" == "msys" || "$OSTYPE" == "cygwin" || "$OSTYPE" == "win32" ]]; then
+    # Windows uses semicolons
+    SEP=";"
+fi
+
+# Always rebuild taskprocessor so the benchmarks measure the current sources
+echo "Compiling taskprocessor..."
+mkdir -p "$PROJECT_ROOT/out"
+javac -cp "$LIB_DIR/*" -d "$PROJECT_ROOT/out" "$PROJECT_ROOT"/src/taskprocessor/*.java
+
+echo "Compiling benchmarks..."
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR/generated"
+PROCESSOR_PATH="$LIB_DIR/jmh-generator-annprocess-1.37.jar${SEP}$LIB_DIR/jmh-core-1.37.jar${SEP}$LIB_DIR/jopt-simple-5.0.4.jar${SEP}$LIB_DIR/commons-math3-3.6.1.jar"
+javac -cp "$LIB_DIR/*${SEP}$PROJECT_ROOT/out" -processorpath "$PROCESSOR_PATH" \
+    -d "$OUT_DIR" -s "$OUT_DIR/generated" \
+    $(find "$SRC_DIR" -name "*.java")
+
+echo ""
+echo "Build successful!"
+echo "Run with:"
+echo "  benchmarks/run.sh [JMH options]     # e.g. benchmarks/run.sh Dominance"
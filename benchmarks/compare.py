@@ -0,0 +1,51 @@
+#!/usr/bin/env python3
+"""
+Compare two JMH JSON result files (e.g. from two revisions).
+
+Usage: python3 benchmarks/compare.py <baseline.json> <candidate.json>
+
+Prints one line per benchmark/parameter combination with both scores and the
+ratio candidate/baseline (below 1.0 is faster for time-per-operation modes).
+"""
+
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        results = json.load(f)
+    scores = {}
+    for r in results:
+        params = ",".join("%s=%s" % kv for kv in sorted(r.get("params", {}).items()))
+        key = r["benchmark"].rsplit(".", 2)[-2] + "." + r["benchmark"].rsplit(".", 1)[-1]
+        if params:
+            key += " [" + params + "]"
+        metric = r["primaryMetric"]
+        scores[key] = (metric["score"], metric["scoreError"], metric["scoreUnit"])
+    return scores
+
+
+def main():
+    if len(sys.argv) != 3:
+        print(__doc__.strip())
+        sys.exit(1)
+
+    baseline = load(sys.argv[1])
+    candidate = load(sys.argv[2])
+
+    width = max(len(k) for k in set(baseline) | set(candidate))
+    for key in sorted(set(baseline) | set(candidate)):
+        old = baseline.get(key)
+        new = candidate.get(key)
+        if old is None or new is None:
+            only = "candidate" if old is None else "baseline"
+            score = new if old is None else old
+            print("%-*s  %12.3f %s  (only in %s)" % (width, key, score[0], score[2], only))
+            continue
+        ratio = new[0] / old[0] if old[0] else float("nan")
+        print("%-*s  %12.3f -> %12.3f %s  x%.3f" % (width, key, old[0], new[0], new[2], ratio))
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,44 @@
+#!/bin/bash
+#
+# Run the JMH benchmark suite
+#
+# Results are written as JSON to benchmarks/results/<git revision>.json unless
+# -rff is given. Compare two runs with:
+#   python3 benchmarks/compare.py benchmarks/results/<old>.json benchmarks/results/<new>.json
+#
+# Examples:
+#   ./run.sh                                  # All benchmarks
+#   ./run.sh Dominance                        # Benchmarks matching a regex
+#   ./run.sh Dominance -p size=1000           # Override a parameter
+#   ./run.sh -l                               # List benchmarks
+#
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+OUT_DIR="$SCRIPT_DIR/out"
+LIB_DIR="$PROJECT_ROOT/lib"
+
+if [ ! -f "$OUT_DIR/META-INF/BenchmarkList" ]; then
+    echo "Benchmarks not built. Running build first..."
+    "$SCRIPT_DIR/build.sh" || exit 1
+fi
+
+CLASSPATH="$OUT_DIR:$PROJECT_ROOT/out:$LIB_DIR/*"
+if [[ "$OSTYPE" == "msys" || "$OSTYPE" == "cygwin" || "$OSTYPE" == "win32" ]]; then
+    CLASSPATH="$OUT_DIR;$PROJECT_ROOT/out;$LIB_DIR/*"
+fi
+
+# Default JSON result file named after the current revision
+RESULT_ARGS=()
+if [[ ! " $* " =~ " -rff " ]]; then
+    REVISION=$(git -C "$PROJECT_ROOT" rev-parse --short HEAD 2>/dev/null || echo "local")
+    if [ -n "$(git -C "$PROJECT_ROOT" status --porcelain -- src 2>/dev/null)" ]; then
+        REVISION="$REVISION-dirty"
+    fi
+    mkdir -p "$SCRIPT_DIR/results"
+    RESULT_ARGS=(-rf json -rff "$SCRIPT_DIR/results/$REVISION.json")
+fi
+
+# Benchmarks read the experiment data relative to the project root
+cd "$PROJECT_ROOT"
+java -cp "$CLASSPATH" org.openjdk.jmh.Main "${RESULT_ARGS[@]}" "$@"
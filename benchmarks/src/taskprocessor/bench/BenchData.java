@@ -0,0 +1,94 @@
+package taskprocessor.bench;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared inputs for the benchmarks: synthetic point clouds and the experiment data location.
+ * All synthetic data is generated from fixed seeds so runs are comparable across revisions.
+ */
+final class BenchData {
+
+    private BenchData() {
+    }
+
+    /**
+     * Project base path holding the experiment folders: the bench.basePath system
+     * property, or the working directory (run.sh runs from the project root).
+     */
+    static String basePath() {
+        return System.getProperty("bench.basePath", System.getProperty("user.dir"));
+    }
+
+    /**
+     * Result workbooks of a Multi-Objective task folder, sorted by name.
+     *
+     * @param limit Maximum number of files
+     */
+    static List<File> multiObjectiveFiles(int numTasks, int limit) {
+        File dir = new File(basePath(), "Multi-Objective Algorithms/" + numTasks + " Task");
+        File[] files = dir.listFiles((d, name) -> name.endsWith(".xlsx") && !name.startsWith("~"));
+        if (files == null || files.length == 0) {
+            throw new IllegalStateException("No result files in " + dir.getAbsolutePath()
+                    + " (run from the project root or set -Dbench.basePath)");
+        }
+        Arrays.sort(files);
+        return new ArrayList<>(Arrays.asList(files).subList(0, Math.min(limit, files.length)));
+    }
+
+    /**
+     * Two-objective point cloud.
+     *
+     * @param n Number of points
+     * @param shape "uniform" (points in the unit square, few non-dominated) or
+     *              "nearPareto" (points close to the front f2 = 1 - sqrt(f1), many non-dominated)
+     * @param seed Random seed
+     */
+    static List<double[]> cloud(int n, String shape, long seed) {
+        Random random = new Random(seed);
+        List<double[]> points = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double x = random.nextDouble();
+            double y;
+            if (shape.equals("uniform")) {
+                y = random.nextDouble();
+            } else if (shape.equals("nearPareto")) {
+                y = 1.0 - Math.sqrt(x) + 0.01 * random.nextDouble();
+            } else {
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+            }
+            points.add(new double[]{x, y});
+        }
+        return points;
+    }
+
+    /**
+     * Non-dominated front of n points on f2 = offset - sqrt(f1), in random order.
+     */
+    static List<double[]> front(int n, double offset, long seed) {
+        Random random = new Random(seed);
+        List<double[]> points = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double x = random.nextDouble();
+            points.add(new double[]{x, offset - Math.sqrt(x)});
+        }
+        return points;
+    }
+
+    /**
+     * Convert to the boxed form used by PerformanceMetrics.
+     */
+    static ArrayList<ArrayList<Double>> boxed(List<double[]> points) {
+        ArrayList<ArrayList<Double>> result = new ArrayList<>(points.size());
+        for (double[] p : points) {
+            ArrayList<Double> row = new ArrayList<>(2);
+            row.add(p[0]);
+            row.add(p[1]);
+            result.add(row);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package taskprocessor.bench;
+
+import org.openjdk.jmh.annotations.*;
+import taskprocessor.Dominance;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-dominated filtering of synthetic two-objective clouds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DominanceBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"uniform", "nearPareto"})
+    public String shape;
+
+    private List<double[]> points;
+
+    @Setup
+    public void setup() {
+        points = BenchData.cloud(size, shape, 42);
+    }
+
+    @Benchmark
+    public List<double[]> getNonDominatedSet() {
+        return Dominance.getNonDominatedSet(points);
+    }
+}
@@ -0,0 +1,62 @@
+package taskprocessor.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import taskprocessor.ExcelReader;
+import taskprocessor.ResultRow;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing real result workbooks from "Multi-Objective Algorithms/700 Task".
+ * Scores are per file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExcelReaderBenchmark {
+
+    private static final int FILES = 20;
+
+    /**
+     * dom: full workbook via XSSFWorkbook; streaming: SAX reader with all result columns;
+     * projected: SAX reader with only the two objective columns of Energy vs Makespan.
+     */
+    @Param({"dom", "streaming", "projected"})
+    public String mode;
+
+    private List<File> files;
+    private ExcelReader reader;
+    private Set<String> columns;
+
+    @Setup
+    public void setup() {
+        files = BenchData.multiObjectiveFiles(700, FILES);
+        reader = new ExcelReader();
+        if (mode.equals("streaming")) {
+            columns = ResultRow.ALL_COLUMNS;
+        } else if (mode.equals("projected")) {
+            columns = new HashSet<>(Arrays.asList("Energy Use Wh", "Makespan"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void readExcelFile(Blackhole blackhole) throws Exception {
+        for (File file : files) {
+            if (columns == null) {
+                blackhole.consume(reader.readExcelFile(file.getAbsolutePath()));
+            } else {
+                blackhole.consume(reader.readExcelFile(file.getAbsolutePath(), columns));
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package taskprocessor.bench;
+
+import org.openjdk.jmh.annotations.*;
+import taskprocessor.ConcurrentParetoArchive;
+import taskprocessor.ParetoArchive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention of concurrent archive inserts: a fixed cloud is added by 1 to 64 producer threads,
+ * each taking every producers-th point so that all of them insert across the whole objective
+ * range, and the non-dominated set is read once at the end.
+ *
+ * - synchronized: one ParetoArchive behind a single lock
+ * - perThread: one ParetoArchive per producer, merged after all producers finish
+ * - striped: ConcurrentParetoArchive with four stripes per producer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParetoArchiveBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int producers;
+
+    @Param({"synchronized", "perThread", "striped"})
+    public String archive;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"uniform", "nearPareto"})
+    public String shape;
+
+    private double[] xs;
+    private double[] ys;
+    private ExecutorService pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<double[]> points = BenchData.cloud(size, shape, 42);
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = points.get(i)[0];
+            ys[i] = points.get(i)[1];
+        }
+        pool = Executors.newFixedThreadPool(producers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] insert() throws InterruptedException, ExecutionException {
+        switch (archive) {
+            case "synchronized": {
+                ParetoArchive shared = new ParetoArchive();
+                runProducers(p -> {
+                    for (int i = p; i < size; i += producers) {
+                        synchronized (shared) {
+                            shared.add(xs[i], ys[i], i);
+                        }
+                    }
+                });
+                return shared.indices();
+            }
+            case "perThread": {
+                ParetoArchive[] own = new ParetoArchive[producers];
+                runProducers(p -> {
+                    ParetoArchive local = new ParetoArchive();
+                    for (int i = p; i < size; i += producers) {
+                        local.add(xs[i], ys[i], i);
+                    }
+                    own[p] = local;
+                });
+                ParetoArchive merged = new ParetoArchive();
+                for (ParetoArchive local : own) {
+                    merged.merge(local);
+                }
+                return merged.indices();
+            }
+            case "striped": {
+                ConcurrentParetoArchive striped = new ConcurrentParetoArchive(0.0, 1.0, 4 * producers);
+                runProducers(p -> {
+                    for (int i = p; i < size; i += producers) {
+                        striped.add(xs[i], ys[i], i);
+                    }
+                });
+                return striped.indices();
+            }
+            default:
+                throw new IllegalArgumentException("Unknown archive: " + archive);
+        }
+    }
+
+    private interface Producer {
+        void run(int producer);
+    }
+
+    private void runProducers(Producer producer) throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(producers);
+        for (int p = 0; p < producers; p++) {
+            final int index = p;
+            futures.add(pool.submit(() -> producer.run(index)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
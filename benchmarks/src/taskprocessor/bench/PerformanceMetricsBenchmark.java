@@ -0,0 +1,67 @@
+package taskprocessor.bench;
+
+import org.openjdk.jmh.annotations.*;
+import taskprocessor.PerformanceMetrics;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PerformanceMetrics on an algorithm front scored against a reference front ten times larger,
+ * laid out as TaskProcessor does: [algorithm, reference, reference].
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerformanceMetricsBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int frontSize;
+
+    private ArrayList<ArrayList<ArrayList<Double>>> fronts;
+    private PerformanceMetrics metrics;
+
+    @Setup
+    public void setup() {
+        ArrayList<ArrayList<Double>> algorithm = BenchData.boxed(BenchData.front(frontSize, 1.05, 1));
+        ArrayList<ArrayList<Double>> reference = BenchData.boxed(BenchData.front(10 * frontSize, 1.0, 2));
+        fronts = new ArrayList<>();
+        fronts.add(algorithm);
+        fronts.add(reference);
+        fronts.add(reference);
+        metrics = new PerformanceMetrics(fronts);
+    }
+
+    @Benchmark
+    public PerformanceMetrics construct() {
+        return new PerformanceMetrics(fronts);
+    }
+
+    @Benchmark
+    public double hv() {
+        return metrics.HV(0);
+    }
+
+    @Benchmark
+    public double igd() {
+        return metrics.IGD(0);
+    }
+
+    @Benchmark
+    public double gd() {
+        return metrics.GD(0);
+    }
+
+    @Benchmark
+    public double cMetric() {
+        return metrics.C_Metric(2, 0);
+    }
+
+    @Benchmark
+    public double spacing() {
+        return metrics.Spacing(0);
+    }
+}
@@ -0,0 +1,71 @@
+package taskprocessor.bench;
+
+import org.openjdk.jmh.annotations.*;
+import taskprocessor.TaskProcessor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end TaskProcessor.process() for 700 tasks, Energy vs Makespan, with Single-Objective
+ * results and Ymode grouping. Runs in a temporary workspace that links to the experiment
+ * folders, so reports and the result cache of the project are not touched.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessBenchmark {
+
+    /**
+     * Use the persistent result cache (warm after the first invocation).
+     */
+    @Param({"false", "true"})
+    public boolean cache;
+
+    @Param({"1", "4"})
+    public int workers;
+
+    private Path workspace;
+    private PrintStream discard;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        workspace = Files.createTempDirectory("taskprocessor-bench");
+        for (String folder : new String[]{"Multi-Objective Algorithms", "Single - Objective Algorithms"}) {
+            Path target = new File(BenchData.basePath(), folder).getAbsoluteFile().toPath();
+            if (!Files.isDirectory(target)) {
+                throw new IllegalStateException("Missing " + target + " (run from the project root or set -Dbench.basePath)");
+            }
+            Files.createSymbolicLink(workspace.resolve(folder), target);
+        }
+        discard = new PrintStream(OutputStream.nullOutputStream());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        // Files.walk does not follow the links, so only links and generated files are removed
+        try (Stream<Path> paths = Files.walk(workspace)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void process() throws Exception {
+        TaskProcessor processor = new TaskProcessor(700, true, "Energy", "Makespan", workspace.toString());
+        processor.setPlotYMode(true);
+        processor.setIngestWorkers(workers);
+        processor.setUseResultCache(cache);
+        processor.setOutput(discard);
+        processor.process();
+    }
+}
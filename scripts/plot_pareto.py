@@ -29,13 +29,19 @@ Options:
                     - GA_AvgWait, GA_Energy, GA_MAKESPAN -> "Classic GA"
                     - GA_ISL_* variants -> "Island Model GA"
                     Groups are plotted with lines like multi-objective algorithms.
+    --eaf           Attainment surfaces to draw for each multi-objective algorithm,
+                    comma separated: best, median, worst or a percentage such as 25
+                    (default: none). The surfaces come precomputed in the JSON data.
+                    An EAF difference in the data is always drawn as shaded regions.
 """
 
 import argparse
 import json
+import math
 import sys
 import matplotlib.pyplot as plt
 import matplotlib.markers as mmarkers
+import matplotlib.patches as mpatches
 import numpy as np
 from typing import Dict, List, Tuple, Any
 
@@ -143,6 +149,68 @@ def filter_points_in_pareto(points: List[List[float]], pareto_set: List[List[flo
     return [p for p in points if is_point_in_pareto(p, pareto_set)]
 
 
+# Line styles of the attainment surfaces; percentages other than the named levels use '-.'
+EAF_LINE_STYLES = {
+    'best': ':',
+    'median': '-',
+    'worst': '--',
+}
+
+
+def parse_eaf_levels(spec: str) -> List[str]:
+    """Split the --eaf option into level names and percentages."""
+    return [token.strip() for token in spec.split(',') if token.strip()] if spec else []
+
+
+def eaf_level_index(level: str, attainment: Dict[str, Any]) -> int:
+    """Zero-based index into attainment['surfaces'] of a level name or percentage."""
+    runs = attainment['runs']
+    if level == 'best':
+        return 0
+    if level == 'median':
+        return attainment['median'] - 1
+    if level == 'worst':
+        return runs - 1
+    k = math.ceil(float(level) * runs / 100.0 - 1e-9)
+    return max(1, min(runs, k)) - 1
+
+
+def plot_attainment_surfaces(ax, algo_data: Dict[str, Any], levels: List[str], color: str,
+                             display_name: str, legend_handles: List, legend_labels: List) -> None:
+    """Draw the requested attainment surfaces of one algorithm as stored staircases."""
+    attainment = algo_data.get('attainment')
+    if not attainment:
+        return
+    for level in levels:
+        line_points = attainment['surfaces'][eaf_level_index(level, attainment)]
+        if not line_points:
+            continue
+        x_vals = [p[0] for p in line_points]
+        y_vals = [p[1] for p in line_points]
+        style = EAF_LINE_STYLES.get(level, '-.')
+        line, = ax.plot(x_vals, y_vals, color=color, linestyle=style, linewidth=1.2,
+                        alpha=0.9, zorder=1)
+        legend_handles.append(line)
+        suffix = f"{level}%" if level not in EAF_LINE_STYLES else level
+        legend_labels.append(f"{display_name} ({suffix} attainment)")
+
+
+def plot_eaf_difference(ax, difference: Dict[str, Any], legend_handles: List,
+                        legend_labels: List) -> None:
+    """Shade the regions where one algorithm attains more often than the other."""
+    color_a = get_algorithm_color(difference['a'])
+    color_b = get_algorithm_color(difference['b'])
+    if color_a == color_b:
+        color_b = '#808080'
+    for x_low, y_low, x_high, y_high, diff in difference.get('rectangles', []):
+        ax.add_patch(mpatches.Rectangle((x_low, y_low), x_high - x_low, y_high - y_low,
+                                        facecolor=color_a if diff > 0 else color_b,
+                                        alpha=0.6 * abs(diff), linewidth=0, zorder=0))
+    for name, color in ((difference['a'], color_a), (difference['b'], color_b)):
+        legend_handles.append(mpatches.Patch(facecolor=color, alpha=0.5))
+        legend_labels.append(f"{get_algorithm_display_name(name)} attains more often")
+
+
 def plot_pareto_fronts(data: Dict[str, Any], args: argparse.Namespace) -> None:
     """Create the Pareto front plot."""
 
@@ -171,6 +239,12 @@ def plot_pareto_fronts(data: Dict[str, Any], args: argparse.Namespace) -> None:
     legend_handles = []
     legend_labels = []
 
+    eaf_levels = parse_eaf_levels(args.eaf)
+
+    # EAF difference first, so that fronts are drawn over it
+    if data.get('eaf_difference'):
+        plot_eaf_difference(ax, data['eaf_difference'], legend_handles, legend_labels)
+
     # Define plot order: multi-objective first, then Ymode groups, then single-objective
     # Ymode grouped algorithms are treated like multi-objective (with lines)
     mo_algorithms = [a for a in algorithms.keys() if not a.startswith('SO_') and not is_ymode_group(a)]
@@ -215,6 +289,9 @@ def plot_pareto_fronts(data: Dict[str, Any], args: argparse.Namespace) -> None:
         legend_handles.append(scatter)
         legend_labels.append(display_name)
 
+        plot_attainment_surfaces(ax, algo_data, eaf_levels, color, display_name,
+                                 legend_handles, legend_labels)
+
         # Add point labels if enabled (but not in XMode for multi-objective)
         if args.labels and not args.XMode:
             for x, y in zip(x_vals, y_vals):
@@ -248,6 +325,9 @@ def plot_pareto_fronts(data: Dict[str, Any], args: argparse.Namespace) -> None:
         legend_handles.append(scatter)
         legend_labels.append(display_name)
 
+        plot_attainment_surfaces(ax, algo_data, eaf_levels, color, display_name,
+                                 legend_handles, legend_labels)
+
         # Add point labels if enabled
         if args.labels:
             for x, y in zip(x_vals, y_vals):
@@ -359,6 +439,8 @@ def main():
                        help='X Mode: true/false - Single-objective points only shown if in universal Pareto, with labels on')
     parser.add_argument('--YMode', type=str, default='false',
                        help='Y Mode: true/false - SO algorithm variants grouped into combined Pareto fronts')
+    parser.add_argument('--eaf', default='',
+                       help='Attainment surfaces to draw: comma separated best, median, worst or percentages')
 
     args = parser.parse_args()
 
@@ -85,10 +85,10 @@ if [[ "$OSTYPE" == "msys" || "$OSTYPE" == "cygwin" || "$OSTYPE" == "win32" ]]; t
     CLASSPATH="$LIB_DIR/*;$PROJECT_ROOT/out;$SRC_DIR"
 fi
 
-# First, compile taskprocessor if needed (for ExcelReader dependency)
-if [ ! -f "$PROJECT_ROOT/out/taskprocessor/ExcelReader.class" ]; then
+# First, compile taskprocessor if needed (for ExcelReader and ResultCache dependencies)
+if [ ! -f "$PROJECT_ROOT/out/taskprocessor/ResultCache.class" ]; then
     echo "Compiling taskprocessor dependency..."
-    javac -cp "$CLASSPATH" -d "$PROJECT_ROOT/out" "$PROJECT_ROOT/src/taskprocessor/ExcelReader.java"
+    javac -cp "$CLASSPATH" -d "$PROJECT_ROOT/out" "$PROJECT_ROOT"/src/taskprocessor/*.java
 fi
 
 echo "Compiling Single Objective Analyzer..."
@@ -1,9 +1,14 @@
 package singleobjective;
 
+import taskprocessor.SolutionTable;
+
 import java.util.*;
 
 /**
  * Stores all data for a single-objective algorithm across all task counts and seeds.
+ *
+ * The solutions live in the parser's shared SolutionTable; this class holds the grouping of
+ * that table by algorithm, task count and seed, and hands out views of its own groups.
  */
 public class AlgorithmData {
 
@@ -16,9 +21,10 @@ public class AlgorithmData {
     private String name;
     private AlgorithmType type;
 
-    // Solutions organized by task count and seed
-    // Map<TaskCount, Map<Seed, List<Solution>>>
-    private Map<Integer, Map<Integer, List<Solution>>> solutions;
+    // Solutions grouped by algorithm, task count and seed (null until set)
+    private SolutionTable.Grouping solutions;
+    private SolutionTable table;
+    private int code;
 
     // Computed average points per task count
     private Map<Integer, AveragePoint> averagePoints;
@@ -26,7 +32,6 @@ public class AlgorithmData {
     public AlgorithmData(String name) {
         this.name = name;
         this.type = determineType(name);
-        this.solutions = new LinkedHashMap<>();
         this.averagePoints = new LinkedHashMap<>();
     }
 
@@ -102,40 +107,40 @@ public class AlgorithmData {
     }
 
     /**
-     * Add a solution for this algorithm.
+     * Attach the solutions: the groups of this algorithm in a table grouped by
+     * (ALGORITHM, TASK_COUNT, SEED).
      */
-    public void addSolution(Solution solution) {
-        int taskCount = solution.getTaskCount();
-        int seed = solution.getSeed();
-
-        solutions.computeIfAbsent(taskCount, k -> new LinkedHashMap<>());
-        solutions.get(taskCount).computeIfAbsent(seed, k -> new ArrayList<>());
-        solutions.get(taskCount).get(seed).add(solution);
+    public void setSolutions(SolutionTable table, SolutionTable.Grouping solutions) {
+        this.table = table;
+        this.solutions = solutions;
+        this.code = table.findAlgorithm(name);
     }
 
     /**
-     * Get all solutions for a specific task count.
+     * Get all solutions for a specific task count, seed by seed.
      */
-    public List<Solution> getSolutionsForTaskCount(int taskCount) {
-        List<Solution> result = new ArrayList<>();
-        Map<Integer, List<Solution>> seedMap = solutions.get(taskCount);
-        if (seedMap != null) {
-            for (List<Solution> sols : seedMap.values()) {
-                result.addAll(sols);
-            }
+    public SolutionTable.View getSolutionsForTaskCount(int taskCount) {
+        int taskCode = table == null || code < 0 ? -1 : table.findTaskCount(taskCount);
+        if (taskCode < 0) {
+            return emptyView();
         }
-        return result;
+        return solutions.view(code, taskCode);
     }
 
     /**
      * Get solutions for a specific task count and seed.
      */
-    public List<Solution> getSolutions(int taskCount, int seed) {
-        Map<Integer, List<Solution>> seedMap = solutions.get(taskCount);
-        if (seedMap != null && seedMap.containsKey(seed)) {
-            return seedMap.get(seed);
+    public SolutionTable.View getSolutions(int taskCount, int seed) {
+        int taskCode = table == null || code < 0 ? -1 : table.findTaskCount(taskCount);
+        int seedCode = taskCode < 0 ? -1 : table.findSeed(seed);
+        if (seedCode < 0) {
+            return emptyView();
         }
-        return Collections.emptyList();
+        return solutions.view(code, taskCode, seedCode);
+    }
+
+    private SolutionTable.View emptyView() {
+        return (table != null ? table : new SolutionTable()).emptyView();
     }
 
     /**
@@ -156,18 +161,33 @@ public class AlgorithmData {
      * Get all task counts that have solutions.
      */
     public Set<Integer> getTaskCounts() {
-        return solutions.keySet();
+        Set<Integer> taskCounts = new LinkedHashSet<>();
+        if (table != null) {
+            for (int taskCount : table.taskCounts()) {
+                if (!getSolutionsForTaskCount(taskCount).isEmpty()) {
+                    taskCounts.add(taskCount);
+                }
+            }
+        }
+        return taskCounts;
     }
 
     /**
-     * Get all seeds that have solutions for a specific task count.
+     * Get all seeds that have solutions for a specific task count, in the order their first
+     * solution was parsed.
      */
     public Set<Integer> getSeeds(int taskCount) {
-        Map<Integer, List<Solution>> seedMap = solutions.get(taskCount);
-        if (seedMap != null) {
-            return seedMap.keySet();
+        List<Integer> seeds = new ArrayList<>();
+        if (table != null) {
+            for (int seed : table.seeds()) {
+                if (getSolutionCount(taskCount, seed) > 0) {
+                    seeds.add(seed);
+                }
+            }
         }
-        return Collections.emptySet();
+        // Groups keep parse order, so a seed's first row is its first parsed solution
+        seeds.sort(Comparator.comparingInt(seed -> getSolutions(taskCount, seed).row(0)));
+        return new LinkedHashSet<>(seeds);
     }
 
     /**
@@ -176,18 +196,19 @@ public class AlgorithmData {
     public void computeAverages() {
         averagePoints.clear();
 
-        for (int taskCount : solutions.keySet()) {
-            List<Solution> taskSolutions = getSolutionsForTaskCount(taskCount);
-            if (taskSolutions.isEmpty()) continue;
-
+        for (int taskCount : getTaskCounts()) {
+            // Seed by seed in parse order, so the sums add up in the same order as parsed
             double sumMakespan = 0, sumEnergy = 0, sumAvgWait = 0;
-            for (Solution sol : taskSolutions) {
-                sumMakespan += sol.getMakespan();
-                sumEnergy += sol.getEnergy();
-                sumAvgWait += sol.getAvgWaitTime();
+            for (int seed : getSeeds(taskCount)) {
+                SolutionTable.View seedSolutions = getSolutions(taskCount, seed);
+                for (int i = 0; i < seedSolutions.size(); i++) {
+                    sumMakespan += seedSolutions.get(i, DataParser.MAKESPAN);
+                    sumEnergy += seedSolutions.get(i, DataParser.ENERGY);
+                    sumAvgWait += seedSolutions.get(i, DataParser.AVG_WAIT);
+                }
             }
 
-            int count = taskSolutions.size();
+            int count = getTotalSolutionCount(taskCount);
             AveragePoint avg = new AveragePoint(
                 name,
                 taskCount,
@@ -219,22 +240,20 @@ public class AlgorithmData {
      */
     public Map<Integer, Integer> getSolutionCountsBySeed(int taskCount) {
         Map<Integer, Integer> counts = new LinkedHashMap<>();
-        Map<Integer, List<Solution>> seedMap = solutions.get(taskCount);
-        if (seedMap != null) {
-            for (Map.Entry<Integer, List<Solution>> entry : seedMap.entrySet()) {
-                counts.put(entry.getKey(), entry.getValue().size());
-            }
+        for (int seed : getSeeds(taskCount)) {
+            counts.put(seed, getSolutionCount(taskCount, seed));
         }
         return counts;
     }
 
     @Override
     public String toString() {
+        Set<Integer> taskCounts = getTaskCounts();
         int totalSolutions = 0;
-        for (int tc : solutions.keySet()) {
+        for (int tc : taskCounts) {
             totalSolutions += getTotalSolutionCount(tc);
         }
         return String.format("AlgorithmData[%s, type=%s, taskCounts=%d, totalSolutions=%d]",
-                name, type, solutions.size(), totalSolutions);
+                name, type, taskCounts.size(), totalSolutions);
     }
 }
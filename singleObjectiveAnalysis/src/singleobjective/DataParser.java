@@ -1,6 +1,9 @@
 package singleobjective;
 
 import taskprocessor.ExcelReader;
+import taskprocessor.ResultCache;
+import taskprocessor.ResultRow;
+import taskprocessor.SolutionTable;
 
 import java.io.*;
 import java.util.*;
@@ -30,26 +33,53 @@ public class DataParser {
     // Seeds used in experiments
     public static final int[] SEEDS = {1200, 1201, 1202, 1203, 1204, 1205, 1206, 1207, 1208, 1209};
 
+    // Columns of the solution table
+    public static final int MAKESPAN = 0;
+    public static final int ENERGY = 1;
+    public static final int AVG_WAIT = 2;
+
     // Column name mappings
     private static final String COL_MAKESPAN = "Makespan";
     private static final String COL_ENERGY = "Energy Use Wh";
     private static final String COL_AVG_WAIT = "Avg Waiting Time";
 
+    // Only these columns are extracted by the streaming Excel reader
+    private static final Set<String> WANTED_COLUMNS = new HashSet<>(Arrays.asList(COL_MAKESPAN, COL_ENERGY, COL_AVG_WAIT));
+
     private String basePath;
     private ExcelReader excelReader;
     private Map<String, AlgorithmData> algorithmDataMap;
+    private SolutionTable solutionTable;
+    private int filesParsed = 0;
+    private boolean useResultCache = true;
+    private ResultCache resultCache;
 
     public DataParser(String basePath) {
         this.basePath = basePath;
         this.excelReader = new ExcelReader();
         this.algorithmDataMap = new LinkedHashMap<>();
+        this.solutionTable = new SolutionTable("Makespan", "Energy", "AvgWait");
 
-        // Initialize algorithm data containers
+        // Initialize algorithm data containers, and the table codes in the same order
         for (String algo : TARGET_ALGORITHMS) {
             algorithmDataMap.put(algo, new AlgorithmData(algo));
+            solutionTable.algorithmCode(algo);
+        }
+        for (int taskCount : TASK_COUNTS) {
+            solutionTable.taskCountCode(taskCount);
+        }
+        for (int seed : SEEDS) {
+            solutionTable.seedCode(seed);
         }
     }
 
+    /**
+     * Enable or disable the persistent parsed-results cache shared with TaskProcessor.
+     */
+    public void setUseResultCache(boolean useResultCache) {
+        this.useResultCache = useResultCache;
+    }
+
     /**
      * Parse all data from the Single-Objective Algorithms folder.
      */
@@ -65,10 +95,26 @@ public class DataParser {
             throw new Exception("Single-Objective Algorithms directory not found: " + soBasePath);
         }
 
+        if (useResultCache) {
+            resultCache = ResultCache.open(ResultCache.defaultFile(basePath), System.out);
+        }
+
         for (int taskCount : TASK_COUNTS) {
             parseTaskCount(soBasePath, taskCount);
         }
 
+        if (resultCache != null) {
+            resultCache.printSummary();
+            resultCache.save();
+        }
+
+        // Group the table once; every algorithm views its own groups
+        SolutionTable.Grouping grouping = solutionTable.groupBy(
+                SolutionTable.ALGORITHM, SolutionTable.TASK_COUNT, SolutionTable.SEED);
+        for (AlgorithmData algoData : algorithmDataMap.values()) {
+            algoData.setSolutions(solutionTable, grouping);
+        }
+
         // Compute averages for all algorithms
         System.out.println("\n=== Computing Average Points ===");
         for (AlgorithmData algoData : algorithmDataMap.values()) {
@@ -142,9 +188,7 @@ public class DataParser {
         int parsedCount = 0;
         for (File file : files) {
             try {
-                Solution solution = parseExcelFile(file, taskCount, algoName);
-                if (solution != null) {
-                    algorithmDataMap.get(algoName).addSolution(solution);
+                if (parseExcelFile(file, taskCount, algoName, filesParsed++)) {
                     parsedCount++;
                 }
             } catch (Exception e) {
@@ -158,9 +202,11 @@ public class DataParser {
     }
 
     /**
-     * Parse a single Excel file and extract solution data.
+     * Parse a single Excel file and add its solution to the solution table.
+     *
+     * @return Whether a solution was added
      */
-    private Solution parseExcelFile(File file, int taskCount, String algoName) throws Exception {
+    private boolean parseExcelFile(File file, int taskCount, String algoName, int fileId) throws Exception {
         String fileName = file.getName();
 
         // Extract seed from filename using pattern "_rnd_XXXX_"
@@ -168,29 +214,50 @@ public class DataParser {
         Matcher seedMatcher = seedPattern.matcher(fileName);
 
         if (!seedMatcher.find()) {
-            return null; // Skip files without seed
+            return false; // Skip files without seed
         }
 
         int seed = Integer.parseInt(seedMatcher.group(1));
 
         // Check if this is one of our target seeds
         if (!isTargetSeed(seed)) {
-            return null;
+            return false;
         }
 
-        // Read Excel file
-        Map<String, Double> values = excelReader.readExcelFile(file.getAbsolutePath());
+        // Use the cached values if the file is unchanged, otherwise read the Excel file
+        ResultRow row = null;
+        if (resultCache != null) {
+            double[] cached = resultCache.getValues(file);
+            if (cached != null) {
+                row = new ResultRow("SO_" + algoName, null, seed, parseSolIndex(fileName), cached);
+            }
+        }
+        if (row == null) {
+            // Streaming mode; all result columns when caching, objective columns only otherwise
+            Set<String> columns = resultCache != null ? ResultRow.ALL_COLUMNS : WANTED_COLUMNS;
+            Map<String, Double> values = excelReader.readExcelFile(file.getAbsolutePath(), columns);
+            row = ResultRow.fromValues("SO_" + algoName, null, seed, parseSolIndex(fileName), values);
+            if (resultCache != null) {
+                resultCache.put(file, row);
+            }
+        }
 
-        Double makespan = values.get(COL_MAKESPAN);
-        Double energy = values.get(COL_ENERGY);
-        Double avgWait = values.get(COL_AVG_WAIT);
+        double makespan = row.getValue(COL_MAKESPAN);
+        double energy = row.getValue(COL_ENERGY);
+        double avgWait = row.getValue(COL_AVG_WAIT);
 
-        if (makespan == null || energy == null || avgWait == null) {
+        if (Double.isNaN(makespan) || Double.isNaN(energy) || Double.isNaN(avgWait)) {
             System.err.println("  Warning: Missing values in " + fileName);
-            return null;
+            return false;
         }
 
-        return new Solution(makespan, energy, avgWait, seed, taskCount, algoName);
+        solutionTable.add(algoName, taskCount, seed, fileId, makespan, energy, avgWait);
+        return true;
+    }
+
+    private static int parseSolIndex(String fileName) {
+        Matcher solMatcher = Pattern.compile("_sol_(\\d+)").matcher(fileName);
+        return solMatcher.find() ? Integer.parseInt(solMatcher.group(1)) : 0;
     }
 
     private boolean isTargetSeed(int seed) {
@@ -214,6 +281,13 @@ public class DataParser {
         return algorithmDataMap.get(algoName);
     }
 
+    /**
+     * Get the table holding every parsed solution.
+     */
+    public SolutionTable getSolutionTable() {
+        return solutionTable;
+    }
+
     /**
      * Get all algorithms.
      */
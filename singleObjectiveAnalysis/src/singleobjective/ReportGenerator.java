@@ -1,5 +1,7 @@
 package singleobjective;
 
+import taskprocessor.SolutionTable;
+
 import java.io.*;
 import java.util.*;
 
@@ -130,16 +132,16 @@ public class ReportGenerator {
 
                 for (int taskCount : dataParser.getTaskCounts()) {
                     for (int seed : dataParser.getSeeds()) {
-                        List<Solution> solutions = data.getSolutions(taskCount, seed);
-                        for (Solution sol : solutions) {
+                        SolutionTable.View solutions = data.getSolutions(taskCount, seed);
+                        for (int i = 0; i < solutions.size(); i++) {
                             StringBuilder row = new StringBuilder();
                             row.append(algoName).append(",");
                             row.append(data.getType()).append(",");
                             row.append(taskCount).append(",");
                             row.append(seed).append(",");
-                            row.append(String.format("%.6f", sol.getMakespan())).append(",");
-                            row.append(String.format("%.6f", sol.getEnergy())).append(",");
-                            row.append(String.format("%.6f", sol.getAvgWaitTime()));
+                            row.append(String.format("%.6f", solutions.get(i, DataParser.MAKESPAN))).append(",");
+                            row.append(String.format("%.6f", solutions.get(i, DataParser.ENERGY))).append(",");
+                            row.append(String.format("%.6f", solutions.get(i, DataParser.AVG_WAIT)));
 
                             writer.println(row.toString());
                         }
@@ -28,6 +28,7 @@ import java.util.*;
  *   --marker-size <n>          Marker size (default: 8)
  *   --marker-shape <shape>     Marker shape: circle, square, triangle, diamond
  *   --output-dir <dir>         Output directory (default: singleObjectiveAnalysis/output)
+ *   --cache <true|false>       Use the parsed-results cache in .cache/ (default: true)
  */
 public class SingleObjectiveAnalyzer {
 
@@ -52,6 +53,7 @@ public class SingleObjectiveAnalyzer {
     private double plotWidth = 12;
     private double plotHeight = 8;
     private boolean xMode = false;  // Filter algorithms by selected objectives
+    private boolean useResultCache = true;  // Reuse parsed values of unchanged Excel files
 
     public SingleObjectiveAnalyzer(String basePath) {
         this.basePath = basePath;
@@ -84,6 +86,7 @@ public class SingleObjectiveAnalyzer {
     public void setPlotHeight(double height) { this.plotHeight = height; }
     public void setOutputDir(String dir) { this.outputDir = dir; }
     public void setXMode(boolean xMode) { this.xMode = xMode; }
+    public void setUseResultCache(boolean useResultCache) { this.useResultCache = useResultCache; }
 
     /**
      * Run the analysis.
@@ -101,6 +104,7 @@ public class SingleObjectiveAnalyzer {
 
         // Step 1: Parse all data
         DataParser parser = new DataParser(basePath);
+        parser.setUseResultCache(useResultCache);
         parser.parseAll();
         parser.printSummary();
 
@@ -164,6 +168,7 @@ public class SingleObjectiveAnalyzer {
         System.out.println("  --width <n>                Plot width in inches (default: 12)");
         System.out.println("  --height <n>               Plot height in inches (default: 8)");
         System.out.println("  --output-dir <dir>         Output directory");
+        System.out.println("  --cache <true|false>       Use the parsed-results cache in .cache/ (default: true)");
         System.out.println("  --Xmode                    Filter algorithms by selected objectives");
         System.out.println("                             (only show algorithms optimizing the plotted objectives)");
         System.out.println("  --help                     Show this help message");
@@ -301,6 +306,12 @@ public class SingleObjectiveAnalyzer {
                     analyzer.setXMode(true);
                     break;
 
+                case "--cache":
+                    if (i + 1 < args.length) {
+                        analyzer.setUseResultCache(Boolean.parseBoolean(args[++i]));
+                    }
+                    break;
+
                 default:
                     if (!arg.startsWith("--")) {
                         // Could be base path
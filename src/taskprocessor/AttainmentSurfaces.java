@@ -0,0 +1,352 @@
+package taskprocessor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Empirical attainment function (EAF) of repeated runs on two objectives, both minimized.
+ *
+ * A point z is attained by a run when some solution of the run weakly dominates it. The
+ * k-attainment surface is the boundary of the region attained by at least k of the S runs:
+ * level 1 is the best surface (the union of the runs), level S the worst (their intersection)
+ * and level ceil(S / 2) the median.
+ *
+ * All levels come from one sweep over the points sorted by the first objective. The sweep keeps
+ * every run's lowest second objective so far, sorted; the k-th smallest of them is where level
+ * k currently starts. A point improves one run, which moves one entry of the sorted bests and
+ * changes only the levels between its old and new position, so the sweep costs O(n log n) for
+ * the sort plus O(log S) and one step per changed level for each point.
+ */
+public class AttainmentSurfaces {
+
+    private AttainmentSurfaces() {}
+
+    /**
+     * Lowest second objective of every run so far, kept sorted as well.
+     */
+    private static class RunBests {
+        final double[] best;        // Per run
+        final double[] sorted;      // Same values, ascending
+        int low;                    // Sorted positions changed by the last improve()
+        int high;
+
+        RunBests(int runs) {
+            best = new double[runs];
+            sorted = new double[runs];
+            Arrays.fill(best, Double.POSITIVE_INFINITY);
+            Arrays.fill(sorted, Double.POSITIVE_INFINITY);
+        }
+
+        /**
+         * Lower a run's best to y.
+         *
+         * @return Whether y improved the run, in which case sorted[low..high] changed
+         */
+        boolean improve(int run, double y) {
+            double old = best[run];
+            if (!(y < old)) {
+                return false;
+            }
+            best[run] = y;
+
+            // Equal values are interchangeable, so take the first copy of the old value and
+            // insert after the values equal to y: the fewest entries move
+            int p = firstAtLeast(sorted, 0, sorted.length, old);
+            int q = firstAbove(sorted, 0, p, y);
+            System.arraycopy(sorted, q, sorted, q + 1, p - q);
+            sorted[q] = y;
+            low = q;
+            high = p;
+            return true;
+        }
+    }
+
+    /**
+     * Points of all runs sorted by the first objective, then the second.
+     */
+    private static class Sweep {
+        final double[] xs;
+        final double[] ys;
+        final int[] runs;
+        final int size;
+
+        Sweep(List<double[]> fronts, int runOffset, Sweep other) {
+            int total = other == null ? 0 : other.size;
+            for (double[] front : fronts) {
+                total += front.length / 2;
+            }
+            double[] points = new double[2 * total];
+            int[] owner = new int[total];
+            int n = 0;
+            if (other != null) {
+                for (int i = 0; i < other.size; i++) {
+                    points[2 * n] = other.xs[i];
+                    points[2 * n + 1] = other.ys[i];
+                    owner[n++] = other.runs[i];
+                }
+            }
+            for (int r = 0; r < fronts.size(); r++) {
+                double[] front = fronts.get(r);
+                for (int i = 0; i + 1 < front.length; i += 2) {
+                    // A point with a NaN objective attains nothing
+                    if (!Double.isNaN(front[i]) && !Double.isNaN(front[i + 1])) {
+                        points[2 * n] = front[i];
+                        points[2 * n + 1] = front[i + 1];
+                        owner[n++] = runOffset + r;
+                    }
+                }
+            }
+
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            Dominance.sortIndicesByObjective(order, points, 2, 1);
+            Dominance.sortIndicesByObjective(order, points, 2, 0);
+
+            this.size = n;
+            this.xs = new double[n];
+            this.ys = new double[n];
+            this.runs = new int[n];
+            for (int i = 0; i < n; i++) {
+                xs[i] = points[2 * order[i]];
+                ys[i] = points[2 * order[i] + 1];
+                runs[i] = owner[order[i]];
+            }
+        }
+    }
+
+    /**
+     * All attainment surfaces of a set of runs.
+     *
+     * @param runs Interleaved (obj1, obj2) points of each run, not necessarily non-dominated
+     * @return surfaces[k - 1]: minimal points of the k-attainment surface as interleaved
+     *         (obj1, obj2), obj1 ascending and obj2 descending, for k = 1..runs.size()
+     */
+    public static double[][] surfaces(List<double[]> runs) {
+        int count = runs.size();
+        Sweep sweep = new Sweep(runs, 0, null);
+        RunBests bests = new RunBests(count);
+
+        double[][] levels = new double[count][16];
+        int[] lengths = new int[count];
+        double[] last = new double[count];     // Second objective of each level's last vertex
+        Arrays.fill(last, Double.POSITIVE_INFINITY);
+        int[] stamp = new int[count];
+        int[] touched = new int[count];
+
+        int group = 0;
+        for (int start = 0; start < sweep.size; ) {
+            double x = sweep.xs[start];
+            int end = start;
+            int changed = 0;
+            group++;
+
+            // Points sharing a first objective act together: only the final level values count
+            while (end < sweep.size && sweep.xs[end] == x) {
+                if (bests.improve(sweep.runs[end], sweep.ys[end])) {
+                    for (int k = bests.low; k <= bests.high; k++) {
+                        if (stamp[k] != group) {
+                            stamp[k] = group;
+                            touched[changed++] = k;
+                        }
+                    }
+                }
+                end++;
+            }
+            // A level left at its old value (equal bests moved past it) gains no vertex
+            for (int t = 0; t < changed; t++) {
+                int k = touched[t];
+                double y = bests.sorted[k];
+                if (y < last[k]) {
+                    if (lengths[k] + 2 > levels[k].length) {
+                        levels[k] = Arrays.copyOf(levels[k], 2 * levels[k].length);
+                    }
+                    levels[k][lengths[k]++] = x;
+                    levels[k][lengths[k]++] = y;
+                    last[k] = y;
+                }
+            }
+            start = end;
+        }
+
+        double[][] result = new double[count][];
+        for (int k = 0; k < count; k++) {
+            result[k] = Arrays.copyOf(levels[k], lengths[k]);
+        }
+        return result;
+    }
+
+    /**
+     * Level of the p-attainment surface, i.e. the fewest runs that make up at least p percent.
+     * 50 gives the median surface; 0 is treated as the best surface.
+     */
+    public static int level(double percent, int runs) {
+        int k = (int) Math.ceil(percent * runs / 100.0 - 1e-9);
+        return Math.max(1, Math.min(runs, k));
+    }
+
+    /**
+     * Polyline of a surface: its minimal points joined by horizontal and vertical steps, so
+     * that it can be drawn directly.
+     *
+     * @param surface Interleaved minimal points as returned by {@link #surfaces(List)}
+     * @return Interleaved polyline vertices
+     */
+    public static double[] staircase(double[] surface) {
+        int n = surface.length / 2;
+        if (n == 0) {
+            return new double[0];
+        }
+        double[] line = new double[2 * (2 * n - 1)];
+        line[0] = surface[0];
+        line[1] = surface[1];
+        for (int i = 1, j = 2; i < n; i++) {
+            // Across at the previous level, then down to this point
+            line[j++] = surface[2 * i];
+            line[j++] = surface[2 * i - 1];
+            line[j++] = surface[2 * i];
+            line[j++] = surface[2 * i + 1];
+        }
+        return line;
+    }
+
+    /**
+     * EAF difference of two sets of runs as rectangles of constant attainment.
+     *
+     * The plane is cut into the rectangles where both attainment fractions are constant and
+     * differ; regions attained equally often are left out. The same sweep as
+     * {@link #surfaces(List)} runs over both sets; after each first-objective value the
+     * attainment along the second objective is a step function with a step at every run best,
+     * and a rectangle is emitted when its step closes. Rectangles are clipped to the largest
+     * objective values of the two sets, so the cost is O(n log n + n S) for n points and S runs.
+     *
+     * @param runsA Interleaved points of each run of the first set
+     * @param runsB Interleaved points of each run of the second set
+     * @return Rectangles {obj1 low, obj2 low, obj1 high, obj2 high, fraction of runs of A
+     *         attaining it, fraction of runs of B attaining it}, by closing order
+     */
+    public static List<double[]> difference(List<double[]> runsA, List<double[]> runsB) {
+        int countA = runsA.size();
+        int countB = runsB.size();
+        Sweep sweep = new Sweep(runsB, countA, new Sweep(runsA, 0, null));
+        RunBests bestsA = new RunBests(countA);
+        RunBests bestsB = new RunBests(countB);
+
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < sweep.size; i++) {
+            maxX = Math.max(maxX, sweep.xs[i]);
+            maxY = Math.max(maxY, sweep.ys[i]);
+        }
+
+        List<double[]> rectangles = new ArrayList<>();
+        List<double[]> open = new ArrayList<>();    // {x start, y low, y high, A runs, B runs}
+        for (int start = 0; start < sweep.size; ) {
+            double x = sweep.xs[start];
+            int end = start;
+            while (end < sweep.size && sweep.xs[end] == x) {
+                int run = sweep.runs[end];
+                if (run < countA) {
+                    bestsA.improve(run, sweep.ys[end]);
+                } else {
+                    bestsB.improve(run - countA, sweep.ys[end]);
+                }
+                end++;
+            }
+            start = end;
+
+            // Intervals that are unchanged stay open; the rest close here and reopen
+            List<double[]> profile = profile(bestsA, bestsB, maxY);
+            List<double[]> next = new ArrayList<>();
+            int i = 0;
+            int j = 0;
+            while (i < open.size() || j < profile.size()) {
+                double[] o = i < open.size() ? open.get(i) : null;
+                double[] p = j < profile.size() ? profile.get(j) : null;
+                if (o != null && p != null && o[1] == p[0] && o[2] == p[1] && o[3] == p[2] && o[4] == p[3]) {
+                    next.add(o);
+                    i++;
+                    j++;
+                } else if (p == null || o != null && o[1] <= p[0]) {
+                    close(rectangles, o, x, countA, countB);
+                    i++;
+                } else {
+                    next.add(new double[]{x, p[0], p[1], p[2], p[3]});
+                    j++;
+                }
+            }
+            open = next;
+        }
+        for (double[] o : open) {
+            close(rectangles, o, maxX, countA, countB);
+        }
+        return rectangles;
+    }
+
+    /**
+     * Intervals of the second objective, up to maxY, over which the two sets attain a
+     * different number of runs at the current sweep position.
+     *
+     * @return {y low, y high, A runs, B runs} ascending
+     */
+    private static List<double[]> profile(RunBests bestsA, RunBests bestsB, double maxY) {
+        List<double[]> intervals = new ArrayList<>();
+        double[] a = bestsA.sorted;
+        double[] b = bestsB.sorted;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            double y = Math.min(i < a.length ? a[i] : Double.POSITIVE_INFINITY,
+                    j < b.length ? b[j] : Double.POSITIVE_INFINITY);
+            if (!(y < maxY)) {
+                break;
+            }
+            while (i < a.length && a[i] == y) i++;
+            while (j < b.length && b[j] == y) j++;
+            double next = Math.min(i < a.length ? a[i] : Double.POSITIVE_INFINITY,
+                    j < b.length ? b[j] : Double.POSITIVE_INFINITY);
+            if ((double) i / a.length != (double) j / b.length) {
+                intervals.add(new double[]{y, Math.min(next, maxY), i, j});
+            }
+        }
+        return intervals;
+    }
+
+    /**
+     * First index in [from, to) whose value is at least v, or to.
+     */
+    private static int firstAtLeast(double[] sorted, int from, int to, double v) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (sorted[mid] < v) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * First index in [from, to) whose value is above v, or to.
+     */
+    private static int firstAbove(double[] sorted, int from, int to, double v) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (sorted[mid] <= v) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    private static void close(List<double[]> rectangles, double[] open, double x, int countA, int countB) {
+        if (open[0] < x) {
+            rectangles.add(new double[]{open[0], open[1], x, open[2], open[3] / countA, open[4] / countB});
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package taskprocessor;
+
+import java.util.List;
+
+/**
+ * Scores many algorithm fronts against one reference front (HV, GD, IGD).
+ *
+ * The reference front is sorted once when the evaluator is created. Each algorithm
+ * front is then sorted, normalized and scored on its own. The normalization policy
+ * is explicit:
+ * <ul>
+ *   <li>PER_PAIR: each algorithm front and the reference are normalized to the bounds
+ *       of that pair, exactly as {@link MetricsEngine} does for [front, ref, ref].
+ *       Per-pair numbers are identical to MetricsEngine.</li>
+ *   <li>GLOBAL: one set of bounds over all algorithm fronts and the reference, shared
+ *       by every algorithm, so scores are directly comparable across algorithms.</li>
+ * </ul>
+ * Under PER_PAIR the reference is rescaled for each algorithm into a per-worker buffer
+ * (a linear pass, no sorting or allocation); under GLOBAL it is normalized once.
+ *
+ * Fronts scored in separate calls (e.g. the fronts of different seeds) share a scale when both
+ * calls are given the same {@link #globalBounds(List)}.
+ *
+ * Fronts can be scored in parallel; results are always in input order.
+ */
+public class BatchMetricsEvaluator {
+
+    /**
+     * How objective bounds for normalization are chosen.
+     */
+    public enum Normalization {
+        PER_PAIR, GLOBAL;
+
+        /**
+         * Parse a command line value: "pair" or "global".
+         */
+        public static Normalization parse(String value) {
+            if (value.equalsIgnoreCase("pair") || value.equalsIgnoreCase("per-pair")) return PER_PAIR;
+            if (value.equalsIgnoreCase("global")) return GLOBAL;
+            throw new IllegalArgumentException("Unknown normalization: " + value + " (expected pair or global)");
+        }
+    }
+
+    // Indices into each row of Result.getMetrics()
+    public static final int HV = 0;
+    public static final int GD = 1;
+    public static final int IGD = 2;
+
+    /**
+     * Scores of one evaluate() call.
+     */
+    public static class Result {
+        private final double[][] metrics;
+        private final double referenceHV;
+        private final Bounds referenceBounds;
+
+        Result(double[][] metrics, double referenceHV, Bounds referenceBounds) {
+            this.metrics = metrics;
+            this.referenceHV = referenceHV;
+            this.referenceBounds = referenceBounds;
+        }
+
+        /**
+         * Scores of a front: {HV, GD, IGD}.
+         */
+        public double[] getMetrics(int front) { return metrics[front]; }
+
+        /**
+         * HV of the reference front under the evaluator's normalization.
+         */
+        public double getReferenceHV() { return referenceHV; }
+
+        /**
+         * Normalize an interleaved front with the bounds the reference HV was computed under,
+         * e.g. to measure the reference points' own contributions on the same scale.
+         *
+         * @param front Interleaved points (not modified)
+         * @return Normalized copy in input order
+         */
+        public double[] normalizeLikeReference(double[] front) {
+            if (referenceBounds == null) {
+                return front.clone();
+            }
+            return referenceBounds.normalize(front);
+        }
+    }
+
+    private final double[] reference;       // Sorted by first objective, raw values
+    private final int referenceSize;
+    private final Normalization normalization;
+    private final int threads;
+
+    /**
+     * @param referenceFront Interleaved reference front (not modified)
+     * @param normalization Normalization policy
+     * @param threads Number of fronts scored concurrently
+     */
+    public BatchMetricsEvaluator(double[] referenceFront, Normalization normalization, int threads) {
+        this.referenceSize = referenceFront.length / 2;
+        this.reference = MetricsEngine.sortedCopy(referenceFront, referenceSize);
+        this.normalization = normalization;
+        this.threads = Math.max(1, threads);
+    }
+
+    public Normalization getNormalization() { return normalization; }
+
+    /**
+     * Objective bounds; starts from the first point of one front and grows with the
+     * endpoints of sorted fronts, the rule used by MetricsEngine.
+     */
+    public static class Bounds {
+        boolean set;
+        double f1min, f1max, f2min, f2max;
+
+        void include(double[] sorted, int n) {
+            if (n == 0) return;
+            if (!set) {
+                f1min = f1max = sorted[0];
+                f2min = f2max = sorted[1];
+                set = true;
+            }
+            int last = 2 * (n - 1);
+            if (sorted[0] < f1min) f1min = sorted[0];
+            if (sorted[last] > f1max) f1max = sorted[last];
+            if (sorted[last + 1] < f2min) f2min = sorted[last + 1];
+            if (sorted[1] > f2max) f2max = sorted[1];
+        }
+
+        double f1Range() {
+            double range = f1max - f1min;
+            return range == 0 ? 1 : range;
+        }
+
+        double f2Range() {
+            double range = f2max - f2min;
+            return range == 0 ? 1 : range;
+        }
+
+        public double getF1Min() { return f1min; }
+
+        public double getF1Max() { return f1max; }
+
+        public double getF2Min() { return f2min; }
+
+        public double getF2Max() { return f2max; }
+
+        boolean sameAs(Bounds other) {
+            return other != null && set == other.set
+                    && f1min == other.f1min && f1max == other.f1max
+                    && f2min == other.f2min && f2max == other.f2max;
+        }
+
+        /**
+         * Normalize an interleaved front with these bounds, e.g. to resample it on the scale
+         * the fronts were scored on.
+         *
+         * @param front Interleaved points (not modified)
+         * @return Normalized copy in input order
+         */
+        public double[] normalize(double[] front) {
+            int n = front.length / 2;
+            double[] normalized = new double[2 * n];
+            MetricsEngine.normalizeInto(front, n, normalized, f1min, f1Range(), f2min, f2Range());
+            return normalized;
+        }
+    }
+
+    /**
+     * Score a list of interleaved fronts.
+     *
+     * @param fronts Algorithm fronts (not modified)
+     * @return Scores in input order and the reference HV
+     */
+    public Result evaluate(List<double[]> fronts) throws InterruptedException {
+        return evaluate(fronts, (Bounds) null);
+    }
+
+    /**
+     * GLOBAL bounds over the reference and the given fronts, for scoring several sets of
+     * fronts on one scale: pass every front that any of the calls will score.
+     *
+     * @param fronts Interleaved fronts (not modified)
+     */
+    public Bounds globalBounds(List<double[]> fronts) {
+        Bounds bounds = new Bounds();
+        bounds.include(reference, referenceSize);
+        for (double[] front : fronts) {
+            int n = front.length / 2;
+            bounds.include(MetricsEngine.sortedCopy(front, n), n);
+        }
+        return bounds;
+    }
+
+    /**
+     * Score a list of interleaved fronts under fixed bounds instead of this evaluator's
+     * policy, so that the scores of separate calls share one scale. HV only counts the region
+     * inside the reference point (1, 1), for fronts that reach beyond the bounds.
+     *
+     * @param fronts Algorithm fronts (not modified)
+     * @param fixed Bounds from {@link #globalBounds(List)}, or null for the evaluator's policy
+     * @return Scores in input order and the reference HV under the same bounds
+     */
+    public Result evaluate(List<double[]> fronts, Bounds fixed) throws InterruptedException {
+        int count = fronts.size();
+        double[][] sorted = new double[count][];
+        double[][] metrics = new double[count][];
+
+        // Sort every front once; under GLOBAL the bounds need all of them up front
+        Bounds global = fixed;
+        if (global == null && normalization == Normalization.GLOBAL) {
+            global = new Bounds();
+            global.include(reference, referenceSize);
+            for (int i = 0; i < count; i++) {
+                double[] front = fronts.get(i);
+                sorted[i] = MetricsEngine.sortedCopy(front, front.length / 2);
+                global.include(sorted[i], front.length / 2);
+            }
+        }
+        double[] globalReference = null;
+        if (global != null) {
+            globalReference = new double[2 * referenceSize];
+            MetricsEngine.normalizeInto(reference, referenceSize, globalReference,
+                    global.f1min, global.f1Range(), global.f2min, global.f2Range());
+        }
+
+        final Bounds sharedBounds = global;
+        final double[] sharedReference = globalReference;
+        ParallelLoop.forEachIndex(count, threads, () -> {
+            // Per-worker rescaled reference, reused while the pair bounds do not change
+            double[] scratch = sharedReference == null ? new double[2 * referenceSize] : null;
+            Bounds[] scratchBounds = new Bounds[1];
+
+            return i -> {
+                double[] front = fronts.get(i);
+                int n = front.length / 2;
+                double[] p = sorted[i] != null ? sorted[i] : MetricsEngine.sortedCopy(front, n);
+
+                Bounds bounds = sharedBounds;
+                double[] ref = sharedReference;
+                if (bounds == null) {
+                    bounds = new Bounds();
+                    bounds.include(p, n);
+                    bounds.include(reference, referenceSize);
+                    if (!bounds.sameAs(scratchBounds[0])) {
+                        MetricsEngine.normalizeInto(reference, referenceSize, scratch,
+                                bounds.f1min, bounds.f1Range(), bounds.f2min, bounds.f2Range());
+                        scratchBounds[0] = bounds;
+                    }
+                    ref = scratch;
+                }
+
+                MetricsEngine.normalizeInto(p, n, p, bounds.f1min, bounds.f1Range(), bounds.f2min, bounds.f2Range());
+                metrics[i] = score(p, n, ref, fixed != null);
+                sorted[i] = null;
+            };
+        });
+
+        Bounds referenceBounds = referenceBounds(sharedBounds);
+        return new Result(metrics, referenceHV(referenceBounds, sharedReference), referenceBounds);
+    }
+
+    private double[] score(double[] p, int n, double[] ref, boolean clipHV) {
+        double hv = clipHV ? Hypervolume.hv2D(p, n) : MetricsEngine.hv(p, n);
+        double gd = Double.MAX_VALUE;
+        double igd = Double.MAX_VALUE;
+        if (referenceSize > 0 && n > 0) {
+            gd = MetricsEngine.meanNearestDistance(p, n, ref, referenceSize);
+            igd = MetricsEngine.meanNearestDistance(ref, referenceSize, p, n);
+        }
+        return new double[]{hv, gd, igd};
+    }
+
+    /**
+     * Bounds the reference front is normalized with: the global bounds, or its own under
+     * PER_PAIR. Null for an empty reference.
+     */
+    private Bounds referenceBounds(Bounds global) {
+        if (referenceSize == 0) {
+            return null;
+        }
+        if (global != null) {
+            return global;
+        }
+        Bounds own = new Bounds();
+        own.include(reference, referenceSize);
+        return own;
+    }
+
+    /**
+     * HV of the reference front: under its own bounds (PER_PAIR) or the global bounds.
+     */
+    private double referenceHV(Bounds bounds, double[] globalReference) {
+        if (referenceSize == 0) {
+            return 0.0;
+        }
+        if (globalReference != null) {
+            return MetricsEngine.hv(globalReference, referenceSize);
+        }
+        double[] normalizedReference = new double[2 * referenceSize];
+        MetricsEngine.normalizeInto(reference, referenceSize, normalizedReference,
+                bounds.f1min, bounds.f1Range(), bounds.f2min, bounds.f2Range());
+        return MetricsEngine.hv(normalizedReference, referenceSize);
+    }
+}
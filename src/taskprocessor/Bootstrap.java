@@ -0,0 +1,325 @@
+package taskprocessor;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Bootstrap confidence intervals for the mean HV and IGD of an algorithm's per-seed fronts.
+ *
+ * The statistic is the mean over seeds of each seed's non-dominated front metric: HV with
+ * reference point (1, 1), and IGD against the reference front, as the per-seed metrics score
+ * them. A resample draws the algorithm's seeds with replacement, and the replicate is the mean
+ * of the drawn seeds' metrics. Unlike the front of the pooled solutions, which no resample can
+ * improve on, this mean moves both ways. Solutions are not resampled within a seed: a front
+ * metric is a best-of statistic, so a seed's resampled front could only lose points and every
+ * replicate would be biased below the estimate. Points must already be normalized, so every
+ * seed shares one scale.
+ *
+ * The intervals are the percentile interval and the bias-corrected and accelerated (BCa)
+ * interval. BCa takes its acceleration from a leave-one-seed-out jackknife. When the estimate
+ * is not strictly inside the range of the replicates the bias correction is unbounded, so no
+ * BCa interval is given (its bounds are NaN) and the percentile interval remains.
+ *
+ * Each seed is scored once: its points are sorted by (obj1, obj2), and one sweep yields its
+ * front, already sorted for the HV sweep and the nearest-neighbour search. A resample then
+ * only averages drawn seed values. Resamples are drawn in fixed blocks, each from its own
+ * SplittableRandom stream split from the seed in block order, so the intervals for a seed are
+ * the same for any number of threads.
+ */
+public class Bootstrap {
+
+    private static final int BLOCK_RESAMPLES = 250;
+
+    // Indices into run() results
+    public static final int HV = 0;
+    public static final int IGD = 1;
+
+    /**
+     * Point estimate of a metric with its bootstrap standard error and intervals.
+     * The BCa bounds are NaN when the estimate lies at or beyond the edge of the replicates.
+     */
+    public static class Interval {
+        private final double estimate;
+        private final double standardError;
+        private final double percentileLow;
+        private final double percentileHigh;
+        private final double bcaLow;
+        private final double bcaHigh;
+
+        Interval(double estimate, double standardError, double percentileLow, double percentileHigh,
+                 double bcaLow, double bcaHigh) {
+            this.estimate = estimate;
+            this.standardError = standardError;
+            this.percentileLow = percentileLow;
+            this.percentileHigh = percentileHigh;
+            this.bcaLow = bcaLow;
+            this.bcaHigh = bcaHigh;
+        }
+
+        public double getEstimate() { return estimate; }
+        public double getStandardError() { return standardError; }
+        public double getPercentileLow() { return percentileLow; }
+        public double getPercentileHigh() { return percentileHigh; }
+        public double getBcaLow() { return bcaLow; }
+        public double getBcaHigh() { return bcaHigh; }
+
+        /**
+         * False when the estimate is not strictly inside the replicate range, so that only the
+         * percentile interval is given.
+         */
+        public boolean hasBca() { return !Double.isNaN(bcaLow); }
+    }
+
+    private final double[] reference;
+    private final int referenceSize;
+    private final int resamples;
+    private final double confidence;
+    private final int threads;
+
+    /**
+     * @param reference Normalized interleaved reference front for IGD (not modified)
+     * @param resamples Number of bootstrap resamples
+     * @param confidence Confidence level of the intervals, e.g. 0.95
+     * @param threads Number of threads drawing resamples
+     */
+    public Bootstrap(double[] reference, int resamples, double confidence, int threads) {
+        this.reference = reference;
+        this.referenceSize = reference.length / 2;
+        this.resamples = resamples;
+        this.confidence = confidence;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Bootstrap the mean per-seed front metrics of one algorithm.
+     *
+     * @param seedPoints Normalized interleaved points of each seed; empty seeds and points
+     *                   with a NaN objective are left out
+     * @param seed Seed of the resample streams
+     * @return Intervals indexed by HV and IGD, or null without points
+     */
+    public Interval[] run(double[][] seedPoints, long seed) throws InterruptedException {
+        Sample sample = new Sample(seedPoints);
+        if (sample.seeds == 0) {
+            return null;
+        }
+
+        // Metrics of every seed's front: their mean is the estimate, and leaving out one
+        // seed at a time gives the jackknife
+        double[][] seedValues = new double[2][sample.seeds];
+        double[] front = new double[2 * sample.size];
+        double[] values = new double[2];
+        for (int s = 0; s < sample.seeds; s++) {
+            score(sample, s, front, values);
+            seedValues[HV][s] = values[HV];
+            seedValues[IGD][s] = values[IGD];
+        }
+
+        double[][] replicates = resample(seedValues, seed);
+
+        Interval[] intervals = new Interval[2];
+        for (int m = 0; m < 2; m++) {
+            double total = 0.0;
+            for (double v : seedValues[m]) total += v;
+            double[] jackknife = null;
+            if (sample.seeds > 1) {
+                jackknife = new double[sample.seeds];
+                for (int s = 0; s < sample.seeds; s++) {
+                    jackknife[s] = (total - seedValues[m][s]) / (sample.seeds - 1);
+                }
+            }
+            double estimate = m == IGD && referenceSize == 0 ? Double.MAX_VALUE : total / sample.seeds;
+            intervals[m] = interval(estimate, replicates[m], jackknife);
+        }
+        return intervals;
+    }
+
+    /**
+     * Draw all resamples in parallel blocks.
+     *
+     * @param seedValues Metrics of each seed, indexed by HV and IGD
+     * @return Replicates of each metric, indexed by HV and IGD
+     */
+    private double[][] resample(double[][] seedValues, long seed) throws InterruptedException {
+        int seeds = seedValues[HV].length;
+        double[][] replicates = new double[2][resamples];
+        int blocks = (resamples + BLOCK_RESAMPLES - 1) / BLOCK_RESAMPLES;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[blocks];
+        for (int b = 0; b < blocks; b++) streams[b] = root.split();
+
+        ParallelLoop.forEachIndex(blocks, threads, b -> {
+            SplittableRandom random = streams[b];
+            int end = Math.min(resamples, (b + 1) * BLOCK_RESAMPLES);
+            for (int r = b * BLOCK_RESAMPLES; r < end; r++) {
+                double hv = 0.0;
+                double igd = 0.0;
+                for (int d = 0; d < seeds; d++) {
+                    int s = random.nextInt(seeds);
+                    hv += seedValues[HV][s];
+                    igd += seedValues[IGD][s];
+                }
+                replicates[HV][r] = hv / seeds;
+                replicates[IGD][r] = referenceSize == 0 ? Double.MAX_VALUE : igd / seeds;
+            }
+        });
+        return replicates;
+    }
+
+    /**
+     * HV and IGD of the front of one seed's points. A point is on the front unless another
+     * point is strictly better in both objectives, as in {@link Dominance}.
+     *
+     * @param front Buffer for the front, at least twice the seed's size
+     */
+    private void score(Sample sample, int seed, double[] front, double[] values) {
+        int size = 0;
+        double lowestBefore = Double.POSITIVE_INFINITY;    // Lowest obj2 among smaller obj1
+        int pos = sample.offsets[seed];
+        int last = sample.offsets[seed + 1];
+        while (pos < last) {
+            // Group of positions with equal obj1
+            int end = pos;
+            double x = sample.xs[pos];
+            double groupLowest = Double.POSITIVE_INFINITY;
+            while (end < last && sample.xs[end] == x) {
+                double y = sample.ys[end];
+                if (!(lowestBefore < y)) {
+                    front[2 * size] = x;
+                    front[2 * size + 1] = y;
+                    size++;
+                }
+                groupLowest = Math.min(groupLowest, y);
+                end++;
+            }
+            lowestBefore = Math.min(lowestBefore, groupLowest);
+            pos = end;
+        }
+
+        // HV sweep over the sorted front, clipped to the reference point
+        double area = 0.0;
+        double minY = 1.0;
+        for (int i = 0; i < size; i++) {
+            double fx = front[2 * i];
+            double fy = front[2 * i + 1];
+            if (fx < 1.0 && fy < minY) {
+                area += (1.0 - fx) * (minY - fy);
+                minY = fy;
+            }
+        }
+        values[HV] = area;
+        values[IGD] = referenceSize == 0 || size == 0 ? Double.MAX_VALUE
+                : NearestNeighbourIndex.meanNearestDistance(reference, referenceSize, 2,
+                        NearestNeighbourIndex.forSortedFront(front, size));
+    }
+
+    /**
+     * Percentile and BCa intervals from the sorted replicates.
+     *
+     * @param jackknife Leave-one-seed-out values, null for a single seed (no acceleration)
+     */
+    private Interval interval(double estimate, double[] replicates, double[] jackknife) {
+        double[] sorted = replicates.clone();
+        Arrays.sort(sorted);
+        int b = sorted.length;
+        double alpha = (1.0 - confidence) / 2.0;
+        SampleSummary summary = SampleSummary.of(sorted);
+        double percentileLow = SampleSummary.quantile(sorted, alpha);
+        double percentileHigh = SampleSummary.quantile(sorted, 1.0 - alpha);
+
+        // Estimate at the edge of the replicates: the bias correction is unbounded
+        if (!(sorted[0] < estimate && estimate < sorted[b - 1])) {
+            return new Interval(estimate, summary.getStd(), percentileLow, percentileHigh, Double.NaN, Double.NaN);
+        }
+
+        // Bias correction: share of replicates below the estimate, ties counting a half
+        double below = 0.0;
+        for (double v : sorted) {
+            if (v < estimate) below += 1.0;
+            else if (v == estimate) below += 0.5;
+        }
+        double z0 = StatisticalTests.normalQuantile(below / b);
+
+        // Acceleration from the skewness of the jackknife values
+        double acceleration = 0.0;
+        if (jackknife != null) {
+            double mean = 0.0;
+            for (double v : jackknife) mean += v;
+            mean /= jackknife.length;
+            double squares = 0.0;
+            double cubes = 0.0;
+            for (double v : jackknife) {
+                double d = mean - v;
+                squares += d * d;
+                cubes += d * d * d;
+            }
+            if (squares > 0) {
+                acceleration = cubes / (6.0 * Math.pow(squares, 1.5));
+            }
+        }
+
+        return new Interval(estimate, summary.getStd(), percentileLow, percentileHigh,
+                SampleSummary.quantile(sorted, bcaLevel(alpha, z0, acceleration)),
+                SampleSummary.quantile(sorted, bcaLevel(1.0 - alpha, z0, acceleration)));
+    }
+
+    /**
+     * Replicate quantile level the BCa interval uses for a nominal level.
+     */
+    private static double bcaLevel(double level, double z0, double acceleration) {
+        double z = z0 + StatisticalTests.normalQuantile(level);
+        return StatisticalTests.normalCdf(z0 + z / (1.0 - acceleration * z));
+    }
+
+    /**
+     * An algorithm's points grouped by seed, each seed's points in (obj1, obj2) order.
+     */
+    private static class Sample {
+        final double[] xs;      // obj1 by position
+        final double[] ys;      // obj2 by position
+        final int[] offsets;    // Seed s owns positions offsets[s] .. offsets[s + 1] - 1
+        final int seeds;
+        final int size;
+
+        Sample(double[][] seedPoints) {
+            int total = 0;
+            for (double[] points : seedPoints) total += points.length / 2;
+            double[] flat = new double[2 * total];
+            int[] offsets = new int[seedPoints.length + 1];
+            int n = 0;
+            int seeds = 0;
+            for (double[] points : seedPoints) {
+                int start = n;
+                for (int i = 0; i < points.length; i += 2) {
+                    if (!Double.isNaN(points[i]) && !Double.isNaN(points[i + 1])) {
+                        flat[2 * n] = points[i];
+                        flat[2 * n + 1] = points[i + 1];
+                        n++;
+                    }
+                }
+                if (n > start) {
+                    offsets[++seeds] = n;
+                }
+            }
+            this.seeds = seeds;
+            this.offsets = Arrays.copyOf(offsets, seeds + 1);
+            this.size = n;
+            this.xs = new double[n];
+            this.ys = new double[n];
+
+            // Lexicographic order within each seed: stable sort by obj2, then by obj1
+            for (int s = 0; s < seeds; s++) {
+                int from = this.offsets[s];
+                int count = this.offsets[s + 1] - from;
+                int[] order = new int[count];
+                for (int i = 0; i < count; i++) order[i] = from + i;
+                Dominance.sortIndicesByObjective(order, flat, 2, 1);
+                Dominance.sortIndicesByObjective(order, flat, 2, 0);
+                for (int i = 0; i < count; i++) {
+                    xs[from + i] = flat[2 * order[i]] + 0.0;
+                    ys[from + i] = flat[2 * order[i] + 1];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package taskprocessor;
+
+/**
+ * Two-objective non-dominated set that many threads can add to at once.
+ *
+ * Points go to one of several {@link ParetoArchive} stripes by their first objective, each
+ * stripe covering a slice of [low, high) (values outside go to the end stripes) behind its own
+ * lock, so producers only contend when they add to the same slice at the same time. A stripe
+ * keeps its own non-dominated set. Points of a stripe can only be dominated by points with a
+ * smaller first objective, which live in the same or an earlier stripe. Stripes are combined
+ * when the set is read, and the result is kept until a stripe changes.
+ *
+ * Every point carries its position in the input sequence. The result then does not depend on
+ * how the adds interleave: {@link #indices()} equals {@link Dominance#nonDominatedIndices2D}
+ * on the points ordered by position.
+ */
+public class ConcurrentParetoArchive {
+
+    private final double low;
+    private final double width;
+    private final Stripe[] stripes;
+
+    // Last combined result and the stripe versions it was built from
+    private volatile Snapshot snapshot;
+
+    private static class Stripe {
+        final ParetoArchive archive = new ParetoArchive();
+        volatile int version = 0;   // Incremented under the stripe lock by each accepted point
+    }
+
+    private static class Snapshot {
+        final int[] versions;
+        final int[] indices;
+
+        Snapshot(int[] versions, int[] indices) {
+            this.versions = versions;
+            this.indices = indices;
+        }
+    }
+
+    /**
+     * @param low Expected lowest first objective
+     * @param high Expected highest first objective
+     * @param stripes Number of slices of [low, high), typically a few times the producer count
+     */
+    public ConcurrentParetoArchive(double low, double high, int stripes) {
+        int count = Math.max(1, stripes);
+        this.low = low;
+        this.width = high > low ? (high - low) / count : 1.0;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Add a point. Safe to call from any number of threads.
+     *
+     * @param position Position of the point in the input sequence, distinct for every point
+     * @return Whether the point entered its stripe (false when a point of the same stripe
+     *         strictly dominates it; points of earlier stripes are only checked on read)
+     */
+    public boolean add(double x, double y, int position) {
+        Stripe stripe = stripes[stripeOf(x)];
+        synchronized (stripe) {
+            boolean added = stripe.archive.add(x, y, position);
+            if (added) {
+                stripe.version++;
+            }
+            return added;
+        }
+    }
+
+    /**
+     * Whether some point added so far strictly dominates (x, y).
+     */
+    public boolean isDominated(double x, double y) {
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            return false;
+        }
+        for (int i = 0; i <= stripeOf(x); i++) {
+            synchronized (stripes[i]) {
+                if (stripes[i].archive.isDominated(x, y)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Positions of the non-dominated set of the points added so far (points whose add()
+     * returned before this call started are included).
+     *
+     * @return Positions in ascending order, as {@link ParetoArchive#indices()}
+     */
+    public int[] indices() {
+        Snapshot current = snapshot;
+        if (current != null && isCurrent(current)) {
+            return current.indices.clone();
+        }
+
+        // Stripes in first-objective order, so the merged staircase is built left to right
+        int[] versions = new int[stripes.length];
+        ParetoArchive merged = new ParetoArchive();
+        for (int i = 0; i < stripes.length; i++) {
+            synchronized (stripes[i]) {
+                versions[i] = stripes[i].version;
+                merged.merge(stripes[i].archive);
+            }
+        }
+        int[] indices = merged.indices();
+        snapshot = new Snapshot(versions, indices);
+        return indices.clone();
+    }
+
+    /**
+     * Number of points kept over all stripes, before cross-stripe dominance is resolved.
+     */
+    public int stripedSize() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.archive.size();
+            }
+        }
+        return size;
+    }
+
+    private boolean isCurrent(Snapshot current) {
+        for (int i = 0; i < stripes.length; i++) {
+            if (stripes[i].version != current.versions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int stripeOf(double x) {
+        // NaN and values below low go to the first stripe
+        int index = (int) ((x - low) / width);
+        return Math.max(0, Math.min(stripes.length - 1, index));
+    }
+}
@@ -0,0 +1,111 @@
+package taskprocessor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coverage metric (C-metric) for every ordered pair of a list of two-objective fronts.
+ *
+ * C(A, B) is the fraction of B strictly dominated by some point of A, as in
+ * {@link MetricsEngine#C_Metric(int, int)}. Strict dominance does not depend on scale, so raw
+ * objective values are used. Each front is sorted by the first objective once, with the running
+ * minimum of the second objective. A point b is then dominated by A exactly when the prefix of
+ * A with first objective below b's has a minimum second objective below b's: a binary search
+ * and one lookup per point, so a pair costs O((n + m) log m) rather than O(n m). Pairs are
+ * scored concurrently.
+ */
+public class CoverageMatrix {
+
+    private CoverageMatrix() {}
+
+    /**
+     * Front sorted by the first objective with the prefix minima of the second.
+     */
+    private static class Front {
+        final double[] xs;          // First objective, ascending
+        final double[] minY;        // minY[i]: lowest second objective among xs[0..i]
+        final double[] points;      // Interleaved points, input order
+        final int size;             // Number of points, NaN included
+
+        Front(double[] front) {
+            this.points = front;
+            this.size = front.length / 2;
+
+            // A point with a NaN objective dominates nothing, so it is left out of the prefix
+            int n = 0;
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(front[2 * i]) && !Double.isNaN(front[2 * i + 1])) {
+                    order[n++] = i;
+                }
+            }
+            int[] kept = Arrays.copyOf(order, n);
+            Dominance.sortIndicesByObjective(kept, front, 2, 0);
+
+            this.xs = new double[n];
+            this.minY = new double[n];
+            double lowest = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                xs[i] = front[2 * kept[i]];
+                lowest = Math.min(lowest, front[2 * kept[i] + 1]);
+                minY[i] = lowest;
+            }
+        }
+
+        /**
+         * Whether some point strictly dominates (x, y).
+         */
+        boolean dominates(double x, double y) {
+            // Number of points with first objective strictly below x
+            int lo = 0, hi = xs.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (xs[mid] < x) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo > 0 && minY[lo - 1] < y;
+        }
+
+        /**
+         * Fraction of another front's points this front strictly dominates.
+         */
+        double coverage(Front other) {
+            if (size == 0 || other.size == 0) {
+                return 0.0;
+            }
+            int count = 0;
+            for (int j = 0; j < other.size; j++) {
+                if (dominates(other.points[2 * j], other.points[2 * j + 1])) {
+                    count++;
+                }
+            }
+            return (double) count / other.size;
+        }
+    }
+
+    /**
+     * C-metric of every ordered pair of fronts.
+     *
+     * @param fronts Interleaved fronts (not modified)
+     * @param threads Number of pairs scored concurrently
+     * @return matrix[a][b] = C(front a, front b), 0 when either front is empty
+     */
+    public static double[][] compute(List<double[]> fronts, int threads) throws InterruptedException {
+        int count = fronts.size();
+        Front[] sorted = new Front[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = new Front(fronts.get(i));
+        }
+
+        double[][] matrix = new double[count][count];
+        ParallelLoop.forEachIndex(count * count, threads, pair -> {
+            int a = pair / count;
+            int b = pair % count;
+            matrix[a][b] = sorted[a].coverage(sorted[b]);
+        });
+        return matrix;
+    }
+}
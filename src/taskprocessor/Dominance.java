@@ -1,6 +1,7 @@
 package taskprocessor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -101,15 +102,594 @@ public class Dominance {
     /**
      * Get the non-dominated set from a list of solutions.
      * A solution is non-dominated if no other solution dominates it.
+     * Uses the O(n log n) sort-and-sweep in {@link #nonDominatedIndices2D(double[], int)}.
      *
      * @param solutions List of solutions, each solution is [obj1, obj2]
-     * @return List of non-dominated solutions
+     * @return List of non-dominated solutions, in input order
      */
     public static List<double[]> getNonDominatedSet(List<double[]> solutions) {
         if (solutions == null || solutions.isEmpty()) {
             return new ArrayList<>();
         }
 
+        int n = solutions.size();
+        double[] points = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            double[] sol = solutions.get(i);
+            points[2 * i] = sol[0];
+            points[2 * i + 1] = sol[1];
+        }
+
+        int[] indices = nonDominatedIndices2D(points, n);
+        List<double[]> nonDominated = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            nonDominated.add(solutions.get(index));
+        }
+        return nonDominated;
+    }
+
+    /**
+     * Two-objective non-dominated filter in O(n log n) on a flat primitive layout.
+     *
+     * Semantics follow {@link #getNonDominatedSetReference(List)}:
+     * - a point is removed if another point strictly dominates it (per {@link #compare(double[], double[])})
+     * - points equal within EPSILON are collapsed, keeping the first one in input order
+     * Dominance is decided for each point on its own, while the reference collapses a
+     * later point into an earlier EPSILON-duplicate before checking it. The two only differ
+     * for EPSILON-duplicate groups whose members are not dominated alike, or do not
+     * dominate alike: e.g. for (1-6e-10, 1+6e-10), (1-6e-10, 1), (0, 1) the reference keeps
+     * only the last point, while this filter also keeps the second, which nothing strictly
+     * dominates.
+     *
+     * After a linear pivot prefilter, points are sorted by obj1; a sweep keeps the minimum
+     * obj2 over all points with strictly smaller obj1, so a point is dominated iff that
+     * minimum is below its obj2. Duplicates are then found by scanning the EPSILON window
+     * of obj1 neighbours.
+     *
+     * @param points Interleaved objective values [x0, y0, x1, y1, ...]
+     * @param n Number of points
+     * @return Indices of the non-dominated points, in input order
+     */
+    public static int[] nonDominatedIndices2D(double[] points, int n) {
+        if (n == 0) {
+            return new int[0];
+        }
+
+        // Drop points dominated by a few pivot points in linear time
+        int[] candidates = prefilterByPivots2D(points, n);
+        int m = candidates.length;
+
+        // Sort candidate indices by obj1 (stable, so ties keep input order)
+        int[] order = candidates.clone();
+        sortIndicesByObjective(order, points, 2, 0);
+
+        // Sweep: find points not strictly dominated by any other point
+        boolean[] survivor = new boolean[n];
+        double minYBefore = Double.POSITIVE_INFINITY;
+        int i = 0;
+        while (i < m) {
+            double x = points[2 * order[i]];
+            if (Double.isNaN(x)) {
+                // NaN never dominates and is never dominated
+                survivor[order[i]] = true;
+                i++;
+                continue;
+            }
+
+            // Group of points with exactly equal obj1
+            int groupEnd = i;
+            double groupMinY = Double.POSITIVE_INFINITY;
+            while (groupEnd < m && points[2 * order[groupEnd]] == x) {
+                double y = points[2 * order[groupEnd] + 1];
+                survivor[order[groupEnd]] = Double.isNaN(y) || !(minYBefore < y);
+                if (y < groupMinY) groupMinY = y;
+                groupEnd++;
+            }
+            if (groupMinY < minYBefore) minYBefore = groupMinY;
+            i = groupEnd;
+        }
+
+        // Survivors in obj1 order, and each survivor's position in that order
+        int survivorCount = 0;
+        for (int k = 0; k < m; k++) {
+            if (survivor[order[k]]) survivorCount++;
+        }
+        int[] sorted = new int[survivorCount];
+        int[] position = new int[n];
+        int s = 0;
+        for (int k = 0; k < m; k++) {
+            if (survivor[order[k]]) {
+                position[order[k]] = s;
+                sorted[s++] = order[k];
+            }
+        }
+
+        // Collapse EPSILON-duplicates, keeping the first in input order
+        boolean[] kept = new boolean[n];
+        int[] result = new int[survivorCount];
+        int keptCount = 0;
+        for (int k : candidates) {
+            if (!survivor[k]) continue;
+
+            double x = points[2 * k];
+            double y = points[2 * k + 1];
+            boolean duplicate = false;
+
+            for (int j = position[k] - 1; j >= 0 && !duplicate; j--) {
+                int other = sorted[j];
+                if (!(Math.abs(points[2 * other] - x) < EPSILON)) break;
+                duplicate = kept[other] && Math.abs(points[2 * other + 1] - y) < EPSILON;
+            }
+            for (int j = position[k] + 1; j < survivorCount && !duplicate; j++) {
+                int other = sorted[j];
+                if (!(Math.abs(points[2 * other] - x) < EPSILON)) break;
+                duplicate = kept[other] && Math.abs(points[2 * other + 1] - y) < EPSILON;
+            }
+
+            if (!duplicate) {
+                kept[k] = true;
+                result[keptCount++] = k;
+            }
+        }
+
+        return Arrays.copyOf(result, keptCount);
+    }
+
+    /**
+     * Linear-time prefilter for the two-objective sweep.
+     * Picks the minimisers of several weighted sums of the range-normalised objectives
+     * as pivots and drops every point strictly dominated by a pivot. Since pivots are
+     * input points and strict dominance is transitive, the non-dominated set is unchanged.
+     *
+     * @return Indices of the remaining points, in input order
+     */
+    private static int[] prefilterByPivots2D(double[] points, int n) {
+        final int pivotCount = 9;
+
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            double x = points[2 * i], y = points[2 * i + 1];
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+        }
+        double rangeX = maxX > minX ? maxX - minX : 1.0;
+        double rangeY = maxY > minY ? maxY - minY : 1.0;
+
+        // Pivot j minimises w*x' + (1-w)*y' with w = j / (pivotCount - 1)
+        double[] best = new double[pivotCount];
+        int[] pivot = new int[pivotCount];
+        Arrays.fill(best, Double.POSITIVE_INFINITY);
+        Arrays.fill(pivot, -1);
+        for (int i = 0; i < n; i++) {
+            double nx = (points[2 * i] - minX) / rangeX;
+            double ny = (points[2 * i + 1] - minY) / rangeY;
+            for (int j = 0; j < pivotCount; j++) {
+                double w = (double) j / (pivotCount - 1);
+                double v = w * nx + (1 - w) * ny;
+                if (v < best[j]) {
+                    best[j] = v;
+                    pivot[j] = i;
+                }
+            }
+        }
+
+        double[] pivotX = new double[pivotCount];
+        double[] pivotY = new double[pivotCount];
+        int pivots = 0;
+        for (int j = 0; j < pivotCount; j++) {
+            if (pivot[j] < 0) continue;
+            pivotX[pivots] = points[2 * pivot[j]];
+            pivotY[pivots] = points[2 * pivot[j] + 1];
+            pivots++;
+        }
+
+        int[] candidates = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            double x = points[2 * i], y = points[2 * i + 1];
+            boolean dominated = false;
+            for (int j = 0; j < pivots && !dominated; j++) {
+                dominated = pivotX[j] < x && pivotY[j] < y;
+            }
+            if (!dominated) {
+                candidates[m++] = i;
+            }
+        }
+        return Arrays.copyOf(candidates, m);
+    }
+
+    /**
+     * Stable merge sort of point indices by one objective, NaN last.
+     * The sort keys are copied into a primitive array and moved together with the
+     * indices, so merging does not chase indices into the point array.
+     *
+     * @param order Point indices to sort in place
+     * @param points Flat objective values with the given stride
+     * @param stride Number of objectives per point
+     * @param objective Objective to sort by
+     */
+    static void sortIndicesByObjective(int[] order, double[] points, int stride, int objective) {
+        int n = order.length;
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = points[order[i] * stride + objective];
+        }
+
+        // Insertion sort small runs first
+        final int run = 16;
+        for (int lo = 0; lo < n; lo += run) {
+            int hi = Math.min(lo + run, n);
+            for (int i = lo + 1; i < hi; i++) {
+                double key = keys[i];
+                int idx = order[i];
+                int j = i - 1;
+                while (j >= lo && Double.compare(keys[j], key) > 0) {
+                    keys[j + 1] = keys[j];
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                order[j + 1] = idx;
+            }
+        }
+        if (n <= run) {
+            return;
+        }
+
+        double[] keyBuffer = new double[n];
+        int[] orderBuffer = new int[n];
+        double[] srcKeys = keys, dstKeys = keyBuffer;
+        int[] src = order, dst = orderBuffer;
+
+        for (int width = run; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + 2 * width, n);
+                int a = lo, b = mid, k = lo;
+                while (a < mid && b < hi) {
+                    // Double.compare orders NaN last; take from the left run on ties
+                    if (Double.compare(srcKeys[b], srcKeys[a]) < 0) {
+                        dstKeys[k] = srcKeys[b];
+                        dst[k++] = src[b++];
+                    } else {
+                        dstKeys[k] = srcKeys[a];
+                        dst[k++] = src[a++];
+                    }
+                }
+                while (a < mid) {
+                    dstKeys[k] = srcKeys[a];
+                    dst[k++] = src[a++];
+                }
+                while (b < hi) {
+                    dstKeys[k] = srcKeys[b];
+                    dst[k++] = src[b++];
+                }
+            }
+            double[] tmpKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tmpKeys;
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+
+        if (src != order) {
+            System.arraycopy(src, 0, order, 0, n);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // k objectives on a flat layout: point i occupies points[i*k .. i*k+k-1]
+    // ---------------------------------------------------------------------
+
+    /**
+     * Compare two points of a flat k-objective array for strict dominance,
+     * with the same semantics as {@link #compare(double[], double[])}.
+     *
+     * @param points Flat objective values with stride k
+     * @param a Index of the first point
+     * @param b Index of the second point
+     * @param k Number of objectives
+     * @return -1 if a strictly dominates b, 1 if b strictly dominates a, 0 otherwise
+     */
+    public static int compare(double[] points, int a, int b, int k) {
+        int offA = a * k, offB = b * k;
+        boolean aBetter = true, bBetter = true;
+        for (int d = 0; d < k; d++) {
+            double va = points[offA + d], vb = points[offB + d];
+            aBetter &= va < vb;
+            bBetter &= vb < va;
+        }
+        return aBetter ? -1 : (bBetter ? 1 : 0);
+    }
+
+    /**
+     * Check if two points of a flat k-objective array are equal within a tolerance in every objective.
+     */
+    public static boolean arePointsEqual(double[] points, int a, int b, int k, double epsilon) {
+        int offA = a * k, offB = b * k;
+        for (int d = 0; d < k; d++) {
+            if (!(Math.abs(points[offA + d] - points[offB + d]) < epsilon)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get the non-dominated set of k-objective solutions.
+     *
+     * @param solutions List of solutions, each with at least k objective values
+     * @param k Number of objectives
+     * @return List of non-dominated solutions, in input order
+     */
+    public static List<double[]> getNonDominatedSet(List<double[]> solutions, int k) {
+        if (solutions == null || solutions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int n = solutions.size();
+        double[] points = new double[k * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(solutions.get(i), 0, points, i * k, k);
+        }
+
+        int[] indices = nonDominatedIndices(points, n, k);
+        List<double[]> nonDominated = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            nonDominated.add(solutions.get(index));
+        }
+        return nonDominated;
+    }
+
+    /**
+     * Non-dominated filter for any number of objectives, dispatching to the specialised
+     * two- and three-objective kernels.
+     *
+     * A point is removed if another point strictly dominates it, and points equal within
+     * EPSILON in every objective are collapsed, keeping the first one in input order.
+     *
+     * @param points Flat objective values with stride k
+     * @param n Number of points
+     * @param k Number of objectives
+     * @return Indices of the non-dominated points, in input order
+     */
+    public static int[] nonDominatedIndices(double[] points, int n, int k) {
+        if (k == 2) return nonDominatedIndices2D(points, n);
+        if (k == 3) return nonDominatedIndices3D(points, n);
+        return nonDominatedIndicesK(points, n, k);
+    }
+
+    private static boolean hasNaN(double[] points, int i, int k) {
+        for (int d = 0; d < k; d++) {
+            if (Double.isNaN(points[i * k + d])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Three-objective non-dominated filter in O(n log n).
+     *
+     * Points are swept in obj1 order. A Fenwick tree over obj2 ranks holds the prefix
+     * minimum of obj3 over all points with strictly smaller obj1, so a point is dominated
+     * iff the minimum obj3 over strictly smaller obj2 ranks is below its obj3. Points with
+     * a NaN objective never dominate and are never dominated.
+     *
+     * @param points Flat objective values [x0, y0, z0, x1, ...]
+     * @param n Number of points
+     * @return Indices of the non-dominated points, in input order
+     */
+    public static int[] nonDominatedIndices3D(double[] points, int n) {
+        boolean[] survivor = new boolean[n];
+
+        // Points with NaN survive; the rest take part in the sweep
+        int[] order = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (hasNaN(points, i, 3)) {
+                survivor[i] = true;
+            } else {
+                order[m++] = i;
+            }
+        }
+        order = Arrays.copyOf(order, m);
+        sortIndicesByObjective(order, points, 3, 0);
+
+        // Ranks of the distinct obj2 values (-0.0 and 0.0 share a rank)
+        double[] ys = new double[m];
+        for (int i = 0; i < m; i++) {
+            ys[i] = points[3 * order[i] + 1] + 0.0;
+        }
+        Arrays.sort(ys);
+        int distinct = 0;
+        for (int i = 0; i < m; i++) {
+            if (distinct == 0 || ys[i] != ys[distinct - 1]) ys[distinct++] = ys[i];
+        }
+
+        // Fenwick tree of prefix minima of obj3, indexed by obj2 rank + 1
+        double[] tree = new double[distinct + 1];
+        Arrays.fill(tree, Double.POSITIVE_INFINITY);
+
+        int i = 0;
+        while (i < m) {
+            double x = points[3 * order[i]];
+
+            // Query the group of points with equal obj1 before inserting any of them
+            int groupEnd = i;
+            while (groupEnd < m && points[3 * order[groupEnd]] == x) {
+                int p = order[groupEnd];
+                int rank = Arrays.binarySearch(ys, 0, distinct, points[3 * p + 1] + 0.0);
+                double minZ = Double.POSITIVE_INFINITY;
+                for (int r = rank; r > 0; r -= r & -r) {
+                    if (tree[r] < minZ) minZ = tree[r];
+                }
+                survivor[p] = !(minZ < points[3 * p + 2]);
+                groupEnd++;
+            }
+            for (int g = i; g < groupEnd; g++) {
+                int p = order[g];
+                int rank = Arrays.binarySearch(ys, 0, distinct, points[3 * p + 1] + 0.0);
+                double z = points[3 * p + 2];
+                for (int r = rank + 1; r <= distinct; r += r & -r) {
+                    if (z < tree[r]) tree[r] = z;
+                }
+            }
+            i = groupEnd;
+        }
+
+        return collapseDuplicates(points, n, 3, survivor);
+    }
+
+    /**
+     * Non-dominated filter for k objectives. Points are visited in obj1 order and only
+     * compared with the current survivors that have strictly smaller obj1, which is
+     * enough because strict dominance is transitive.
+     */
+    static int[] nonDominatedIndicesK(double[] points, int n, int k) {
+        boolean[] survivor = new boolean[n];
+
+        int[] order = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (hasNaN(points, i, k)) {
+                survivor[i] = true;
+            } else {
+                order[m++] = i;
+            }
+        }
+        order = Arrays.copyOf(order, m);
+        sortIndicesByObjective(order, points, k, 0);
+
+        // Survivors of earlier obj1 groups, flat with stride k
+        double[] front = new double[Math.max(1, m) * k];
+        int frontSize = 0;
+
+        int i = 0;
+        while (i < m) {
+            double x = points[k * order[i]];
+            int groupEnd = i;
+            while (groupEnd < m && points[k * order[groupEnd]] == x) {
+                int p = order[groupEnd];
+                int off = p * k;
+                boolean dominated = false;
+                for (int f = 0; f < frontSize && !dominated; f++) {
+                    int fOff = f * k;
+                    boolean better = true;
+                    for (int d = 1; d < k && better; d++) {
+                        better = front[fOff + d] < points[off + d];
+                    }
+                    dominated = better;
+                }
+                survivor[p] = !dominated;
+                groupEnd++;
+            }
+            for (int g = i; g < groupEnd; g++) {
+                int p = order[g];
+                if (survivor[p]) {
+                    System.arraycopy(points, p * k, front, frontSize * k, k);
+                    frontSize++;
+                }
+            }
+            i = groupEnd;
+        }
+
+        return collapseDuplicates(points, n, k, survivor);
+    }
+
+    /**
+     * Collapse survivors that are equal within EPSILON in every objective, keeping the
+     * first one in input order. Candidates are found in the EPSILON window of obj1.
+     *
+     * @return Indices of the kept survivors, in input order
+     */
+    private static int[] collapseDuplicates(double[] points, int n, int k, boolean[] survivor) {
+        // Points with NaN are never equal to anything, so only the others are windowed
+        boolean[] nan = new boolean[n];
+        int[] sorted = new int[n];
+        int survivorCount = 0, total = 0;
+        for (int i = 0; i < n; i++) {
+            if (!survivor[i]) continue;
+            total++;
+            nan[i] = hasNaN(points, i, k);
+            if (!nan[i]) sorted[survivorCount++] = i;
+        }
+        sorted = Arrays.copyOf(sorted, survivorCount);
+        sortIndicesByObjective(sorted, points, k, 0);
+        int[] position = new int[n];
+        for (int j = 0; j < survivorCount; j++) {
+            position[sorted[j]] = j;
+        }
+
+        boolean[] kept = new boolean[n];
+        int[] result = new int[total];
+        int keptCount = 0;
+        for (int p = 0; p < n; p++) {
+            if (!survivor[p]) continue;
+            if (nan[p]) {
+                result[keptCount++] = p;
+                continue;
+            }
+
+            double x = points[k * p];
+            boolean duplicate = false;
+            for (int j = position[p] - 1; j >= 0 && !duplicate; j--) {
+                int other = sorted[j];
+                if (!(Math.abs(points[k * other] - x) < EPSILON)) break;
+                duplicate = kept[other] && arePointsEqual(points, other, p, k, EPSILON);
+            }
+            for (int j = position[p] + 1; j < survivorCount && !duplicate; j++) {
+                int other = sorted[j];
+                if (!(Math.abs(points[k * other] - x) < EPSILON)) break;
+                duplicate = kept[other] && arePointsEqual(points, other, p, k, EPSILON);
+            }
+
+            if (!duplicate) {
+                kept[p] = true;
+                result[keptCount++] = p;
+            }
+        }
+        return Arrays.copyOf(result, keptCount);
+    }
+
+    /**
+     * Reference k-objective filter by pairwise comparison - O(n^2 k).
+     * Kept for testing the specialised kernels.
+     */
+    static int[] nonDominatedIndicesReference(double[] points, int n, int k) {
+        boolean[] survivor = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            survivor[i] = true;
+            for (int j = 0; j < n && survivor[i]; j++) {
+                if (compare(points, j, i, k) == -1) survivor[i] = false;
+            }
+        }
+        int[] result = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (!survivor[i]) continue;
+            boolean duplicate = false;
+            for (int r = 0; r < count && !duplicate; r++) {
+                duplicate = arePointsEqual(points, result[r], i, k, EPSILON);
+            }
+            if (!duplicate) result[count++] = i;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Reference implementation of {@link #getNonDominatedSet(List)}.
+     * Compares each candidate against the current archive - O(n^2) or worse.
+     * Kept for testing the sort-and-sweep implementation.
+     *
+     * @param solutions List of solutions, each solution is [obj1, obj2]
+     * @return List of non-dominated solutions
+     */
+    public static List<double[]> getNonDominatedSetReference(List<double[]> solutions) {
+        if (solutions == null || solutions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         List<double[]> nonDominated = new ArrayList<>();
 
         for (double[] candidate : solutions) {
@@ -0,0 +1,122 @@
+package taskprocessor;
+
+import java.util.Arrays;
+
+/**
+ * Spatial hash of two-objective points on a grid of cell size 2 * epsilon.
+ *
+ * Answers "which indexed points are equal within epsilon to (x, y)" (the test of
+ * {@link Dominance#arePointsEqual(double[], double[], double)}) by looking only at
+ * the 3x3 neighbouring cells. With a cell size of twice the tolerance, two points
+ * that are equal within epsilon are always in the same or adjacent cells, even
+ * after rounding of the cell coordinates.
+ *
+ * Cells are stored in an open-addressing table over primitive keys; points in the
+ * same cell are chained through an int array.
+ */
+public class EpsilonGrid {
+
+    private final double epsilon;
+    private final double cellSize;
+    private final double[] xs;
+    private final double[] ys;
+
+    // Open-addressing table: cell coordinates -> first point index (-1 = empty slot)
+    private final long[] cellX;
+    private final long[] cellY;
+    private final int[] head;
+    private final int mask;
+
+    // Next point in the same cell (-1 = end of chain)
+    private final int[] next;
+
+    /**
+     * Build the grid over a list of points.
+     *
+     * @param xs First objective values
+     * @param ys Second objective values
+     * @param epsilon Equality tolerance
+     */
+    public EpsilonGrid(double[] xs, double[] ys, double epsilon) {
+        this.epsilon = epsilon;
+        this.cellSize = 2 * epsilon;
+        this.xs = xs;
+        this.ys = ys;
+
+        int n = xs.length;
+        int capacity = Integer.highestOneBit(Math.max(4, n * 2 - 1)) << 1;
+        this.cellX = new long[capacity];
+        this.cellY = new long[capacity];
+        this.head = new int[capacity];
+        this.mask = capacity - 1;
+        this.next = new int[n];
+        Arrays.fill(head, -1);
+
+        for (int i = 0; i < n; i++) {
+            long cx = cell(xs[i]);
+            long cy = cell(ys[i]);
+            int slot = findSlot(cx, cy);
+            if (head[slot] < 0) {
+                cellX[slot] = cx;
+                cellY[slot] = cy;
+            }
+            next[i] = head[slot];
+            head[slot] = i;
+        }
+    }
+
+    private long cell(double v) {
+        return (long) Math.floor(v / cellSize);
+    }
+
+    private static int hash(long cx, long cy) {
+        long h = cx * 0x9E3779B97F4A7C15L + cy;
+        h ^= (h >>> 32);
+        h *= 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 29));
+    }
+
+    /**
+     * Slot holding the given cell, or the empty slot where it would be inserted.
+     */
+    private int findSlot(long cx, long cy) {
+        int slot = hash(cx, cy) & mask;
+        while (head[slot] >= 0 && (cellX[slot] != cx || cellY[slot] != cy)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Find all indexed points equal within epsilon to (x, y).
+     *
+     * @param x First objective value
+     * @param y Second objective value
+     * @param out Receives the matching point indices; must be large enough for all matches
+     * @return Number of matches written to out
+     */
+    public int findEqual(double x, double y, int[] out) {
+        long cx = cell(x);
+        long cy = cell(y);
+        int count = 0;
+
+        for (long dx = -1; dx <= 1; dx++) {
+            for (long dy = -1; dy <= 1; dy++) {
+                int slot = findSlot(cx + dx, cy + dy);
+                for (int i = head[slot]; i >= 0; i = next[i]) {
+                    if (Math.abs(xs[i] - x) < epsilon && Math.abs(ys[i] - y) < epsilon) {
+                        out[count++] = i;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Number of indexed points.
+     */
+    public int size() {
+        return xs.length;
+    }
+}
@@ -1,7 +1,17 @@
 package taskprocessor;
 
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
 import java.io.*;
 import java.util.*;
@@ -9,6 +19,11 @@ import java.util.*;
 /**
  * Excel file reader for parsing experiment result files.
  * Handles different column orders by reading header row first.
+ *
+ * Two modes are available:
+ * - DOM mode ({@link #readExcelFile(String)}): loads the full XSSFWorkbook
+ * - Streaming mode ({@link #readExcelFile(String, Set)}): SAX-parses sheet 1 only,
+ *   stops after the data row and keeps only the requested columns
  */
 public class ExcelReader {
 
@@ -66,6 +81,189 @@ public class ExcelReader {
         return result;
     }
 
+    /**
+     * Read an Excel file in streaming (event) mode and return a map of column name to value.
+     * Only the first sheet is parsed, parsing stops after row 1 (the data row), and
+     * columns whose header is not in wantedColumns are skipped.
+     * Values are identical to those returned by {@link #readExcelFile(String)}.
+     *
+     * @param filePath Path to the Excel file
+     * @param wantedColumns Column names to extract, or null for all columns
+     * @return Map of column name to value
+     * @throws Exception If file cannot be read
+     */
+    public Map<String, Double> readExcelFile(String filePath, Set<String> wantedColumns) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(filePath, PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new Exception("No sheet found in file: " + filePath);
+            }
+
+            HeaderAndDataRowHandler handler = new HeaderAndDataRowHandler(sharedStrings, wantedColumns);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(handler);
+                try {
+                    parser.parse(new InputSource(sheet));
+                } catch (StopParsingException e) {
+                    // Data row has been read - nothing else is needed
+                }
+            }
+
+            if (!handler.headerFound) {
+                throw new Exception("No header row found in file: " + filePath);
+            }
+            if (!handler.dataFound) {
+                throw new Exception("No data row found in file: " + filePath);
+            }
+            return handler.result;
+        }
+    }
+
+    /**
+     * Thrown by the sheet handler to abort SAX parsing once the data row is complete.
+     */
+    private static class StopParsingException extends SAXException {
+        private static final long serialVersionUID = 1L;
+
+        StopParsingException() {
+            super("Stop parsing after data row");
+        }
+    }
+
+    /**
+     * SAX handler for sheet XML that reads row 0 (header) and row 1 (data) only.
+     * Cell values are taken from the raw stored value, matching the DOM conversion rules:
+     * numeric and formula cells are parsed as numbers, string cells are parsed if numeric,
+     * boolean and error cells are ignored.
+     */
+    private static class HeaderAndDataRowHandler extends DefaultHandler {
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final Set<String> wantedColumns;
+
+        private final Map<Integer, String> columnNames = new HashMap<>();
+        private final Map<String, Double> result = new HashMap<>();
+        private boolean headerFound = false;
+        private boolean dataFound = false;
+
+        private int rowIndex = -1;
+        private int nextColumn = 0;
+        private int cellColumn;
+        private String cellType;
+        private boolean inValue = false;
+        private final StringBuilder value = new StringBuilder();
+
+        HeaderAndDataRowHandler(ReadOnlySharedStringsTable sharedStrings, Set<String> wantedColumns) {
+            this.sharedStrings = sharedStrings;
+            this.wantedColumns = wantedColumns;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+            String name = localName.isEmpty() ? qName : localName;
+
+            if (name.equals("row")) {
+                String r = attributes.getValue("r");
+                rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                nextColumn = 0;
+                if (rowIndex > 1) {
+                    // Row 1 is missing - no point reading further
+                    throw new StopParsingException();
+                }
+                if (rowIndex == 0) headerFound = true;
+                if (rowIndex == 1) dataFound = true;
+            } else if (name.equals("c")) {
+                String ref = attributes.getValue("r");
+                cellColumn = ref != null ? columnIndex(ref) : nextColumn;
+                nextColumn = cellColumn + 1;
+                cellType = attributes.getValue("t");
+                value.setLength(0);
+            } else if (name.equals("v") || name.equals("t")) {
+                // <t> appears inside <is> for inline strings
+                inValue = true;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            String name = localName.isEmpty() ? qName : localName;
+
+            if (name.equals("v") || name.equals("t")) {
+                inValue = false;
+            } else if (name.equals("c")) {
+                if (rowIndex == 0) {
+                    String colName = cellText().trim();
+                    if (wantedColumns == null || wantedColumns.contains(colName)) {
+                        columnNames.put(cellColumn, colName);
+                    }
+                } else if (rowIndex == 1) {
+                    String colName = columnNames.get(cellColumn);
+                    if (colName != null) {
+                        Double parsed = cellNumber();
+                        if (parsed != null) {
+                            result.put(colName, parsed);
+                        }
+                    }
+                }
+            } else if (name.equals("row") && rowIndex == 1) {
+                throw new StopParsingException();
+            }
+        }
+
+        private String cellText() {
+            String raw = value.toString();
+            if ("s".equals(cellType)) {
+                return sharedStrings.getItemAt(Integer.parseInt(raw.trim())).getString();
+            }
+            if ("b".equals(cellType)) {
+                return raw.equals("1") ? "true" : "false";
+            }
+            if (cellType == null || cellType.equals("n")) {
+                try {
+                    return String.valueOf(Double.parseDouble(raw));
+                } catch (NumberFormatException e) {
+                    return raw;
+                }
+            }
+            return raw;
+        }
+
+        private Double cellNumber() {
+            if (cellType != null && (cellType.equals("b") || cellType.equals("e"))) {
+                return null;
+            }
+            String text = "s".equals(cellType) ? cellText() : value.toString();
+            try {
+                return Double.parseDouble(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Convert the column letters of a cell reference (e.g. "AB12") to a 0-based index.
+         */
+        private static int columnIndex(String ref) {
+            int col = 0;
+            for (int i = 0; i < ref.length(); i++) {
+                char c = ref.charAt(i);
+                if (c < 'A' || c > 'Z') break;
+                col = col * 26 + (c - 'A' + 1);
+            }
+            return col - 1;
+        }
+    }
+
     private String getCellValueAsString(Cell cell) {
         if (cell == null) return "";
 
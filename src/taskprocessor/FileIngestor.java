@@ -0,0 +1,272 @@
+package taskprocessor;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses a list of result files on a configurable number of worker threads.
+ *
+ * Workers pull file indices from a shared counter, so results are always returned
+ * in the same order as the input list regardless of worker count or scheduling.
+ * Errors are reported in input order after all workers have finished.
+ *
+ * Results can also be streamed to a {@link ResultConsumer} while parsing: each is handed
+ * over, in input order, as soon as it and every earlier file are parsed.
+ *
+ * Workers can be platform threads or, when the runtime supports them (Java 21+),
+ * virtual threads. With a single worker, files are parsed on the calling thread.
+ */
+public class FileIngestor {
+
+    /**
+     * Parses one file into a result value.
+     */
+    public interface FileParser<T> {
+        T parse(File file) throws Exception;
+    }
+
+    /**
+     * Receives parsed results in input order. Calls are serialized but may come from any
+     * worker thread; a file that failed to parse is passed as null.
+     */
+    public interface ResultConsumer<T> {
+        void accept(int index, T value);
+    }
+
+    private final int workers;
+    private final boolean virtualThreads;
+
+    // Statistics of the last ingest() call
+    private int lastFileCount;
+    private long lastWallNanos;
+    private long[] lastBusyNanos = new long[0];
+    private int[] lastWorkerFiles = new int[0];
+    private boolean lastUsedVirtualThreads;
+    private long lastWorkerCpuNanos;
+    private long lastWorkerAllocatedBytes;
+
+    public FileIngestor(int workers, boolean virtualThreads) {
+        this.workers = Math.max(1, workers);
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getWorkers() { return workers; }
+
+    /**
+     * CPU time of the worker threads of the last ingest() call; 0 when files were
+     * parsed on the calling thread or the JVM cannot measure it.
+     */
+    public long getLastWorkerCpuNanos() { return lastWorkerCpuNanos; }
+
+    /**
+     * Bytes allocated by the worker threads of the last ingest() call; 0 when files
+     * were parsed on the calling thread or the JVM cannot measure it.
+     */
+    public long getLastWorkerAllocatedBytes() { return lastWorkerAllocatedBytes; }
+
+    /**
+     * Parse all files and return the results in input order.
+     * Files that fail to parse produce a null entry and an error message on stderr.
+     *
+     * @param files Files to parse
+     * @param parser Parser applied to each file
+     * @return Parsed values, one per input file, in input order
+     * @throws InterruptedException If interrupted while waiting for workers
+     */
+    public <T> List<T> ingest(List<File> files, FileParser<T> parser) throws InterruptedException {
+        Object[] results = new Object[files.size()];
+        ingest(files, parser, (index, value) -> results[index] = value);
+
+        List<T> ordered = new ArrayList<>(results.length);
+        for (Object result : results) {
+            @SuppressWarnings("unchecked")
+            T value = (T) result;
+            ordered.add(value);
+        }
+        return Collections.unmodifiableList(ordered);
+    }
+
+    /**
+     * Parse all files, streaming the results to a consumer in input order while the workers
+     * are still parsing later files. Files that fail to parse produce a null result and an
+     * error message on stderr.
+     *
+     * @param files Files to parse
+     * @param parser Parser applied to each file
+     * @param consumer Receives every result once, in input order
+     * @throws InterruptedException If interrupted while waiting for workers
+     */
+    public <T> void ingest(List<File> files, FileParser<T> parser, ResultConsumer<T> consumer) throws InterruptedException {
+        int n = files.size();
+        Delivery<T> results = new Delivery<>(n, consumer);
+        Exception[] errors = new Exception[n];
+
+        int lanes = Math.max(1, Math.min(workers, n));
+        long[] busyNanos = new long[lanes];
+        int[] workerFiles = new int[lanes];
+        long[] cpuNanos = new long[lanes];
+        long[] allocatedBytes = new long[lanes];
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        boolean usedVirtual = false;
+
+        if (lanes == 1) {
+            runWorker(0, files, parser, next, results, errors, busyNanos, workerFiles, null, null);
+        } else {
+            Thread[] threads = new Thread[lanes];
+            for (int w = 0; w < lanes; w++) {
+                final int worker = w;
+                Runnable task = () -> runWorker(worker, files, parser, next, results, errors, busyNanos, workerFiles, cpuNanos, allocatedBytes);
+                Thread thread = virtualThreads ? newVirtualThread(task) : null;
+                if (thread == null) {
+                    thread = new Thread(task, "ingest-worker-" + w);
+                } else {
+                    usedVirtual = true;
+                }
+                threads[w] = thread;
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        lastWallNanos = System.nanoTime() - start;
+        lastFileCount = n;
+        lastBusyNanos = busyNanos;
+        lastWorkerFiles = workerFiles;
+        lastUsedVirtualThreads = usedVirtual;
+        lastWorkerCpuNanos = 0;
+        lastWorkerAllocatedBytes = 0;
+        if (lanes > 1) {
+            for (int w = 0; w < lanes; w++) {
+                lastWorkerCpuNanos += cpuNanos[w];
+                lastWorkerAllocatedBytes += allocatedBytes[w];
+            }
+        }
+
+        // Report errors in input order so output is deterministic
+        for (int i = 0; i < n; i++) {
+            if (errors[i] != null) {
+                System.err.println("Error reading file: " + files.get(i).getName() + " - " + errors[i].getMessage());
+            }
+        }
+        results.rethrowConsumerFailure();
+    }
+
+    /**
+     * Hands results to the consumer in input order: a finished result waits until every
+     * earlier one has been handed over.
+     */
+    private static class Delivery<T> {
+        private final Object[] pending;
+        private final boolean[] done;
+        private final ResultConsumer<T> consumer;
+        private int next = 0;
+        private RuntimeException failure;
+
+        Delivery(int n, ResultConsumer<T> consumer) {
+            this.pending = new Object[n];
+            this.done = new boolean[n];
+            this.consumer = consumer;
+        }
+
+        synchronized void complete(int index, T value) {
+            pending[index] = value;
+            done[index] = true;
+            while (next < done.length && done[next] && failure == null) {
+                @SuppressWarnings("unchecked")
+                T ready = (T) pending[next];
+                pending[next] = null;
+                try {
+                    consumer.accept(next, ready);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+                next++;
+            }
+        }
+
+        synchronized void rethrowConsumerFailure() {
+            if (failure != null) throw failure;
+        }
+    }
+
+    private <T> void runWorker(int worker, List<File> files, FileParser<T> parser, AtomicInteger next,
+                               Delivery<T> results, Exception[] errors, long[] busyNanos, int[] workerFiles,
+                               long[] cpuNanos, long[] allocatedBytes) {
+        // Resource usage of worker threads (not measured when running on the calling thread)
+        long startCpu = cpuNanos != null ? StageProfiler.currentThreadCpuNanos() : -1;
+        long startAllocated = allocatedBytes != null ? StageProfiler.currentThreadAllocatedBytes() : -1;
+
+        int index;
+        while ((index = next.getAndIncrement()) < files.size()) {
+            long t0 = System.nanoTime();
+            T value = null;
+            try {
+                value = parser.parse(files.get(index));
+            } catch (Exception e) {
+                errors[index] = e;
+            }
+            busyNanos[worker] += System.nanoTime() - t0;
+            workerFiles[worker]++;
+            results.complete(index, value);
+        }
+
+        if (startCpu >= 0) {
+            cpuNanos[worker] = StageProfiler.currentThreadCpuNanos() - startCpu;
+        }
+        if (startAllocated >= 0) {
+            allocatedBytes[worker] = StageProfiler.currentThreadAllocatedBytes() - startAllocated;
+        }
+    }
+
+    /**
+     * Create an unstarted virtual thread via reflection so the code still compiles
+     * and runs on runtimes without virtual thread support.
+     *
+     * @return Virtual thread, or null if not supported
+     */
+    private static Thread newVirtualThread(Runnable task) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+            return (Thread) unstarted.invoke(builder, task);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Print throughput and per-worker utilisation of the last ingest() call.
+     *
+     * @param label Name of the scan (e.g. "Multi-Objective")
+     * @param out Stream to print to
+     */
+    public void printSummary(String label, PrintStream out) {
+        double wallSec = lastWallNanos / 1e9;
+        double filesPerSec = wallSec > 0 ? lastFileCount / wallSec : 0.0;
+        String threadKind = lastUsedVirtualThreads ? "virtual" : "platform";
+
+        out.println("\n" + label + " ingestion: " + lastFileCount + " files in " +
+                String.format("%.3f", wallSec) + " s (" + String.format("%.1f", filesPerSec) + " files/s), " +
+                lastBusyNanos.length + " " + threadKind + " worker(s)");
+
+        if (lastBusyNanos.length > 1) {
+            for (int w = 0; w < lastBusyNanos.length; w++) {
+                double busySec = lastBusyNanos[w] / 1e9;
+                double utilisation = lastWallNanos > 0 ? 100.0 * lastBusyNanos[w] / lastWallNanos : 0.0;
+                out.println("  worker-" + w + ": " + lastWorkerFiles[w] + " files, busy " +
+                        String.format("%.3f", busySec) + " s (" + String.format("%.1f", utilisation) + "%)");
+            }
+        }
+    }
+}
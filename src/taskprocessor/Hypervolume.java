@@ -0,0 +1,391 @@
+package taskprocessor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exact hypervolume of point sets in normalized objective space, for minimization,
+ * with the reference point (1, ..., 1) as in {@link MetricsEngine}.
+ *
+ * Unlike {@link MetricsEngine#hv(double[], int)}, the input does not have to be sorted
+ * or non-dominated: dominated points, duplicates and points outside the reference box
+ * simply add nothing. Points with a NaN objective are ignored.
+ */
+public class Hypervolume {
+
+    private Hypervolume() {}
+
+    /**
+     * Hypervolume of a point set with reference point (1, ..., 1).
+     *
+     * @param points Points with stride k
+     * @param n Number of points
+     * @param k Number of objectives; more than three use {@link WfgHypervolume} in the calling thread
+     * @return Hypervolume value
+     */
+    public static double of(double[] points, int n, int k) {
+        if (k == 2) return hv2D(points, n);
+        if (k == 3) return hv3D(points, n);
+        return WfgHypervolume.exact(points, n, k);
+    }
+
+    /**
+     * Indices of the points strictly inside the reference box, i.e. the points that can
+     * add volume. Every coordinate must be below 1; NaN fails the test.
+     */
+    static int[] insideReference(double[] points, int n, int k) {
+        int[] inside = new int[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            boolean in = true;
+            for (int d = 0; d < k && in; d++) {
+                in = points[i * k + d] < 1.0;
+            }
+            if (in) inside[m++] = i;
+        }
+        return Arrays.copyOf(inside, m);
+    }
+
+    /**
+     * Two-objective hypervolume: sweep in obj1 order keeping the lowest obj2 so far.
+     */
+    static double hv2D(double[] points, int n) {
+        int[] order = insideReference(points, n, 2);
+        Dominance.sortIndicesByObjective(order, points, 2, 0);
+
+        double area = 0.0;
+        double minY = 1.0;
+        for (int i : order) {
+            double y = points[2 * i + 1];
+            if (y < minY) {
+                area += (1.0 - points[2 * i]) * (minY - y);
+                minY = y;
+            }
+        }
+        return area;
+    }
+
+    /**
+     * Three-objective hypervolume in O(n log n) by a sweep along obj3.
+     *
+     * Points are visited in increasing obj3. The (obj1, obj2) projections of the points seen
+     * so far are kept as a staircase in a balanced tree keyed by obj1 (obj2 strictly falls as
+     * obj1 grows), together with the area it dominates. Between two consecutive obj3 values
+     * the dominated region is a prism over that area. Inserting a point removes the staircase
+     * steps it dominates and updates the area from the steps it replaces only, so each point
+     * is inserted and removed at most once.
+     *
+     * @param points Flat objective values [x0, y0, z0, x1, ...]
+     * @param n Number of points
+     * @return Hypervolume value
+     */
+    static double hv3D(double[] points, int n) {
+        int[] order = insideReference(points, n, 3);
+        Dominance.sortIndicesByObjective(order, points, 3, 2);
+
+        TreeMap<Double, Double> staircase = new TreeMap<>();
+        double area = 0.0;
+        double volume = 0.0;
+
+        for (int j = 0; j < order.length; j++) {
+            int i = order[j];
+            // +0.0 folds -0.0 into 0.0, which the tree would otherwise order separately
+            double x = points[3 * i] + 0.0;
+            double y = points[3 * i + 1];
+            double z = points[3 * i + 2];
+
+            area += insert(staircase, x, y, 1.0, 1.0);
+
+            double nextZ = j + 1 < order.length ? points[3 * order[j + 1] + 2] : 1.0;
+            volume += area * (nextZ - z);
+        }
+        return volume;
+    }
+
+    /**
+     * Insert a point into a staircase bounded by the corner (right, top), which the point
+     * must lie below.
+     *
+     * @return Area added to the region dominated by the staircase within the corner
+     */
+    private static double insert(TreeMap<Double, Double> staircase, double x, double y, double right, double top) {
+        // Weakly dominated by a step at or left of x: nothing changes
+        Map.Entry<Double, Double> floor = staircase.floorEntry(x);
+        if (floor != null && floor.getValue() <= y) {
+            return 0.0;
+        }
+
+        // Steps from x to the right with obj2 >= y are dominated by the new point.
+        // Measure the area they covered on [x, end) while removing them.
+        Map.Entry<Double, Double> left = staircase.lowerEntry(x);
+        double height = left == null ? top : left.getValue();
+        double cursor = x;
+        double covered = 0.0;
+
+        Map.Entry<Double, Double> step = staircase.ceilingEntry(x);
+        while (step != null && step.getValue() >= y) {
+            covered += (step.getKey() - cursor) * (top - height);
+            cursor = step.getKey();
+            height = step.getValue();
+            staircase.remove(step.getKey());
+            step = staircase.higherEntry(cursor);
+        }
+        double end = step == null ? right : step.getKey();
+        covered += (end - cursor) * (top - height);
+
+        staircase.put(x, y);
+        return (end - x) * (top - y) - covered;
+    }
+
+    /**
+     * Exclusive hypervolume contribution of every point: the volume dominated by that point
+     * and by no other, i.e. the loss in hypervolume if it alone were removed. Computed in one
+     * pass, without recomputing the hypervolume per point.
+     *
+     * @param points Points with stride k
+     * @param n Number of points
+     * @param k Number of objectives, 2 or 3
+     * @return Contribution per point, in input order; 0 for points outside the reference box
+     */
+    public static double[] contributions(double[] points, int n, int k) {
+        if (k == 2) return contributions2D(points, n);
+        if (k == 3) return contributions3D(points, n);
+        throw new IllegalArgumentException("Exclusive contributions need 2 or 3 objectives, got " + k);
+    }
+
+    /**
+     * Two-objective contributions in O(n log n). No point may strictly dominate another, as
+     * in a set from {@link Dominance}. The exclusive region of a point is then the rectangle
+     * from the point up to the nearest other point on each side of the staircase: its right
+     * edge is the lowest obj1 among the other points with obj2 at most the point's, and its
+     * top edge the lowest obj2 among the other points with obj1 at most the point's. A point
+     * that shares a coordinate with a better one gets a degenerate rectangle.
+     */
+    static double[] contributions2D(double[] points, int n) {
+        double[] contribution = new double[n];
+        int[] inside = insideReference(points, n, 2);
+        double[] right = nearestOther(points, inside.clone(), 1);
+        double[] top = nearestOther(points, inside.clone(), 0);
+        for (int i : inside) {
+            contribution[i] = Math.max(0.0, right[i] - points[2 * i]) * Math.max(0.0, top[i] - points[2 * i + 1]);
+        }
+        return contribution;
+    }
+
+    /**
+     * For each point, the lowest value of the other objective among the other points whose
+     * objective d is at most the point's, capped at the reference value 1.
+     *
+     * @param order Indices of the points to consider (reordered)
+     * @param d Objective to sort by, 0 or 1
+     * @return Bound per point, indexed like the input
+     */
+    private static double[] nearestOther(double[] points, int[] order, int d) {
+        double[] bound = new double[points.length / 2];
+        Dominance.sortIndicesByObjective(order, points, 2, d);
+
+        double before = 1.0;    // Lowest other objective among the earlier groups
+        int start = 0;
+        while (start < order.length) {
+            // Group of points tied on objective d: each sees the others in the group too
+            int end = start;
+            double lowest = Double.POSITIVE_INFINITY;
+            double second = Double.POSITIVE_INFINITY;
+            int lowestAt = -1;
+            double value = points[2 * order[start] + d];
+            while (end < order.length && points[2 * order[end] + d] == value) {
+                double other = points[2 * order[end] + 1 - d];
+                if (other < lowest) {
+                    second = lowest;
+                    lowest = other;
+                    lowestAt = end;
+                } else if (other < second) {
+                    second = other;
+                }
+                end++;
+            }
+            for (int j = start; j < end; j++) {
+                bound[order[j]] = Math.min(before, j == lowestAt ? second : lowest);
+            }
+            before = Math.min(before, lowest);
+            start = end;
+        }
+        return bound;
+    }
+
+    /**
+     * Three-objective contributions by the sweep along obj3 of {@link #hv3D}.
+     *
+     * Each staircase step also owns the exclusive area of its point at the current obj3
+     * level: the rectangle up to its neighbouring steps, less the boxes of the points nested
+     * in it, which the step dominates in (obj1, obj2) but which arrived later in obj3. The
+     * nested points are kept as a staircase of their own. A step's contribution grows by its
+     * area times the obj3 distance over which the area held, so it is only brought up to date
+     * when its area changes: when a point is nested in it, when a neighbour changes, or when
+     * a new point dominates it and takes it over as a nested point. A point dominated by two
+     * or more steps lies in no exclusive region and changes nothing.
+     *
+     * @param points Flat objective values [x0, y0, z0, x1, ...]
+     * @param n Number of points
+     * @return Contribution per point, in input order
+     */
+    static double[] contributions3D(double[] points, int n) {
+        double[] contribution = new double[n];
+        int[] order = insideReference(points, n, 3);
+        Dominance.sortIndicesByObjective(order, points, 3, 2);
+
+        TreeMap<Double, Step> staircase = new TreeMap<>();
+        for (int i : order) {
+            // +0.0 folds -0.0 into 0.0, as in hv3D
+            double x = points[3 * i] + 0.0;
+            double y = points[3 * i + 1];
+            double z = points[3 * i + 2];
+
+            Map.Entry<Double, Step> floor = staircase.floorEntry(x);
+            if (floor != null && floor.getValue().y <= y) {
+                Map.Entry<Double, Step> left = staircase.lowerEntry(floor.getKey());
+                if (left == null || left.getValue().y > y) {
+                    Step owner = floor.getValue();
+                    owner.advance(z, contribution);
+                    owner.area -= insert(owner.nested, x, y, rightOf(staircase, owner), topOf(staircase, owner));
+                }
+                continue;
+            }
+
+            // Steps dominated by the new point end here and become nested in it
+            Step step = new Step(i, x, y, z);
+            Map.Entry<Double, Step> dominated = staircase.ceilingEntry(x);
+            while (dominated != null && dominated.getValue().y >= y) {
+                Step s = dominated.getValue();
+                s.advance(z, contribution);
+                staircase.remove(dominated.getKey());
+                step.nested.put(s.x, s.y);
+                dominated = staircase.higherEntry(s.x);
+            }
+            staircase.put(x, step);
+            step.area = exclusiveArea(staircase, step);
+
+            Map.Entry<Double, Step> lower = staircase.lowerEntry(x);
+            if (lower != null) {
+                lower.getValue().advance(z, contribution);
+                lower.getValue().area = exclusiveArea(staircase, lower.getValue());
+            }
+            Map.Entry<Double, Step> higher = staircase.higherEntry(x);
+            if (higher != null) {
+                higher.getValue().advance(z, contribution);
+                higher.getValue().area = exclusiveArea(staircase, higher.getValue());
+            }
+        }
+
+        for (Step step : staircase.values()) {
+            step.advance(1.0, contribution);
+        }
+        return contribution;
+    }
+
+    /**
+     * Staircase step of the contribution sweep.
+     */
+    private static class Step {
+        final int point;
+        final double x;
+        final double y;
+        final TreeMap<Double, Double> nested = new TreeMap<>();
+        double area;        // Exclusive area at the current obj3 level
+        double since;       // obj3 level the area holds from
+
+        Step(int point, double x, double y, double z) {
+            this.point = point;
+            this.x = x;
+            this.y = y;
+            this.since = z;
+        }
+
+        void advance(double z, double[] contribution) {
+            contribution[point] += area * (z - since);
+            since = z;
+        }
+    }
+
+    private static double rightOf(TreeMap<Double, Step> staircase, Step step) {
+        Double right = staircase.higherKey(step.x);
+        return right == null ? 1.0 : right;
+    }
+
+    private static double topOf(TreeMap<Double, Step> staircase, Step step) {
+        Map.Entry<Double, Step> left = staircase.lowerEntry(step.x);
+        return left == null ? 1.0 : left.getValue().y;
+    }
+
+    /**
+     * Exclusive area of a step: its rectangle up to the neighbouring steps less the area
+     * dominated by its nested points. Nested points left outside the rectangle are covered
+     * by a neighbour for good and are dropped.
+     */
+    private static double exclusiveArea(TreeMap<Double, Step> staircase, Step step) {
+        double right = rightOf(staircase, step);
+        double top = topOf(staircase, step);
+        step.nested.headMap(right, false).entrySet().removeIf(e -> e.getValue() >= top);
+        step.nested.tailMap(right, true).clear();
+
+        double area = (right - step.x) * (top - step.y);
+        double height = top;
+        for (Map.Entry<Double, Double> e : step.nested.entrySet()) {
+            area -= (right - e.getKey()) * (height - e.getValue());
+            height = e.getValue();
+        }
+        return area;
+    }
+
+    /**
+     * Reference hypervolume by inclusion over a grid of all coordinate values - O(n^(k+1)).
+     * Kept for testing the sweeps on small inputs.
+     */
+    static double hvReference(double[] points, int n, int k) {
+        int[] inside = insideReference(points, n, k);
+        if (inside.length == 0) {
+            return 0.0;
+        }
+        double[][] grid = new double[k][];
+        for (int d = 0; d < k; d++) {
+            double[] values = new double[inside.length + 1];
+            for (int i = 0; i < inside.length; i++) {
+                values[i] = points[inside[i] * k + d];
+            }
+            values[inside.length] = 1.0;
+            Arrays.sort(values);
+            grid[d] = values;
+        }
+
+        // Sum the cells whose lower corner is dominated by some point
+        int[] cell = new int[k];
+        double volume = 0.0;
+        while (true) {
+            double cellVolume = 1.0;
+            for (int d = 0; d < k; d++) {
+                cellVolume *= grid[d][cell[d] + 1] - grid[d][cell[d]];
+            }
+            if (cellVolume > 0) {
+                for (int i : inside) {
+                    boolean dominates = true;
+                    for (int d = 0; d < k && dominates; d++) {
+                        dominates = points[i * k + d] <= grid[d][cell[d]];
+                    }
+                    if (dominates) {
+                        volume += cellVolume;
+                        break;
+                    }
+                }
+            }
+
+            int d = 0;
+            while (d < k && ++cell[d] == grid[d].length - 1) {
+                cell[d] = 0;
+                d++;
+            }
+            if (d == k) break;
+        }
+        return volume;
+    }
+}
@@ -0,0 +1,223 @@
+package taskprocessor;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Monte Carlo hypervolume estimate with a standard error, in normalized space with
+ * reference point (1, ..., 1) as {@link Hypervolume}.
+ *
+ * Samples are drawn uniformly from the box between the per-objective minima of the front
+ * and the reference point; the estimate is the box volume times the fraction of samples
+ * weakly dominated by some point. Each sample costs a binary search over the front sorted
+ * by the first objective: O(log n) for two objectives, plus a scan of the points left of
+ * the sample for more.
+ *
+ * Sampling is split into fixed blocks, each drawing from its own SplittableRandom stream
+ * split from the seed in block order. Workers take whole blocks and only integer hit counts
+ * are combined, so the estimate for a seed is the same for any number of threads.
+ */
+public class HypervolumeEstimator {
+
+    private static final int BLOCK_SAMPLES = 4096;
+
+    // Blocks drawn between two checks of the target error
+    private static final int ROUND_BLOCKS = 16;
+
+    /**
+     * Estimated hypervolume and its standard error.
+     */
+    public static class Estimate {
+        private final double value;
+        private final double standardError;
+        private final long samples;
+
+        Estimate(double value, double standardError, long samples) {
+            this.value = value;
+            this.standardError = standardError;
+            this.samples = samples;
+        }
+
+        public double getValue() { return value; }
+        public double getStandardError() { return standardError; }
+        public long getSamples() { return samples; }
+
+        /**
+         * Standard error relative to the estimate, 0 for an empty front.
+         */
+        public double getRelativeError() { return value > 0 ? standardError / value : 0.0; }
+    }
+
+    private final long seed;
+    private final int threads;
+
+    /**
+     * @param seed Seed of the sample streams
+     * @param threads Number of sampling threads
+     */
+    public HypervolumeEstimator(long seed, int threads) {
+        this.seed = seed;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Estimate the hypervolume of a normalized point set. Sampling stops at the first check
+     * where the relative standard error is at most the target, or at the sample budget.
+     *
+     * @param points Points with stride k (not modified)
+     * @param n Number of points
+     * @param k Number of objectives
+     * @param maxSamples Sample budget
+     * @param targetRelativeError Relative standard error to stop at, 0 to use the whole budget
+     * @return Estimate with its standard error
+     */
+    public Estimate estimate(double[] points, int n, int k, long maxSamples, double targetRelativeError)
+            throws InterruptedException {
+        double[] p = WfgHypervolume.contributingPoints(points, n, k);
+        int m = p.length / k;
+        if (m == 0 || maxSamples <= 0) {
+            return new Estimate(0.0, 0.0, 0);
+        }
+        Front front = new Front(p, m, k);
+
+        long totalBlocks = (maxSamples + BLOCK_SAMPLES - 1) / BLOCK_SAMPLES;
+        SplittableRandom root = new SplittableRandom(seed);
+        long hits = 0;
+        long samples = 0;
+        double fraction = 0;
+        long block = 0;
+
+        ExecutorService pool = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        try {
+            while (block < totalBlocks) {
+                int roundBlocks = (int) Math.min(ROUND_BLOCKS, totalBlocks - block);
+                SplittableRandom[] streams = new SplittableRandom[roundBlocks];
+                int[] blockSamples = new int[roundBlocks];
+                for (int b = 0; b < roundBlocks; b++) {
+                    streams[b] = root.split();
+                    blockSamples[b] = (int) Math.min(BLOCK_SAMPLES, maxSamples - (block + b) * BLOCK_SAMPLES);
+                    samples += blockSamples[b];
+                }
+
+                hits += sampleRound(front, streams, blockSamples, pool);
+                block += roundBlocks;
+
+                fraction = (double) hits / samples;
+                double relativeError = fraction > 0 ? Math.sqrt((1 - fraction) / (fraction * samples)) : Double.POSITIVE_INFINITY;
+                if (targetRelativeError > 0 && relativeError <= targetRelativeError) break;
+            }
+        } finally {
+            if (pool != null) pool.shutdown();
+        }
+
+        double standardError = front.box * Math.sqrt(fraction * (1 - fraction) / samples);
+        return new Estimate(front.box * fraction, standardError, samples);
+    }
+
+    /**
+     * Draw the blocks of one round, in parallel when a pool is given.
+     *
+     * @return Number of dominated samples
+     */
+    private long sampleRound(Front front, SplittableRandom[] streams, int[] blockSamples, ExecutorService pool)
+            throws InterruptedException {
+        long[] hits = new long[streams.length];
+        ParallelLoop.forEachIndex(pool, threads, streams.length, () -> {
+            double[] sample = new double[front.k];
+            return b -> hits[b] = front.countDominated(streams[b], blockSamples[b], sample);
+        });
+
+        long total = 0;
+        for (long h : hits) total += h;
+        return total;
+    }
+
+    /**
+     * Front sorted by the first objective, with the sampling box.
+     */
+    private static class Front {
+        final double[] p;       // Weakly non-dominated points, sorted by first objective
+        final double[] xs;      // First objective of each point
+        final int n;
+        final int k;
+        final double[] lower;   // Per-objective minima: the sampling box is [lower, 1]
+        final double box;
+
+        Front(double[] points, int n, int k) {
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            Dominance.sortIndicesByObjective(order, points, k, 0);
+
+            this.p = new double[n * k];
+            this.xs = new double[n];
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(points, order[i] * k, p, i * k, k);
+                xs[i] = p[i * k];
+            }
+            this.n = n;
+            this.k = k;
+
+            this.lower = new double[k];
+            Arrays.fill(lower, 1.0);
+            for (int i = 0; i < n; i++) {
+                for (int d = 0; d < k; d++) {
+                    lower[d] = Math.min(lower[d], p[i * k + d]);
+                }
+            }
+            double volume = 1.0;
+            for (int d = 0; d < k; d++) {
+                volume *= 1.0 - lower[d];
+            }
+            this.box = volume;
+        }
+
+        long countDominated(SplittableRandom random, int samples, double[] sample) {
+            long hits = 0;
+            for (int s = 0; s < samples; s++) {
+                for (int d = 0; d < k; d++) {
+                    sample[d] = lower[d] + random.nextDouble() * (1.0 - lower[d]);
+                }
+                if (isDominated(sample)) hits++;
+            }
+            return hits;
+        }
+
+        /**
+         * Whether some point weakly dominates the sample. Only points with a first objective
+         * at most the sample's can; in two objectives the last of them has the lowest second
+         * objective (the front is a staircase), so it alone decides.
+         */
+        boolean isDominated(double[] sample) {
+            int end = upperBound(sample[0]);
+            if (k == 2) {
+                return end > 0 && p[2 * (end - 1) + 1] <= sample[1];
+            }
+            for (int i = end - 1; i >= 0; i--) {
+                boolean dominates = true;
+                for (int d = 1; d < k && dominates; d++) {
+                    dominates = p[i * k + d] <= sample[d];
+                }
+                if (dominates) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Number of points with first objective at most x.
+         */
+        private int upperBound(double x) {
+            int lo = 0, hi = n;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (xs[mid] <= x) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
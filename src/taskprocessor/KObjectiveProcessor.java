@@ -0,0 +1,555 @@
+package taskprocessor;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Analyzes optimization results over an arbitrary list of objective columns.
+ *
+ * Where TaskProcessor compares the algorithms on one objective pair, this mode takes any
+ * number of objectives (any of the result columns), computes the non-dominated set of each
+ * algorithm and the universal Pareto set in k dimensions, and scores each algorithm's
+ * front against the universal set with HV, GD and IGD. Hypervolume is computed in the same
+ * normalized space as GD and IGD with reference point (1, ..., 1): exactly by the sweeps of
+ * {@link Hypervolume} for two and three objectives, and by {@link WfgHypervolume} for more,
+ * which falls back to a Monte Carlo estimate (reported with its 95% confidence interval)
+ * when a front takes longer than the time budget.
+ *
+ * Every Multi-Objective run is included, whichever pair it was optimized for; runs of the
+ * same algorithm for different pairs are kept apart (e.g. MOEA_NSGAII and MOEA_NSGAII_eVSs).
+ * All objectives are minimized; prefix an objective with "max:" to maximize it instead.
+ *
+ * Usage: java taskprocessor.TaskProcessor --objectives <o1,o2,...> <n> <includeSingleObjective> [options] [basePath]
+ *   Objectives: Makespan, Energy, AvgWait, AvgExec, AvgFinish, VmUtil, HostUtil, HostIdle,
+ *               or a result column name as written in the workbooks;
+ *               "all" for all eight result columns (utilizations maximized)
+ *   Options: --workers, --virtual-threads, --cache (as for TaskProcessor)
+ *            --hv-threads <n>   Hypervolume worker threads for more than three objectives (default: 1)
+ *            --hv-budget <ms>   Time budget per front before falling back to Monte Carlo, 0 = none (default: 60000)
+ *            --hv-samples <n>   Monte Carlo samples for the fallback or estimate (default: 200000)
+ *            --hv-estimate <e>  Estimate every HV by Monte Carlo to relative standard error e (default: exact)
+ */
+public class KObjectiveProcessor {
+
+    // Objective names accepted on the command line, in addition to TaskProcessor's three
+    private static final Map<String, String> OBJECTIVE_COLUMNS = new LinkedHashMap<>(TaskProcessor.OBJECTIVE_COLUMNS);
+    static {
+        OBJECTIVE_COLUMNS.put("AvgExec", "Avg Execution Time");
+        OBJECTIVE_COLUMNS.put("AvgFinish", "Avg Finish Time");
+        OBJECTIVE_COLUMNS.put("VmUtil", "Avg VM Utilization %");
+        OBJECTIVE_COLUMNS.put("HostUtil", "Avg Host Utilization %");
+        OBJECTIVE_COLUMNS.put("HostIdle", "Avg Host IDLE Time (s)");
+    }
+
+    private static final String MAXIMIZE_PREFIX = "max:";
+
+    // Objectives selected by "all": every result column, utilizations maximized
+    private static final String[] ALL_OBJECTIVES = {
+        "Makespan", "AvgWait", "AvgExec", "AvgFinish", "Energy", "max:VmUtil", "max:HostUtil", "HostIdle"
+    };
+
+    private final int numTasks;
+    private final boolean includeSingleObjective;
+    private final String[] objectives;      // As given, including any "max:" prefix
+    private final int[] columns;            // Index of each objective in ResultRow.COLUMNS
+    private final double[] signs;           // 1 to minimize, -1 to maximize
+    private final int k;
+    private final String basePath;
+
+    // Ingestion configuration
+    private int ingestWorkers = 1;
+    private boolean ingestVirtualThreads = false;
+    private boolean useResultCache = true;
+
+    // Hypervolume configuration (more than three objectives)
+    private int hvThreads = 1;
+    private long hvBudgetMillis = 60_000;
+    private long hvSamples = 200_000;
+    private double hvEstimateError = 0;     // > 0: estimate every HV to this relative standard error
+
+    // Seed of the hypervolume sample streams
+    private static final long HV_SEED = 1200;
+
+    private PrintStream out = System.out;
+
+    // Solutions by algorithm, each solution holding k (sign-adjusted) objective values
+    private Map<String, List<double[]>> algorithmSolutions = new LinkedHashMap<>();
+
+    // Solution counts by algorithm and seed
+    private Map<String, Map<Integer, Integer>> algorithmSeedCounts = new LinkedHashMap<>();
+
+    private Map<String, List<double[]>> algorithmNonDominated = new LinkedHashMap<>();
+    private List<double[]> universalParetoSet = new ArrayList<>();
+    private Map<String, Integer> universalParetoContributions = new LinkedHashMap<>();
+    private WfgHypervolume.Result universalParetoHV;
+
+    // Universal Pareto points each algorithm found, and the exclusive HV of each point
+    // (two or three objectives only, null above)
+    private Map<String, int[]> universalParetoPoints = new LinkedHashMap<>();
+    private double[] universalParetoExclusiveHV;
+
+    /**
+     * @param numTasks Task count
+     * @param includeSingleObjective Whether to include single-objective algorithms
+     * @param objectives Objective names (see {@link #resolveColumn(String)}), optionally prefixed with "max:"
+     * @param basePath Root folder of the experiment results
+     */
+    public KObjectiveProcessor(int numTasks, boolean includeSingleObjective, String[] objectives, String basePath) {
+        this.numTasks = numTasks;
+        this.includeSingleObjective = includeSingleObjective;
+        this.objectives = objectives;
+        this.k = objectives.length;
+        this.columns = new int[k];
+        this.signs = new double[k];
+        this.basePath = basePath;
+
+        for (int d = 0; d < k; d++) {
+            String name = objectives[d];
+            signs[d] = 1;
+            if (name.startsWith(MAXIMIZE_PREFIX)) {
+                name = name.substring(MAXIMIZE_PREFIX.length());
+                signs[d] = -1;
+            }
+            String column = resolveColumn(name);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown objective: " + objectives[d]);
+            }
+            columns[d] = ResultRow.columnIndex(column);
+        }
+    }
+
+    public void setIngestWorkers(int ingestWorkers) { this.ingestWorkers = ingestWorkers; }
+    public void setIngestVirtualThreads(boolean ingestVirtualThreads) { this.ingestVirtualThreads = ingestVirtualThreads; }
+    public void setUseResultCache(boolean useResultCache) { this.useResultCache = useResultCache; }
+    public void setHvThreads(int hvThreads) { this.hvThreads = hvThreads; }
+    public void setHvBudgetMillis(long hvBudgetMillis) { this.hvBudgetMillis = hvBudgetMillis; }
+    public void setHvSamples(long hvSamples) { this.hvSamples = hvSamples; }
+    public void setHvEstimateError(double hvEstimateError) { this.hvEstimateError = hvEstimateError; }
+    public void setOutput(PrintStream out) { this.out = out; }
+
+    /**
+     * Result column for an objective name: one of the short names, or a column name itself.
+     *
+     * @return Column name, or null if unknown
+     */
+    static String resolveColumn(String objective) {
+        if (OBJECTIVE_COLUMNS.containsKey(objective)) {
+            return OBJECTIVE_COLUMNS.get(objective);
+        }
+        return ResultRow.columnIndex(objective) >= 0 ? objective : null;
+    }
+
+    /**
+     * Objective name as used in output file names: letters and digits only.
+     */
+    private static String fileLabel(String objective) {
+        return objective.replaceAll("[^A-Za-z0-9]", "");
+    }
+
+    public void process() throws Exception {
+        out.println("=== Task Processor (" + k + " objectives) ===");
+        out.println("Number of tasks: " + numTasks);
+        out.println("Include Single-Objective: " + includeSingleObjective);
+        for (int d = 0; d < k; d++) {
+            out.println("Objective " + (d + 1) + ": " + objectives[d] + " (" + ResultRow.COLUMNS[columns[d]] +
+                    (signs[d] < 0 ? ", maximized" : "") + ")");
+        }
+        out.println();
+
+        // Step 1: Scan and parse files (consulting the result cache)
+        ResultCache cache = useResultCache ? ResultCache.open(ResultCache.defaultFile(basePath), out) : null;
+        ResultScanner scanner = new ResultScanner(basePath, TaskProcessor.SEEDS, new FileIngestor(ingestWorkers, ingestVirtualThreads));
+        scanner.setCache(cache);
+        scanner.setOutput(out);
+        scanFiles(scanner);
+        if (cache != null) {
+            cache.printSummary();
+            cache.save();
+        }
+
+        // Step 2: Non-dominated points per algorithm
+        out.println("\n=== Calculating Non-Dominated Points Per Algorithm ===");
+        for (String algo : algorithmSolutions.keySet()) {
+            List<double[]> solutions = algorithmSolutions.get(algo);
+            List<double[]> nonDominated = Dominance.getNonDominatedSet(solutions, k);
+            algorithmNonDominated.put(algo, nonDominated);
+            out.println("  " + algo + ": " + nonDominated.size() + " non-dominated / " + solutions.size() + " total");
+        }
+
+        // Step 3: Universal Pareto set
+        calculateUniversalParetoSet();
+
+        // Step 4: Metrics and report
+        Map<String, double[]> metrics = calculatePerformanceMetrics();
+        generateCSVReport(metrics);
+    }
+
+    private void scanFiles(ResultScanner scanner) throws InterruptedException {
+        Set<String> readColumns = new HashSet<>();
+        for (int column : columns) {
+            readColumns.add(ResultRow.COLUMNS[column]);
+        }
+
+        // Multi-Objective runs for every objective pair
+        for (String suffix : ResultScanner.MO_OBJECTIVE_SUFFIXES) {
+            for (String algo : ResultScanner.MO_ALGORITHMS) {
+                addAlgorithm(algo + suffix);
+            }
+        }
+        for (ResultRow row : scanner.scanMultiObjective(numTasks, Arrays.asList(ResultScanner.MO_OBJECTIVE_SUFFIXES), readColumns)) {
+            addSolution(row.getAlgorithm() + row.getObjectiveSuffix(), row);
+        }
+
+        if (includeSingleObjective) {
+            // Folders of the single-objective algorithms for the selected objectives, then the heuristics
+            Set<String> folders = new LinkedHashSet<>();
+            for (String objective : objectives) {
+                List<String> objectiveFolders = TaskProcessor.SO_OBJECTIVE_FOLDERS.get(objective);
+                if (objectiveFolders != null) {
+                    folders.addAll(objectiveFolders);
+                }
+            }
+            folders.addAll(TaskProcessor.SO_HEURISTIC_FOLDERS);
+
+            List<String> existingFolders = new ArrayList<>();
+            for (String folder : folders) {
+                if (scanner.hasSingleObjectiveFolder(numTasks, folder)) {
+                    existingFolders.add(folder);
+                    addAlgorithm("SO_" + folder);
+                }
+            }
+            for (ResultRow row : scanner.scanSingleObjective(numTasks, existingFolders, readColumns)) {
+                addSolution(row.getAlgorithm(), row);
+            }
+        }
+
+        out.println("\nSolution Counts:");
+        for (String algo : algorithmSolutions.keySet()) {
+            out.println("  " + algo + ": " + algorithmSolutions.get(algo).size() + " solutions");
+        }
+    }
+
+    private void addAlgorithm(String algo) {
+        algorithmSolutions.put(algo, new ArrayList<>());
+        Map<Integer, Integer> seedCounts = new LinkedHashMap<>();
+        for (int seed : TaskProcessor.SEEDS) {
+            seedCounts.put(seed, 0);
+        }
+        algorithmSeedCounts.put(algo, seedCounts);
+    }
+
+    /**
+     * Add a parsed file to the solution maps if it has values for all objectives.
+     */
+    private void addSolution(String algo, ResultRow row) {
+        double[] solution = new double[k];
+        for (int d = 0; d < k; d++) {
+            solution[d] = signs[d] * row.getValue(columns[d]);
+            if (Double.isNaN(solution[d])) return;
+        }
+        algorithmSolutions.get(algo).add(solution);
+        algorithmSeedCounts.get(algo).merge(row.getSeed(), 1, Integer::sum);
+    }
+
+    private void calculateUniversalParetoSet() {
+        out.println("\n=== Calculating Universal Pareto Set ===");
+
+        List<double[]> allSolutions = new ArrayList<>();
+        for (List<double[]> solutions : algorithmSolutions.values()) {
+            allSolutions.addAll(solutions);
+        }
+        universalParetoSet = Dominance.getNonDominatedSet(allSolutions, k);
+
+        // Candidates equal within EPSILON are found on the first two objectives,
+        // then checked on the others; each algorithm is credited once per Pareto point
+        int paretoCount = universalParetoSet.size();
+        double[] paretoX = new double[paretoCount];
+        double[] paretoY = new double[paretoCount];
+        for (int p = 0; p < paretoCount; p++) {
+            paretoX[p] = universalParetoSet.get(p)[0];
+            paretoY[p] = universalParetoSet.get(p)[1];
+        }
+        EpsilonGrid grid = new EpsilonGrid(paretoX, paretoY, Dominance.EPSILON);
+
+        int[] lastCredited = new int[paretoCount];
+        Arrays.fill(lastCredited, -1);
+        int[] matches = new int[paretoCount];
+        int[] found = new int[paretoCount];
+        int algoIndex = 0;
+        for (String algo : algorithmSolutions.keySet()) {
+            int credited = 0;
+            for (double[] sol : algorithmSolutions.get(algo)) {
+                int matchCount = grid.findEqual(sol[0], sol[1], matches);
+                for (int m = 0; m < matchCount; m++) {
+                    int p = matches[m];
+                    if (lastCredited[p] != algoIndex && equalInOtherObjectives(universalParetoSet.get(p), sol)) {
+                        lastCredited[p] = algoIndex;
+                        found[credited++] = p;
+                    }
+                }
+            }
+            universalParetoContributions.put(algo, credited);
+            universalParetoPoints.put(algo, Arrays.copyOf(found, credited));
+            algoIndex++;
+        }
+
+        out.println("Universal Pareto Set size: " + paretoCount + " from " + allSolutions.size() + " total solutions");
+        out.println("\nContributions to Universal Pareto Set:");
+        for (String algo : universalParetoContributions.keySet()) {
+            int count = universalParetoContributions.get(algo);
+            if (count > 0) {
+                out.println("  " + algo + ": " + count + " solutions");
+            }
+        }
+    }
+
+    /**
+     * Check the objectives after the first two for equality within EPSILON.
+     */
+    private boolean equalInOtherObjectives(double[] a, double[] b) {
+        for (int d = 2; d < k; d++) {
+            if (!(Math.abs(a[d] - b[d]) < Dominance.EPSILON)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * HV, GD and IGD of each algorithm's front against the universal Pareto set. All fronts
+     * are normalized to one set of per-objective bounds taken over every front.
+     *
+     * @return {HV, GD, IGD, HV 95% confidence half-width} per algorithm
+     */
+    private Map<String, double[]> calculatePerformanceMetrics() throws InterruptedException {
+        out.println("\n=== Calculating Performance Metrics ===");
+
+        double[] min = new double[k];
+        double[] max = new double[k];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        List<List<double[]>> fronts = new ArrayList<>(algorithmNonDominated.values());
+        fronts.add(universalParetoSet);
+        for (List<double[]> front : fronts) {
+            for (double[] sol : front) {
+                for (int d = 0; d < k; d++) {
+                    if (sol[d] < min[d]) min[d] = sol[d];
+                    if (sol[d] > max[d]) max[d] = sol[d];
+                }
+            }
+        }
+
+        int referenceSize = universalParetoSet.size();
+        double[] reference = normalize(universalParetoSet, min, max);
+        NearestNeighbourIndex referenceIndex = NearestNeighbourIndex.build(reference, referenceSize, k);
+        WfgHypervolume hypervolume = new WfgHypervolume(hvThreads, hvBudgetMillis);
+        hypervolume.setFallbackSamples(hvSamples);
+        hypervolume.setSeed(HV_SEED);
+        universalParetoHV = hypervolume(hypervolume, reference, referenceSize);
+        out.println("  Universal_Pareto_Set: HV=" + describe(universalParetoHV));
+        if (k <= 3) {
+            universalParetoExclusiveHV = Hypervolume.contributions(reference, referenceSize, k);
+        }
+
+        Map<String, double[]> metrics = new LinkedHashMap<>();
+        for (String algo : algorithmNonDominated.keySet()) {
+            List<double[]> nonDominated = algorithmNonDominated.get(algo);
+            if (nonDominated.isEmpty() || referenceSize == 0) {
+                out.println("  " + algo + ": No solutions, skipping metrics");
+                metrics.put(algo, new double[]{0, Double.MAX_VALUE, Double.MAX_VALUE, 0});
+                continue;
+            }
+
+            int n = nonDominated.size();
+            double[] front = normalize(nonDominated, min, max);
+            WfgHypervolume.Result hv = hypervolume(hypervolume, front, n);
+            double gd = NearestNeighbourIndex.meanNearestDistance(front, n, k, referenceIndex);
+            double igd = NearestNeighbourIndex.meanNearestDistance(reference, referenceSize, k,
+                    NearestNeighbourIndex.build(front, n, k));
+
+            metrics.put(algo, new double[]{hv.getValue(), gd, igd, hv.getConfidenceHalfWidth()});
+            out.println("  " + algo + ": HV=" + describe(hv) + ", GD=" + String.format("%.6f", gd) +
+                    ", IGD=" + String.format("%.6f", igd));
+        }
+        return metrics;
+    }
+
+    /**
+     * Exact hypervolume by the sweeps for up to three objectives, WFG (or its fallback) above;
+     * a Monte Carlo estimate for any number of objectives when a target error is set.
+     */
+    private WfgHypervolume.Result hypervolume(WfgHypervolume hypervolume, double[] normalized, int n)
+            throws InterruptedException {
+        if (hvEstimateError > 0) {
+            HypervolumeEstimator.Estimate estimate = new HypervolumeEstimator(HV_SEED, hvThreads)
+                    .estimate(normalized, n, k, hvSamples, hvEstimateError);
+            return new WfgHypervolume.Result(estimate.getValue(), false, estimate.getStandardError(), estimate.getSamples());
+        }
+        if (k <= 3) {
+            return new WfgHypervolume.Result(Hypervolume.of(normalized, n, k), true, 0, 0);
+        }
+        return hypervolume.compute(normalized, n, k);
+    }
+
+    /**
+     * Sum of the exclusive HV contributions of the universal Pareto points an algorithm found,
+     * or of all of them for a null algorithm.
+     */
+    private double exclusiveHV(String algo) {
+        double sum = 0.0;
+        if (algo == null) {
+            for (double contribution : universalParetoExclusiveHV) sum += contribution;
+            return sum;
+        }
+        for (int p : universalParetoPoints.getOrDefault(algo, new int[0])) {
+            sum += universalParetoExclusiveHV[p];
+        }
+        return sum;
+    }
+
+    /**
+     * Exclusive_HV and Exclusive_HV_Share cells; N/A above three objectives.
+     */
+    private String exclusiveHVColumns(String algo) {
+        if (universalParetoExclusiveHV == null) {
+            return "N/A,N/A";
+        }
+        double exclusive = exclusiveHV(algo);
+        double total = universalParetoHV.getValue();
+        return String.format("%.6f,%.6f", exclusive, total > 0 ? exclusive / total : 0.0);
+    }
+
+    private static String describe(WfgHypervolume.Result hv) {
+        if (hv.isExact()) {
+            return String.format("%.6f", hv.getValue());
+        }
+        return String.format("%.6f +- %.6f (Monte Carlo, %d samples)",
+                hv.getValue(), hv.getConfidenceHalfWidth(), hv.getSamples());
+    }
+
+    /**
+     * Flatten a front with stride k, scaling each objective to [0, 1] of the given bounds.
+     */
+    private double[] normalize(List<double[]> front, double[] min, double[] max) {
+        double[] flat = new double[k * front.size()];
+        for (int i = 0; i < front.size(); i++) {
+            double[] sol = front.get(i);
+            for (int d = 0; d < k; d++) {
+                double range = max[d] - min[d];
+                flat[i * k + d] = (sol[d] - min[d]) / (range == 0 ? 1 : range);
+            }
+        }
+        return flat;
+    }
+
+    private void generateCSVReport(Map<String, double[]> metrics) throws IOException {
+        File csvDir = new File(basePath, "PerformanceCalculations");
+        if (!csvDir.exists()) {
+            csvDir.mkdirs();
+        }
+
+        StringBuilder name = new StringBuilder("results_" + numTasks);
+        for (int d = 0; d < k; d++) {
+            name.append(d == 0 ? "_" : "_vs_").append(fileLabel(objectives[d]));
+        }
+        String outputFile = new File(csvDir, name + ".csv").getAbsolutePath();
+
+        out.println("\n=== Generating CSV Report ===");
+        out.println("Output file: " + outputFile);
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
+            StringBuilder header = new StringBuilder("Algorithm,Type,Total_Solutions,Non_Dominated_Solutions,Universal_Pareto_Contribution,");
+            for (int seed : TaskProcessor.SEEDS) {
+                header.append("Seed_").append(seed).append(",");
+            }
+            header.append("HV,GD,IGD,HV_CI95,Exclusive_HV,Exclusive_HV_Share");
+            writer.println(header);
+
+            for (String algo : algorithmSolutions.keySet()) {
+                StringBuilder sb = new StringBuilder();
+                sb.append(algo).append(",");
+                sb.append(algo.startsWith("SO_") ? "Single-Objective" : "Multi-Objective").append(",");
+                sb.append(algorithmSolutions.get(algo).size()).append(",");
+                sb.append(algorithmNonDominated.get(algo).size()).append(",");
+                sb.append(universalParetoContributions.getOrDefault(algo, 0)).append(",");
+                for (int seed : TaskProcessor.SEEDS) {
+                    sb.append(algorithmSeedCounts.get(algo).get(seed)).append(",");
+                }
+                double[] m = metrics.get(algo);
+                sb.append(String.format("%.6f", m[0])).append(",");
+                sb.append(String.format("%.6f", m[1])).append(",");
+                sb.append(String.format("%.6f", m[2])).append(",");
+                sb.append(String.format("%.6f", m[3])).append(",");
+                sb.append(exclusiveHVColumns(algo));
+                writer.println(sb);
+            }
+
+            // Universal Pareto Set as the reference row
+            int size = universalParetoSet.size();
+            StringBuilder sb = new StringBuilder();
+            sb.append("Universal_Pareto_Set,Reference,").append(size).append(",").append(size).append(",").append(size).append(",");
+            for (int i = 0; i < TaskProcessor.SEEDS.length; i++) {
+                sb.append("N/A").append(",");
+            }
+            sb.append(String.format("%.6f", universalParetoHV.getValue())).append(",");
+            sb.append("0.000000,0.000000,");
+            sb.append(String.format("%.6f", universalParetoHV.getConfidenceHalfWidth())).append(",");
+            sb.append(exclusiveHVColumns(null));
+            writer.println(sb);
+        }
+
+        out.println("CSV report generated successfully!");
+    }
+
+    /**
+     * Parse and run the k-objective mode:
+     * --objectives <o1,o2,...> <n> <includeSingleObjective> [options] [basePath]
+     */
+    static void mainObjectives(String[] args) throws Exception {
+        if (args.length < 4) {
+            TaskProcessor.printUsage();
+            return;
+        }
+
+        String[] objectives = args[1].equalsIgnoreCase("all") ? ALL_OBJECTIVES.clone() : args[1].split(",");
+        for (int d = 0; d < objectives.length; d++) {
+            objectives[d] = objectives[d].trim();
+            String name = objectives[d].startsWith(MAXIMIZE_PREFIX) ? objectives[d].substring(MAXIMIZE_PREFIX.length()) : objectives[d];
+            if (resolveColumn(name) == null) {
+                System.err.println("Error: Invalid objective '" + objectives[d] + "'. Must be one of " +
+                        String.join(", ", OBJECTIVE_COLUMNS.keySet()) + " or a result column name");
+                return;
+            }
+        }
+        if (objectives.length < 2 || new HashSet<>(Arrays.asList(objectives)).size() != objectives.length) {
+            System.err.println("Error: at least two different objectives are required");
+            return;
+        }
+
+        int numTasks = Integer.parseInt(args[2]);
+        if (numTasks != 700 && numTasks != 900 && numTasks != 1200) {
+            System.err.println("Error: n must be 700, 900, or 1200");
+            return;
+        }
+        boolean includeSingleObjective = Boolean.parseBoolean(args[3]);
+
+        KObjectiveProcessor processor = new KObjectiveProcessor(numTasks, includeSingleObjective, objectives,
+                TaskProcessor.findBasePath(args, 4));
+        for (int i = 4; i < args.length; i++) {
+            if (args[i].equals("--workers") && i + 1 < args.length) {
+                processor.setIngestWorkers(Integer.parseInt(args[++i]));
+            } else if (args[i].equals("--virtual-threads") && i + 1 < args.length) {
+                processor.setIngestVirtualThreads(Boolean.parseBoolean(args[++i]));
+            } else if (args[i].equals("--cache") && i + 1 < args.length) {
+                processor.setUseResultCache(Boolean.parseBoolean(args[++i]));
+            } else if (args[i].equals("--hv-threads") && i + 1 < args.length) {
+                processor.setHvThreads(Integer.parseInt(args[++i]));
+            } else if (args[i].equals("--hv-budget") && i + 1 < args.length) {
+                processor.setHvBudgetMillis(Long.parseLong(args[++i]));
+            } else if (args[i].equals("--hv-samples") && i + 1 < args.length) {
+                processor.setHvSamples(Long.parseLong(args[++i]));
+            } else if (args[i].equals("--hv-estimate") && i + 1 < args.length) {
+                processor.setHvEstimateError(Double.parseDouble(args[++i]));
+            }
+        }
+        processor.process();
+    }
+}
@@ -0,0 +1,341 @@
+package taskprocessor;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Solution corpus in a memory-mapped file, the off-heap form of a {@link SolutionTable}.
+ *
+ * The file has the table's columnar layout, so every column is mapped read-only on its own and
+ * read in place: the values stay in the page cache rather than on the heap, and any number of
+ * processes can attach to the same file. Front construction streams the mapped columns through
+ * a {@link ParetoArchive}, so only the non-dominated points reach the heap; the fronts are then
+ * ready for {@link MetricsEngine} and {@link BatchMetricsEvaluator}. Within a run,
+ * {@link SolutionTable#attach} makes the table and its views read their values from here.
+ *
+ * <pre>
+ *   header:  int magic, int version, int rowCount, int columnCount,
+ *            int algorithmCount, int taskCountCount, int seedCount, int reserved,
+ *            long dictionaryOffset
+ *   columns: double[columnCount][rowCount] values
+ *            int[rowCount] algorithm, task count and seed codes, file id
+ *   dictionary: columnCount + algorithmCount x (int byteLength, UTF-8 bytes),
+ *               int[taskCountCount] task counts, int[seedCount] seeds
+ * </pre>
+ *
+ * Each column is a separate mapping, and a mapping is limited to Integer.MAX_VALUE bytes, so
+ * a store holds at most MAX_ROWS = 2^28 - 1 rows; {@link #write} rejects larger tables.
+ */
+public class MappedSolutionStore {
+
+    private static final int MAGIC = 0x534F4C31;  // "SOL1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 40;
+
+    // Most rows whose double column still fits in one mapping
+    public static final int MAX_ROWS = Integer.MAX_VALUE / 8;
+
+    // Code that matches every key in the archive() and nonDominatedRows() filters (the
+    // find methods return -1 for unknown keys, which matches no row)
+    public static final int ANY = Integer.MIN_VALUE;
+
+    private final File file;
+    private final int rows;
+    private final String[] columns;
+    private final DoubleBuffer[] values;
+    private final IntBuffer algorithmCodes;
+    private final IntBuffer taskCountCodes;
+    private final IntBuffer seedCodes;
+    private final IntBuffer files;
+
+    private final String[] algorithms;
+    private final int[] taskCounts;
+    private final int[] seeds;
+
+    private MappedSolutionStore(File file, FileChannel channel) throws IOException {
+        this.file = file;
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("not a solution store file: " + file);
+        }
+        this.rows = header.getInt(8);
+        if (rows < 0 || rows > MAX_ROWS) {
+            throw new IOException("not a solution store file: " + file);
+        }
+        int columnCount = header.getInt(12);
+        int algorithmCount = header.getInt(16);
+        int taskCountCount = header.getInt(20);
+        int seedCount = header.getInt(24);
+        long dictionaryOffset = header.getLong(32);
+
+        this.values = new DoubleBuffer[columnCount];
+        for (int c = 0; c < columnCount; c++) {
+            values[c] = map(channel, HEADER_SIZE + 8L * c * rows, 8L * rows).asDoubleBuffer();
+        }
+        long intColumns = HEADER_SIZE + 8L * columnCount * rows;
+        this.algorithmCodes = map(channel, intColumns, 4L * rows).asIntBuffer();
+        this.taskCountCodes = map(channel, intColumns + 4L * rows, 4L * rows).asIntBuffer();
+        this.seedCodes = map(channel, intColumns + 8L * rows, 4L * rows).asIntBuffer();
+        this.files = map(channel, intColumns + 12L * rows, 4L * rows).asIntBuffer();
+
+        ByteBuffer dict = map(channel, dictionaryOffset, channel.size() - dictionaryOffset);
+        this.columns = readStrings(dict, columnCount);
+        this.algorithms = readStrings(dict, algorithmCount);
+        this.taskCounts = readInts(dict, taskCountCount);
+        this.seeds = readInts(dict, seedCount);
+    }
+
+    /**
+     * Attach to a store file read-only. The mappings stay valid after the file is replaced.
+     */
+    public static MappedSolutionStore open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new MappedSolutionStore(file, channel);
+        }
+    }
+
+    /**
+     * Write a table as a store file. The file is written next to the target and moved into
+     * place, so processes attaching meanwhile see the old file or the new one.
+     *
+     * @throws IOException Also when the table has more than MAX_ROWS rows, before anything is written
+     */
+    public static void write(SolutionTable table, File file) throws IOException {
+        checkRows(table.size(), file);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        File tmp = new File(file.getPath() + ".tmp");
+
+        int rows = table.size();
+        int columns = table.columnCount();
+        List<String> algorithms = table.algorithms();
+        int[] taskCounts = table.taskCounts();
+        int[] seeds = table.seeds();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            long dictionaryOffset = HEADER_SIZE + 8L * columns * rows + 4L * 4 * rows;
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows);
+            out.writeInt(columns);
+            out.writeInt(algorithms.size());
+            out.writeInt(taskCounts.length);
+            out.writeInt(seeds.length);
+            out.writeInt(0);
+            out.writeLong(dictionaryOffset);
+
+            for (int c = 0; c < columns; c++) {
+                for (int row = 0; row < rows; row++) out.writeDouble(table.value(c, row));
+            }
+            for (int key : new int[]{SolutionTable.ALGORITHM, SolutionTable.TASK_COUNT, SolutionTable.SEED}) {
+                for (int row = 0; row < rows; row++) out.writeInt(table.code(key, row));
+            }
+            for (int row = 0; row < rows; row++) out.writeInt(table.file(row));
+
+            for (int c = 0; c < columns; c++) {
+                writeString(out, table.columnName(c));
+            }
+            for (String algorithm : algorithms) {
+                writeString(out, algorithm);
+            }
+            for (int taskCount : taskCounts) out.writeInt(taskCount);
+            for (int seed : seeds) out.writeInt(seed);
+        }
+
+        try {
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public File getFile() { return file; }
+    public int size() { return rows; }
+    public int columnCount() { return columns.length; }
+    public String columnName(int column) { return columns[column]; }
+
+    public double value(int column, int row) { return values[column].get(row); }
+
+    /**
+     * Mapped values of a column, read with absolute gets (safe from any number of threads).
+     */
+    DoubleBuffer column(int column) { return values[column].duplicate(); }
+    public String algorithm(int row) { return algorithms[algorithmCodes.get(row)]; }
+    public int taskCount(int row) { return taskCounts[taskCountCodes.get(row)]; }
+    public int seed(int row) { return seeds[seedCodes.get(row)]; }
+    public int file(int row) { return files.get(row); }
+
+    /**
+     * Index of a column by name, or -1.
+     */
+    public int columnIndex(String name) {
+        for (int c = 0; c < columns.length; c++) {
+            if (columns[c].equals(name)) return c;
+        }
+        return -1;
+    }
+
+    /**
+     * Algorithms, in code order.
+     */
+    public List<String> algorithms() {
+        return Arrays.asList(algorithms.clone());
+    }
+
+    public int[] taskCounts() { return taskCounts.clone(); }
+    public int[] seeds() { return seeds.clone(); }
+
+    public int findAlgorithm(String algorithm) {
+        return indexOf(algorithms, algorithm);
+    }
+
+    public int findTaskCount(int taskCount) {
+        return indexOf(taskCounts, taskCount);
+    }
+
+    public int findSeed(int seed) {
+        return indexOf(seeds, seed);
+    }
+
+    /**
+     * Non-dominated set of two columns over the rows matching the key codes, built straight
+     * from the mapped columns. Points are identified by their row number.
+     *
+     * @param algorithmCode Algorithm code, or ANY
+     * @param taskCountCode Task count code, or ANY
+     * @param seedCode Seed code, or ANY
+     */
+    public ParetoArchive archive(int xColumn, int yColumn, int algorithmCode, int taskCountCode, int seedCode) {
+        DoubleBuffer xs = values[xColumn];
+        DoubleBuffer ys = values[yColumn];
+        ParetoArchive archive = new ParetoArchive();
+        for (int row = 0; row < rows; row++) {
+            if ((algorithmCode == ANY || algorithmCodes.get(row) == algorithmCode)
+                    && (taskCountCode == ANY || taskCountCodes.get(row) == taskCountCode)
+                    && (seedCode == ANY || seedCodes.get(row) == seedCode)) {
+                archive.add(xs.get(row), ys.get(row), row);
+            }
+        }
+        return archive;
+    }
+
+    /**
+     * Rows of the non-dominated set of two columns over the matching rows, as
+     * {@link Dominance#nonDominatedIndices2D} selects them from those rows in row order.
+     *
+     * @return Row numbers, ascending
+     */
+    public int[] nonDominatedRows(int xColumn, int yColumn, int algorithmCode, int taskCountCode, int seedCode) {
+        return archive(xColumn, yColumn, algorithmCode, taskCountCode, seedCode).indices();
+    }
+
+    /**
+     * Interleaved values of two columns at the given rows, the front layout of the metrics.
+     */
+    public double[] front(int xColumn, int yColumn, int[] rowNumbers) {
+        double[] front = new double[2 * rowNumbers.length];
+        for (int i = 0; i < rowNumbers.length; i++) {
+            front[2 * i] = values[xColumn].get(rowNumbers[i]);
+            front[2 * i + 1] = values[yColumn].get(rowNumbers[i]);
+        }
+        return front;
+    }
+
+    /**
+     * Fail when a table is too large for the per-column mappings of a store.
+     */
+    static void checkRows(int rows, File file) throws IOException {
+        if (rows > MAX_ROWS) {
+            throw new IOException("cannot write solution store " + file + ": " + rows
+                    + " solutions exceed the limit of " + MAX_ROWS + " per store");
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long offset, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, int count) {
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] ints = new int[count];
+        for (int i = 0; i < count; i++) {
+            ints[i] = buffer.getInt();
+        }
+        return ints;
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) return i;
+        }
+        return -1;
+    }
+
+    private static int indexOf(int[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Attach to a store file and print each algorithm's solutions and non-dominated count
+     * for a pair of columns (by default the first two).
+     *
+     * Usage: java taskprocessor.MappedSolutionStore &lt;file&gt; [column1 column2]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 && args.length != 3) {
+            System.out.println("Usage: java taskprocessor.MappedSolutionStore <file> [column1 column2]");
+            return;
+        }
+        MappedSolutionStore store = open(new File(args[0]));
+        int x = args.length == 3 ? store.columnIndex(args[1]) : 0;
+        int y = args.length == 3 ? store.columnIndex(args[2]) : 1;
+        if (x < 0 || y < 0 || Math.max(x, y) >= store.columnCount()) {
+            System.err.println("Error: the store needs two columns to compare");
+            return;
+        }
+
+        System.out.println("=== Solution Store ===");
+        System.out.println("File: " + store.getFile());
+        System.out.println("Solutions: " + store.size() + ", columns: " + String.join(", ", store.columns));
+        System.out.println("\nNon-dominated solutions (" + store.columnName(x) + " vs " + store.columnName(y) + "):");
+        int[] counts = new int[store.algorithms.length];
+        for (int row = 0; row < store.rows; row++) {
+            counts[store.algorithmCodes.get(row)]++;
+        }
+        for (int a = 0; a < store.algorithms.length; a++) {
+            if (counts[a] == 0) continue;
+            int[] front = store.nonDominatedRows(x, y, a, ANY, ANY);
+            System.out.println("  " + store.algorithms[a] + ": " + front.length + " non-dominated / " + counts[a] + " total");
+        }
+        int[] universal = store.nonDominatedRows(x, y, ANY, ANY, ANY);
+        System.out.println("Universal Pareto Set size: " + universal.length + " from " + store.size() + " total solutions");
+    }
+}
@@ -0,0 +1,379 @@
+package taskprocessor;
+
+import java.util.List;
+
+/**
+ * Performance metrics over flat, primitive two-objective Pareto fronts.
+ *
+ * Each front is a double[] of interleaved objective values [f1_0, f2_0, f1_1, f2_1, ...].
+ * As in {@link PerformanceMetrics}, index 2 is the reference front for GD and IGD, fronts
+ * are sorted by the first objective, and all fronts are normalized to the bounds taken
+ * from the endpoints of the sorted fronts. The numbers are identical to PerformanceMetrics.
+ *
+ * Normalized fronts are stored in one primitive array per front; the metric methods
+ * allocate nothing per point. GD and IGD use a sorted-front nearest-neighbour search
+ * ({@link NearestNeighbourIndex}). Passing the same array for several fronts sorts and
+ * normalizes it once.
+ */
+public class MetricsEngine {
+
+    double f1min, f1max, f2min, f2max;
+
+    private final double[][] normalized;   // Interleaved, sorted by first objective
+    private final int[] sizes;
+
+    /**
+     * Create the engine over a set of fronts. The input arrays are not modified.
+     *
+     * @param fronts Interleaved fronts; index 2 is the reference front
+     */
+    public MetricsEngine(double[]... fronts) {
+        int count = fronts.length;
+        this.normalized = new double[count][];
+        this.sizes = new int[count];
+
+        // Sort each distinct front once
+        for (int i = 0; i < count; i++) {
+            sizes[i] = fronts[i].length / 2;
+            for (int j = 0; j < i; j++) {
+                if (fronts[j] == fronts[i]) {
+                    normalized[i] = normalized[j];
+                    break;
+                }
+            }
+            if (normalized[i] == null) {
+                normalized[i] = sortedCopy(fronts[i], sizes[i]);
+            }
+        }
+
+        findMinMax();
+        normalize();
+    }
+
+    /**
+     * Convert a list of [obj1, obj2] solutions to an interleaved front.
+     */
+    public static double[] flatten(List<double[]> solutions) {
+        double[] flat = new double[2 * solutions.size()];
+        for (int i = 0; i < solutions.size(); i++) {
+            double[] sol = solutions.get(i);
+            flat[2 * i] = sol[0];
+            flat[2 * i + 1] = sol[1];
+        }
+        return flat;
+    }
+
+    /**
+     * Copy a front sorted by the first objective. The sort is stable and treats values
+     * that are neither smaller nor larger as equal, like FitnessComparator.
+     */
+    static double[] sortedCopy(double[] front, int n) {
+        int[] order = new int[n];
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            keys[i] = front[2 * i];
+        }
+
+        // Insertion sort small runs, then merge runs bottom-up
+        final int run = 16;
+        for (int lo = 0; lo < n; lo += run) {
+            int hi = Math.min(lo + run, n);
+            for (int i = lo + 1; i < hi; i++) {
+                double key = keys[i];
+                int idx = order[i];
+                int j = i - 1;
+                while (j >= lo && keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                order[j + 1] = idx;
+            }
+        }
+
+        if (n > run) {
+            double[] srcKeys = keys, dstKeys = new double[n];
+            int[] src = order, dst = new int[n];
+            for (int width = run; width < n; width *= 2) {
+                for (int lo = 0; lo < n; lo += 2 * width) {
+                    int mid = Math.min(lo + width, n);
+                    int hi = Math.min(lo + 2 * width, n);
+                    int a = lo, b = mid, k = lo;
+                    while (a < mid && b < hi) {
+                        // Take from the left run on ties to keep the sort stable
+                        if (srcKeys[b] < srcKeys[a]) {
+                            dstKeys[k] = srcKeys[b];
+                            dst[k++] = src[b++];
+                        } else {
+                            dstKeys[k] = srcKeys[a];
+                            dst[k++] = src[a++];
+                        }
+                    }
+                    while (a < mid) {
+                        dstKeys[k] = srcKeys[a];
+                        dst[k++] = src[a++];
+                    }
+                    while (b < hi) {
+                        dstKeys[k] = srcKeys[b];
+                        dst[k++] = src[b++];
+                    }
+                }
+                double[] tmpKeys = srcKeys;
+                srcKeys = dstKeys;
+                dstKeys = tmpKeys;
+                int[] tmp = src;
+                src = dst;
+                dst = tmp;
+            }
+            order = src;
+        }
+
+        double[] sorted = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            sorted[2 * i] = front[2 * order[i]];
+            sorted[2 * i + 1] = front[2 * order[i] + 1];
+        }
+        return sorted;
+    }
+
+    /**
+     * Bounds from the endpoints of the sorted fronts, starting from the first point of front 0.
+     */
+    private void findMinMax() {
+        if (normalized.length == 0 || sizes[0] == 0) {
+            f1min = f1max = f2min = f2max = 0;
+            return;
+        }
+
+        f1min = f1max = normalized[0][0];
+        f2min = f2max = normalized[0][1];
+
+        for (int i = 0; i < normalized.length; i++) {
+            if (sizes[i] == 0) continue;
+
+            double[] p = normalized[i];
+            int last = 2 * (sizes[i] - 1);
+
+            if (p[0] < f1min) f1min = p[0];
+            if (p[last] > f1max) f1max = p[last];
+            if (p[last + 1] < f2min) f2min = p[last + 1];
+            if (p[1] > f2max) f2max = p[1];
+        }
+    }
+
+    private void normalize() {
+        double f1Range = f1max - f1min;
+        double f2Range = f2max - f2min;
+
+        // Avoid division by zero
+        if (f1Range == 0) f1Range = 1;
+        if (f2Range == 0) f2Range = 1;
+
+        for (int i = 0; i < normalized.length; i++) {
+            // Shared fronts are normalized once
+            boolean shared = false;
+            for (int j = 0; j < i; j++) {
+                if (normalized[j] == normalized[i]) {
+                    shared = true;
+                    break;
+                }
+            }
+            if (shared) continue;
+
+            normalizeInto(normalized[i], sizes[i], normalized[i], f1min, f1Range, f2min, f2Range);
+        }
+    }
+
+    /**
+     * Scale a front to [0, 1] bounds: (f - min) / range for both objectives.
+     * The source and destination may be the same array.
+     */
+    static void normalizeInto(double[] src, int n, double[] dst,
+                              double f1min, double f1Range, double f2min, double f2Range) {
+        for (int k = 0; k < 2 * n; k += 2) {
+            dst[k] = (src[k] - f1min) / f1Range;
+            dst[k + 1] = (src[k + 1] - f2min) / f2Range;
+        }
+    }
+
+    /**
+     * Number of points in a front.
+     */
+    public int size(int front) {
+        return sizes[front];
+    }
+
+    /**
+     * Calculate Hypervolume for a front, with reference point (1, 1) in normalized space.
+     * Higher is better.
+     *
+     * @param front Index of the front
+     * @return Hypervolume value
+     */
+    public double HV(int front) {
+        return hv(normalized[front], sizes[front]);
+    }
+
+    /**
+     * Estimate the Hypervolume of a front by Monte Carlo sampling, with reference point (1, 1)
+     * in normalized space. Reproducible for a given seed, whatever the number of threads.
+     *
+     * @param front Index of the front
+     * @param seed Seed of the sample streams
+     * @param maxSamples Sample budget
+     * @param targetRelativeError Relative standard error to stop at, 0 to use the whole budget
+     * @param threads Number of sampling threads
+     * @return Estimate with its standard error
+     */
+    public HypervolumeEstimator.Estimate HVEstimate(int front, long seed, long maxSamples, double targetRelativeError,
+                                                    int threads) throws InterruptedException {
+        return new HypervolumeEstimator(seed, threads).estimate(normalized[front], sizes[front], 2, maxSamples, targetRelativeError);
+    }
+
+    /**
+     * Hypervolume of a normalized front sorted by the first objective.
+     */
+    static double hv(double[] p, int n) {
+        if (n == 0) {
+            return 0.0;
+        }
+
+        double volume = Math.abs(1.0 - p[0]) * Math.abs(1.0 - p[1]);
+        for (int k = 2; k < 2 * n; k += 2) {
+            volume += Math.abs(1.0 - p[k]) * Math.abs(p[k - 1] - p[k + 1]);
+        }
+        return volume;
+    }
+
+    /**
+     * Average over the points of one front of the distance to the nearest point of another.
+     * Uses a sorted-front nearest-neighbour search, so the target front must be sorted by
+     * the first objective (all fronts held by MetricsEngine are).
+     */
+    static double meanNearestDistance(double[] from, int fromSize, double[] to, int toSize) {
+        NearestNeighbourIndex index = NearestNeighbourIndex.forSortedFront(to, toSize);
+        return NearestNeighbourIndex.meanNearestDistance(from, fromSize, 2, index);
+    }
+
+    /**
+     * Brute-force version of {@link #meanNearestDistance}, kept as a reference.
+     */
+    static double meanNearestDistanceReference(double[] from, int fromSize, double[] to, int toSize) {
+        double distance = 0.0;
+        for (int i = 0; i < 2 * fromSize; i += 2) {
+            double x = from[i];
+            double y = from[i + 1];
+            double minDistance = Double.MAX_VALUE;
+            for (int j = 0; j < 2 * toSize; j += 2) {
+                double dx = x - to[j];
+                double dy = y - to[j + 1];
+                double d = Math.sqrt(dx * dx + dy * dy);
+                if (d < minDistance) {
+                    minDistance = d;
+                }
+            }
+            distance += minDistance;
+        }
+        return distance / fromSize;
+    }
+
+    /**
+     * Calculate Inverse Generational Distance to the reference front (index 2).
+     * Lower is better.
+     *
+     * @param front Index of the approximation front
+     * @return IGD value, or Double.MAX_VALUE if either front is missing or empty
+     */
+    public double IGD(int front) {
+        if (normalized.length < 3 || sizes[2] == 0 || sizes[front] == 0) {
+            return Double.MAX_VALUE;
+        }
+        return meanNearestDistance(normalized[2], sizes[2], normalized[front], sizes[front]);
+    }
+
+    /**
+     * Calculate Generational Distance to the reference front (index 2).
+     * Lower is better.
+     *
+     * @param front Index of the approximation front
+     * @return GD value, or Double.MAX_VALUE if either front is missing or empty
+     */
+    public double GD(int front) {
+        if (normalized.length < 3 || sizes[2] == 0 || sizes[front] == 0) {
+            return Double.MAX_VALUE;
+        }
+        return meanNearestDistance(normalized[front], sizes[front], normalized[2], sizes[2]);
+    }
+
+    /**
+     * Calculate Coverage Metric: fraction of the second front strictly dominated by the first.
+     *
+     * @param first Index of first front
+     * @param second Index of second front
+     * @return C-Metric value [0, 1]
+     */
+    public double C_Metric(int first, int second) {
+        if (sizes[first] == 0 || sizes[second] == 0) {
+            return 0.0;
+        }
+
+        double[] a = normalized[first];
+        double[] b = normalized[second];
+        int count = 0;
+        for (int j = 0; j < 2 * sizes[second]; j += 2) {
+            for (int i = 0; i < 2 * sizes[first]; i += 2) {
+                if (a[i] < b[j] && a[i + 1] < b[j + 1]) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return (double) count / sizes[second];
+    }
+
+    /**
+     * Distance of point i to its nearest neighbour along the sorted front, as used by Spacing.
+     */
+    private static double spacingDistance(double[] p, int n, int i) {
+        if (i == 0) {
+            return Math.abs(p[2] - p[0]) + Math.abs(p[1] - p[3]);
+        }
+        int k = 2 * i;
+        if (i == n - 1) {
+            return p[k] - p[k - 2] + p[k - 1] - p[k + 1];
+        }
+        double prevDist = Math.abs(p[k] - p[k - 2]) + Math.abs(p[k - 1] - p[k + 1]);
+        double nextDist = Math.abs(p[k + 2] - p[k]) + Math.abs(p[k + 1] - p[k + 3]);
+        return Math.min(prevDist, nextDist);
+    }
+
+    /**
+     * Calculate Spacing metric: uniformity of the distribution along the front.
+     * Lower is better.
+     *
+     * @param front Index of the front
+     * @return Spacing value, 0 for fewer than two points
+     */
+    public double Spacing(int front) {
+        int n = sizes[front];
+        if (n < 2) {
+            return 0.0;
+        }
+
+        double[] p = normalized[front];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            total += spacingDistance(p, n, i);
+        }
+        double dAvg = total / n;
+
+        double space = 0;
+        for (int i = 0; i < n; i++) {
+            double diff = dAvg - spacingDistance(p, n, i);
+            space += diff * diff;
+        }
+        return Math.sqrt((1.0 / (n - 1)) * space);
+    }
+}
@@ -0,0 +1,222 @@
+package taskprocessor;
+
+/**
+ * Nearest-neighbour index over a front, for the distance metrics GD and IGD.
+ *
+ * Two objectives: the front must be sorted by the first objective (as MetricsEngine
+ * keeps it), and a query binary-searches its first objective and scans outwards until
+ * the first-objective gap alone exceeds the best distance. Nothing is built or copied.
+ *
+ * Three or more objectives: a KD-tree over a copy of the points.
+ *
+ * The nearest distance is the same value the brute-force scan returns:
+ * sqrt(sum of squared differences), Double.MAX_VALUE if no distance is finite.
+ * Pruning only skips points whose partial squared distance already exceeds the best one.
+ */
+public abstract class NearestNeighbourIndex {
+
+    /**
+     * Distance from a query point to the nearest indexed point.
+     *
+     * @param query Array holding the query point
+     * @param offset Offset of the query point's first objective in the array
+     * @return Nearest Euclidean distance, or Double.MAX_VALUE if there is none
+     */
+    public abstract double nearestDistance(double[] query, int offset);
+
+    /**
+     * Index a two-objective front sorted by the first objective. The array is used in place.
+     *
+     * @param points Interleaved front [f1_0, f2_0, f1_1, f2_1, ...], sorted by f1
+     * @param n Number of points
+     */
+    public static NearestNeighbourIndex forSortedFront(double[] points, int n) {
+        return new SortedFront(points, n);
+    }
+
+    /**
+     * Index a front with any number of objectives.
+     *
+     * @param points Points with stride dims
+     * @param n Number of points
+     * @param dims Number of objectives
+     */
+    public static NearestNeighbourIndex build(double[] points, int n, int dims) {
+        if (dims == 2) {
+            return new SortedFront(MetricsEngine.sortedCopy(points, n), n);
+        }
+        return new KdTree(points, n, dims);
+    }
+
+    /**
+     * Mean over the query points of the distance to the nearest indexed point.
+     *
+     * @param from Query points with stride dims
+     * @param fromSize Number of query points
+     * @param dims Number of objectives
+     * @param index Index over the target front
+     */
+    public static double meanNearestDistance(double[] from, int fromSize, int dims, NearestNeighbourIndex index) {
+        double distance = 0.0;
+        for (int i = 0; i < fromSize; i++) {
+            distance += index.nearestDistance(from, i * dims);
+        }
+        return distance / fromSize;
+    }
+
+    private static double toDistance(double bestSquared) {
+        double d = Math.sqrt(bestSquared);
+        return d < Double.MAX_VALUE ? d : Double.MAX_VALUE;
+    }
+
+    /**
+     * Two objectives, sorted by the first: binary search plus outward scan.
+     */
+    private static class SortedFront extends NearestNeighbourIndex {
+        private final double[] p;
+        private final int n;
+
+        SortedFront(double[] p, int n) {
+            this.p = p;
+            this.n = n;
+        }
+
+        @Override
+        public double nearestDistance(double[] query, int offset) {
+            double qx = query[offset];
+            double qy = query[offset + 1];
+
+            // First point with f1 >= qx
+            int lo = 0, hi = n;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (p[2 * mid] < qx) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+
+            double best = Double.POSITIVE_INFINITY;
+            for (int i = lo; i < n; i++) {
+                double dx = p[2 * i] - qx;
+                double dxx = dx * dx;
+                if (dxx > best) break;
+                double dy = p[2 * i + 1] - qy;
+                double d = dxx + dy * dy;
+                if (d < best) best = d;
+            }
+            for (int i = lo - 1; i >= 0; i--) {
+                double dx = qx - p[2 * i];
+                double dxx = dx * dx;
+                if (dxx > best) break;
+                double dy = p[2 * i + 1] - qy;
+                double d = dxx + dy * dy;
+                if (d < best) best = d;
+            }
+            return toDistance(best);
+        }
+    }
+
+    /**
+     * KD-tree with median splits, cycling through the objectives by depth.
+     * Nodes are implicit: the subtree over [lo, hi) has its split point at the middle.
+     */
+    private static class KdTree extends NearestNeighbourIndex {
+        private static final int LEAF_SIZE = 8;
+
+        private final double[] p;   // Points reordered into tree order, stride dims
+        private final int n;
+        private final int dims;
+
+        KdTree(double[] points, int n, int dims) {
+            this.p = new double[n * dims];
+            System.arraycopy(points, 0, p, 0, n * dims);
+            this.n = n;
+            this.dims = dims;
+            build(0, n, 0);
+        }
+
+        private void build(int lo, int hi, int axis) {
+            if (hi - lo <= LEAF_SIZE) return;
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, axis);
+            int nextAxis = (axis + 1) % dims;
+            build(lo, mid, nextAxis);
+            build(mid + 1, hi, nextAxis);
+        }
+
+        /**
+         * Quickselect: place the k-th smallest point along an axis at k.
+         */
+        private void select(int left, int right, int k, int axis) {
+            while (right > left) {
+                double pivot = p[((left + right) >>> 1) * dims + axis];
+                int i = left, j = right;
+                while (i <= j) {
+                    while (p[i * dims + axis] < pivot) i++;
+                    while (p[j * dims + axis] > pivot) j--;
+                    if (i <= j) {
+                        swap(i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void swap(int a, int b) {
+            for (int d = 0; d < dims; d++) {
+                double t = p[a * dims + d];
+                p[a * dims + d] = p[b * dims + d];
+                p[b * dims + d] = t;
+            }
+        }
+
+        private double squaredDistance(int point, double[] query, int offset) {
+            double sum = 0;
+            for (int d = 0; d < dims; d++) {
+                double diff = p[point * dims + d] - query[offset + d];
+                sum += diff * diff;
+            }
+            return sum;
+        }
+
+        @Override
+        public double nearestDistance(double[] query, int offset) {
+            return toDistance(search(0, n, 0, query, offset, Double.POSITIVE_INFINITY));
+        }
+
+        private double search(int lo, int hi, int axis, double[] query, int offset, double best) {
+            if (hi - lo <= LEAF_SIZE) {
+                for (int i = lo; i < hi; i++) {
+                    double d = squaredDistance(i, query, offset);
+                    if (d < best) best = d;
+                }
+                return best;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            double d = squaredDistance(mid, query, offset);
+            if (d < best) best = d;
+
+            double diff = query[offset + axis] - p[mid * dims + axis];
+            int nextAxis = (axis + 1) % dims;
+            if (diff < 0) {
+                best = search(lo, mid, nextAxis, query, offset, best);
+                if (diff * diff <= best) best = search(mid + 1, hi, nextAxis, query, offset, best);
+            } else {
+                best = search(mid + 1, hi, nextAxis, query, offset, best);
+                if (diff * diff <= best) best = search(lo, mid, nextAxis, query, offset, best);
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package taskprocessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs a loop over the indices 0..count-1 on a fixed number of worker lanes.
+ *
+ * Lanes pull indices from a shared counter, so each index is processed exactly once by one
+ * lane, in no particular order. Results must be written to per-index slots; the caller
+ * combines them after the loop in index order, which keeps the outcome independent of the
+ * number of threads. With a single lane the loop runs on the calling thread.
+ *
+ * An exception thrown by the body is rethrown on the calling thread once every lane has
+ * stopped; checked exceptions are wrapped in a RuntimeException.
+ *
+ * Lanes on pool threads measure their CPU time and allocation and add them to the
+ * {@link StageProfiler} stage open on the calling thread, so profiled stages include the
+ * work done off-thread. Loops started inside a lane are charged to the same stage.
+ */
+final class ParallelLoop {
+
+    private ParallelLoop() {}
+
+    /**
+     * Run body for every index on up to threads lanes, each on a new pool thread.
+     */
+    static void forEachIndex(int count, int threads, IntConsumer body) throws InterruptedException {
+        forEachIndex(count, threads, () -> body);
+    }
+
+    /**
+     * Run the loop with per-lane state: every lane gets its own body from the factory, called
+     * on the lane's thread, for scratch buffers that must not be shared between threads.
+     */
+    static void forEachIndex(int count, int threads, Supplier<? extends IntConsumer> lane) throws InterruptedException {
+        int lanes = Math.max(1, Math.min(threads, count));
+        if (lanes == 1) {
+            run(count, new AtomicInteger(), lane.get());
+            return;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(lanes);
+        try {
+            forEachIndex(pool, lanes, count, lane);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Run the loop on an existing pool, for callers that run many short loops in a row.
+     *
+     * @param pool Pool with at least lanes threads, or null to run on the calling thread
+     * @param lanes Number of lanes submitted to the pool
+     */
+    static void forEachIndex(ExecutorService pool, int lanes, int count, Supplier<? extends IntConsumer> lane)
+            throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        lanes = Math.max(1, Math.min(lanes, count));
+        if (pool == null || lanes == 1) {
+            run(count, next, lane.get());
+            return;
+        }
+
+        StageProfiler.Stage stage = StageProfiler.active();
+        List<Future<?>> futures = new ArrayList<>(lanes);
+        for (int w = 0; w < lanes; w++) {
+            futures.add(pool.submit(() -> runCharged(stage, count, next, lane)));
+        }
+        Throwable failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+            }
+        }
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        if (failure != null) throw new RuntimeException(failure);
+    }
+
+    /**
+     * Run a lane on a pool thread and charge its CPU time and allocation to the stage.
+     */
+    private static void runCharged(StageProfiler.Stage stage, int count, AtomicInteger next,
+                                   Supplier<? extends IntConsumer> lane) {
+        if (stage == null) {
+            run(count, next, lane.get());
+            return;
+        }
+        StageProfiler.Stage previous = StageProfiler.activate(stage);
+        long startCpu = StageProfiler.currentThreadCpuNanos();
+        long startAllocated = StageProfiler.currentThreadAllocatedBytes();
+        try {
+            run(count, next, lane.get());
+        } finally {
+            long cpu = startCpu < 0 ? 0 : StageProfiler.currentThreadCpuNanos() - startCpu;
+            long allocated = startAllocated < 0 ? 0 : StageProfiler.currentThreadAllocatedBytes() - startAllocated;
+            stage.addWorkerUsage(cpu, allocated);
+            StageProfiler.activate(previous);
+        }
+    }
+
+    private static void run(int count, AtomicInteger next, IntConsumer body) {
+        int i;
+        while ((i = next.getAndIncrement()) < count) {
+            body.accept(i);
+        }
+    }
+}
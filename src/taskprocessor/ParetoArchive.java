@@ -0,0 +1,419 @@
+package taskprocessor;
+
+import java.util.Arrays;
+
+/**
+ * Incrementally maintained two-objective non-dominated set (both objectives minimized).
+ *
+ * Semantics match {@link Dominance#nonDominatedIndices2D(double[], int)} on the sequence of
+ * added points: a point is dropped when another point strictly dominates it, and
+ * {@link #indices()} collapses points equal within {@link Dominance#EPSILON}, keeping the first
+ * added. Points are identified by their position in that sequence, so the caller can map them
+ * back to its own list.
+ *
+ * The archive is a staircase: ordered by the first objective ascending (ties by the second
+ * descending), the second objective never increases. The last point with a smaller first
+ * objective therefore has the lowest second objective among them and decides whether a new
+ * point is dominated, and the points a new point dominates are a run right after its first
+ * objective. The staircase is a treap over primitive node arrays, so an insertion costs
+ * O(log n + k) expected for k evicted points, without boxing.
+ */
+public class ParetoArchive {
+
+    private static final int NIL = -1;
+
+    // Split predicates: which nodes go to the left part
+    private static final int LEFT_OF_KEY = 0;     // Key before (x, y, seq)
+    private static final int X_AT_MOST = 1;       // First objective <= x
+    private static final int Y_ABOVE = 2;         // Second objective > y (on a staircase run)
+
+    // Node pool; freed nodes are chained through left[]
+    private double[] xs;
+    private double[] ys;
+    private int[] seqs;
+    private int[] priority;
+    private int[] left;
+    private int[] right;
+    private int allocated = 0;
+    private int free = NIL;
+
+    private int root = NIL;
+    private int size = 0;
+    private int inputs = 0;
+    private int random = 0x2545F491;
+
+    // Points with a NaN objective: never dominated, never dominating
+    private int[] nanSeqs = new int[0];
+    private int nanCount = 0;
+
+    // Results of the last split()
+    private int splitLeft;
+    private int splitRight;
+
+    public ParetoArchive() {
+        this(16);
+    }
+
+    /**
+     * @param capacity Expected number of archived points (the pool grows as needed)
+     */
+    public ParetoArchive(int capacity) {
+        int n = Math.max(1, capacity);
+        xs = new double[n];
+        ys = new double[n];
+        seqs = new int[n];
+        priority = new int[n];
+        left = new int[n];
+        right = new int[n];
+    }
+
+    /**
+     * Add the next point of the sequence.
+     *
+     * @return Whether the point entered the archive (false when it is strictly dominated)
+     */
+    public boolean add(double x, double y) {
+        return insert(x, y, inputs++);
+    }
+
+    /**
+     * Add a point at a given position of the sequence, for points that arrive out of order.
+     * Positions must be distinct; {@link #inputs()} becomes one past the highest position.
+     *
+     * @return Whether the point entered the archive (false when it is strictly dominated)
+     */
+    public boolean add(double x, double y, int position) {
+        inputs = Math.max(inputs, position + 1);
+        return insert(x, y, position);
+    }
+
+    /**
+     * Append another archive's sequence to this one, as if its points had been added here
+     * after the points of this archive. Only its archived points are inserted, since the
+     * others are dominated in the combined sequence as well.
+     */
+    public void addAll(ParetoArchive other) {
+        int offset = inputs;
+        other.copyTo(this, offset);
+        inputs += other.inputs;
+    }
+
+    /**
+     * Add another archive's points at their own positions, e.g. to combine archives that
+     * received disjoint parts of one sequence.
+     */
+    public void merge(ParetoArchive other) {
+        other.copyTo(this, 0);
+        inputs = Math.max(inputs, other.inputs);
+    }
+
+    private void copyTo(ParetoArchive target, int offset) {
+        for (int node : inOrder()) {
+            target.insert(xs[node], ys[node], offset + seqs[node]);
+        }
+        for (int i = 0; i < nanCount; i++) {
+            target.insert(Double.NaN, Double.NaN, offset + nanSeqs[i]);
+        }
+    }
+
+    /**
+     * Whether some archived point strictly dominates (x, y).
+     */
+    public boolean isDominated(double x, double y) {
+        // Last node with a smaller first objective: lowest second objective among those
+        int t = root;
+        int last = NIL;
+        while (t != NIL) {
+            if (xs[t] < x) {
+                last = t;
+                t = right[t];
+            } else {
+                t = left[t];
+            }
+        }
+        return last != NIL && ys[last] < y;
+    }
+
+    /**
+     * Archived points that (x, y) strictly dominates.
+     *
+     * @return Their sequence positions, by ascending first objective
+     */
+    public int[] dominatedBy(double x, double y) {
+        IntBuffer found = new IntBuffer();
+        collectDominated(root, x, y, found);
+        return Arrays.copyOf(found.values, found.size);
+    }
+
+    /**
+     * Number of archived points, EPSILON-duplicates included.
+     */
+    public int size() {
+        return size + nanCount;
+    }
+
+    /**
+     * Number of points added so far, archived or not.
+     */
+    public int inputs() {
+        return inputs;
+    }
+
+    /**
+     * Sequence positions of the non-dominated set, as {@link Dominance#nonDominatedIndices2D}
+     * returns them for the same sequence.
+     *
+     * @return Positions in ascending order, EPSILON-duplicates collapsed to the first added
+     */
+    public int[] indices() {
+        int[] nodes = inOrder();
+        int m = nodes.length;
+
+        // Visit the points in sequence order, each with its place in the staircase
+        long[] bySeq = new long[m];
+        for (int i = 0; i < m; i++) {
+            bySeq[i] = ((long) seqs[nodes[i]] << 32) | i;
+        }
+        Arrays.sort(bySeq);
+
+        boolean[] kept = new boolean[m];
+        int[] result = new int[m + nanCount];
+        int count = 0;
+        for (long entry : bySeq) {
+            int p = (int) entry;
+            double x = xs[nodes[p]];
+            double y = ys[nodes[p]];
+            boolean duplicate = false;
+            for (int j = p - 1; j >= 0 && !duplicate; j--) {
+                if (!(Math.abs(xs[nodes[j]] - x) < Dominance.EPSILON)) break;
+                duplicate = kept[j] && Math.abs(ys[nodes[j]] - y) < Dominance.EPSILON;
+            }
+            for (int j = p + 1; j < m && !duplicate; j++) {
+                if (!(Math.abs(xs[nodes[j]] - x) < Dominance.EPSILON)) break;
+                duplicate = kept[j] && Math.abs(ys[nodes[j]] - y) < Dominance.EPSILON;
+            }
+            if (!duplicate) {
+                kept[p] = true;
+                result[count++] = (int) (entry >>> 32);
+            }
+        }
+        for (int i = 0; i < nanCount; i++) {
+            result[count++] = nanSeqs[i];
+        }
+        Arrays.sort(result, 0, count);
+        return Arrays.copyOf(result, count);
+    }
+
+    private boolean insert(double x, double y, int seq) {
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            if (nanCount == nanSeqs.length) {
+                nanSeqs = Arrays.copyOf(nanSeqs, Math.max(4, 2 * nanCount));
+            }
+            nanSeqs[nanCount++] = seq;
+            return true;
+        }
+        if (isDominated(x, y)) {
+            return false;
+        }
+
+        int node = allocate(x, y, seq);
+        int next = firstRightOf(x);
+        if (next != NIL && ys[next] > y) {
+            // Points right of x that are above y form the run the new point dominates
+            split(root, X_AT_MOST, x, y, seq);
+            int atMost = splitLeft;
+            split(splitRight, Y_ABOVE, x, y, seq);
+            int rest = splitRight;
+            release(splitLeft);
+            root = merge(insertAt(atMost, node), rest);
+        } else {
+            root = insertAt(root, node);
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * First node whose first objective is above x, or NIL.
+     */
+    private int firstRightOf(double x) {
+        int t = root;
+        int first = NIL;
+        while (t != NIL) {
+            if (xs[t] > x) {
+                first = t;
+                t = left[t];
+            } else {
+                t = right[t];
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Treap insertion: descend by key until the new node's priority wins, then split the
+     * subtree below it. Expected O(log n) with O(1) restructuring.
+     */
+    private int insertAt(int t, int node) {
+        if (t == NIL) {
+            return node;
+        }
+        if (priority[node] > priority[t]) {
+            split(t, LEFT_OF_KEY, xs[node], ys[node], seqs[node]);
+            left[node] = splitLeft;
+            right[node] = splitRight;
+            return node;
+        }
+        if (goesLeft(t, LEFT_OF_KEY, xs[node], ys[node], seqs[node])) {
+            right[t] = insertAt(right[t], node);
+        } else {
+            left[t] = insertAt(left[t], node);
+        }
+        return t;
+    }
+
+    private boolean goesLeft(int t, int mode, double x, double y, int seq) {
+        switch (mode) {
+            case X_AT_MOST:
+                return xs[t] <= x;
+            case Y_ABOVE:
+                return ys[t] > y;
+            default:
+                if (xs[t] != x) return xs[t] < x;
+                if (ys[t] != y) return ys[t] > y;
+                return seqs[t] < seq;
+        }
+    }
+
+    /**
+     * Split a subtree into the nodes for which goesLeft holds (a prefix) and the rest,
+     * returned in splitLeft and splitRight.
+     */
+    private void split(int t, int mode, double x, double y, int seq) {
+        if (t == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        if (goesLeft(t, mode, x, y, seq)) {
+            split(right[t], mode, x, y, seq);
+            right[t] = splitLeft;
+            splitLeft = t;
+        } else {
+            split(left[t], mode, x, y, seq);
+            left[t] = splitRight;
+            splitRight = t;
+        }
+    }
+
+    /**
+     * Join two subtrees where every key of a comes before every key of b.
+     */
+    private int merge(int a, int b) {
+        if (a == NIL) return b;
+        if (b == NIL) return a;
+        if (priority[a] > priority[b]) {
+            right[a] = merge(right[a], b);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        return b;
+    }
+
+    private int allocate(double x, double y, int seq) {
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = left[node];
+        } else {
+            if (allocated == xs.length) {
+                int capacity = 2 * allocated;
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                seqs = Arrays.copyOf(seqs, capacity);
+                priority = Arrays.copyOf(priority, capacity);
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+            }
+            node = allocated++;
+        }
+        // xorshift32: a fixed sequence keeps the tree shape reproducible
+        random ^= random << 13;
+        random ^= random >>> 17;
+        random ^= random << 5;
+        xs[node] = x;
+        ys[node] = y;
+        seqs[node] = seq;
+        priority[node] = random;
+        left[node] = NIL;
+        right[node] = NIL;
+        return node;
+    }
+
+    /**
+     * Return the nodes of an evicted subtree to the pool.
+     */
+    private void release(int t) {
+        if (t == NIL) return;
+        release(left[t]);
+        release(right[t]);
+        left[t] = free;
+        free = t;
+        size--;
+    }
+
+    /**
+     * In-order walk from the first node right of x, stopping at the first node not above y.
+     *
+     * @return false once the walk has stopped
+     */
+    private boolean collectDominated(int t, double x, double y, IntBuffer found) {
+        if (t == NIL) return true;
+        if (!(xs[t] > x)) {
+            return collectDominated(right[t], x, y, found);
+        }
+        if (!collectDominated(left[t], x, y, found)) return false;
+        if (!(ys[t] > y)) return false;
+        found.add(seqs[t]);
+        return collectDominated(right[t], x, y, found);
+    }
+
+    /**
+     * Archived nodes in staircase order.
+     */
+    private int[] inOrder() {
+        int[] nodes = new int[size];
+        int[] stack = new int[64];
+        int depth = 0;
+        int count = 0;
+        int t = root;
+        while (t != NIL || depth > 0) {
+            while (t != NIL) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, 2 * depth);
+                }
+                stack[depth++] = t;
+                t = left[t];
+            }
+            t = stack[--depth];
+            nodes[count++] = t;
+            t = right[t];
+        }
+        return nodes;
+    }
+
+    /**
+     * Growable int list.
+     */
+    private static class IntBuffer {
+        int[] values = new int[8];
+        int size = 0;
+
+        void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, 2 * size);
+            }
+            values[size++] = v;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package taskprocessor;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Persistent cache of parsed experiment result files.
+ *
+ * Entries are keyed by absolute file path and validated against the file size and
+ * modification time, so only new or changed workbooks need to be parsed again.
+ * The cache file is a columnar binary file that is read into a heap buffer on load. It is not
+ * memory-mapped, because save() replaces the file and a live mapping blocks that on Windows:
+ *
+ * <pre>
+ *   header:  int magic, int version, int rowCount, int columnCount, long dictionaryOffset
+ *   columns: double[columnCount][rowCount] values (NaN = missing)
+ *            long[rowCount] size, long[rowCount] mtime
+ *            int[rowCount] path, algorithm, objectiveSuffix (-1 = none), seed, solIndex
+ *   dictionary: int count, then count x (int byteLength, UTF-8 bytes)
+ * </pre>
+ *
+ * The first columnCount dictionary entries are the column names; a cache written
+ * with a different column layout is ignored. Not thread-safe.
+ */
+public class ResultCache {
+
+    private static final int MAGIC = 0x52524331;  // "RRC1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+
+    private final File cacheFile;
+    private final PrintStream out;
+
+    // Entries loaded from the cache file
+    private ByteBuffer loaded;
+    private int loadedRows;
+    private String[] dictionary = new String[0];
+    private Map<String, Integer> loadedIndex = new HashMap<>();
+
+    // Entries parsed during this run, to be written by save()
+    private final Map<String, Entry> added = new LinkedHashMap<>();
+
+    private int hits;
+    private int misses;
+
+    private static class Entry {
+        long size;
+        long mtime;
+        String algorithm;
+        String objectiveSuffix;
+        int seed;
+        int solIndex;
+        double[] values;
+    }
+
+    private ResultCache(File cacheFile, PrintStream out) {
+        this.cacheFile = cacheFile;
+        this.out = out;
+    }
+
+    /**
+     * Default cache location below the project base path.
+     */
+    public static File defaultFile(String basePath) {
+        return new File(basePath, ".cache/result_rows.bin");
+    }
+
+    /**
+     * Open a cache file. A missing, corrupt or incompatible file results in an empty cache.
+     *
+     * @param out Stream for the save and hit summaries
+     */
+    public static ResultCache open(File cacheFile, PrintStream out) {
+        ResultCache cache = new ResultCache(cacheFile, out);
+        if (cacheFile.isFile()) {
+            try {
+                cache.load();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Ignoring unreadable result cache " + cacheFile + ": " + e.getMessage());
+                cache.loaded = null;
+                cache.loadedRows = 0;
+                cache.loadedIndex = new HashMap<>();
+            }
+        }
+        return cache;
+    }
+
+    private void load() throws IOException {
+        try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("result cache too large");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("result cache truncated");
+                }
+            }
+            buffer.flip();
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("not a result cache file");
+            }
+            int rows = buffer.getInt(8);
+            int columns = buffer.getInt(12);
+            long dictionaryOffset = buffer.getLong(16);
+
+            // Counts and lengths come from disk: check them before allocating, so that a
+            // corrupt file fails with an IOException rather than a huge allocation
+            long rowBytes = 8L * (columns + 2) + 4L * 5;
+            if (rows < 0 || columns < 0 || dictionaryOffset < HEADER_SIZE + rowBytes * rows
+                    || dictionaryOffset > buffer.limit() - 4) {
+                throw new IOException("result cache layout out of range");
+            }
+
+            // Read the string dictionary; every entry takes at least its length field
+            ByteBuffer dict = buffer.duplicate();
+            dict.position((int) dictionaryOffset);
+            int count = dict.getInt();
+            if (count < columns || count > dict.remaining() / 4) {
+                throw new IOException("result cache dictionary truncated");
+            }
+            String[] strings = new String[count];
+            for (int i = 0; i < strings.length; i++) {
+                int length = dict.remaining() < 4 ? -1 : dict.getInt();
+                if (length < 0 || length > dict.remaining()) {
+                    throw new IOException("result cache dictionary truncated");
+                }
+                byte[] bytes = new byte[length];
+                dict.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            // Column layout must match
+            if (columns != ResultRow.COLUMNS.length) {
+                throw new IOException("column layout changed");
+            }
+            for (int c = 0; c < columns; c++) {
+                if (!ResultRow.COLUMNS[c].equals(strings[c])) {
+                    throw new IOException("column layout changed");
+                }
+            }
+
+            this.loaded = buffer;
+            this.loadedRows = rows;
+            this.dictionary = strings;
+
+            Map<String, Integer> index = new HashMap<>(rows * 2);
+            for (int row = 0; row < rows; row++) {
+                index.put(strings[getInt(0, row)], row);
+            }
+            this.loadedIndex = index;
+        }
+    }
+
+    // Offsets of the columns in the loaded file
+    private int valueOffset(int column, int row) {
+        return HEADER_SIZE + 8 * (column * loadedRows + row);
+    }
+
+    private long getLong(int longColumn, int row) {
+        int base = HEADER_SIZE + 8 * ResultRow.COLUMNS.length * loadedRows;
+        return loaded.getLong(base + 8 * (longColumn * loadedRows + row));
+    }
+
+    private int getInt(int intColumn, int row) {
+        int base = HEADER_SIZE + 8 * (ResultRow.COLUMNS.length + 2) * loadedRows;
+        return loaded.getInt(base + 4 * (intColumn * loadedRows + row));
+    }
+
+    private static String key(File file) {
+        return file.toPath().toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Look up the cached values of a result file.
+     *
+     * @param file Result file
+     * @return Values indexed like ResultRow.COLUMNS, or null if not cached or stale
+     */
+    public double[] getValues(File file) {
+        String key = key(file);
+        long size = file.length();
+        long mtime = file.lastModified();
+
+        Entry entry = added.get(key);
+        if (entry != null && entry.size == size && entry.mtime == mtime) {
+            hits++;
+            return entry.values.clone();
+        }
+
+        Integer row = loadedIndex.get(key);
+        if (entry == null && row != null && getLong(0, row) == size && getLong(1, row) == mtime) {
+            double[] values = new double[ResultRow.COLUMNS.length];
+            for (int c = 0; c < values.length; c++) {
+                values[c] = loaded.getDouble(valueOffset(c, row));
+            }
+            hits++;
+            return values;
+        }
+
+        misses++;
+        return null;
+    }
+
+    /**
+     * Store a freshly parsed result file. The row must contain all result columns.
+     */
+    public void put(File file, ResultRow row) {
+        Entry entry = new Entry();
+        entry.size = file.length();
+        entry.mtime = file.lastModified();
+        entry.algorithm = row.getAlgorithm();
+        entry.objectiveSuffix = row.getObjectiveSuffix();
+        entry.seed = row.getSeed();
+        entry.solIndex = row.getSolIndex();
+        entry.values = new double[ResultRow.COLUMNS.length];
+        for (int c = 0; c < entry.values.length; c++) {
+            entry.values[c] = row.getValue(c);
+        }
+        added.put(key(file), entry);
+    }
+
+    /**
+     * Write the cache file if new entries were added. Existing entries are kept.
+     */
+    public void save() throws IOException {
+        if (added.isEmpty()) return;
+
+        // Merge still-present loaded entries with the new ones
+        List<String> paths = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<String, Integer> e : loadedIndex.entrySet()) {
+            if (added.containsKey(e.getKey())) continue;
+            paths.add(e.getKey());
+            entries.add(readLoaded(e.getValue()));
+        }
+        for (Map.Entry<String, Entry> e : added.entrySet()) {
+            paths.add(e.getKey());
+            entries.add(e.getValue());
+        }
+
+        // Build the string dictionary: column names first
+        Map<String, Integer> dict = new LinkedHashMap<>();
+        for (String column : ResultRow.COLUMNS) {
+            dict.putIfAbsent(column, dict.size());
+        }
+        int rows = entries.size();
+        int[][] intColumns = new int[5][rows];
+        for (int i = 0; i < rows; i++) {
+            Entry entry = entries.get(i);
+            intColumns[0][i] = dict.computeIfAbsent(paths.get(i), k -> dict.size());
+            intColumns[1][i] = dict.computeIfAbsent(entry.algorithm, k -> dict.size());
+            intColumns[2][i] = entry.objectiveSuffix == null ? -1 : dict.computeIfAbsent(entry.objectiveSuffix, k -> dict.size());
+            intColumns[3][i] = entry.seed;
+            intColumns[4][i] = entry.solIndex;
+        }
+
+        File parent = cacheFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        File tmp = new File(cacheFile.getPath() + ".tmp");
+
+        try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            int columns = ResultRow.COLUMNS.length;
+            long dictionaryOffset = HEADER_SIZE + 8L * (columns + 2) * rows + 4L * 5 * rows;
+
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(rows);
+            data.writeInt(columns);
+            data.writeLong(dictionaryOffset);
+
+            for (int c = 0; c < columns; c++) {
+                for (Entry entry : entries) data.writeDouble(entry.values[c]);
+            }
+            for (Entry entry : entries) data.writeLong(entry.size);
+            for (Entry entry : entries) data.writeLong(entry.mtime);
+            for (int[] column : intColumns) {
+                for (int v : column) data.writeInt(v);
+            }
+
+            data.writeInt(dict.size());
+            for (String s : dict.keySet()) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+        }
+
+        try {
+            Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        out.println("Result cache saved: " + rows + " files (" + added.size() + " new) -> " + cacheFile);
+    }
+
+    private Entry readLoaded(int row) {
+        Entry entry = new Entry();
+        entry.size = getLong(0, row);
+        entry.mtime = getLong(1, row);
+        entry.algorithm = dictionary[getInt(1, row)];
+        int suffix = getInt(2, row);
+        entry.objectiveSuffix = suffix < 0 ? null : dictionary[suffix];
+        entry.seed = getInt(3, row);
+        entry.solIndex = getInt(4, row);
+        entry.values = new double[ResultRow.COLUMNS.length];
+        for (int c = 0; c < entry.values.length; c++) {
+            entry.values[c] = loaded.getDouble(valueOffset(c, row));
+        }
+        return entry;
+    }
+
+    public int getHits() { return hits; }
+    public int getMisses() { return misses; }
+
+    /**
+     * Print cache hit statistics.
+     */
+    public void printSummary() {
+        out.println("Result cache: " + hits + " hits, " + misses + " misses (" + cacheFile + ")");
+    }
+}
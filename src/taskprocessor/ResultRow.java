@@ -0,0 +1,97 @@
+package taskprocessor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One parsed experiment result file.
+ * Holds the numeric result columns together with the metadata taken from the file path:
+ * algorithm name, objective-pair suffix, seed and solution index.
+ */
+public class ResultRow {
+
+    /**
+     * Result columns found in every experiment workbook, in header order.
+     */
+    public static final String[] COLUMNS = {
+        "Makespan",
+        "Avg Waiting Time",
+        "Avg Execution Time",
+        "Avg Finish Time",
+        "Energy Use Wh",
+        "Avg VM Utilization %",
+        "Avg Host Utilization %",
+        "Avg Host IDLE Time (s)"
+    };
+
+    /**
+     * All result columns as a set, for use as an ExcelReader column projection.
+     */
+    public static final Set<String> ALL_COLUMNS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(COLUMNS)));
+
+    private final String algorithm;         // e.g. "MOEA_NSGAII" or "SO_GA_Energy"
+    private final String objectiveSuffix;   // MO file suffix ("", "_eVSs", "_mVSs"), null for SO
+    private final int seed;
+    private final int solIndex;             // "_sol_N" from the file name, 0 if absent
+    private final double[] values;          // Indexed like COLUMNS, NaN if missing
+
+    public ResultRow(String algorithm, String objectiveSuffix, int seed, int solIndex, double[] values) {
+        this.algorithm = algorithm;
+        this.objectiveSuffix = objectiveSuffix;
+        this.seed = seed;
+        this.solIndex = solIndex;
+        this.values = values;
+    }
+
+    /**
+     * Create a row from ExcelReader output. Columns not present in the map are stored as NaN.
+     */
+    public static ResultRow fromValues(String algorithm, String objectiveSuffix, int seed, int solIndex, Map<String, Double> map) {
+        double[] values = new double[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Double v = map.get(COLUMNS[i]);
+            values[i] = v != null ? v : Double.NaN;
+        }
+        return new ResultRow(algorithm, objectiveSuffix, seed, solIndex, values);
+    }
+
+    /**
+     * Index of a column name in COLUMNS.
+     *
+     * @return Column index, or -1 if unknown
+     */
+    public static int columnIndex(String columnName) {
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (COLUMNS[i].equals(columnName)) return i;
+        }
+        return -1;
+    }
+
+    public String getAlgorithm() { return algorithm; }
+    public String getObjectiveSuffix() { return objectiveSuffix; }
+    public int getSeed() { return seed; }
+    public int getSolIndex() { return solIndex; }
+    public boolean isMultiObjective() { return objectiveSuffix != null; }
+
+    /**
+     * Get a column value by index.
+     *
+     * @return Value, or NaN if the column was missing in the file
+     */
+    public double getValue(int column) {
+        return values[column];
+    }
+
+    /**
+     * Get a column value by name.
+     *
+     * @return Value, or NaN if the column is unknown or was missing in the file
+     */
+    public double getValue(String columnName) {
+        int column = columnIndex(columnName);
+        return column >= 0 ? values[column] : Double.NaN;
+    }
+}
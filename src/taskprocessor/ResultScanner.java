@@ -0,0 +1,279 @@
+package taskprocessor;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Scans the experiment folders for result files and parses them into ResultRows.
+ *
+ * Rows are returned in scan order: Multi-Objective rows in directory listing order,
+ * Single-Objective rows grouped by folder in the order the folders were given.
+ * This is the same order TaskProcessor has always used to fill its solution maps.
+ * When a ResultCache is set, only files that are new or changed since they were cached are parsed.
+ * Each scan can also hand its rows, in that order, to a consumer while later files are still
+ * being parsed.
+ */
+public class ResultScanner {
+
+    // Multi-objective algorithms
+    public static final String[] MO_ALGORITHMS = {
+        "MOEA_AMOSA", "MOEA_NSGAII", "MOEA_SPEAII", "MOEA_eNSGAII"
+    };
+
+    // MO file suffix for each objective pair ("" = Energy vs Makespan)
+    public static final String[] MO_OBJECTIVE_SUFFIXES = {"", "_eVSs", "_mVSs"};
+
+    private static final Pattern SEED_PATTERN = Pattern.compile("_rnd_(\\d+)_");
+    private static final Pattern SOL_PATTERN = Pattern.compile("_sol_(\\d+)");
+
+    private final String basePath;
+    private final int[] seeds;
+    private final FileIngestor ingestor;
+    private ResultCache cache;
+    private PrintStream out = System.out;
+
+    // Totals over all scans of this scanner
+    private int filesParsed;
+    private int filesCached;
+    private long bytesParsed;
+    private long workerCpuNanos;
+    private long workerAllocatedBytes;
+
+    public ResultScanner(String basePath, int[] seeds, FileIngestor ingestor) {
+        this.basePath = basePath;
+        this.seeds = seeds;
+        this.ingestor = ingestor;
+    }
+
+    /**
+     * Consult a result cache before parsing files, and add newly parsed files to it.
+     *
+     * @param cache Cache to use, or null to always parse
+     */
+    public void setCache(ResultCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Stream for the ingestion summaries (default: System.out).
+     */
+    public void setOutput(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Scan Multi-Objective result files for a task count.
+     *
+     * @param numTasks Task count (folder "<n> Task")
+     * @param objectiveSuffixes MO file suffixes to include
+     * @param columns Columns to read from each file
+     * @return Parsed rows in directory listing order
+     */
+    public List<ResultRow> scanMultiObjective(int numTasks, Collection<String> objectiveSuffixes, Set<String> columns) throws InterruptedException {
+        List<ResultRow> rows = new ArrayList<>();
+        scanMultiObjective(numTasks, objectiveSuffixes, columns, rows::add);
+        return rows;
+    }
+
+    /**
+     * Scan Multi-Objective result files for a task count, handing each row to a consumer as
+     * soon as it and every earlier row are parsed.
+     *
+     * @param sink Receives the rows in directory listing order, on any one thread at a time
+     */
+    public void scanMultiObjective(int numTasks, Collection<String> objectiveSuffixes, Set<String> columns,
+                                   Consumer<ResultRow> sink) throws InterruptedException {
+        String moPath = basePath + "/Multi-Objective Algorithms/" + numTasks + " Task";
+        File moDir = new File(moPath);
+
+        if (!moDir.exists() || !moDir.isDirectory()) {
+            System.err.println("Multi-Objective directory not found: " + moPath);
+            return;
+        }
+
+        File[] files = moDir.listFiles((dir, name) -> name.endsWith(".xlsx") && !name.startsWith("~"));
+        if (files == null) return;
+
+        // Collect matching files first, in scan order, so they can be parsed in parallel
+        List<File> jobFiles = new ArrayList<>();
+        List<String> jobAlgos = new ArrayList<>();
+        List<String> jobSuffixes = new ArrayList<>();
+
+        for (File file : files) {
+            String fileName = file.getName();
+
+            for (String objPattern : objectiveSuffixes) {
+                for (String algo : MO_ALGORITHMS) {
+                    String searchPattern = algo;
+                    // Handle special case for eNSGAII which is named eNSGA2 for energy vs makespan
+                    if (algo.equals("MOEA_eNSGAII") && objPattern.isEmpty()) {
+                        searchPattern = "MOEA_eNSGA2";
+                    }
+
+                    // Check if file matches algorithm and objective pattern
+                    String fullPattern = searchPattern + objPattern + "_rnd_";
+                    if (!fileName.startsWith(fullPattern)) continue;
+                    if (parseSeed(fileName) < 0) continue;
+
+                    jobFiles.add(file);
+                    jobAlgos.add(algo);
+                    jobSuffixes.add(objPattern);
+                }
+            }
+        }
+
+        ingestRows(jobFiles, jobAlgos, jobSuffixes, columns, "Multi-Objective", sink);
+    }
+
+    /**
+     * Scan Single-Objective result files for a task count.
+     *
+     * @param numTasks Task count (folder "<n> Tasks")
+     * @param folders Algorithm folders to include, in the order rows should be returned
+     * @param columns Columns to read from each file
+     * @return Parsed rows grouped by folder
+     */
+    public List<ResultRow> scanSingleObjective(int numTasks, Collection<String> folders, Set<String> columns) throws InterruptedException {
+        List<ResultRow> rows = new ArrayList<>();
+        scanSingleObjective(numTasks, folders, columns, rows::add);
+        return rows;
+    }
+
+    /**
+     * Scan Single-Objective result files for a task count, handing each row to a consumer as
+     * soon as it and every earlier row are parsed.
+     *
+     * @param sink Receives the rows grouped by folder, on any one thread at a time
+     */
+    public void scanSingleObjective(int numTasks, Collection<String> folders, Set<String> columns,
+                                    Consumer<ResultRow> sink) throws InterruptedException {
+        String soPath = basePath + "/Single - Objective Algorithms/" + numTasks + " Tasks";
+        File soDir = new File(soPath);
+
+        if (!soDir.exists() || !soDir.isDirectory()) {
+            System.err.println("Single-Objective directory not found: " + soPath);
+            return;
+        }
+
+        List<File> jobFiles = new ArrayList<>();
+        List<String> jobAlgos = new ArrayList<>();
+        List<String> jobSuffixes = new ArrayList<>();
+
+        for (String folder : folders) {
+            File algoDir = new File(soPath + "/" + folder);
+            if (!algoDir.exists() || !algoDir.isDirectory()) continue;
+
+            File[] files = algoDir.listFiles((dir, name) -> name.endsWith(".xlsx") && !name.startsWith("~") && !name.contains("results"));
+            if (files == null) continue;
+
+            for (File file : files) {
+                if (parseSeed(file.getName()) < 0) continue;
+                jobFiles.add(file);
+                jobAlgos.add("SO_" + folder);
+                jobSuffixes.add(null);
+            }
+        }
+
+        ingestRows(jobFiles, jobAlgos, jobSuffixes, columns, "Single-Objective", sink);
+    }
+
+    // Ingestion totals over all scans of this scanner
+    public int getFilesParsed() { return filesParsed; }
+    public int getFilesCached() { return filesCached; }
+    public long getBytesParsed() { return bytesParsed; }
+    public long getWorkerCpuNanos() { return workerCpuNanos; }
+    public long getWorkerAllocatedBytes() { return workerAllocatedBytes; }
+
+    /**
+     * Check whether a Single-Objective algorithm folder exists for a task count.
+     */
+    public boolean hasSingleObjectiveFolder(int numTasks, String folder) {
+        File algoDir = new File(basePath + "/Single - Objective Algorithms/" + numTasks + " Tasks/" + folder);
+        return algoDir.exists() && algoDir.isDirectory();
+    }
+
+    /**
+     * Parse the given files into rows and hand them to the sink in input order, each as soon
+     * as every earlier file is done. Files found in the result cache are not parsed; with a
+     * cache all result columns are read so entries are complete. Files that fail to parse are
+     * skipped.
+     */
+    private void ingestRows(List<File> files, List<String> algos, List<String> suffixes,
+                            Set<String> columns, String label, Consumer<ResultRow> sink) throws InterruptedException {
+        double[][] cached = new double[files.size()][];
+        List<File> toParse = new ArrayList<>();
+        int[] parsedFile = new int[files.size()];       // Input position of each parsed file
+        for (int i = 0; i < files.size(); i++) {
+            cached[i] = cache != null ? cache.getValues(files.get(i)) : null;
+            if (cached[i] == null) {
+                parsedFile[toParse.size()] = i;
+                toParse.add(files.get(i));
+            }
+        }
+
+        // Cached rows go out as soon as the rows before them have
+        int[] emitted = {0};
+        Set<String> readColumns = cache != null ? ResultRow.ALL_COLUMNS : columns;
+        ExcelReader reader = new ExcelReader();
+        ingestor.ingest(toParse, file -> reader.readExcelFile(file.getAbsolutePath(), readColumns), (k, values) -> {
+            int i = parsedFile[k];
+            emitCached(files, algos, suffixes, cached, emitted[0], i, sink);
+            emitted[0] = i + 1;
+            if (values == null) return;
+            File file = files.get(i);
+            ResultRow row = ResultRow.fromValues(algos.get(i), suffixes.get(i),
+                    parseSeed(file.getName()), parseSolIndex(file.getName()), values);
+            if (cache != null) {
+                cache.put(file, row);
+            }
+            sink.accept(row);
+        });
+        emitCached(files, algos, suffixes, cached, emitted[0], files.size(), sink);
+        ingestor.printSummary(label + (cache != null ? " (" + (files.size() - toParse.size()) + " cached)" : ""), out);
+
+        filesParsed += toParse.size();
+        filesCached += files.size() - toParse.size();
+        for (File file : toParse) {
+            bytesParsed += file.length();
+        }
+        workerCpuNanos += ingestor.getLastWorkerCpuNanos();
+        workerAllocatedBytes += ingestor.getLastWorkerAllocatedBytes();
+    }
+
+    /**
+     * Hand the cached rows among files from..to-1 to the sink.
+     */
+    private void emitCached(List<File> files, List<String> algos, List<String> suffixes, double[][] cached,
+                            int from, int to, Consumer<ResultRow> sink) {
+        for (int i = from; i < to; i++) {
+            if (cached[i] == null) continue;
+            String fileName = files.get(i).getName();
+            sink.accept(new ResultRow(algos.get(i), suffixes.get(i), parseSeed(fileName), parseSolIndex(fileName), cached[i]));
+        }
+    }
+
+    /**
+     * Extract the seed from a file name.
+     *
+     * @return Seed, or -1 if missing or not one of the configured seeds
+     */
+    private int parseSeed(String fileName) {
+        Matcher seedMatcher = SEED_PATTERN.matcher(fileName);
+        if (!seedMatcher.find()) return -1;
+
+        int seed = Integer.parseInt(seedMatcher.group(1));
+        for (int s : seeds) {
+            if (s == seed) return seed;
+        }
+        return -1;
+    }
+
+    private static int parseSolIndex(String fileName) {
+        Matcher solMatcher = SOL_PATTERN.matcher(fileName);
+        return solMatcher.find() ? Integer.parseInt(solMatcher.group(1)) : 0;
+    }
+}
@@ -0,0 +1,80 @@
+package taskprocessor;
+
+import java.util.Arrays;
+
+/**
+ * Distribution statistics of a small sample, e.g. one metric over the runs of an algorithm.
+ *
+ * The standard deviation is the sample one (n - 1 denominator, 0 for a single value).
+ * Quartiles interpolate linearly between order statistics (the default of R and NumPy),
+ * so the median of an even-sized sample is the mean of the middle two values.
+ */
+public class SampleSummary {
+
+    private final int count;
+    private final double mean;
+    private final double std;
+    private final double min;
+    private final double q1;
+    private final double median;
+    private final double q3;
+    private final double max;
+
+    private SampleSummary(double[] sorted) {
+        int n = sorted.length;
+        this.count = n;
+        if (n == 0) {
+            this.mean = this.std = this.min = this.q1 = this.median = this.q3 = this.max = Double.NaN;
+            return;
+        }
+
+        double sum = 0.0;
+        for (double v : sorted) sum += v;
+        this.mean = sum / n;
+
+        double squares = 0.0;
+        for (double v : sorted) squares += (v - mean) * (v - mean);
+        this.std = n > 1 ? Math.sqrt(squares / (n - 1)) : 0.0;
+
+        this.min = sorted[0];
+        this.max = sorted[n - 1];
+        this.q1 = quantile(sorted, 0.25);
+        this.median = quantile(sorted, 0.5);
+        this.q3 = quantile(sorted, 0.75);
+    }
+
+    /**
+     * Summarize a sample.
+     *
+     * @param values Sample values (not modified); all statistics are NaN when empty
+     */
+    public static SampleSummary of(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new SampleSummary(sorted);
+    }
+
+    /**
+     * Quantile of sorted values, interpolating between the closest ranks.
+     */
+    static double quantile(double[] sorted, double p) {
+        double position = p * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (position - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    public int getCount() { return count; }
+    public double getMean() { return mean; }
+    public double getStd() { return std; }
+    public double getMin() { return min; }
+    public double getQ1() { return q1; }
+    public double getMedian() { return median; }
+    public double getQ3() { return q3; }
+    public double getMax() { return max; }
+
+    /**
+     * Interquartile range Q3 - Q1.
+     */
+    public double getIqr() { return q3 - q1; }
+}
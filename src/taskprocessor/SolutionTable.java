@@ -0,0 +1,425 @@
+package taskprocessor;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar store of solutions: one double[] per objective column, int dictionary codes for the
+ * algorithm, task count and seed of each row, and the id of the file it came from.
+ *
+ * Rows are appended in ingestion order. {@link #groupBy(int...)} sorts the row numbers by key
+ * codes once, stably, and records where each group starts. Each group is a {@link View}, a
+ * slice of that row order, so building a view copies no values. Dictionary codes number the
+ * distinct keys in the order they were first registered.
+ *
+ * Once written as a {@link MappedSolutionStore}, the table can be attached to it: the objective
+ * columns are then read from the mapped file and their heap arrays are dropped. Key codes and
+ * groupings stay on the heap.
+ */
+public class SolutionTable {
+
+    // Key columns for groupBy()
+    public static final int ALGORITHM = 0;
+    public static final int TASK_COUNT = 1;
+    public static final int SEED = 2;
+
+    private final String[] columns;
+    private double[][] values;
+    private DoubleBuffer[] mapped;      // Objective columns once attached, otherwise null
+    private final int[][] codes = new int[3][];
+    private int[] files;
+    private int size = 0;
+
+    private final List<String> algorithms = new ArrayList<>();
+    private final Map<String, Integer> algorithmCodes = new HashMap<>();
+    private final IntDictionary taskCounts = new IntDictionary();
+    private final IntDictionary seeds = new IntDictionary();
+
+    /**
+     * @param columns Names of the objective columns
+     */
+    public SolutionTable(String... columns) {
+        this.columns = columns.clone();
+        int capacity = 64;
+        this.values = new double[columns.length][capacity];
+        for (int k = 0; k < codes.length; k++) {
+            codes[k] = new int[capacity];
+        }
+        this.files = new int[capacity];
+    }
+
+    /**
+     * Code of an algorithm, registering it if it is new. Registering algorithms up front fixes
+     * their order (and gives algorithms without solutions a code).
+     */
+    public int algorithmCode(String algorithm) {
+        Integer code = algorithmCodes.get(algorithm);
+        if (code == null) {
+            code = algorithms.size();
+            algorithms.add(algorithm);
+            algorithmCodes.put(algorithm, code);
+        }
+        return code;
+    }
+
+    /**
+     * Code of a task count, registering it if it is new.
+     */
+    public int taskCountCode(int taskCount) {
+        return taskCounts.code(taskCount);
+    }
+
+    /**
+     * Code of a seed, registering it if it is new.
+     */
+    public int seedCode(int seed) {
+        return seeds.code(seed);
+    }
+
+    /**
+     * Code of a registered algorithm, or -1. Unlike algorithmCode() this never registers, so
+     * it is safe to call once groupings exist.
+     */
+    public int findAlgorithm(String algorithm) {
+        Integer code = algorithmCodes.get(algorithm);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Code of a registered task count, or -1.
+     */
+    public int findTaskCount(int taskCount) {
+        return taskCounts.find(taskCount);
+    }
+
+    /**
+     * Code of a registered seed, or -1.
+     */
+    public int findSeed(int seed) {
+        return seeds.find(seed);
+    }
+
+    /**
+     * Append a solution.
+     *
+     * @param file Id of the file the solution came from
+     * @param objectives One value per column
+     * @return Row number
+     */
+    public int add(String algorithm, int taskCount, int seed, int file, double... objectives) {
+        if (objectives.length != columns.length) {
+            throw new IllegalArgumentException("Expected " + columns.length + " values, got " + objectives.length);
+        }
+        if (mapped != null) {
+            throw new IllegalStateException("Table is attached to a solution store");
+        }
+        if (size == files.length) {
+            int capacity = 2 * size;
+            for (int c = 0; c < values.length; c++) {
+                values[c] = Arrays.copyOf(values[c], capacity);
+            }
+            for (int k = 0; k < codes.length; k++) {
+                codes[k] = Arrays.copyOf(codes[k], capacity);
+            }
+            files = Arrays.copyOf(files, capacity);
+        }
+        for (int c = 0; c < columns.length; c++) {
+            values[c][size] = objectives[c];
+        }
+        codes[ALGORITHM][size] = algorithmCode(algorithm);
+        codes[TASK_COUNT][size] = taskCounts.code(taskCount);
+        codes[SEED][size] = seeds.code(seed);
+        files[size] = file;
+        return size++;
+    }
+
+    /**
+     * Read the objective columns from a store written from this table, and release their heap
+     * arrays. Views keep working and read through the mapping.
+     */
+    public void attach(MappedSolutionStore store) {
+        if (store.size() != size || store.columnCount() != columns.length) {
+            throw new IllegalArgumentException("Solution store " + store.getFile() + " does not match the table");
+        }
+        DoubleBuffer[] attached = new DoubleBuffer[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            if (!store.columnName(c).equals(columns[c])) {
+                throw new IllegalArgumentException("Solution store " + store.getFile() + " does not match the table");
+            }
+            attached[c] = store.column(c);
+        }
+        mapped = attached;
+        values = null;
+    }
+
+    public boolean isAttached() { return mapped != null; }
+
+    public int size() { return size; }
+    public int columnCount() { return columns.length; }
+    public String columnName(int column) { return columns[column]; }
+
+    public double value(int column, int row) {
+        return mapped != null ? mapped[column].get(row) : values[column][row];
+    }
+    public String algorithm(int row) { return algorithms.get(codes[ALGORITHM][row]); }
+    public int taskCount(int row) { return taskCounts.value(codes[TASK_COUNT][row]); }
+    public int seed(int row) { return seeds.value(codes[SEED][row]); }
+    public int file(int row) { return files[row]; }
+
+    /**
+     * Dictionary code of a key column (ALGORITHM, TASK_COUNT, SEED) of a row.
+     */
+    public int code(int key, int row) { return codes[key][row]; }
+
+    /**
+     * Registered algorithms, in code order.
+     */
+    public List<String> algorithms() {
+        return new ArrayList<>(algorithms);
+    }
+
+    /**
+     * Registered task counts, in code order.
+     */
+    public int[] taskCounts() {
+        return taskCounts.values();
+    }
+
+    /**
+     * Registered seeds, in code order.
+     */
+    public int[] seeds() {
+        return seeds.values();
+    }
+
+    /**
+     * Group the rows by key columns.
+     *
+     * @param keys Key columns (ALGORITHM, TASK_COUNT, SEED), most significant first
+     */
+    public Grouping groupBy(int... keys) {
+        return new Grouping(keys);
+    }
+
+    /**
+     * Rows grouped by one or more key columns, with every combination of registered codes as
+     * a group (possibly empty). Row order within a group is insertion order.
+     */
+    public class Grouping {
+        private final int[] keys;
+        private final int[] strides;
+        private final int[] rows;       // Row numbers sorted by group
+        private final int[] offsets;    // Group g is rows[offsets[g] .. offsets[g + 1])
+
+        private Grouping(int[] keys) {
+            this.keys = keys.clone();
+            this.strides = new int[keys.length];
+            int groups = 1;
+            for (int k = keys.length - 1; k >= 0; k--) {
+                strides[k] = groups;
+                groups *= dictionarySize(keys[k]);
+            }
+
+            // Counting sort on the combined code, stable in row order
+            int[] group = new int[size];
+            this.offsets = new int[groups + 1];
+            for (int row = 0; row < size; row++) {
+                int g = 0;
+                for (int k = 0; k < keys.length; k++) {
+                    g += strides[k] * codes[keys[k]][row];
+                }
+                group[row] = g;
+                offsets[g + 1]++;
+            }
+            for (int g = 0; g < groups; g++) {
+                offsets[g + 1] += offsets[g];
+            }
+            int[] next = Arrays.copyOf(offsets, groups);
+            this.rows = new int[size];
+            for (int row = 0; row < size; row++) {
+                rows[next[group[row]]++] = row;
+            }
+        }
+
+        /**
+         * Number of groups: the product of the dictionary sizes of the keys.
+         */
+        public int groupCount() {
+            return offsets.length - 1;
+        }
+
+        /**
+         * Rows of the groups with the given codes for the leading key columns: one code per
+         * key gives one group, fewer give the adjacent groups that share them.
+         */
+        public View view(int... keyCodes) {
+            int g = 0;
+            for (int k = 0; k < keyCodes.length; k++) {
+                g += strides[k] * keyCodes[k];
+            }
+            int span = keyCodes.length == 0 ? groupCount() : strides[keyCodes.length - 1];
+            return new View(rows, offsets[g], offsets[g + span]);
+        }
+    }
+
+    /**
+     * Rows of the table as a slice of a row-number array; the values stay in the columns.
+     */
+    public class View {
+        private final int[] rows;
+        private final int from;
+        private final int to;
+
+        private View(int[] rows, int from, int to) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        public int size() { return to - from; }
+        public boolean isEmpty() { return to == from; }
+
+        /**
+         * Table row number of the i-th row of the view.
+         */
+        public int row(int i) { return rows[from + i]; }
+
+        public double get(int i, int column) { return value(column, rows[from + i]); }
+
+        /**
+         * Values of the i-th row as a new array, one per column.
+         */
+        public double[] point(int i) {
+            double[] point = new double[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                point[c] = value(c, rows[from + i]);
+            }
+            return point;
+        }
+
+        /**
+         * Interleaved values of the given columns for all rows, the layout of the
+         * metric and dominance code.
+         */
+        public double[] flatten(int... selected) {
+            int n = size();
+            int k = selected.length;
+            double[] flat = new double[k * n];
+            for (int c = 0; c < k; c++) {
+                if (mapped != null) {
+                    DoubleBuffer column = mapped[selected[c]];
+                    for (int i = 0; i < n; i++) {
+                        flat[i * k + c] = column.get(rows[from + i]);
+                    }
+                } else {
+                    double[] column = values[selected[c]];
+                    for (int i = 0; i < n; i++) {
+                        flat[i * k + c] = column[rows[from + i]];
+                    }
+                }
+            }
+            return flat;
+        }
+
+        /**
+         * This view followed by others, sharing the table's columns.
+         */
+        public View concat(List<View> others) {
+            int total = size();
+            for (View other : others) {
+                total += other.size();
+            }
+            int[] joined = new int[total];
+            System.arraycopy(rows, from, joined, 0, size());
+            int at = size();
+            for (View other : others) {
+                System.arraycopy(other.rows, other.from, joined, at, other.size());
+                at += other.size();
+            }
+            return new View(joined, 0, total);
+        }
+    }
+
+    /**
+     * A view with no rows.
+     */
+    public View emptyView() {
+        return new View(new int[0], 0, 0);
+    }
+
+    private int dictionarySize(int key) {
+        switch (key) {
+            case ALGORITHM: return algorithms.size();
+            case TASK_COUNT: return taskCounts.size();
+            case SEED: return seeds.size();
+            default: throw new IllegalArgumentException("Unknown key column: " + key);
+        }
+    }
+
+    /**
+     * Codes for distinct int values, in first-seen order, via open addressing over primitives.
+     */
+    private static class IntDictionary {
+        private int[] values = new int[8];
+        private int count = 0;
+        private int[] slots = new int[16];      // Code + 1, 0 = empty
+        private int mask = 15;
+
+        int find(int value) {
+            int slot = mix(value) & mask;
+            while (slots[slot] != 0) {
+                int code = slots[slot] - 1;
+                if (values[code] == value) {
+                    return code;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        int code(int value) {
+            int slot = mix(value) & mask;
+            while (slots[slot] != 0) {
+                int code = slots[slot] - 1;
+                if (values[code] == value) {
+                    return code;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, 2 * count);
+            }
+            values[count] = value;
+            slots[slot] = ++count;
+            if (2 * count > slots.length) {
+                rehash();
+            }
+            return count - 1;
+        }
+
+        int value(int code) { return values[code]; }
+        int size() { return count; }
+        int[] values() { return Arrays.copyOf(values, count); }
+
+        private void rehash() {
+            slots = new int[2 * slots.length];
+            mask = slots.length - 1;
+            for (int code = 0; code < count; code++) {
+                int slot = mix(values[code]) & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = code + 1;
+            }
+        }
+
+        private static int mix(int value) {
+            int h = value * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
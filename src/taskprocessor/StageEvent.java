@@ -0,0 +1,48 @@
+package taskprocessor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one TaskProcessor.process() stage, so stages can be correlated with
+ * GC and allocation events in a flight recording. Enabled by default when a
+ * recording is running; costs nothing otherwise.
+ */
+@Name("taskprocessor.Stage")
+@Label("TaskProcessor Stage")
+@Category({"TaskProcessor"})
+@Description("One stage of TaskProcessor.process()")
+@StackTrace(false)
+public class StageEvent extends Event {
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Configuration")
+    @Description("Task count and objective pair, e.g. 700_Energy_vs_Makespan")
+    String configuration;
+
+    @Label("CPU Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long cpuTime;
+
+    @Label("Allocated")
+    @DataAmount(DataAmount.BYTES)
+    long allocated;
+
+    @Label("Files Read")
+    int filesRead;
+
+    @Label("Bytes Read")
+    @DataAmount(DataAmount.BYTES)
+    long bytesRead;
+
+    @Label("Solutions")
+    long solutions;
+}
@@ -0,0 +1,286 @@
+package taskprocessor;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-stage run profile of TaskProcessor.process().
+ *
+ * For every stage it records wall time, CPU time and bytes allocated by the calling
+ * thread (via ThreadMXBean), plus the work done off-thread: by file ingestion workers, and
+ * by the {@link ParallelLoop} lanes started from the calling thread while the stage is open.
+ * Each lane measures its own thread and charges the stage when it finishes.
+ * It also records files and bytes read and the number of solutions processed.
+ * Each stage is also emitted as a {@link StageEvent} JFR event.
+ *
+ * CPU time and allocation are -1 when the JVM does not support measuring them.
+ */
+public class StageProfiler {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    // Open stage that parallel work started from this thread is charged to
+    private static final ThreadLocal<Stage> ACTIVE = new ThreadLocal<>();
+
+    /**
+     * One recorded stage.
+     */
+    public static class Stage {
+        private final String name;
+        private final long startWall;
+        private final long startCpu;
+        private final long startAllocated;
+        private final StageEvent event = new StageEvent();
+
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+        private long workerCpuNanos;
+        private long workerAllocatedBytes;
+        private int filesRead;
+        private int filesCached;
+        private long bytesRead;
+        private long solutions;
+
+        Stage(String name) {
+            this.name = name;
+            event.begin();
+            this.startCpu = currentThreadCpuNanos();
+            this.startAllocated = currentThreadAllocatedBytes();
+            this.startWall = System.nanoTime();
+        }
+
+        /**
+         * Add files read in this stage.
+         *
+         * @param parsed Files parsed from disk
+         * @param cached Files served from the result cache
+         * @param bytes Bytes of the parsed files
+         */
+        public void addFiles(int parsed, int cached, long bytes) {
+            filesRead += parsed;
+            filesCached += cached;
+            bytesRead += bytes;
+        }
+
+        /**
+         * Add CPU time and allocation of worker threads that ran on behalf of this stage.
+         * May be called from any thread.
+         */
+        public synchronized void addWorkerUsage(long cpuNanos, long allocatedBytes) {
+            workerCpuNanos += Math.max(0, cpuNanos);
+            workerAllocatedBytes += Math.max(0, allocatedBytes);
+        }
+
+        /**
+         * Add solutions processed in this stage.
+         */
+        public void addSolutions(long count) {
+            solutions += count;
+        }
+
+        synchronized void end(String configuration) {
+            wallNanos = System.nanoTime() - startWall;
+            long cpu = currentThreadCpuNanos();
+            long allocated = currentThreadAllocatedBytes();
+            cpuNanos = cpu < 0 || startCpu < 0 ? -1 : cpu - startCpu + workerCpuNanos;
+            allocatedBytes = allocated < 0 || startAllocated < 0 ? -1 : allocated - startAllocated + workerAllocatedBytes;
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = name;
+                event.configuration = configuration;
+                event.cpuTime = cpuNanos;
+                event.allocated = allocatedBytes;
+                event.filesRead = filesRead;
+                event.bytesRead = bytesRead;
+                event.solutions = solutions;
+                event.commit();
+            }
+        }
+
+        public String getName() { return name; }
+        public long getWallNanos() { return wallNanos; }
+        public long getCpuNanos() { return cpuNanos; }
+        public long getAllocatedBytes() { return allocatedBytes; }
+        public int getFilesRead() { return filesRead; }
+        public int getFilesCached() { return filesCached; }
+        public long getBytesRead() { return bytesRead; }
+        public long getSolutions() { return solutions; }
+
+        public double getSolutionsPerSecond() {
+            return wallNanos > 0 ? solutions / (wallNanos / 1e9) : 0.0;
+        }
+    }
+
+    private final String configuration;
+    private final List<Stage> stages = new ArrayList<>();
+    private Stage current;
+
+    /**
+     * @param configuration Run label, e.g. "700_Energy_vs_Makespan"
+     */
+    public StageProfiler(String configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * CPU time of the calling thread in nanoseconds, or -1 if not supported.
+     */
+    public static long currentThreadCpuNanos() {
+        try {
+            return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Bytes allocated by the calling thread so far, or -1 if not supported.
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            try {
+                if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                    return threads.getCurrentThreadAllocatedBytes();
+                }
+            } catch (UnsupportedOperationException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stage that worker threads started from the calling thread are charged to, or null.
+     */
+    static Stage active() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Charge work started from the calling thread to a stage, for worker threads that run
+     * on behalf of a stage opened on another thread.
+     *
+     * @param stage Stage, or null for none
+     * @return The previously charged stage, to restore afterwards
+     */
+    static Stage activate(Stage stage) {
+        Stage previous = ACTIVE.get();
+        if (stage == null) {
+            ACTIVE.remove();
+        } else {
+            ACTIVE.set(stage);
+        }
+        return previous;
+    }
+
+    /**
+     * Start a stage, ending the previous one if it is still open. Parallel loops started
+     * from the calling thread are charged to it until it ends.
+     *
+     * @param name Stage name, e.g. "scan_mo"
+     * @return The open stage, for adding counters
+     */
+    public Stage begin(String name) {
+        end();
+        current = new Stage(name);
+        activate(current);
+        return current;
+    }
+
+    /**
+     * End the open stage, if any.
+     */
+    public void end() {
+        if (current != null) {
+            current.end(configuration);
+            stages.add(current);
+            if (ACTIVE.get() == current) {
+                activate(null);
+            }
+            current = null;
+        }
+    }
+
+    /**
+     * The open stage, or null.
+     */
+    public Stage current() { return current; }
+
+    public List<Stage> getStages() { return stages; }
+
+    private long totalWallNanos() {
+        long total = 0;
+        for (Stage stage : stages) total += stage.wallNanos;
+        return total;
+    }
+
+    private static String ms(long nanos) {
+        return nanos < 0 ? "-1" : String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    /**
+     * Print one line per stage.
+     */
+    public void printSummary(PrintStream out) {
+        out.println("\n=== Run Profile ===");
+        for (Stage s : stages) {
+            out.println(String.format(Locale.ROOT, "  %-18s wall %9s ms, cpu %9s ms, alloc %8.1f MB, %d files (%d cached), %.1f KB read, %d solutions (%.0f/s)",
+                    s.name, ms(s.wallNanos), ms(s.cpuNanos), s.allocatedBytes / 1048576.0,
+                    s.filesRead, s.filesCached, s.bytesRead / 1024.0, s.solutions, s.getSolutionsPerSecond()));
+        }
+        out.println("  total              wall " + ms(totalWallNanos()) + " ms");
+    }
+
+    /**
+     * Write the profile as JSON.
+     */
+    public void writeJson(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writer.println("{");
+            writer.println("  \"configuration\": \"" + configuration + "\",");
+            writer.println("  \"total_wall_ms\": " + ms(totalWallNanos()) + ",");
+            writer.println("  \"stages\": [");
+            for (int i = 0; i < stages.size(); i++) {
+                Stage s = stages.get(i);
+                writer.print("    {\"stage\": \"" + s.name + "\"" +
+                        ", \"wall_ms\": " + ms(s.wallNanos) +
+                        ", \"cpu_ms\": " + ms(s.cpuNanos) +
+                        ", \"allocated_bytes\": " + s.allocatedBytes +
+                        ", \"files_read\": " + s.filesRead +
+                        ", \"files_cached\": " + s.filesCached +
+                        ", \"bytes_read\": " + s.bytesRead +
+                        ", \"solutions\": " + s.solutions +
+                        ", \"solutions_per_sec\": " + String.format(Locale.ROOT, "%.1f", s.getSolutionsPerSecond()) + "}");
+                if (i < stages.size() - 1) writer.print(",");
+                writer.println();
+            }
+            writer.println("  ]");
+            writer.println("}");
+        }
+    }
+
+    /**
+     * Write the profile as CSV, one row per stage.
+     */
+    public void writeCsv(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writer.println("Configuration,Stage,Wall_ms,CPU_ms,Allocated_Bytes,Files_Read,Files_Cached,Bytes_Read,Solutions,Solutions_per_sec");
+            for (Stage s : stages) {
+                writer.println(configuration + "," + s.name + "," + ms(s.wallNanos) + "," + ms(s.cpuNanos) + "," +
+                        s.allocatedBytes + "," + s.filesRead + "," + s.filesCached + "," + s.bytesRead + "," +
+                        s.solutions + "," + String.format(Locale.ROOT, "%.1f", s.getSolutionsPerSecond()));
+            }
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package taskprocessor;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Non-parametric tests for comparing algorithms over small samples of per-seed metric values.
+ *
+ * - Wilcoxon rank-sum (Mann-Whitney U): two-sided p-value from the exact permutation
+ *   distribution of the rank sum, counted by dynamic programming over the pooled midranks,
+ *   so ties are handled exactly and no normal approximation is used.
+ * - Kruskal-Wallis H over any number of samples: permutation p-value from random
+ *   relabelings. Enumerating every relabeling is out of reach for more than a few samples.
+ *   Relabelings are drawn in fixed blocks, each from its own SplittableRandom stream split
+ *   from the seed in block order, so the p-value for a seed is the same for any number of
+ *   threads.
+ * - Vargha-Delaney A12 effect size and Holm's step-down correction of a family of p-values.
+ * - Standard normal distribution and quantile functions, for bootstrap intervals.
+ */
+public class StatisticalTests {
+
+    private static final int PERMUTATION_BLOCK = 1000;
+
+    // Effect size thresholds on |A12 - 0.5| (Vargha and Delaney 2000)
+    private static final double SMALL_EFFECT = 0.06;
+    private static final double MEDIUM_EFFECT = 0.14;
+    private static final double LARGE_EFFECT = 0.21;
+
+    private StatisticalTests() {}
+
+    /**
+     * Ranks of the values, 1-based, with tied values sharing the mean of their ranks.
+     */
+    public static double[] midranks(double[] values) {
+        int n = values.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double[] ranks = new double[n];
+        int start = 0;
+        while (start < n) {
+            int end = start + 1;
+            while (end < n && values[order[end]] == values[order[start]]) end++;
+            double rank = (start + 1 + end) / 2.0;
+            for (int j = start; j < end; j++) ranks[order[j]] = rank;
+            start = end;
+        }
+        return ranks;
+    }
+
+    /**
+     * Mann-Whitney U of the first sample: the number of pairs where it is larger, ties
+     * counting a half.
+     */
+    public static double mannWhitneyU(double[] a, double[] b) {
+        double u = 0.0;
+        for (double x : a) {
+            for (double y : b) {
+                if (x > y) u += 1.0;
+                else if (x == y) u += 0.5;
+            }
+        }
+        return u;
+    }
+
+    /**
+     * Vargha-Delaney A12: probability that a value drawn from the first sample is larger
+     * than one drawn from the second, ties counting a half. 0.5 means no difference.
+     */
+    public static double a12(double[] a, double[] b) {
+        if (a.length == 0 || b.length == 0) return 0.5;
+        return mannWhitneyU(a, b) / ((double) a.length * b.length);
+    }
+
+    /**
+     * Magnitude of an A12 effect: negligible, small, medium or large.
+     */
+    public static String effectMagnitude(double a12) {
+        double distance = Math.abs(a12 - 0.5);
+        if (distance < SMALL_EFFECT) return "negligible";
+        if (distance < MEDIUM_EFFECT) return "small";
+        if (distance < LARGE_EFFECT) return "medium";
+        return "large";
+    }
+
+    /**
+     * Exact two-sided p-value of the Wilcoxon rank-sum test.
+     *
+     * The pooled midranks are doubled to integers, and the number of ways to pick
+     * |a| of them with each possible sum is counted. The p-value is the share of picks whose sum
+     * lies at least as far from the mean as the observed one, i.e. the exact permutation
+     * p-value. Counts are kept in doubles, which stay exact up to 2^53 picks and carry
+     * relative rounding far below any significance level beyond that.
+     *
+     * @return p-value, 1 when either sample is empty
+     */
+    public static double rankSumPValue(double[] a, double[] b) {
+        int n1 = a.length;
+        int n = a.length + b.length;
+        if (a.length == 0 || b.length == 0) return 1.0;
+
+        double[] pooled = new double[n];
+        System.arraycopy(a, 0, pooled, 0, n1);
+        System.arraycopy(b, 0, pooled, n1, b.length);
+        double[] ranks = midranks(pooled);
+
+        int[] doubled = new int[n];
+        int total = 0;
+        int observed = 0;
+        for (int i = 0; i < n; i++) {
+            doubled[i] = (int) Math.round(2 * ranks[i]);
+            total += doubled[i];
+            if (i < n1) observed += doubled[i];
+        }
+
+        // ways[j][s]: number of j-subsets of the ranks seen so far with doubled sum s
+        double[][] ways = new double[n1 + 1][total + 1];
+        ways[0][0] = 1.0;
+        for (int i = 0; i < n; i++) {
+            int r = doubled[i];
+            for (int j = Math.min(i + 1, n1); j >= 1; j--) {
+                double[] from = ways[j - 1];
+                double[] to = ways[j];
+                for (int s = total; s >= r; s--) {
+                    to[s] += from[s - r];
+                }
+            }
+        }
+
+        // Doubled mean of the rank sum: n1 (n + 1)
+        long mean = (long) n1 * (n + 1);
+        long distance = Math.abs(observed - mean);
+        double extreme = 0.0;
+        double all = 0.0;
+        for (int s = 0; s <= total; s++) {
+            double count = ways[n1][s];
+            all += count;
+            if (Math.abs(s - mean) >= distance) extreme += count;
+        }
+        return Math.min(1.0, extreme / all);
+    }
+
+    /**
+     * Exact rank-sum p-values of every pair of samples, computed in parallel.
+     *
+     * @param samples One sample per algorithm
+     * @param threads Number of pairs tested concurrently
+     * @return Symmetric matrix of p-values, 1 on the diagonal
+     */
+    public static double[][] rankSumPValues(double[][] samples, int threads) throws InterruptedException {
+        int count = samples.length;
+        double[][] p = new double[count][count];
+        ParallelLoop.forEachIndex(count * count, threads, pair -> {
+            int a = pair / count;
+            int b = pair % count;
+            if (a < b) {
+                p[a][b] = p[b][a] = rankSumPValue(samples[a], samples[b]);
+            } else if (a == b) {
+                p[a][a] = 1.0;
+            }
+        });
+        return p;
+    }
+
+    /**
+     * Kruskal-Wallis H with the correction for ties; 0 when all values are tied.
+     *
+     * @param groups Samples; empty ones are ignored
+     */
+    public static double kruskalWallisH(double[][] groups) {
+        double[] ranks = pooledRanks(groups);
+        int n = ranks.length;
+        if (n < 2) return 0.0;
+
+        double ties = 0.0;
+        double[] sorted = ranks.clone();
+        Arrays.sort(sorted);
+        int start = 0;
+        while (start < n) {
+            int end = start + 1;
+            while (end < n && sorted[end] == sorted[start]) end++;
+            double t = end - start;
+            ties += t * t * t - t;
+            start = end;
+        }
+        double correction = 1.0 - ties / ((double) n * n * n - n);
+        if (correction <= 0) return 0.0;
+
+        double h = 12.0 / ((double) n * (n + 1)) * rankStatistic(ranks, sizes(groups)) - 3.0 * (n + 1);
+        return h / correction;
+    }
+
+    /**
+     * Permutation p-value of the Kruskal-Wallis test: the share of random relabelings of the
+     * pooled values whose H is at least the observed one, counting the observed labeling,
+     * (hits + 1) / (permutations + 1).
+     *
+     * @param groups Samples; empty ones are ignored
+     * @param permutations Number of random relabelings
+     * @param seed Seed of the relabeling streams
+     * @param threads Number of threads drawing relabelings
+     * @return p-value, 1 with fewer than two non-empty samples
+     */
+    public static double kruskalWallisPValue(double[][] groups, int permutations, long seed, int threads)
+            throws InterruptedException {
+        int[] sizes = sizes(groups);
+        if (sizes.length < 2 || permutations <= 0) return 1.0;
+        double[] ranks = pooledRanks(groups);
+
+        // H is a fixed increasing function of sum(R_i^2 / n_i) for given sizes and ties
+        double observed = rankStatistic(ranks, sizes);
+        double threshold = observed - 1e-9 * Math.abs(observed);
+
+        int blocks = (permutations + PERMUTATION_BLOCK - 1) / PERMUTATION_BLOCK;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[blocks];
+        for (int b = 0; b < blocks; b++) streams[b] = root.split();
+
+        long[] hits = new long[blocks];
+        ParallelLoop.forEachIndex(blocks, threads, () -> {
+            double[] shuffled = ranks.clone();
+            return b -> {
+                int count = Math.min(PERMUTATION_BLOCK, permutations - b * PERMUTATION_BLOCK);
+                SplittableRandom random = streams[b];
+                // Each block starts from the observed labeling, whichever worker draws it
+                System.arraycopy(ranks, 0, shuffled, 0, ranks.length);
+                long blockHits = 0;
+                for (int p = 0; p < count; p++) {
+                    for (int i = shuffled.length - 1; i > 0; i--) {
+                        int j = random.nextInt(i + 1);
+                        double swap = shuffled[i];
+                        shuffled[i] = shuffled[j];
+                        shuffled[j] = swap;
+                    }
+                    if (rankStatistic(shuffled, sizes) >= threshold) blockHits++;
+                }
+                hits[b] = blockHits;
+            };
+        });
+
+        long total = 0;
+        for (long h : hits) total += h;
+        return (total + 1.0) / (permutations + 1.0);
+    }
+
+    /**
+     * Holm step-down adjustment: the i-th smallest of m p-values is multiplied by m - i + 1,
+     * and adjusted values are made non-decreasing in that order.
+     *
+     * @param pValues Family of p-values (not modified)
+     * @return Adjusted p-values in input order, capped at 1
+     */
+    public static double[] holm(double[] pValues) {
+        int m = pValues.length;
+        Integer[] order = new Integer[m];
+        for (int i = 0; i < m; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(pValues[a], pValues[b]));
+
+        double[] adjusted = new double[m];
+        double running = 0.0;
+        for (int i = 0; i < m; i++) {
+            running = Math.max(running, Math.min(1.0, (m - i) * pValues[order[i]]));
+            adjusted[order[i]] = running;
+        }
+        return adjusted;
+    }
+
+    /**
+     * Standard normal cumulative distribution function, from the complementary error
+     * function of Numerical Recipes (fractional error below 1.2e-7).
+     */
+    public static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2.0);
+        double t = 1.0 / (1.0 + 0.5 * x);
+        double erfc = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return z >= 0 ? 1.0 - 0.5 * erfc : 0.5 * erfc;
+    }
+
+    /**
+     * Standard normal quantile by Acklam's rational approximation (relative error below
+     * 1.2e-9).
+     *
+     * @param p Probability in (0, 1); infinite at 0 and 1
+     */
+    public static double normalQuantile(double p) {
+        if (p <= 0) return Double.NEGATIVE_INFINITY;
+        if (p >= 1) return Double.POSITIVE_INFINITY;
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        final double low = 0.02425;
+
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) /
+                    ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) /
+                    ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q /
+                (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+
+    /**
+     * Sizes of the non-empty samples.
+     */
+    private static int[] sizes(double[][] groups) {
+        return Arrays.stream(groups).mapToInt(g -> g.length).filter(size -> size > 0).toArray();
+    }
+
+    /**
+     * Midranks of the pooled samples, concatenated in sample order.
+     */
+    private static double[] pooledRanks(double[][] groups) {
+        int n = 0;
+        for (double[] g : groups) n += g.length;
+        double[] pooled = new double[n];
+        int offset = 0;
+        for (double[] g : groups) {
+            System.arraycopy(g, 0, pooled, offset, g.length);
+            offset += g.length;
+        }
+        return midranks(pooled);
+    }
+
+    /**
+     * sum(R_i^2 / n_i) over consecutive runs of the given sizes.
+     */
+    private static double rankStatistic(double[] ranks, int[] sizes) {
+        double statistic = 0.0;
+        int offset = 0;
+        for (int size : sizes) {
+            double sum = 0.0;
+            for (int i = offset; i < offset + size; i++) sum += ranks[i];
+            statistic += sum * sum / size;
+            offset += size;
+        }
+        return statistic;
+    }
+}
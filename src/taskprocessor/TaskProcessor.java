@@ -2,7 +2,9 @@ package taskprocessor;
 
 import java.io.*;
 import java.util.*;
-import java.util.regex.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Task Processor - Analyzes multi-objective and single-objective optimization results
@@ -14,6 +16,13 @@ import java.util.regex.*;
  *   objective1: Makespan, Energy, or AvgWait
  *   objective2: Makespan, Energy, or AvgWait
  *
+ * Batch usage: java taskprocessor.TaskProcessor --batch <includeSingleObjective> [--tasks 700,900,1200]
+ *              [--pairs Energy:Makespan,Energy:AvgWait,Makespan:AvgWait] [--batch-threads n] [options]
+ *   Ingests each result file once and runs every (n, pair) configuration in parallel.
+ *
+ * Objectives usage: java taskprocessor.TaskProcessor --objectives <o1,o2,...> <n> <includeSingleObjective> [options]
+ *   Analyzes any number of objective columns; see {@link KObjectiveProcessor}.
+ *
  * Options:
  *   --plot              Generate Pareto front plot
  *   --plot-title        Custom plot title
@@ -29,6 +38,27 @@ import java.util.regex.*;
  *   --plot-ymode        Y Mode (true/false, default: false) - Group SO algorithm variants:
  *                       SA variants -> "Simulated Annealing", GA variants -> "Classic GA",
  *                       Island GA variants -> "Island Model GA"
+ *   --plot-eaf          Attainment surfaces to draw per algorithm: best, median, worst and/or
+ *                       percentages, comma separated (default: none)
+ *   --eaf-diff          Two algorithms <a,b> whose EAF difference is reported and plotted
+ *   --workers           Number of parallel file ingestion workers (default: 1)
+ *   --virtual-threads   Use virtual threads for ingestion workers (true/false, default: false)
+ *   --cache             Use the persistent parsed-results cache (true/false, default: true)
+ *   --metrics-norm      Metric normalization: pair (bounds per algorithm/reference pair) or
+ *                       global (bounds shared by all algorithms) (default: pair); the per-seed
+ *                       stages below override it with bounds shared by all algorithm and seed fronts
+ *   --metrics-threads   Number of algorithm fronts scored in parallel (default: 1)
+ *   --seed-metrics      Score every seed's front and report the spread (true/false, default: false)
+ *   --statistics        Significance tests over the per-seed metrics; implies --seed-metrics
+ *                       (true/false, default: false)
+ *   --stats-permutations Random relabelings for the Kruskal-Wallis p-value (default: 10000)
+ *   --bootstrap         Bootstrap resamples for the HV/IGD confidence intervals, 0 to skip (default: 0)
+ *   --cmetric           Write the pairwise C-metric matrix (true/false, default: false)
+ *   --solution-store    Write the parsed solutions as a memory-mappable store
+ *                       solutions_<n>_<o1>_vs_<o2>.bin and read them from the mapping in all
+ *                       later stages (true/false, default: false)
+ *   --profile           Write a per-stage run profile (wall/CPU time, allocation, files,
+ *                       throughput) as profile_<n>_<o1>_vs_<o2>.json/.csv (true/false, default: false)
  */
 public class TaskProcessor {
 
@@ -51,6 +81,49 @@ public class TaskProcessor {
     private double plotHeight = 8;
     private boolean plotXMode = false;
     private boolean plotYMode = false;
+    private String plotEaf = null;
+
+    // Ingestion configuration
+    private int ingestWorkers = 1;
+    private boolean ingestVirtualThreads = false;
+
+    // Persistent cache of parsed result files
+    private boolean useResultCache = true;
+    private ResultCache resultCache = null;
+
+    // Per-stage instrumentation; the profile files are only written when enabled
+    private boolean writeProfile = false;
+    private StageProfiler profiler = new StageProfiler("");
+
+    // Write the parsed solutions as a MappedSolutionStore
+    private boolean writeSolutionStore = false;
+
+    // Metrics configuration
+    private BatchMetricsEvaluator.Normalization metricsNormalization = BatchMetricsEvaluator.Normalization.PER_PAIR;
+    private int metricsThreads = 1;
+
+    // Per-seed metrics, and statistical tests over them (which need the per-seed metrics)
+    private boolean seedMetrics = false;
+    private boolean statistics = false;
+    private int statsPermutations = 10000;
+    private static final long STATS_SEED = 1200;
+    private static final double STATS_ALPHA = 0.05;
+
+    // Algorithms whose EAF difference is reported, "a,b" (null = off)
+    private String eafDiff = null;
+
+    // Bootstrap intervals of the mean per-seed metrics (0 resamples = off)
+    private int bootstrapResamples = 0;
+    private static final double BOOTSTRAP_CONFIDENCE = 0.95;
+
+    // Pairwise C-metric matrix of the algorithm fronts
+    private boolean cMetric = false;
+
+    // Rows ingested ahead of time (batch mode); null = scan files in process()
+    private List<ResultRow> preloadedRows = null;
+
+    // Console output (redirected to a buffer in batch mode)
+    private PrintStream out = System.out;
 
     // Algorithm group mappings for Ymode
     private static final Map<String, String[]> ALGORITHM_GROUPS = new LinkedHashMap<>();
@@ -61,7 +134,7 @@ public class TaskProcessor {
     }
 
     // Objective column mappings
-    private static final Map<String, String> OBJECTIVE_COLUMNS = new HashMap<>();
+    static final Map<String, String> OBJECTIVE_COLUMNS = new HashMap<>();
     static {
         OBJECTIVE_COLUMNS.put("Makespan", "Makespan");
         OBJECTIVE_COLUMNS.put("Energy", "Energy Use Wh");
@@ -87,19 +160,38 @@ public class TaskProcessor {
         OBJECTIVE_PAIR_PATTERNS.put("AvgWait_Makespan", "_mVSs");
     }
 
-    // Multi-objective algorithms
-    private static final String[] MO_ALGORITHMS = {
-        "MOEA_AMOSA", "MOEA_NSGAII", "MOEA_SPEAII", "MOEA_eNSGAII"
+    // Single-objective algorithm folders per optimized objective
+    static final Map<String, List<String>> SO_OBJECTIVE_FOLDERS = new HashMap<>();
+    static {
+        SO_OBJECTIVE_FOLDERS.put("Makespan", Arrays.asList("GA_MAKESPAN", "GA_ISL_Makespan", "SA_Makespan", "SJF_BEST", "SJF_WORST", "LJF_BEST", "LJF_WORST"));
+        SO_OBJECTIVE_FOLDERS.put("Energy", Arrays.asList("GA_Energy", "GA_ISL_Energy", "SA_Energy"));
+        SO_OBJECTIVE_FOLDERS.put("AvgWait", Arrays.asList("GA_AvgWait", "GA_ISL_AvgWait", "SA_AvgWait"));
+    }
+
+    // Heuristics which may optimize multiple objectives - always included
+    static final List<String> SO_HEURISTIC_FOLDERS = Arrays.asList("SJF_BEST", "SJF_WORST", "LJF_BEST", "LJF_WORST");
+
+    // Default configurations for batch mode (the task counts and pairs of the nine run.sh launches)
+    private static final int[] BATCH_TASK_COUNTS = {700, 900, 1200};
+    private static final String[][] BATCH_OBJECTIVE_PAIRS = {
+        {"Energy", "Makespan"}, {"Energy", "AvgWait"}, {"Makespan", "AvgWait"}
     };
 
     // Seeds used in experiments
-    private static final int[] SEEDS = {1200, 1201, 1202, 1203, 1204, 1205, 1206, 1207, 1208, 1209};
+    static final int[] SEEDS = {1200, 1201, 1202, 1203, 1204, 1205, 1206, 1207, 1208, 1209};
+
+    // All solutions, columns objective1 and objective2, in ingestion order
+    private SolutionTable solutionTable;
+    private int filesAdded = 0;
 
-    // Store all solutions by algorithm
-    private Map<String, List<double[]>> algorithmSolutions = new LinkedHashMap<>();
+    // Solutions by algorithm, as views of the table (built once scanning is done)
+    private Map<String, SolutionTable.View> algorithmSolutions = new LinkedHashMap<>();
 
-    // Store solutions by algorithm and seed
-    private Map<String, Map<Integer, List<double[]>>> algorithmSeedSolutions = new LinkedHashMap<>();
+    // Solutions by algorithm and seed, as views of the table
+    private Map<String, Map<Integer, SolutionTable.View>> algorithmSeedSolutions = new LinkedHashMap<>();
+
+    // Non-dominated set of each algorithm's solutions, maintained as they are added
+    private Map<String, ParetoArchive> algorithmArchives = new LinkedHashMap<>();
 
     // Store non-dominated solutions by algorithm
     private Map<String, List<double[]>> algorithmNonDominated = new LinkedHashMap<>();
@@ -107,9 +199,60 @@ public class TaskProcessor {
     // Universal Pareto set
     private List<double[]> universalParetoSet = new ArrayList<>();
 
+    // HV of the universal Pareto set, under the metrics normalization
+    private double universalParetoHV = 0.0;
+
     // Track how many solutions each algorithm contributed to universal Pareto set
     private Map<String, Integer> universalParetoContributions = new LinkedHashMap<>();
 
+    // Indices of the universal Pareto points each algorithm found
+    private Map<String, int[]> universalParetoPoints = new LinkedHashMap<>();
+
+    // Exclusive HV of each universal Pareto point, under the metrics normalization
+    private double[] universalParetoExclusiveHV = new double[0];
+
+    // Evaluator of the pooled fronts, and the bounds the per-seed, statistics and bootstrap
+    // stages share (null without such a stage)
+    private BatchMetricsEvaluator metricsEvaluator;
+    private BatchMetricsEvaluator.Bounds sharedBounds;
+
+    // Non-dominated front of every (algorithm, seed) run with solutions, in run order
+    private final List<String> seedRunAlgos = new ArrayList<>();
+    private final List<Integer> seedRunSeeds = new ArrayList<>();
+    private List<double[]> seedRunFronts = new ArrayList<>();
+
+    // Non-dominated count and {HV, GD, IGD} per algorithm and seed (seeds with solutions only)
+    private Map<String, Map<Integer, Integer>> algorithmSeedNonDominated = new LinkedHashMap<>();
+    private Map<String, Map<Integer, double[]>> algorithmSeedMetrics = new LinkedHashMap<>();
+
+    // Bootstrap intervals of each algorithm's mean per-seed HV and IGD (indexed by Bootstrap.HV/IGD)
+    private Map<String, Bootstrap.Interval[]> bootstrapIntervals = new LinkedHashMap<>();
+
+    // Significance tests of the per-seed metrics, one per tested metric
+    private List<MetricTests> metricTests = new ArrayList<>();
+
+    // Attainment surfaces per algorithm over its seeds with solutions; [k - 1] = k-attainment surface
+    private Map<String, double[][]> algorithmAttainment = new LinkedHashMap<>();
+
+    // EAF difference of the eafDiff pair as AttainmentSurfaces.difference rectangles (null = not computed)
+    private String[] eafDiffAlgos = null;
+    private List<double[]> eafDifference = null;
+
+    /**
+     * Kruskal-Wallis and pairwise test results for one metric over the algorithms with seeds.
+     */
+    private static class MetricTests {
+        String metric;
+        List<String> algos;
+        boolean tied;           // Every per-seed value equal: nothing to test, no other fields set
+        double kruskalWallisH;
+        double kruskalWallisP;
+        double[][] u;           // Mann-Whitney U of the row algorithm
+        double[][] p;           // Exact rank-sum p-values
+        double[][] pHolm;       // Holm-adjusted over all pairs of this metric
+        double[][] a12;         // Probability that the row algorithm scores better
+    }
+
     public TaskProcessor(int numTasks, boolean includeSingleObjective, String objective1, String objective2, String basePath) {
         this.numTasks = numTasks;
         this.includeSingleObjective = includeSingleObjective;
@@ -131,45 +274,224 @@ public class TaskProcessor {
     public void setPlotHeight(double plotHeight) { this.plotHeight = plotHeight; }
     public void setPlotXMode(boolean plotXMode) { this.plotXMode = plotXMode; }
     public void setPlotYMode(boolean plotYMode) { this.plotYMode = plotYMode; }
+    public void setPlotEaf(String plotEaf) { this.plotEaf = plotEaf; }
+
+    // Setters for ingestion configuration
+    public void setIngestWorkers(int ingestWorkers) { this.ingestWorkers = ingestWorkers; }
+    public void setIngestVirtualThreads(boolean ingestVirtualThreads) { this.ingestVirtualThreads = ingestVirtualThreads; }
+    public void setUseResultCache(boolean useResultCache) { this.useResultCache = useResultCache; }
+
+    public void setWriteProfile(boolean writeProfile) { this.writeProfile = writeProfile; }
+    public void setWriteSolutionStore(boolean writeSolutionStore) { this.writeSolutionStore = writeSolutionStore; }
+
+    // Setters for metrics configuration
+    public void setMetricsNormalization(BatchMetricsEvaluator.Normalization metricsNormalization) { this.metricsNormalization = metricsNormalization; }
+    public void setMetricsThreads(int metricsThreads) { this.metricsThreads = metricsThreads; }
+    public void setSeedMetrics(boolean seedMetrics) { this.seedMetrics = seedMetrics; }
+    public void setStatistics(boolean statistics) { this.statistics = statistics; }
+    public void setStatsPermutations(int statsPermutations) { this.statsPermutations = statsPermutations; }
+    public void setBootstrapResamples(int bootstrapResamples) { this.bootstrapResamples = bootstrapResamples; }
+    public void setCMetric(boolean cMetric) { this.cMetric = cMetric; }
+    public void setEafDiff(String eafDiff) { this.eafDiff = eafDiff; }
+
+    /**
+     * Use rows ingested ahead of time instead of scanning files.
+     * Rows must contain the objective columns for this processor's pair and be in scan order.
+     */
+    public void setPreloadedRows(List<ResultRow> preloadedRows) { this.preloadedRows = preloadedRows; }
+
+    public void setOutput(PrintStream out) { this.out = out; }
+
+    /**
+     * Create a processor for another task count and objective pair with the same
+     * plot and ingestion configuration. The custom plot output file is not copied.
+     */
+    private TaskProcessor copyFor(int numTasks, String objective1, String objective2) {
+        TaskProcessor copy = new TaskProcessor(numTasks, includeSingleObjective, objective1, objective2, basePath);
+        copy.generatePlot = generatePlot;
+        copy.plotTitle = plotTitle;
+        copy.plotLegend = plotLegend;
+        copy.plotLabels = plotLabels;
+        copy.plotMarkerSize = plotMarkerSize;
+        copy.plotMarkerShape = plotMarkerShape;
+        copy.plotDpi = plotDpi;
+        copy.plotWidth = plotWidth;
+        copy.plotHeight = plotHeight;
+        copy.plotXMode = plotXMode;
+        copy.plotYMode = plotYMode;
+        copy.plotEaf = plotEaf;
+        copy.ingestWorkers = ingestWorkers;
+        copy.ingestVirtualThreads = ingestVirtualThreads;
+        copy.useResultCache = useResultCache;
+        copy.metricsNormalization = metricsNormalization;
+        copy.metricsThreads = metricsThreads;
+        copy.seedMetrics = seedMetrics;
+        copy.statistics = statistics;
+        copy.statsPermutations = statsPermutations;
+        copy.bootstrapResamples = bootstrapResamples;
+        copy.cMetric = cMetric;
+        copy.eafDiff = eafDiff;
+        copy.writeProfile = writeProfile;
+        copy.writeSolutionStore = writeSolutionStore;
+        return copy;
+    }
 
     public void process() throws Exception {
-        System.out.println("=== Task Processor ===");
-        System.out.println("Number of tasks: " + numTasks);
-        System.out.println("Include Single-Objective: " + includeSingleObjective);
-        System.out.println("Objective 1: " + objective1 + " (" + OBJECTIVE_COLUMNS.get(objective1) + ")");
-        System.out.println("Objective 2: " + objective2 + " (" + OBJECTIVE_COLUMNS.get(objective2) + ")");
+        out.println("=== Task Processor ===");
+        out.println("Number of tasks: " + numTasks);
+        out.println("Include Single-Objective: " + includeSingleObjective);
+        out.println("Objective 1: " + objective1 + " (" + OBJECTIVE_COLUMNS.get(objective1) + ")");
+        out.println("Objective 2: " + objective2 + " (" + OBJECTIVE_COLUMNS.get(objective2) + ")");
         if (plotYMode && includeSingleObjective) {
-            System.out.println("Ymode: Enabled (grouping SA, GA, and Island GA variants)");
+            out.println("Ymode: Enabled (grouping SA, GA, and Island GA variants)");
         }
-        System.out.println();
+        out.println();
+
+        profiler = new StageProfiler(numTasks + "_" + objective1 + "_vs_" + objective2);
 
-        // Step 1: Scan and parse files
+        // Step 1: Scan and parse files (consulting the result cache)
+        profiler.begin("scan_mo");
+        solutionTable = new SolutionTable(objective1, objective2);
+        solutionTable.taskCountCode(numTasks);
+        for (int seed : SEEDS) {
+            solutionTable.seedCode(seed);
+        }
+        if (useResultCache && preloadedRows == null) {
+            resultCache = ResultCache.open(ResultCache.defaultFile(basePath), out);
+        }
         scanMultiObjectiveFiles();
+        profiler.current().addSolutions(solutionTable.size());
         if (includeSingleObjective) {
+            long before = solutionTable.size();
+            profiler.begin("scan_so");
             scanSingleObjectiveFiles();
+            profiler.current().addSolutions(solutionTable.size() - before);
+        }
+        buildSolutionViews();
+        if (resultCache != null) {
+            profiler.begin("cache_save");
+            resultCache.printSummary();
+            resultCache.save();
+        }
 
-            // Apply Ymode grouping if enabled
-            if (plotYMode) {
-                applyYmodeGrouping();
-            }
+        // Step 1b: Move the solution values off-heap; later stages read them from the mapping
+        if (writeSolutionStore) {
+            profiler.begin("solution_store").addSolutions(solutionTable.size());
+            writeSolutionStore();
+        }
+
+        // Apply Ymode grouping if enabled
+        if (includeSingleObjective && plotYMode) {
+            profiler.begin("ymode_grouping").addSolutions(solutionTable.size());
+            applyYmodeGrouping();
         }
 
         // Step 2: Calculate non-dominated points per algorithm
+        profiler.begin("non_dominated").addSolutions(solutionTable.size());
         calculateNonDominatedPerAlgorithm();
 
         // Step 3: Calculate universal Pareto set
+        profiler.begin("universal_set").addSolutions(solutionTable.size());
         calculateUniversalParetoSet();
 
         // Step 4-6: Calculate performance metrics
+        profiler.begin("metrics").addSolutions(countSolutions(algorithmNonDominated) + universalParetoSet.size());
         Map<String, double[]> metrics = calculatePerformanceMetrics();
 
-        // Step 7: Generate CSV report
+        // Step 6a: Seed fronts and the bounds the per-seed stages share
+        if (seedMetrics || statistics || bootstrapResamples > 0) {
+            profiler.begin("seed_fronts").addSolutions(solutionTable.size());
+            calculateSharedBounds();
+        }
+
+        // Step 6b: Calculate the same metrics per seed
+        if (seedMetrics || statistics) {
+            profiler.begin("seed_metrics").addSolutions(solutionTable.size());
+            calculateSeedMetrics();
+        }
+
+        // Step 6c: Test the per-seed metrics for significant differences
+        if (statistics) {
+            profiler.begin("statistics").addSolutions(solutionTable.size());
+            calculateStatistics();
+        }
+
+        // Step 6d: Bootstrap confidence intervals of the mean per-seed metrics
+        if (bootstrapResamples > 0) {
+            profiler.begin("bootstrap").addSolutions(solutionTable.size());
+            calculateBootstrapIntervals();
+        }
+
+        // Step 7: Generate CSV reports
+        profiler.begin("csv_report");
         generateCSVReport(metrics);
+        if (seedMetrics || statistics) {
+            generateSeedReports();
+        }
+        if (statistics) {
+            generateStatisticsReports();
+        }
+        if (bootstrapResamples > 0) {
+            generateBootstrapReport();
+        }
 
-        // Step 8: Generate plot if requested
+        // Step 8: Generate the pairwise C-metric matrix
+        if (cMetric) {
+            profiler.begin("cmetric").addSolutions(countSolutions(algorithmNonDominated));
+            generateCMetricReport();
+        }
+
+        // Step 8b: Attainment surfaces for the plot and the EAF difference
+        if (generatePlot || eafDiff != null) {
+            profiler.begin("eaf").addSolutions(solutionTable.size());
+            calculateAttainmentSurfaces();
+            if (eafDiff != null) {
+                generateEafDifferenceReport();
+            }
+        }
+
+        // Step 9: Generate plot if requested
         if (generatePlot) {
+            profiler.begin("plot").addSolutions(solutionTable.size());
             generatePlot();
         }
+        profiler.end();
+
+        if (writeProfile) {
+            writeRunProfile();
+        }
+    }
+
+    /**
+     * Write the solution table as a MappedSolutionStore next to the CSV report and attach the
+     * table to it, so the solution views of all later stages read the mapped columns.
+     */
+    private void writeSolutionStore() throws IOException {
+        File csvDir = new File(basePath, "PerformanceCalculations");
+        File storeFile = new File(csvDir, "solutions_" + numTasks + "_" + objective1 + "_vs_" + objective2 + ".bin");
+        MappedSolutionStore.write(solutionTable, storeFile);
+
+        MappedSolutionStore store = MappedSolutionStore.open(storeFile);
+        solutionTable.attach(store);
+        out.println("\nSolution store: " + storeFile.getAbsolutePath() + " (" + store.size() + " solutions, attached)");
+    }
+
+    /**
+     * Write the stage profile next to the CSV report and print a summary.
+     */
+    private void writeRunProfile() throws IOException {
+        File csvDir = new File(basePath, "PerformanceCalculations");
+        if (!csvDir.exists()) {
+            csvDir.mkdirs();
+        }
+        String name = "profile_" + numTasks + "_" + objective1 + "_vs_" + objective2;
+        File jsonFile = new File(csvDir, name + ".json");
+        File csvFile = new File(csvDir, name + ".csv");
+        profiler.writeJson(jsonFile);
+        profiler.writeCsv(csvFile);
+
+        profiler.printSummary(out);
+        out.println("Run profile written to: " + jsonFile.getAbsolutePath() + " and " + csvFile.getName());
     }
 
     private void scanMultiObjectiveFiles() throws Exception {
@@ -183,79 +505,38 @@ public class TaskProcessor {
         }
 
         // Determine the file pattern based on objective pair
-        String objPairKey = objective1 + "_" + objective2;
-        String objPattern = OBJECTIVE_PAIR_PATTERNS.get(objPairKey);
-        if (objPattern == null) {
-            // Try reverse order
-            objPairKey = objective2 + "_" + objective1;
-            objPattern = OBJECTIVE_PAIR_PATTERNS.get(objPairKey);
-        }
+        String objPattern = getObjectivePairPattern(objective1, objective2);
 
         if (objPattern == null) {
             System.err.println("Invalid objective pair: " + objective1 + " vs " + objective2);
             return;
         }
 
-        System.out.println("Scanning Multi-Objective files with pattern: " + (objPattern.isEmpty() ? "(no suffix)" : objPattern));
+        out.println("Scanning Multi-Objective files with pattern: " + (objPattern.isEmpty() ? "(no suffix)" : objPattern));
 
-        File[] files = moDir.listFiles((dir, name) -> name.endsWith(".xlsx") && !name.startsWith("~"));
-        if (files == null) return;
-
-        ExcelReader reader = new ExcelReader();
-
-        for (String algo : MO_ALGORITHMS) {
-            algorithmSolutions.put(algo, new ArrayList<>());
-            algorithmSeedSolutions.put(algo, new LinkedHashMap<>());
-            for (int seed : SEEDS) {
-                algorithmSeedSolutions.get(algo).put(seed, new ArrayList<>());
-            }
+        for (String algo : ResultScanner.MO_ALGORITHMS) {
+            solutionTable.algorithmCode(algo);
+            algorithmArchives.put(algo, new ParetoArchive());
         }
 
-        // Handle special case for eNSGAII which might be named eNSGA2 for energy vs makespan
-        String eNSGAPattern = objPattern.isEmpty() ? "MOEA_eNSGA2" : "MOEA_eNSGAII";
-
-        for (File file : files) {
-            String fileName = file.getName();
-
-            for (String algo : MO_ALGORITHMS) {
-                String searchPattern = algo;
-                if (algo.equals("MOEA_eNSGAII") && objPattern.isEmpty()) {
-                    searchPattern = "MOEA_eNSGA2";
-                }
-
-                // Check if file matches algorithm and objective pattern
-                String fullPattern = searchPattern + objPattern + "_rnd_";
-                if (!fileName.startsWith(fullPattern)) continue;
-
-                // Extract seed from filename
-                Pattern seedPattern = Pattern.compile("_rnd_(\\d+)_");
-                Matcher seedMatcher = seedPattern.matcher(fileName);
-                if (!seedMatcher.find()) continue;
-
-                int seed = Integer.parseInt(seedMatcher.group(1));
-                if (!containsSeed(seed)) continue;
-
-                // Read the Excel file
-                try {
-                    Map<String, Double> values = reader.readExcelFile(file.getAbsolutePath());
-                    Double obj1Value = values.get(OBJECTIVE_COLUMNS.get(objective1));
-                    Double obj2Value = values.get(OBJECTIVE_COLUMNS.get(objective2));
-
-                    if (obj1Value != null && obj2Value != null) {
-                        double[] solution = new double[]{obj1Value, obj2Value};
-                        algorithmSolutions.get(algo).add(solution);
-                        algorithmSeedSolutions.get(algo).get(seed).add(solution);
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error reading file: " + file.getName() + " - " + e.getMessage());
+        // Read the Excel files, adding each result in scan order while later files are still
+        // being parsed, unless rows were already ingested (batch mode)
+        if (preloadedRows == null) {
+            ResultScanner scanner = newScanner();
+            scanner.scanMultiObjective(numTasks, Collections.singletonList(objPattern), getObjectiveColumns(), this::addSolution);
+            recordIngestion(scanner);
+        } else {
+            for (ResultRow row : preloadedRows) {
+                if (objPattern.equals(row.getObjectiveSuffix())) {
+                    addSolution(row);
                 }
             }
         }
 
         // Print solution counts
-        System.out.println("\nMulti-Objective Solution Counts:");
-        for (String algo : MO_ALGORITHMS) {
-            System.out.println("  " + algo + ": " + algorithmSolutions.get(algo).size() + " solutions");
+        out.println("\nMulti-Objective Solution Counts:");
+        for (String algo : ResultScanner.MO_ALGORITHMS) {
+            out.println("  " + algo + ": " + algorithmArchives.get(algo).inputs() + " solutions");
         }
     }
 
@@ -269,89 +550,146 @@ public class TaskProcessor {
             return;
         }
 
-        System.out.println("\nScanning Single-Objective files...");
-
-        ExcelReader reader = new ExcelReader();
-
-        // Map objectives to folder names
-        Map<String, List<String>> objToFolders = new HashMap<>();
-        objToFolders.put("Makespan", Arrays.asList("GA_MAKESPAN", "GA_ISL_Makespan", "SA_Makespan", "SJF_BEST", "SJF_WORST", "LJF_BEST", "LJF_WORST"));
-        objToFolders.put("Energy", Arrays.asList("GA_Energy", "GA_ISL_Energy", "SA_Energy"));
-        objToFolders.put("AvgWait", Arrays.asList("GA_AvgWait", "GA_ISL_AvgWait", "SA_AvgWait"));
+        out.println("\nScanning Single-Objective files...");
 
         // Determine which single-objective algorithms to include
         Set<String> relevantFolders = new HashSet<>();
 
         // Include algorithms optimizing either objective1 or objective2
-        if (objToFolders.containsKey(objective1)) {
-            relevantFolders.addAll(objToFolders.get(objective1));
+        if (SO_OBJECTIVE_FOLDERS.containsKey(objective1)) {
+            relevantFolders.addAll(SO_OBJECTIVE_FOLDERS.get(objective1));
         }
-        if (objToFolders.containsKey(objective2)) {
-            relevantFolders.addAll(objToFolders.get(objective2));
+        if (SO_OBJECTIVE_FOLDERS.containsKey(objective2)) {
+            relevantFolders.addAll(SO_OBJECTIVE_FOLDERS.get(objective2));
         }
 
         // Also include heuristics which may optimize multiple objectives
-        relevantFolders.add("SJF_BEST");
-        relevantFolders.add("SJF_WORST");
-        relevantFolders.add("LJF_BEST");
-        relevantFolders.add("LJF_WORST");
+        relevantFolders.addAll(SO_HEURISTIC_FOLDERS);
 
+        ResultScanner scanner = newScanner();
+        List<String> existingFolders = new ArrayList<>();
         for (String folder : relevantFolders) {
-            File algoDir = new File(soPath + "/" + folder);
-            if (!algoDir.exists() || !algoDir.isDirectory()) continue;
+            if (!scanner.hasSingleObjectiveFolder(numTasks, folder)) continue;
+            existingFolders.add(folder);
 
             String algoName = "SO_" + folder;
-            algorithmSolutions.put(algoName, new ArrayList<>());
-            algorithmSeedSolutions.put(algoName, new LinkedHashMap<>());
-            for (int seed : SEEDS) {
-                algorithmSeedSolutions.get(algoName).put(seed, new ArrayList<>());
-            }
-
-            File[] files = algoDir.listFiles((dir, name) -> name.endsWith(".xlsx") && !name.startsWith("~") && !name.contains("results"));
-            if (files == null) continue;
-
-            for (File file : files) {
-                String fileName = file.getName();
-
-                // Extract seed from filename
-                Pattern seedPattern = Pattern.compile("_rnd_(\\d+)_");
-                Matcher seedMatcher = seedPattern.matcher(fileName);
-                if (!seedMatcher.find()) continue;
-
-                int seed = Integer.parseInt(seedMatcher.group(1));
-                if (!containsSeed(seed)) continue;
+            solutionTable.algorithmCode(algoName);
+            algorithmArchives.put(algoName, new ParetoArchive());
+        }
 
-                // Read the Excel file
-                try {
-                    Map<String, Double> values = reader.readExcelFile(file.getAbsolutePath());
-                    Double obj1Value = values.get(OBJECTIVE_COLUMNS.get(objective1));
-                    Double obj2Value = values.get(OBJECTIVE_COLUMNS.get(objective2));
-
-                    if (obj1Value != null && obj2Value != null) {
-                        double[] solution = new double[]{obj1Value, obj2Value};
-                        algorithmSolutions.get(algoName).add(solution);
-                        algorithmSeedSolutions.get(algoName).get(seed).add(solution);
+        // Read the Excel files, adding each result as it is parsed (the scanner already groups
+        // them by folder), unless rows were already ingested (batch mode)
+        if (preloadedRows == null) {
+            scanner.scanSingleObjective(numTasks, existingFolders, getObjectiveColumns(), this::addSolution);
+            recordIngestion(scanner);
+        } else {
+            for (String folder : existingFolders) {
+                String algoName = "SO_" + folder;
+                for (ResultRow row : preloadedRows) {
+                    if (!row.isMultiObjective() && row.getAlgorithm().equals(algoName)) {
+                        addSolution(row);
                     }
-                } catch (Exception e) {
-                    System.err.println("Error reading file: " + file.getName() + " - " + e.getMessage());
                 }
             }
         }
 
         // Print solution counts for single-objective
-        System.out.println("\nSingle-Objective Solution Counts:");
-        for (String algo : algorithmSolutions.keySet()) {
+        out.println("\nSingle-Objective Solution Counts:");
+        for (String algo : algorithmArchives.keySet()) {
             if (algo.startsWith("SO_")) {
-                System.out.println("  " + algo + ": " + algorithmSolutions.get(algo).size() + " solutions");
+                out.println("  " + algo + ": " + algorithmArchives.get(algo).inputs() + " solutions");
+            }
+        }
+    }
+
+    /**
+     * Create a result scanner using the configured ingestion workers and result cache.
+     */
+    private ResultScanner newScanner() {
+        ResultScanner scanner = new ResultScanner(basePath, SEEDS, new FileIngestor(ingestWorkers, ingestVirtualThreads));
+        scanner.setCache(resultCache);
+        scanner.setOutput(out);
+        return scanner;
+    }
+
+    /**
+     * Add a scanner's file and worker counters to the open profile stage.
+     */
+    private void recordIngestion(ResultScanner scanner) {
+        StageProfiler.Stage stage = profiler.current();
+        if (stage == null) return;
+        stage.addFiles(scanner.getFilesParsed(), scanner.getFilesCached(), scanner.getBytesParsed());
+        stage.addWorkerUsage(scanner.getWorkerCpuNanos(), scanner.getWorkerAllocatedBytes());
+    }
+
+    /**
+     * Group the table by algorithm, and by algorithm and seed, into the solution views.
+     * Algorithms are registered in archive order, so the views keep that order.
+     */
+    private void buildSolutionViews() {
+        SolutionTable.Grouping byAlgorithm = solutionTable.groupBy(SolutionTable.ALGORITHM);
+        SolutionTable.Grouping bySeed = solutionTable.groupBy(SolutionTable.ALGORITHM, SolutionTable.SEED);
+        for (String algo : algorithmArchives.keySet()) {
+            int code = solutionTable.algorithmCode(algo);
+            algorithmSolutions.put(algo, byAlgorithm.view(code));
+            Map<Integer, SolutionTable.View> seeds = new LinkedHashMap<>();
+            for (int seed : SEEDS) {
+                seeds.put(seed, bySeed.view(code, solutionTable.seedCode(seed)));
             }
+            algorithmSeedSolutions.put(algo, seeds);
+        }
+    }
+
+    /**
+     * Total number of solutions over all algorithms.
+     */
+    private long countSolutions(Map<String, List<double[]>> solutions) {
+        long count = 0;
+        for (List<double[]> list : solutions.values()) {
+            count += list.size();
         }
+        return count;
     }
 
-    private boolean containsSeed(int seed) {
-        for (int s : SEEDS) {
-            if (s == seed) return true;
+    /**
+     * Add a parsed file to the solution table and its algorithm's archive if it has values for
+     * both objectives. Called by the scanner once per file, in scan order, from whichever
+     * ingestion worker completes that part of the order (never concurrently).
+     */
+    private void addSolution(ResultRow row) {
+        int file = filesAdded++;
+        double obj1Value = row.getValue(OBJECTIVE_COLUMNS.get(objective1));
+        double obj2Value = row.getValue(OBJECTIVE_COLUMNS.get(objective2));
+
+        if (!Double.isNaN(obj1Value) && !Double.isNaN(obj2Value)) {
+            solutionTable.add(row.getAlgorithm(), numTasks, row.getSeed(), file, obj1Value, obj2Value);
+            algorithmArchives.get(row.getAlgorithm()).add(obj1Value, obj2Value);
         }
-        return false;
+    }
+
+    /**
+     * Column names needed for the selected objective pair.
+     * Passed to the streaming Excel reader so all other columns are skipped.
+     */
+    private Set<String> getObjectiveColumns() {
+        Set<String> columns = new HashSet<>();
+        columns.add(OBJECTIVE_COLUMNS.get(objective1));
+        columns.add(OBJECTIVE_COLUMNS.get(objective2));
+        return columns;
+    }
+
+    /**
+     * MO file suffix for an objective pair, in either order.
+     *
+     * @return Suffix, or null if the pair is not valid
+     */
+    private static String getObjectivePairPattern(String objective1, String objective2) {
+        String objPattern = OBJECTIVE_PAIR_PATTERNS.get(objective1 + "_" + objective2);
+        if (objPattern == null) {
+            // Try reverse order
+            objPattern = OBJECTIVE_PAIR_PATTERNS.get(objective2 + "_" + objective1);
+        }
+        return objPattern;
     }
 
     /**
@@ -361,17 +699,18 @@ public class TaskProcessor {
      * - GA_ISL_AvgWait, GA_ISL_Energy, GA_ISL_Makespan -> "Island Model GA"
      */
     private void applyYmodeGrouping() {
-        System.out.println("\n=== Applying Ymode Grouping ===");
+        out.println("\n=== Applying Ymode Grouping ===");
 
         for (Map.Entry<String, String[]> groupEntry : ALGORITHM_GROUPS.entrySet()) {
             String groupName = groupEntry.getKey();
             String[] memberAlgos = groupEntry.getValue();
 
-            // Collect all solutions from member algorithms
-            List<double[]> combinedSolutions = new ArrayList<>();
-            Map<Integer, List<double[]>> combinedSeedSolutions = new LinkedHashMap<>();
+            // Collect the views of the member algorithms
+            List<SolutionTable.View> memberSolutions = new ArrayList<>();
+            ParetoArchive combinedArchive = new ParetoArchive();
+            Map<Integer, List<SolutionTable.View>> memberSeedSolutions = new LinkedHashMap<>();
             for (int seed : SEEDS) {
-                combinedSeedSolutions.put(seed, new ArrayList<>());
+                memberSeedSolutions.put(seed, new ArrayList<>());
             }
 
             // Track which algorithms were actually found
@@ -382,156 +721,431 @@ public class TaskProcessor {
                     foundAlgos.add(memberAlgo);
 
                     // Add all solutions from this member to combined
-                    combinedSolutions.addAll(algorithmSolutions.get(memberAlgo));
+                    memberSolutions.add(algorithmSolutions.get(memberAlgo));
+                    combinedArchive.addAll(algorithmArchives.get(memberAlgo));
 
                     // Add solutions per seed
-                    Map<Integer, List<double[]>> memberSeeds = algorithmSeedSolutions.get(memberAlgo);
-                    if (memberSeeds != null) {
-                        for (int seed : SEEDS) {
-                            List<double[]> seedSols = memberSeeds.get(seed);
-                            if (seedSols != null) {
-                                combinedSeedSolutions.get(seed).addAll(seedSols);
-                            }
-                        }
+                    Map<Integer, SolutionTable.View> memberSeeds = algorithmSeedSolutions.get(memberAlgo);
+                    for (int seed : SEEDS) {
+                        memberSeedSolutions.get(seed).add(memberSeeds.get(seed));
                     }
                 }
             }
 
             // If we found at least one member algorithm, create the group
             if (!foundAlgos.isEmpty()) {
-                System.out.println("  " + groupName + " <- " + String.join(", ", foundAlgos) +
+                SolutionTable.View combinedSolutions = solutionTable.emptyView().concat(memberSolutions);
+                Map<Integer, SolutionTable.View> combinedSeedSolutions = new LinkedHashMap<>();
+                for (int seed : SEEDS) {
+                    combinedSeedSolutions.put(seed, solutionTable.emptyView().concat(memberSeedSolutions.get(seed)));
+                }
+                out.println("  " + groupName + " <- " + String.join(", ", foundAlgos) +
                                  " (" + combinedSolutions.size() + " solutions)");
 
                 // Remove individual algorithms
                 for (String memberAlgo : foundAlgos) {
                     algorithmSolutions.remove(memberAlgo);
+                    algorithmArchives.remove(memberAlgo);
                     algorithmSeedSolutions.remove(memberAlgo);
                 }
 
                 // Add the combined group
                 algorithmSolutions.put(groupName, combinedSolutions);
+                algorithmArchives.put(groupName, combinedArchive);
                 algorithmSeedSolutions.put(groupName, combinedSeedSolutions);
             }
         }
     }
 
     private void calculateNonDominatedPerAlgorithm() {
-        System.out.println("\n=== Calculating Non-Dominated Points Per Algorithm ===");
+        out.println("\n=== Calculating Non-Dominated Points Per Algorithm ===");
 
+        // The archives were filled during ingestion, so only EPSILON-duplicates remain to collapse
         for (String algo : algorithmSolutions.keySet()) {
-            List<double[]> solutions = algorithmSolutions.get(algo);
-            List<double[]> nonDominated = Dominance.getNonDominatedSet(solutions);
+            SolutionTable.View solutions = algorithmSolutions.get(algo);
+            List<double[]> nonDominated = select(solutions, algorithmArchives.get(algo).indices());
             algorithmNonDominated.put(algo, nonDominated);
-            System.out.println("  " + algo + ": " + nonDominated.size() + " non-dominated / " + solutions.size() + " total");
+            out.println("  " + algo + ": " + nonDominated.size() + " non-dominated / " + solutions.size() + " total");
         }
     }
 
     private void calculateUniversalParetoSet() {
-        System.out.println("\n=== Calculating Universal Pareto Set ===");
-
-        // Combine all solutions with their algorithm origin
-        List<double[]> allSolutions = new ArrayList<>();
-        List<String> solutionOrigins = new ArrayList<>();  // Track which algorithm each solution came from
+        out.println("\n=== Calculating Universal Pareto Set ===");
 
+        // Combine all solutions, and the archives in the same order: only the points each
+        // algorithm kept can be universally non-dominated
+        ParetoArchive universal = new ParetoArchive();
         for (String algo : algorithmSolutions.keySet()) {
-            List<double[]> solutions = algorithmSolutions.get(algo);
-            for (double[] sol : solutions) {
-                allSolutions.add(sol);
-                solutionOrigins.add(algo);
-            }
+            universal.addAll(algorithmArchives.get(algo));
         }
+        SolutionTable.View allSolutions = solutionTable.emptyView().concat(new ArrayList<>(algorithmSolutions.values()));
 
         // Find universal non-dominated set
-        universalParetoSet = Dominance.getNonDominatedSet(allSolutions);
-
-        // Initialize contribution counts
-        for (String algo : algorithmSolutions.keySet()) {
-            universalParetoContributions.put(algo, 0);
-        }
+        universalParetoSet = select(allSolutions, universal.indices());
 
         // Count contributions from each algorithm
         // An algorithm gets credit if any of its solutions matches a Pareto point
         // Multiple algorithms can get credit for the same Pareto point if they all found it
-        for (double[] paretoSol : universalParetoSet) {
-            // Track which algorithms have been credited for this particular Pareto solution
-            Set<String> creditedAlgos = new HashSet<>();
-
-            // Find all algorithms that contributed this solution
-            for (int i = 0; i < allSolutions.size(); i++) {
-                double[] sol = allSolutions.get(i);
-                if (Dominance.arePointsEqual(sol, paretoSol)) {
-                    String algo = solutionOrigins.get(i);
-                    // Only credit each algorithm once per Pareto point
-                    // (handles case where same algorithm found same point in multiple seeds)
-                    if (!creditedAlgos.contains(algo)) {
-                        universalParetoContributions.put(algo, universalParetoContributions.get(algo) + 1);
-                        creditedAlgos.add(algo);
-                    }
-                }
-            }
+        List<int[]> credited = creditParetoPoints(universalParetoSet, new ArrayList<>(algorithmSolutions.values()));
+        int algoIndex = 0;
+        for (String algo : algorithmSolutions.keySet()) {
+            int[] points = credited.get(algoIndex++);
+            universalParetoContributions.put(algo, points.length);
+            universalParetoPoints.put(algo, points);
         }
 
-        System.out.println("Universal Pareto Set size: " + universalParetoSet.size() + " from " + allSolutions.size() + " total solutions");
+        out.println("Universal Pareto Set size: " + universalParetoSet.size() + " from " + allSolutions.size() + " total solutions");
 
         // Print contributions
-        System.out.println("\nContributions to Universal Pareto Set:");
+        out.println("\nContributions to Universal Pareto Set:");
         for (String algo : universalParetoContributions.keySet()) {
             int count = universalParetoContributions.get(algo);
             if (count > 0) {
-                System.out.println("  " + algo + ": " + count + " solutions");
+                out.println("  " + algo + ": " + count + " solutions");
             }
         }
     }
 
-    private Map<String, double[]> calculatePerformanceMetrics() {
-        System.out.println("\n=== Calculating Performance Metrics ===");
+    /**
+     * Universal Pareto points matched within Dominance.EPSILON by each algorithm's solutions.
+     *
+     * Universal points are indexed in an EpsilonGrid and the solutions are scanned once,
+     * grouped by algorithm: each Pareto point remembers the last algorithm credited for it,
+     * so an algorithm is only credited once per point (handles the same point found in
+     * multiple seeds).
+     *
+     * @param paretoSet Universal Pareto points [obj1, obj2]
+     * @param solutionsByAlgorithm Solutions of each algorithm
+     * @return Per algorithm, the indices of the credited Pareto points in first-match order
+     */
+    static List<int[]> creditParetoPoints(List<double[]> paretoSet, List<SolutionTable.View> solutionsByAlgorithm) {
+        int paretoCount = paretoSet.size();
+        double[] paretoX = new double[paretoCount];
+        double[] paretoY = new double[paretoCount];
+        for (int p = 0; p < paretoCount; p++) {
+            paretoX[p] = paretoSet.get(p)[0];
+            paretoY[p] = paretoSet.get(p)[1];
+        }
+        EpsilonGrid grid = new EpsilonGrid(paretoX, paretoY, Dominance.EPSILON);
+
+        int[] lastCredited = new int[paretoCount];
+        Arrays.fill(lastCredited, -1);
+        int[] matches = new int[paretoCount];
+        int[] found = new int[paretoCount];
+        List<int[]> credited = new ArrayList<>(solutionsByAlgorithm.size());
+        for (int algoIndex = 0; algoIndex < solutionsByAlgorithm.size(); algoIndex++) {
+            int count = 0;
+            SolutionTable.View solutions = solutionsByAlgorithm.get(algoIndex);
+            for (int i = 0; i < solutions.size(); i++) {
+                int matchCount = grid.findEqual(solutions.get(i, 0), solutions.get(i, 1), matches);
+                for (int m = 0; m < matchCount; m++) {
+                    if (lastCredited[matches[m]] != algoIndex) {
+                        lastCredited[matches[m]] = algoIndex;
+                        found[count++] = matches[m];
+                    }
+                }
+            }
+            credited.add(Arrays.copyOf(found, count));
+        }
+        return credited;
+    }
+
+    /**
+     * Solutions at the given positions of a view, in that order.
+     */
+    private static List<double[]> select(SolutionTable.View solutions, int[] indices) {
+        List<double[]> selected = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            selected.add(solutions.point(index));
+        }
+        return selected;
+    }
+
+    private Map<String, double[]> calculatePerformanceMetrics() throws InterruptedException {
+        out.println("\n=== Calculating Performance Metrics ===");
+        if (metricsNormalization == BatchMetricsEvaluator.Normalization.GLOBAL) {
+            out.println("Normalization: global bounds shared by all algorithms");
+        }
+
+        // Score all algorithm fronts against the universal Pareto set in one call
+        List<String> algos = new ArrayList<>(algorithmSolutions.keySet());
+        List<double[]> fronts = new ArrayList<>();
+        for (String algo : algos) {
+            fronts.add(MetricsEngine.flatten(algorithmNonDominated.get(algo)));
+        }
+        BatchMetricsEvaluator evaluator = new BatchMetricsEvaluator(
+                MetricsEngine.flatten(universalParetoSet), metricsNormalization, metricsThreads);
+        BatchMetricsEvaluator.Result result = evaluator.evaluate(fronts);
+        universalParetoHV = result.getReferenceHV();
+        metricsEvaluator = evaluator;
+
+        // Exclusive HV of each universal point: what the set loses without that point alone
+        double[] normalizedPareto = result.normalizeLikeReference(MetricsEngine.flatten(universalParetoSet));
+        universalParetoExclusiveHV = Hypervolume.contributions(normalizedPareto, universalParetoSet.size(), 2);
 
         Map<String, double[]> metrics = new LinkedHashMap<>();
+        for (int i = 0; i < algos.size(); i++) {
+            String algo = algos.get(i);
+            if (algorithmNonDominated.get(algo).isEmpty()) {
+                out.println("  " + algo + ": No solutions, skipping metrics");
+                metrics.put(algo, new double[]{0, Double.MAX_VALUE, Double.MAX_VALUE});
+                continue;
+            }
+
+            double[] scores = result.getMetrics(i);
+            double hv = scores[BatchMetricsEvaluator.HV];
+            double gd = scores[BatchMetricsEvaluator.GD];
+            double igd = scores[BatchMetricsEvaluator.IGD];
+
+            metrics.put(algo, new double[]{hv, gd, igd});
+            out.println("  " + algo + ": HV=" + String.format("%.6f", hv) +
+                             ", GD=" + String.format("%.6f", gd) +
+                             ", IGD=" + String.format("%.6f", igd) +
+                             ", Exclusive HV=" + String.format("%.6f", exclusiveHV(algo)));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Non-dominated front of every (algorithm, seed) run with solutions, and the global bounds
+     * over the universal set, every algorithm front and every seed front. The per-seed,
+     * statistics and bootstrap stages score on these bounds so that their numbers share one
+     * scale; the pooled metrics keep the --metrics-norm policy. Seeds without solutions are
+     * left out.
+     */
+    private void calculateSharedBounds() throws InterruptedException {
+        seedRunAlgos.clear();
+        seedRunSeeds.clear();
+        List<SolutionTable.View> runSolutions = new ArrayList<>();
+        for (String algo : algorithmSolutions.keySet()) {
+            for (int seed : SEEDS) {
+                SolutionTable.View solutions = algorithmSeedSolutions.get(algo).get(seed);
+                if (!solutions.isEmpty()) {
+                    seedRunAlgos.add(algo);
+                    seedRunSeeds.add(seed);
+                    runSolutions.add(solutions);
+                }
+            }
+        }
+        seedRunFronts = nonDominatedFronts(runSolutions);
 
-        // Create PerformanceMetrics instance
-        // We need: [algorithm pareto, universal pareto]
+        List<double[]> fronts = new ArrayList<>();
         for (String algo : algorithmSolutions.keySet()) {
-            List<double[]> algoPareto = algorithmNonDominated.get(algo);
+            fronts.add(MetricsEngine.flatten(algorithmNonDominated.get(algo)));
+        }
+        fronts.addAll(seedRunFronts);
+        sharedBounds = metricsEvaluator.globalBounds(fronts);
+        out.println("\nPer-seed normalization bounds: " + objective1 + " [" + sharedBounds.getF1Min() + ", " +
+                sharedBounds.getF1Max() + "], " + objective2 + " [" + sharedBounds.getF2Min() + ", " +
+                sharedBounds.getF2Max() + "]");
+    }
 
-            if (algoPareto.isEmpty()) {
-                System.out.println("  " + algo + ": No solutions, skipping metrics");
-                metrics.put(algo, new double[]{0, Double.MAX_VALUE, Double.MAX_VALUE});
+    /**
+     * Header columns naming the per-seed normalization bounds, see {@link #boundsColumns()}.
+     */
+    private String boundsHeader() {
+        return ",Norm_" + objective1 + "_Min,Norm_" + objective1 + "_Max,Norm_" + objective2 + "_Min,Norm_" + objective2 + "_Max";
+    }
+
+    /**
+     * The per-seed normalization bounds as trailing CSV columns, so that every report scored
+     * on them states its scale.
+     */
+    private String boundsColumns() {
+        return String.format(",%.6f,%.6f,%.6f,%.6f", sharedBounds.getF1Min(), sharedBounds.getF1Max(),
+                sharedBounds.getF2Min(), sharedBounds.getF2Max());
+    }
+
+    /**
+     * HV, GD and IGD of each algorithm's non-dominated front per seed, to show run-to-run
+     * variance. Every front is scored against the universal Pareto set under the shared
+     * per-seed bounds, so the per-seed numbers are comparable with each other and with the
+     * bootstrap estimates.
+     */
+    private void calculateSeedMetrics() throws InterruptedException {
+        out.println("\n=== Calculating Per-Seed Metrics ===");
+
+        List<double[]> fronts = seedRunFronts;
+        BatchMetricsEvaluator.Result result = metricsEvaluator.evaluate(fronts, sharedBounds);
+        for (int r = 0; r < fronts.size(); r++) {
+            String algo = seedRunAlgos.get(r);
+            int seed = seedRunSeeds.get(r);
+            algorithmSeedNonDominated.computeIfAbsent(algo, k -> new LinkedHashMap<>()).put(seed, fronts.get(r).length / 2);
+            algorithmSeedMetrics.computeIfAbsent(algo, k -> new LinkedHashMap<>()).put(seed, result.getMetrics(r));
+        }
+
+        for (String algo : algorithmSolutions.keySet()) {
+            Map<Integer, double[]> seedMetrics = algorithmSeedMetrics.get(algo);
+            if (seedMetrics == null) {
+                out.println("  " + algo + ": No solutions, skipping metrics");
                 continue;
             }
+            SampleSummary hv = seedSummary(algo, BatchMetricsEvaluator.HV);
+            SampleSummary igd = seedSummary(algo, BatchMetricsEvaluator.IGD);
+            out.println("  " + algo + ": " + seedMetrics.size() + " seeds, HV=" +
+                    String.format("%.6f +- %.6f", hv.getMean(), hv.getStd()) +
+                    ", IGD=" + String.format("%.6f +- %.6f", igd.getMean(), igd.getStd()));
+        }
+    }
 
-            // Convert to ArrayList<ArrayList<Double>> format for PerformanceMetrics
-            ArrayList<ArrayList<Double>> algoParetoList = convertToArrayList(algoPareto);
-            ArrayList<ArrayList<Double>> universalParetoList = convertToArrayList(universalParetoSet);
+    /**
+     * Interleaved non-dominated front of each solution view, computed in parallel. The views
+     * are streamed through an archive, so only front points are copied out of the table.
+     */
+    private List<double[]> nonDominatedFronts(List<SolutionTable.View> solutionLists) throws InterruptedException {
+        double[][] fronts = new double[solutionLists.size()][];
+        ParallelLoop.forEachIndex(solutionLists.size(), metricsThreads, index -> {
+            SolutionTable.View solutions = solutionLists.get(index);
+            ParetoArchive archive = new ParetoArchive();
+            for (int k = 0; k < solutions.size(); k++) {
+                archive.add(solutions.get(k, 0), solutions.get(k, 1), k);
+            }
+            int[] indices = archive.indices();
+            double[] front = new double[2 * indices.length];
+            for (int k = 0; k < indices.length; k++) {
+                front[2 * k] = solutions.get(indices[k], 0);
+                front[2 * k + 1] = solutions.get(indices[k], 1);
+            }
+            fronts[index] = front;
+        });
+        return Arrays.asList(fronts);
+    }
 
-            ArrayList<ArrayList<ArrayList<Double>>> allParetos = new ArrayList<>();
-            allParetos.add(algoParetoList);    // index 0: algorithm pareto
-            allParetos.add(universalParetoList); // index 1: not used directly
-            allParetos.add(universalParetoList); // index 2: reference front for IGD
+    /**
+     * Distribution of one metric over an algorithm's seeds.
+     *
+     * @param metric BatchMetricsEvaluator.HV, GD or IGD
+     */
+    private SampleSummary seedSummary(String algo, int metric) {
+        return SampleSummary.of(seedValues(algo, metric));
+    }
 
-            PerformanceMetrics pm = new PerformanceMetrics(allParetos);
+    /**
+     * Values of one metric over an algorithm's seeds, in seed order.
+     */
+    private double[] seedValues(String algo, int metric) {
+        Map<Integer, double[]> seedMetrics = algorithmSeedMetrics.getOrDefault(algo, Collections.emptyMap());
+        double[] values = new double[seedMetrics.size()];
+        int i = 0;
+        for (double[] m : seedMetrics.values()) {
+            values[i++] = m[metric];
+        }
+        return values;
+    }
 
-            double hv = pm.HV(0);
-            double igd = pm.IGD(0);
-            double gd = pm.GD(0);
+    /**
+     * Test the per-seed HV and IGD of the algorithms for significant differences: a
+     * Kruskal-Wallis permutation test over all of them, then an exact Wilcoxon rank-sum test
+     * and the Vargha-Delaney A12 effect size for every pair, with Holm's correction over the
+     * pairs of each metric. Algorithms without seeds are left out, and a metric whose
+     * per-seed values are all tied (e.g. HV 0 everywhere) is flagged instead of tested.
+     */
+    private void calculateStatistics() throws InterruptedException {
+        out.println("\n=== Testing Per-Seed Metrics ===");
 
-            metrics.put(algo, new double[]{hv, gd, igd});
-            System.out.println("  " + algo + ": HV=" + String.format("%.6f", hv) +
-                             ", GD=" + String.format("%.6f", gd) +
-                             ", IGD=" + String.format("%.6f", igd));
+        List<String> algos = new ArrayList<>();
+        for (String algo : algorithmSolutions.keySet()) {
+            if (algorithmSeedMetrics.containsKey(algo)) {
+                algos.add(algo);
+            }
         }
+        int count = algos.size();
+
+        String[] names = {"HV", "IGD"};
+        int[] indices = {BatchMetricsEvaluator.HV, BatchMetricsEvaluator.IGD};
+        boolean[] higherIsBetter = {true, false};
+        for (int t = 0; t < names.length; t++) {
+            double[][] samples = new double[count][];
+            for (int i = 0; i < count; i++) {
+                samples[i] = seedValues(algos.get(i), indices[t]);
+            }
 
-        return metrics;
+            MetricTests tests = new MetricTests();
+            tests.metric = names[t];
+            tests.algos = algos;
+            if (allTied(samples)) {
+                tests.tied = true;
+                metricTests.add(tests);
+                out.println("  " + names[t] + ": all per-seed values tied, tests skipped");
+                continue;
+            }
+            tests.kruskalWallisH = StatisticalTests.kruskalWallisH(samples);
+            tests.kruskalWallisP = StatisticalTests.kruskalWallisPValue(samples, statsPermutations, STATS_SEED, metricsThreads);
+            tests.p = StatisticalTests.rankSumPValues(samples, metricsThreads);
+
+            // Holm over the unordered pairs
+            double[] family = new double[count * (count - 1) / 2];
+            int f = 0;
+            for (int a = 0; a < count; a++) {
+                for (int b = a + 1; b < count; b++) {
+                    family[f++] = tests.p[a][b];
+                }
+            }
+            double[] adjusted = StatisticalTests.holm(family);
+            tests.pHolm = new double[count][count];
+            tests.u = new double[count][count];
+            tests.a12 = new double[count][count];
+            f = 0;
+            for (int a = 0; a < count; a++) {
+                tests.pHolm[a][a] = 1.0;
+                for (int b = a + 1; b < count; b++) {
+                    tests.pHolm[a][b] = tests.pHolm[b][a] = adjusted[f++];
+                }
+                for (int b = 0; b < count; b++) {
+                    tests.u[a][b] = StatisticalTests.mannWhitneyU(samples[a], samples[b]);
+                    tests.a12[a][b] = higherIsBetter[t]
+                            ? StatisticalTests.a12(samples[a], samples[b])
+                            : StatisticalTests.a12(samples[b], samples[a]);
+                }
+            }
+            metricTests.add(tests);
+
+            int significant = 0;
+            for (double p : adjusted) {
+                if (p < STATS_ALPHA) significant++;
+            }
+            out.println("  " + names[t] + ": Kruskal-Wallis H=" + String.format("%.4f", tests.kruskalWallisH) +
+                    ", p=" + String.format("%.4f", tests.kruskalWallisP) +
+                    " (" + statsPermutations + " permutations); " + significant + " of " + family.length +
+                    " pairs differ at alpha=" + STATS_ALPHA + " after Holm");
+        }
     }
 
-    private ArrayList<ArrayList<Double>> convertToArrayList(List<double[]> solutions) {
-        ArrayList<ArrayList<Double>> result = new ArrayList<>();
-        for (double[] sol : solutions) {
-            ArrayList<Double> row = new ArrayList<>();
-            row.add(sol[0]);
-            row.add(sol[1]);
-            result.add(row);
+    /**
+     * Whether the samples hold fewer than two distinct values, so that any rank test is
+     * degenerate.
+     */
+    private static boolean allTied(double[][] samples) {
+        Double first = null;
+        for (double[] sample : samples) {
+            for (double value : sample) {
+                if (first == null) {
+                    first = value;
+                } else if (Double.compare(value, first) != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sum of the exclusive HV contributions of the universal Pareto points an algorithm found.
+     */
+    private double exclusiveHV(String algo) {
+        double sum = 0.0;
+        for (int p : universalParetoPoints.getOrDefault(algo, new int[0])) {
+            sum += universalParetoExclusiveHV[p];
         }
-        return result;
+        return sum;
+    }
+
+    /**
+     * Exclusive HV as a fraction of the universal Pareto set's HV.
+     */
+    private double exclusiveHVShare(double exclusiveHV) {
+        return universalParetoHV > 0 ? exclusiveHV / universalParetoHV : 0.0;
     }
 
     private void generateCSVReport(Map<String, double[]> metrics) throws IOException {
@@ -543,27 +1157,15 @@ public class TaskProcessor {
 
         String outputFile = new File(csvDir, "results_" + numTasks + "_" + objective1 + "_vs_" + objective2 + ".csv").getAbsolutePath();
 
-        System.out.println("\n=== Generating CSV Report ===");
-        System.out.println("Output file: " + outputFile);
-
-        // Calculate HV for Universal Pareto Set
-        double universalParetoHV = 0.0;
-        if (!universalParetoSet.isEmpty()) {
-            ArrayList<ArrayList<Double>> universalParetoList = convertToArrayList(universalParetoSet);
-            ArrayList<ArrayList<ArrayList<Double>>> allParetos = new ArrayList<>();
-            allParetos.add(universalParetoList);
-            allParetos.add(universalParetoList);
-            allParetos.add(universalParetoList);
-            PerformanceMetrics pm = new PerformanceMetrics(allParetos);
-            universalParetoHV = pm.HV(0);
-        }
+        out.println("\n=== Generating CSV Report ===");
+        out.println("Output file: " + outputFile);
 
         try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
             // Header
             writer.println("Algorithm,Type,Total_Solutions,Non_Dominated_Solutions,Universal_Pareto_Contribution," +
                           "Seed_1200,Seed_1201,Seed_1202,Seed_1203,Seed_1204," +
                           "Seed_1205,Seed_1206,Seed_1207,Seed_1208,Seed_1209," +
-                          "HV,GD,IGD");
+                          "HV,GD,IGD,Exclusive_HV,Exclusive_HV_Share");
 
             // Data rows for algorithms
             for (String algo : algorithmSolutions.keySet()) {
@@ -592,7 +1194,12 @@ public class TaskProcessor {
                 double[] m = metrics.get(algo);
                 sb.append(String.format("%.6f", m[0])).append(",");
                 sb.append(String.format("%.6f", m[1])).append(",");
-                sb.append(String.format("%.6f", m[2]));
+                sb.append(String.format("%.6f", m[2])).append(",");
+
+                // Exclusive HV of the universal points found
+                double exclusive = exclusiveHV(algo);
+                sb.append(String.format("%.6f", exclusive)).append(",");
+                sb.append(String.format("%.6f", exclusiveHVShare(exclusive)));
 
                 writer.println(sb.toString());
             }
@@ -613,16 +1220,365 @@ public class TaskProcessor {
             // Metrics: HV calculated, GD=0, IGD=0 (it's the reference)
             sb.append(String.format("%.6f", universalParetoHV)).append(",");
             sb.append("0.000000").append(",");  // GD = 0 (reference to itself)
-            sb.append("0.000000");               // IGD = 0 (reference to itself)
+            sb.append("0.000000").append(",");  // IGD = 0 (reference to itself)
+
+            // Exclusive HV summed over every point; the rest of the HV is shared by two or more
+            double exclusive = 0.0;
+            for (double contribution : universalParetoExclusiveHV) {
+                exclusive += contribution;
+            }
+            sb.append(String.format("%.6f", exclusive)).append(",");
+            sb.append(String.format("%.6f", exclusiveHVShare(exclusive)));
 
             writer.println(sb.toString());
         }
 
-        System.out.println("CSV report generated successfully!");
+        out.println("CSV report generated successfully!");
+    }
+
+    /**
+     * Write the per-seed metrics and their distribution per algorithm: seeds_*.csv holds one
+     * row per run, seedstats_*.csv the mean, standard deviation, median, IQR, minimum and
+     * maximum of HV, GD and IGD over the seeds. Both end with the per-seed normalization bounds.
+     */
+    private void generateSeedReports() throws IOException {
+        File csvDir = new File(basePath, "PerformanceCalculations");
+        if (!csvDir.exists()) {
+            csvDir.mkdirs();
+        }
+        String suffix = numTasks + "_" + objective1 + "_vs_" + objective2 + ".csv";
+        String seedsFile = new File(csvDir, "seeds_" + suffix).getAbsolutePath();
+        String statsFile = new File(csvDir, "seedstats_" + suffix).getAbsolutePath();
+
+        out.println("\n=== Generating Per-Seed Reports ===");
+        out.println("Output files: " + seedsFile + ", " + statsFile);
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(seedsFile))) {
+            writer.println("Algorithm,Seed,Total_Solutions,Non_Dominated_Solutions,HV,GD,IGD" + boundsHeader());
+            for (String algo : algorithmSolutions.keySet()) {
+                Map<Integer, double[]> seedMetrics = algorithmSeedMetrics.getOrDefault(algo, Collections.emptyMap());
+                for (Map.Entry<Integer, double[]> entry : seedMetrics.entrySet()) {
+                    int seed = entry.getKey();
+                    double[] m = entry.getValue();
+                    writer.println(algo + "," + seed + "," +
+                            algorithmSeedSolutions.get(algo).get(seed).size() + "," +
+                            algorithmSeedNonDominated.get(algo).get(seed) + "," +
+                            String.format("%.6f,%.6f,%.6f", m[0], m[1], m[2]) + boundsColumns());
+                }
+            }
+        }
+
+        String[] metricNames = {"HV", "GD", "IGD"};
+        try (PrintWriter writer = new PrintWriter(new FileWriter(statsFile))) {
+            StringBuilder header = new StringBuilder("Algorithm,Seeds");
+            for (String metric : metricNames) {
+                for (String stat : new String[]{"Mean", "Std", "Median", "IQR", "Min", "Max"}) {
+                    header.append(",").append(metric).append("_").append(stat);
+                }
+            }
+            writer.println(header.append(boundsHeader()));
+
+            for (String algo : algorithmSolutions.keySet()) {
+                StringBuilder sb = new StringBuilder(algo);
+                int seeds = algorithmSeedMetrics.getOrDefault(algo, Collections.emptyMap()).size();
+                sb.append(",").append(seeds);
+                for (int metric = 0; metric < metricNames.length; metric++) {
+                    if (seeds == 0) {
+                        sb.append(",N/A,N/A,N/A,N/A,N/A,N/A");
+                        continue;
+                    }
+                    SampleSummary s = seedSummary(algo, metric);
+                    sb.append(String.format(",%.6f,%.6f,%.6f,%.6f,%.6f,%.6f",
+                            s.getMean(), s.getStd(), s.getMedian(), s.getIqr(), s.getMin(), s.getMax()));
+                }
+                writer.println(sb.append(boundsColumns()));
+            }
+        }
+
+        out.println("Per-seed reports generated successfully!");
+    }
+
+    /**
+     * Bootstrap each algorithm's mean per-seed HV and IGD: score each seed's front against the
+     * universal Pareto set under the shared per-seed bounds, then resample seeds. The estimate
+     * is the mean of the per-seed metrics. Without a BCa interval (estimate at the edge of the
+     * replicates) the percentile interval is printed.
+     */
+    private void calculateBootstrapIntervals() throws InterruptedException {
+        out.println("\n=== Bootstrapping Metrics (" + bootstrapResamples + " resamples) ===");
+        if (universalParetoSet.isEmpty()) {
+            out.println("  No universal Pareto set, skipping");
+            return;
+        }
+
+        double[] reference = sharedBounds.normalize(MetricsEngine.flatten(universalParetoSet));
+        Bootstrap bootstrap = new Bootstrap(reference, bootstrapResamples, BOOTSTRAP_CONFIDENCE, metricsThreads);
+        SplittableRandom seeds = new SplittableRandom(STATS_SEED);
+        for (String algo : algorithmSolutions.keySet()) {
+            double[][] seedPoints = new double[SEEDS.length][];
+            for (int s = 0; s < SEEDS.length; s++) {
+                seedPoints[s] = sharedBounds.normalize(algorithmSeedSolutions.get(algo).get(SEEDS[s]).flatten(0, 1));
+            }
+            Bootstrap.Interval[] intervals = bootstrap.run(seedPoints, seeds.nextLong());
+            if (intervals == null) {
+                out.println("  " + algo + ": No solutions, skipping");
+                continue;
+            }
+            bootstrapIntervals.put(algo, intervals);
+
+            Bootstrap.Interval hv = intervals[Bootstrap.HV];
+            Bootstrap.Interval igd = intervals[Bootstrap.IGD];
+            out.println("  " + algo + ": HV=" + formatInterval(hv) + ", IGD=" + formatInterval(igd) +
+                    " (" + Math.round(BOOTSTRAP_CONFIDENCE * 100) + "%)");
+        }
+    }
+
+    /**
+     * Estimate with its BCa interval, or with its percentile interval when the estimate is at
+     * the edge of the replicates.
+     */
+    private static String formatInterval(Bootstrap.Interval interval) {
+        if (interval.hasBca()) {
+            return String.format("%.6f [%.6f, %.6f] BCa", interval.getEstimate(), interval.getBcaLow(), interval.getBcaHigh());
+        }
+        return String.format("%.6f [%.6f, %.6f] percentile, estimate at edge of replicates",
+                interval.getEstimate(), interval.getPercentileLow(), interval.getPercentileHigh());
+    }
+
+    /**
+     * Write the bootstrap intervals: per metric the estimate, bootstrap standard error,
+     * percentile interval and BCa interval (NaN when the estimate is at the edge of the
+     * replicates), followed by the per-seed normalization bounds.
+     */
+    private void generateBootstrapReport() throws IOException {
+        File csvDir = new File(basePath, "PerformanceCalculations");
+        if (!csvDir.exists()) {
+            csvDir.mkdirs();
+        }
+        String outputFile = new File(csvDir, "bootstrap_" + numTasks + "_" + objective1 + "_vs_" + objective2 + ".csv").getAbsolutePath();
+
+        out.println("\n=== Generating Bootstrap Report ===");
+        out.println("Output file: " + outputFile);
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
+            StringBuilder header = new StringBuilder("Algorithm,Resamples");
+            for (String metric : new String[]{"HV", "IGD"}) {
+                header.append(",").append(metric).append(",").append(metric).append("_SE,")
+                        .append(metric).append("_Percentile_Low,").append(metric).append("_Percentile_High,")
+                        .append(metric).append("_BCa_Low,").append(metric).append("_BCa_High");
+            }
+            writer.println(header.append(boundsHeader()));
+
+            for (Map.Entry<String, Bootstrap.Interval[]> entry : bootstrapIntervals.entrySet()) {
+                StringBuilder sb = new StringBuilder(entry.getKey()).append(",").append(bootstrapResamples);
+                for (Bootstrap.Interval interval : entry.getValue()) {
+                    sb.append(String.format(",%.6f,%.6f,%.6f,%.6f,%.6f,%.6f",
+                            interval.getEstimate(), interval.getStandardError(),
+                            interval.getPercentileLow(), interval.getPercentileHigh(),
+                            interval.getBcaLow(), interval.getBcaHigh()));
+                }
+                writer.println(sb.append(boundsColumns()));
+            }
+        }
+
+        out.println("Bootstrap report generated successfully!");
+    }
+
+    /**
+     * Write the statistical tests: stats_*.csv lists the Kruskal-Wallis result and every pair's
+     * U, p-value, Holm-adjusted p-value and A12, with the per-seed normalization bounds the
+     * tested values were scored on; significance_*.csv is a matrix per metric with
+     * + where the row algorithm is significantly better than the column one, - where it is
+     * significantly worse and = otherwise.
+     */
+    private void generateStatisticsReports() throws IOException {
+        File csvDir = new File(basePath, "PerformanceCalculations");
+        if (!csvDir.exists()) {
+            csvDir.mkdirs();
+        }
+        String suffix = numTasks + "_" + objective1 + "_vs_" + objective2 + ".csv";
+        String statsFile = new File(csvDir, "stats_" + suffix).getAbsolutePath();
+        String matrixFile = new File(csvDir, "significance_" + suffix).getAbsolutePath();
+
+        out.println("\n=== Generating Statistics Reports ===");
+        out.println("Output files: " + statsFile + ", " + matrixFile);
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(statsFile))) {
+            writer.println("Metric,Test,Algorithm_A,Algorithm_B,Statistic,P_Value,P_Holm,A12,Effect" + boundsHeader());
+            for (MetricTests tests : metricTests) {
+                if (tests.tied) {
+                    writer.println(tests.metric + ",Skipped,All,,,,,,all values tied" + boundsColumns());
+                    continue;
+                }
+                writer.println(tests.metric + ",Kruskal-Wallis,All,," +
+                        String.format("%.6f,%.6f", tests.kruskalWallisH, tests.kruskalWallisP) + ",,," + boundsColumns());
+                int count = tests.algos.size();
+                for (int a = 0; a < count; a++) {
+                    for (int b = a + 1; b < count; b++) {
+                        writer.println(tests.metric + ",Wilcoxon," + tests.algos.get(a) + "," + tests.algos.get(b) + "," +
+                                String.format("%.1f,%.6f,%.6f,%.6f", tests.u[a][b], tests.p[a][b], tests.pHolm[a][b], tests.a12[a][b]) +
+                                "," + StatisticalTests.effectMagnitude(tests.a12[a][b]) + boundsColumns());
+                    }
+                }
+            }
+        }
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(matrixFile))) {
+            for (MetricTests tests : metricTests) {
+                if (tests.tied) {
+                    continue;
+                }
+                StringBuilder header = new StringBuilder("Metric,Algorithm");
+                for (String algo : tests.algos) {
+                    header.append(",").append(algo);
+                }
+                writer.println(header);
+
+                int count = tests.algos.size();
+                for (int a = 0; a < count; a++) {
+                    StringBuilder sb = new StringBuilder(tests.metric).append(",").append(tests.algos.get(a));
+                    for (int b = 0; b < count; b++) {
+                        String cell = "=";
+                        if (a != b && tests.pHolm[a][b] < STATS_ALPHA) {
+                            cell = tests.a12[a][b] > 0.5 ? "+" : "-";
+                        }
+                        sb.append(",").append(a == b ? "" : cell);
+                    }
+                    writer.println(sb);
+                }
+            }
+        }
+
+        out.println("Statistics reports generated successfully!");
+    }
+
+    /**
+     * Write the C-metric of every ordered pair of algorithm fronts: the row algorithm's share
+     * of the column algorithm's non-dominated solutions that it strictly dominates.
+     */
+    private void generateCMetricReport() throws IOException, InterruptedException {
+        List<String> algos = new ArrayList<>(algorithmNonDominated.keySet());
+        List<double[]> fronts = new ArrayList<>();
+        for (String algo : algos) {
+            fronts.add(MetricsEngine.flatten(algorithmNonDominated.get(algo)));
+        }
+        double[][] matrix = CoverageMatrix.compute(fronts, metricsThreads);
+
+        File csvDir = new File(basePath, "PerformanceCalculations");
+        if (!csvDir.exists()) {
+            csvDir.mkdirs();
+        }
+        String outputFile = new File(csvDir, "cmetric_" + numTasks + "_" + objective1 + "_vs_" + objective2 + ".csv").getAbsolutePath();
+
+        out.println("\n=== Generating C-Metric Matrix ===");
+        out.println("Output file: " + outputFile);
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
+            // Header: C(row, column) in each cell
+            StringBuilder header = new StringBuilder("Algorithm");
+            for (String algo : algos) {
+                header.append(",").append(algo);
+            }
+            writer.println(header);
+
+            for (int a = 0; a < algos.size(); a++) {
+                StringBuilder sb = new StringBuilder(algos.get(a));
+                for (int b = 0; b < algos.size(); b++) {
+                    sb.append(",").append(String.format("%.6f", matrix[a][b]));
+                }
+                writer.println(sb);
+            }
+        }
+
+        out.println("C-metric matrix generated successfully!");
+    }
+
+    /**
+     * Interleaved solutions of each seed of an algorithm that has any; seeds without solutions
+     * are not runs of the attainment function.
+     */
+    private List<double[]> seedRuns(String algo) {
+        List<double[]> runs = new ArrayList<>();
+        Map<Integer, SolutionTable.View> seeds = algorithmSeedSolutions.get(algo);
+        if (seeds != null) {
+            for (SolutionTable.View solutions : seeds.values()) {
+                if (!solutions.isEmpty()) {
+                    runs.add(solutions.flatten(0, 1));
+                }
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Compute every k-attainment surface of each algorithm over its seeds.
+     */
+    private void calculateAttainmentSurfaces() {
+        out.println("\n=== Calculating Attainment Surfaces ===");
+        for (String algo : algorithmSolutions.keySet()) {
+            List<double[]> runs = seedRuns(algo);
+            if (runs.isEmpty()) {
+                continue;
+            }
+            double[][] surfaces = AttainmentSurfaces.surfaces(runs);
+            algorithmAttainment.put(algo, surfaces);
+            out.println("  " + algo + ": " + runs.size() + " runs, best/median/worst surface " +
+                    surfaces[0].length / 2 + "/" +
+                    surfaces[AttainmentSurfaces.level(50, runs.size()) - 1].length / 2 + "/" +
+                    surfaces[runs.size() - 1].length / 2 + " points");
+        }
+    }
+
+    /**
+     * Write the EAF difference of the two --eaf-diff algorithms: the rectangles of objective
+     * space where they attain different fractions of their runs.
+     */
+    private void generateEafDifferenceReport() throws IOException {
+        String[] pair = eafDiff.split(",");
+        if (pair.length != 2) {
+            System.err.println("Error: --eaf-diff expects two algorithms as <a,b>, got: " + eafDiff);
+            return;
+        }
+        String algoA = pair[0].trim();
+        String algoB = pair[1].trim();
+        List<double[]> runsA = seedRuns(algoA);
+        List<double[]> runsB = seedRuns(algoB);
+        if (runsA.isEmpty() || runsB.isEmpty()) {
+            out.println("\n=== EAF Difference ===");
+            out.println("  No seeded solutions for " + (runsA.isEmpty() ? algoA : algoB) + ", skipping");
+            return;
+        }
+        eafDiffAlgos = new String[]{algoA, algoB};
+        eafDifference = AttainmentSurfaces.difference(runsA, runsB);
+
+        File csvDir = new File(basePath, "PerformanceCalculations");
+        if (!csvDir.exists()) {
+            csvDir.mkdirs();
+        }
+        String outputFile = new File(csvDir, "eafdiff_" + numTasks + "_" + objective1 + "_vs_" + objective2 + ".csv").getAbsolutePath();
+
+        out.println("\n=== Generating EAF Difference (" + algoA + " vs " + algoB + ") ===");
+        out.println("Output file: " + outputFile);
+
+        int better = 0;
+        try (PrintWriter writer = new PrintWriter(new FileWriter(outputFile))) {
+            writer.println(objective1 + "_Low," + objective2 + "_Low," + objective1 + "_High," + objective2 + "_High," +
+                    "Attainment_" + algoA + ",Attainment_" + algoB + ",Difference");
+            for (double[] r : eafDifference) {
+                writer.println(r[0] + "," + r[1] + "," + r[2] + "," + r[3] + "," +
+                        String.format("%.6f,%.6f,%.6f", r[4], r[5], r[4] - r[5]));
+                if (r[4] > r[5]) {
+                    better++;
+                }
+            }
+        }
+        out.println("  " + eafDifference.size() + " regions: " + better + " attained more often by " + algoA +
+                ", " + (eafDifference.size() - better) + " by " + algoB);
+        out.println("EAF difference generated successfully!");
     }
 
     private void generatePlot() throws Exception {
-        System.out.println("\n=== Generating Pareto Front Plot ===");
+        out.println("\n=== Generating Pareto Front Plot ===");
 
         // Detect operating system
         boolean isWindows = System.getProperty("os.name").toLowerCase().contains("win");
@@ -685,12 +1641,17 @@ public class TaskProcessor {
         command.add("--YMode");
         command.add(String.valueOf(plotYMode));
 
+        if (plotEaf != null) {
+            command.add("--eaf");
+            command.add(plotEaf);
+        }
+
         // Execute Python script
         ProcessBuilder pb = new ProcessBuilder(command);
         pb.redirectErrorStream(true);
         pb.directory(new File(basePath));
 
-        System.out.println("Executing: " + String.join(" ", command));
+        out.println("Executing: " + String.join(" ", command));
 
         Process process = pb.start();
 
@@ -698,19 +1659,19 @@ public class TaskProcessor {
         BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
         String line;
         while ((line = reader.readLine()) != null) {
-            System.out.println(line);
+            out.println(line);
         }
 
         int exitCode = process.waitFor();
         if (exitCode != 0) {
             System.err.println("Plot generation failed with exit code: " + exitCode);
         } else {
-            System.out.println("Plot generated: " + outputFile);
+            out.println("Plot generated: " + outputFile);
         }
     }
 
     private void generatePlotDataJson(String jsonFile) throws IOException {
-        System.out.println("Generating plot data JSON: " + jsonFile);
+        out.println("Generating plot data JSON: " + jsonFile);
 
         try (PrintWriter writer = new PrintWriter(new FileWriter(jsonFile))) {
             writer.println("{");
@@ -728,7 +1689,7 @@ public class TaskProcessor {
 
             for (String algo : algorithmNonDominated.keySet()) {
                 List<double[]> nonDom = algorithmNonDominated.get(algo);
-                List<double[]> allSols = algorithmSolutions.get(algo);
+                SolutionTable.View allSols = algorithmSolutions.get(algo);
 
                 writer.println("    \"" + algo + "\": {");
                 writer.println("      \"total_solutions\": " + allSols.size() + ",");
@@ -746,12 +1707,35 @@ public class TaskProcessor {
                 // All points (for optional full plotting)
                 writer.println("      \"all_solutions\": [");
                 for (int i = 0; i < allSols.size(); i++) {
-                    double[] sol = allSols.get(i);
-                    writer.print("        [" + sol[0] + ", " + sol[1] + "]");
+                    writer.print("        [" + allSols.get(i, 0) + ", " + allSols.get(i, 1) + "]");
                     if (i < allSols.size() - 1) writer.print(",");
                     writer.println();
                 }
-                writer.println("      ]");
+
+                // Attainment surfaces as ready-to-draw staircases, level 1 (best) to runs (worst)
+                double[][] surfaces = algorithmAttainment.get(algo);
+                if (surfaces == null) {
+                    writer.println("      ]");
+                } else {
+                    writer.println("      ],");
+                    writer.println("      \"attainment\": {");
+                    writer.println("        \"runs\": " + surfaces.length + ",");
+                    writer.println("        \"median\": " + AttainmentSurfaces.level(50, surfaces.length) + ",");
+                    writer.println("        \"surfaces\": [");
+                    for (int k = 0; k < surfaces.length; k++) {
+                        double[] line = AttainmentSurfaces.staircase(surfaces[k]);
+                        writer.print("          [");
+                        for (int i = 0; i < line.length; i += 2) {
+                            if (i > 0) writer.print(", ");
+                            writer.print("[" + line[i] + ", " + line[i + 1] + "]");
+                        }
+                        writer.print("]");
+                        if (k < surfaces.length - 1) writer.print(",");
+                        writer.println();
+                    }
+                    writer.println("        ]");
+                    writer.println("      }");
+                }
 
                 algoCount++;
                 writer.print("    }");
@@ -769,7 +1753,25 @@ public class TaskProcessor {
                 if (i < universalParetoSet.size() - 1) writer.print(",");
                 writer.println();
             }
-            writer.println("  ]");
+
+            // EAF difference rectangles {x low, y low, x high, y high, attainment a - attainment b}
+            if (eafDifference == null) {
+                writer.println("  ]");
+            } else {
+                writer.println("  ],");
+                writer.println("  \"eaf_difference\": {");
+                writer.println("    \"a\": \"" + eafDiffAlgos[0] + "\",");
+                writer.println("    \"b\": \"" + eafDiffAlgos[1] + "\",");
+                writer.println("    \"rectangles\": [");
+                for (int i = 0; i < eafDifference.size(); i++) {
+                    double[] r = eafDifference.get(i);
+                    writer.print("      [" + r[0] + ", " + r[1] + ", " + r[2] + ", " + r[3] + ", " + (r[4] - r[5]) + "]");
+                    if (i < eafDifference.size() - 1) writer.print(",");
+                    writer.println();
+                }
+                writer.println("    ]");
+                writer.println("  }");
+            }
 
             writer.println("}");
         }
@@ -777,6 +1779,8 @@ public class TaskProcessor {
 
     public static void printUsage() {
         System.out.println("Usage: java taskprocessor.TaskProcessor <n> <includeSingleObjective> <objective1> <objective2> [options]");
+        System.out.println("       java taskprocessor.TaskProcessor --batch <includeSingleObjective> [batch options] [options]");
+        System.out.println("       java taskprocessor.TaskProcessor --objectives <o1,o2,...> <n> <includeSingleObjective> [ingestion options]");
         System.out.println();
         System.out.println("Required arguments:");
         System.out.println("  n                      Number of tasks (700, 900, or 1200)");
@@ -802,14 +1806,314 @@ public class TaskProcessor {
         System.out.println("                         - SA_AvgWait, SA_Energy, SA_Makespan -> \"Simulated Annealing\"");
         System.out.println("                         - GA_AvgWait, GA_Energy, GA_MAKESPAN -> \"Classic GA\"");
         System.out.println("                         - GA_ISL_AvgWait, GA_ISL_Energy, GA_ISL_Makespan -> \"Island Model GA\"");
+        System.out.println("  --plot-eaf <levels>    Attainment surfaces per algorithm, e.g. best,median,worst or 25,50,75");
+        System.out.println();
+        System.out.println("Ingestion options:");
+        System.out.println("  --workers <n>          Parallel file ingestion workers (default: 1)");
+        System.out.println("  --virtual-threads <bool> Use virtual threads for workers (Java 21+, default: false)");
+        System.out.println("  --cache <bool>         Use the parsed-results cache in .cache/ (default: true)");
+        System.out.println();
+        System.out.println("Metrics options:");
+        System.out.println("  --metrics-norm <mode>  Normalization bounds: pair or global (default: pair); per-seed");
+        System.out.println("                         stages use global bounds over all algorithm and seed fronts");
+        System.out.println("  --metrics-threads <n>  Algorithm fronts scored in parallel (default: 1)");
+        System.out.println("  --seed-metrics <bool>  Per-seed HV/GD/IGD and their spread (default: false)");
+        System.out.println("  --statistics <bool>    Significance tests over per-seed metrics, implies --seed-metrics (default: false)");
+        System.out.println("  --stats-permutations <n> Kruskal-Wallis permutations over per-seed metrics (default: 10000)");
+        System.out.println("  --bootstrap <n>        Bootstrap resamples for HV/IGD intervals, 0 to skip (default: 0)");
+        System.out.println("  --cmetric <bool>       Pairwise C-metric matrix of the algorithm fronts (default: false)");
+        System.out.println("  --eaf-diff <a,b>       Report (and plot) where two algorithms' attainment functions differ");
+        System.out.println();
+        System.out.println("Profiling options:");
+        System.out.println("  --profile <bool>       Write a per-stage run profile to PerformanceCalculations/ (default: false)");
+        System.out.println("                         Stages are also recorded as taskprocessor.Stage JFR events");
+        System.out.println("  --solution-store <bool> Write the parsed solutions as a memory-mappable store to");
+        System.out.println("                         PerformanceCalculations/ and read them from it in later");
+        System.out.println("                         stages (default: false); inspect with");
+        System.out.println("                         java taskprocessor.MappedSolutionStore <file>");
+        System.out.println();
+        System.out.println("Batch options (ingest each file once, run all configurations in parallel):");
+        System.out.println("  --tasks <n1,n2,...>    Task counts (default: 700,900,1200)");
+        System.out.println("  --pairs <o1:o2,...>    Objective pairs (default: Energy:Makespan,Energy:AvgWait,Makespan:AvgWait)");
+        System.out.println("  --batch-threads <n>    Configurations analysed concurrently (default: number of CPUs)");
+        System.out.println("                         --plot-output is ignored in batch mode");
+        System.out.println();
+        System.out.println("Objectives mode (any number of objectives, non-dominated sets and GD/IGD in k dimensions):");
+        System.out.println("  --objectives <o1,o2,...> Objectives: Makespan, Energy, AvgWait, AvgExec, AvgFinish,");
+        System.out.println("                         VmUtil, HostUtil, HostIdle or a result column name");
+        System.out.println("                         Prefix with max: to maximize (e.g. max:VmUtil)");
+        System.out.println("                         all = all eight result columns, utilizations maximized");
+        System.out.println("  --hv-threads <n>       Hypervolume threads for more than three objectives (default: 1)");
+        System.out.println("  --hv-budget <ms>       Exact hypervolume time budget per front, then Monte Carlo (default: 60000)");
+        System.out.println("  --hv-samples <n>       Monte Carlo samples when the budget runs out or estimating (default: 200000)");
+        System.out.println("  --hv-estimate <e>      Estimate every HV by Monte Carlo to relative standard error e");
+        System.out.println("                         Writes results_<n>_<o1>_vs_<o2>_vs_...csv; all MO runs are included");
         System.out.println();
         System.out.println("Examples:");
         System.out.println("  java taskprocessor.TaskProcessor 700 true Energy Makespan");
         System.out.println("  java taskprocessor.TaskProcessor 700 false Energy Makespan --plot");
         System.out.println("  java taskprocessor.TaskProcessor 1200 true Makespan AvgWait --plot --plot-title \"Custom Title\" --plot-legend false");
+        System.out.println("  java taskprocessor.TaskProcessor 700 true Energy Makespan --workers 8");
+        System.out.println("  java taskprocessor.TaskProcessor --batch true --plot-ymode true --workers 8");
+        System.out.println("  java taskprocessor.TaskProcessor --objectives Makespan,Energy,AvgWait 700 true");
+    }
+
+    /**
+     * Determine the base path: the last non-option argument after the required ones.
+     */
+    static String findBasePath(String[] args, int start) {
+        String basePath = System.getProperty("user.dir");
+        for (int i = start; i < args.length; i++) {
+            String arg = args[i];
+            // Skip option values
+            if (i > start && args[i-1].startsWith("--") && !args[i-1].equals("--plot")) {
+                continue;
+            }
+            if (!arg.startsWith("--")) {
+                basePath = arg;
+            }
+        }
+        return basePath;
+    }
+
+    /**
+     * Apply plot and ingestion options to a processor.
+     */
+    private static void applyOptions(TaskProcessor processor, String[] args, int start) {
+        for (int i = start; i < args.length; i++) {
+            String arg = args[i];
+
+            if (arg.equals("--plot")) {
+                processor.setGeneratePlot(true);
+            } else if (arg.equals("--plot-title") && i + 1 < args.length) {
+                processor.setPlotTitle(args[++i]);
+            } else if (arg.equals("--plot-legend") && i + 1 < args.length) {
+                processor.setPlotLegend(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--plot-labels") && i + 1 < args.length) {
+                processor.setPlotLabels(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--plot-marker-size") && i + 1 < args.length) {
+                processor.setPlotMarkerSize(Integer.parseInt(args[++i]));
+            } else if (arg.equals("--plot-marker-shape") && i + 1 < args.length) {
+                processor.setPlotMarkerShape(args[++i]);
+            } else if (arg.equals("--plot-output") && i + 1 < args.length) {
+                processor.setPlotOutput(args[++i]);
+            } else if (arg.equals("--plot-dpi") && i + 1 < args.length) {
+                processor.setPlotDpi(Integer.parseInt(args[++i]));
+            } else if (arg.equals("--plot-width") && i + 1 < args.length) {
+                processor.setPlotWidth(Double.parseDouble(args[++i]));
+            } else if (arg.equals("--plot-height") && i + 1 < args.length) {
+                processor.setPlotHeight(Double.parseDouble(args[++i]));
+            } else if (arg.equals("--plot-xmode") && i + 1 < args.length) {
+                processor.setPlotXMode(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--plot-ymode") && i + 1 < args.length) {
+                processor.setPlotYMode(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--plot-eaf") && i + 1 < args.length) {
+                processor.setPlotEaf(args[++i]);
+            } else if (arg.equals("--workers") && i + 1 < args.length) {
+                processor.setIngestWorkers(Integer.parseInt(args[++i]));
+            } else if (arg.equals("--virtual-threads") && i + 1 < args.length) {
+                processor.setIngestVirtualThreads(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--cache") && i + 1 < args.length) {
+                processor.setUseResultCache(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--metrics-norm") && i + 1 < args.length) {
+                processor.setMetricsNormalization(BatchMetricsEvaluator.Normalization.parse(args[++i]));
+            } else if (arg.equals("--metrics-threads") && i + 1 < args.length) {
+                processor.setMetricsThreads(Integer.parseInt(args[++i]));
+            } else if (arg.equals("--seed-metrics") && i + 1 < args.length) {
+                processor.setSeedMetrics(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--statistics") && i + 1 < args.length) {
+                processor.setStatistics(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--stats-permutations") && i + 1 < args.length) {
+                processor.setStatsPermutations(Integer.parseInt(args[++i]));
+            } else if (arg.equals("--bootstrap") && i + 1 < args.length) {
+                processor.setBootstrapResamples(Integer.parseInt(args[++i]));
+            } else if (arg.equals("--cmetric") && i + 1 < args.length) {
+                processor.setCMetric(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--eaf-diff") && i + 1 < args.length) {
+                processor.setEafDiff(args[++i]);
+            } else if (arg.equals("--profile") && i + 1 < args.length) {
+                processor.setWriteProfile(Boolean.parseBoolean(args[++i]));
+            } else if (arg.equals("--solution-store") && i + 1 < args.length) {
+                processor.setWriteSolutionStore(Boolean.parseBoolean(args[++i]));
+            }
+            // Non-option arguments (base path) already handled by findBasePath
+        }
+    }
+
+    private static boolean isValidObjectivePair(String objective1, String objective2) {
+        if (!OBJECTIVE_COLUMNS.containsKey(objective1)) {
+            System.err.println("Error: Invalid objective1. Must be Makespan, Energy, or AvgWait");
+            return false;
+        }
+        if (!OBJECTIVE_COLUMNS.containsKey(objective2)) {
+            System.err.println("Error: Invalid objective2. Must be Makespan, Energy, or AvgWait");
+            return false;
+        }
+        if (objective1.equals(objective2)) {
+            System.err.println("Error: objective1 and objective2 must be different");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Batch mode: ingest every result file of a task count exactly once with all result
+     * columns, then run the analysis for each objective pair in parallel on the shared rows.
+     * Each configuration writes the same CSV (and plot) as a single run; console output is
+     * buffered per configuration and printed in configuration order.
+     *
+     * @param template Processor carrying the plot and ingestion options
+     * @param taskCounts Task counts to process
+     * @param pairs Objective pairs to process
+     * @param threads Number of configurations analysed concurrently
+     */
+    private static void runBatch(TaskProcessor template, int[] taskCounts, List<String[]> pairs, int threads) throws Exception {
+        System.out.println("=== Task Processor (batch) ===");
+        System.out.println("Task counts: " + Arrays.toString(taskCounts));
+        System.out.print("Objective pairs:");
+        for (String[] pair : pairs) {
+            System.out.print(" " + pair[0] + "_vs_" + pair[1]);
+        }
+        System.out.println();
+        System.out.println("Include Single-Objective: " + template.includeSingleObjective);
+        System.out.println();
+
+        long start = System.nanoTime();
+        ResultScanner scanner = new ResultScanner(template.basePath, SEEDS,
+                new FileIngestor(template.ingestWorkers, template.ingestVirtualThreads));
+        ResultCache cache = template.useResultCache ? ResultCache.open(ResultCache.defaultFile(template.basePath), System.out) : null;
+        scanner.setCache(cache);
+
+        // Every SO folder used by any objective pair
+        Set<String> allFolders = new LinkedHashSet<>();
+        for (List<String> folders : SO_OBJECTIVE_FOLDERS.values()) {
+            allFolders.addAll(folders);
+        }
+        allFolders.addAll(SO_HEURISTIC_FOLDERS);
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        List<Future<?>> futures = new ArrayList<>();
+        List<ByteArrayOutputStream> buffers = new ArrayList<>();
+        try {
+            for (int numTasks : taskCounts) {
+                // Ingest each file once, keeping all result columns
+                System.out.println("Ingesting " + numTasks + " task results...");
+                List<ResultRow> rows = new ArrayList<>(scanner.scanMultiObjective(numTasks,
+                        Arrays.asList(ResultScanner.MO_OBJECTIVE_SUFFIXES), ResultRow.ALL_COLUMNS));
+                if (template.includeSingleObjective) {
+                    rows.addAll(scanner.scanSingleObjective(numTasks, allFolders, ResultRow.ALL_COLUMNS));
+                }
+                System.out.println();
+                if (cache != null) {
+                    cache.save();
+                }
+
+                for (String[] pair : pairs) {
+                    TaskProcessor processor = template.copyFor(numTasks, pair[0], pair[1]);
+                    processor.setPreloadedRows(rows);
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    processor.setOutput(new PrintStream(buffer, true));
+                    buffers.add(buffer);
+                    futures.add(pool.submit(() -> {
+                        processor.process();
+                        return null;
+                    }));
+                }
+            }
+
+            // Print each configuration's output in order
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } finally {
+                    System.out.print(buffers.get(i).toString());
+                    System.out.println();
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        if (cache != null) {
+            cache.printSummary();
+        }
+        System.out.println("=== Batch complete: " + futures.size() + " configurations in " +
+                String.format("%.3f", (System.nanoTime() - start) / 1e9) + " s ===");
+    }
+
+    /**
+     * Parse and run batch mode:
+     * --batch <includeSingleObjective> [--tasks n1,n2,...] [--pairs obj1:obj2,...] [--batch-threads n] [options] [basePath]
+     */
+    private static void mainBatch(String[] args) throws Exception {
+        if (args.length < 2) {
+            printUsage();
+            return;
+        }
+
+        boolean includeSingleObjective = Boolean.parseBoolean(args[1]);
+        int[] taskCounts = BATCH_TASK_COUNTS;
+        List<String[]> pairs = new ArrayList<>(Arrays.asList(BATCH_OBJECTIVE_PAIRS));
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--tasks") && i + 1 < args.length) {
+                String[] parts = args[++i].split(",");
+                taskCounts = new int[parts.length];
+                for (int j = 0; j < parts.length; j++) {
+                    taskCounts[j] = Integer.parseInt(parts[j].trim());
+                    if (taskCounts[j] != 700 && taskCounts[j] != 900 && taskCounts[j] != 1200) {
+                        System.err.println("Error: n must be 700, 900, or 1200");
+                        return;
+                    }
+                }
+            } else if (args[i].equals("--pairs") && i + 1 < args.length) {
+                pairs.clear();
+                for (String part : args[++i].split(",")) {
+                    String[] pair = part.trim().split(":");
+                    if (pair.length != 2 || !isValidObjectivePair(pair[0], pair[1])) {
+                        System.err.println("Error: Invalid objective pair '" + part + "'. Use obj1:obj2");
+                        return;
+                    }
+                    pairs.add(pair);
+                }
+            } else if (args[i].equals("--batch-threads") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            }
+        }
+
+        String basePath = findBasePath(args, 2);
+        TaskProcessor template = new TaskProcessor(0, includeSingleObjective, null, null, basePath);
+        applyOptions(template, args, 2);
+
+        runBatch(template, taskCounts, pairs, threads);
     }
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            try {
+                mainBatch(args);
+            } catch (NumberFormatException e) {
+                System.err.println("Error: Invalid number format - " + e.getMessage());
+            } catch (Exception e) {
+                System.err.println("Error: " + e.getMessage());
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        if (args.length > 0 && args[0].equals("--objectives")) {
+            try {
+                KObjectiveProcessor.mainObjectives(args);
+            } catch (NumberFormatException e) {
+                System.err.println("Error: Invalid number format - " + e.getMessage());
+            } catch (Exception e) {
+                System.err.println("Error: " + e.getMessage());
+                e.printStackTrace();
+            }
+            return;
+        }
+
         if (args.length < 4) {
             printUsage();
             return;
@@ -827,66 +2131,18 @@ public class TaskProcessor {
             String objective2 = args[3];
 
             // Validate objectives
-            if (!OBJECTIVE_COLUMNS.containsKey(objective1)) {
-                System.err.println("Error: Invalid objective1. Must be Makespan, Energy, or AvgWait");
-                return;
-            }
-            if (!OBJECTIVE_COLUMNS.containsKey(objective2)) {
-                System.err.println("Error: Invalid objective2. Must be Makespan, Energy, or AvgWait");
-                return;
-            }
-            if (objective1.equals(objective2)) {
-                System.err.println("Error: objective1 and objective2 must be different");
+            if (!isValidObjectivePair(objective1, objective2)) {
                 return;
             }
 
             // Determine base path - first scan for non-option arguments
-            String basePath = System.getProperty("user.dir");
-            for (int i = 4; i < args.length; i++) {
-                String arg = args[i];
-                // Skip option values
-                if (i > 4 && args[i-1].startsWith("--") && !args[i-1].equals("--plot")) {
-                    continue;
-                }
-                if (!arg.startsWith("--")) {
-                    basePath = arg;
-                }
-            }
+            String basePath = findBasePath(args, 4);
 
             // Create processor with determined base path
             TaskProcessor processor = new TaskProcessor(numTasks, includeSingleObjective, objective1, objective2, basePath);
 
             // Parse optional arguments
-            for (int i = 4; i < args.length; i++) {
-                String arg = args[i];
-
-                if (arg.equals("--plot")) {
-                    processor.setGeneratePlot(true);
-                } else if (arg.equals("--plot-title") && i + 1 < args.length) {
-                    processor.setPlotTitle(args[++i]);
-                } else if (arg.equals("--plot-legend") && i + 1 < args.length) {
-                    processor.setPlotLegend(Boolean.parseBoolean(args[++i]));
-                } else if (arg.equals("--plot-labels") && i + 1 < args.length) {
-                    processor.setPlotLabels(Boolean.parseBoolean(args[++i]));
-                } else if (arg.equals("--plot-marker-size") && i + 1 < args.length) {
-                    processor.setPlotMarkerSize(Integer.parseInt(args[++i]));
-                } else if (arg.equals("--plot-marker-shape") && i + 1 < args.length) {
-                    processor.setPlotMarkerShape(args[++i]);
-                } else if (arg.equals("--plot-output") && i + 1 < args.length) {
-                    processor.setPlotOutput(args[++i]);
-                } else if (arg.equals("--plot-dpi") && i + 1 < args.length) {
-                    processor.setPlotDpi(Integer.parseInt(args[++i]));
-                } else if (arg.equals("--plot-width") && i + 1 < args.length) {
-                    processor.setPlotWidth(Double.parseDouble(args[++i]));
-                } else if (arg.equals("--plot-height") && i + 1 < args.length) {
-                    processor.setPlotHeight(Double.parseDouble(args[++i]));
-                } else if (arg.equals("--plot-xmode") && i + 1 < args.length) {
-                    processor.setPlotXMode(Boolean.parseBoolean(args[++i]));
-                } else if (arg.equals("--plot-ymode") && i + 1 < args.length) {
-                    processor.setPlotYMode(Boolean.parseBoolean(args[++i]));
-                }
-                // Non-option arguments (base path) already handled above
-            }
+            applyOptions(processor, args, 4);
 
             processor.process();
 
@@ -0,0 +1,389 @@
+package taskprocessor;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Exact hypervolume for any number of objectives with the WFG algorithm, in normalized
+ * space with reference point (1, ..., 1), as {@link Hypervolume}.
+ *
+ * Slicing: points are sorted from worst to best in the last objective, and the volume is
+ * the sum over the points of their slab along that objective times their exclusive
+ * hypervolume in the remaining objectives against the points after them.
+ * Bounding: that exclusive hypervolume is the point's own box minus the hypervolume of the
+ * later points limited to the box, with the weakly dominated ones removed. Three objectives
+ * and fewer are handled by the exact sweeps in {@link Hypervolume}.
+ *
+ * The slab terms are independent and are summed by fork/join tasks, also inside the
+ * subproblems; the summation tree only depends on the input, so the value does not depend
+ * on the number of threads.
+ *
+ * With a time budget, a computation that runs over it is abandoned and the hypervolume is
+ * estimated by {@link HypervolumeEstimator} instead, with a 95% confidence interval.
+ */
+public class WfgHypervolume {
+
+    // Fronts smaller than this are summed in one task
+    private static final int PARALLEL_THRESHOLD = 64;
+    private static final int TERMS_PER_TASK = 8;
+
+    private static final double Z_95 = 1.959963984540054;
+
+    /**
+     * Hypervolume value, and how it was obtained.
+     */
+    public static class Result {
+        private final double value;
+        private final boolean exact;
+        private final double standardError;
+        private final long samples;
+
+        Result(double value, boolean exact, double standardError, long samples) {
+            this.value = value;
+            this.exact = exact;
+            this.standardError = standardError;
+            this.samples = samples;
+        }
+
+        public double getValue() { return value; }
+
+        /**
+         * True if computed exactly, false if estimated by Monte Carlo sampling.
+         */
+        public boolean isExact() { return exact; }
+
+        /**
+         * Standard error of the estimate, 0 when exact.
+         */
+        public double getStandardError() { return standardError; }
+
+        /**
+         * Number of Monte Carlo samples, 0 when exact.
+         */
+        public long getSamples() { return samples; }
+
+        /**
+         * Half-width of the 95% confidence interval, 0 when exact.
+         */
+        public double getConfidenceHalfWidth() { return Z_95 * standardError; }
+    }
+
+    /**
+     * Thrown inside the recursion once the time budget is spent.
+     */
+    private static class BudgetExceeded extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        BudgetExceeded() {
+            super("Hypervolume time budget exceeded", null, false, false);
+        }
+    }
+
+    private final int threads;
+    private final long timeBudgetMillis;
+    private long fallbackSamples = 200_000;
+    private long seed = 1200;
+
+    /**
+     * @param threads Number of worker threads (1 = run in the calling thread)
+     * @param timeBudgetMillis Time allowed for the exact computation, 0 for no limit
+     */
+    public WfgHypervolume(int threads, long timeBudgetMillis) {
+        this.threads = Math.max(1, threads);
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    /**
+     * Number of samples drawn by the Monte Carlo fallback (default 200,000).
+     */
+    public void setFallbackSamples(long fallbackSamples) { this.fallbackSamples = fallbackSamples; }
+
+    /**
+     * Seed of the Monte Carlo fallback, so estimates are reproducible (default 1200).
+     */
+    public void setSeed(long seed) { this.seed = seed; }
+
+    /**
+     * Hypervolume of a normalized point set with reference point (1, ..., 1).
+     * The input does not have to be non-dominated and is not modified.
+     *
+     * @param points Points with stride k
+     * @param n Number of points
+     * @param k Number of objectives
+     * @return Exact value, or a Monte Carlo estimate if the time budget ran out
+     */
+    public Result compute(double[] points, int n, int k) throws InterruptedException {
+        double[] p = contributingPoints(points, n, k);
+        int m = p.length / k;
+
+        // Deadline of this computation (System.nanoTime), Long.MAX_VALUE = none
+        long deadline = timeBudgetMillis > 0 ? System.nanoTime() + timeBudgetMillis * 1_000_000L : Long.MAX_VALUE;
+        try {
+            if (threads == 1) {
+                return new Result(hv(p, m, k, deadline), true, 0, 0);
+            }
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                return new Result(pool.invoke(new Volume(p, m, k, deadline)), true, 0, 0);
+            } finally {
+                pool.shutdownNow();
+            }
+        } catch (RuntimeException e) {
+            if (!isBudgetExceeded(e)) throw e;
+        }
+
+        HypervolumeEstimator.Estimate estimate = new HypervolumeEstimator(seed, threads).estimate(p, m, k, fallbackSamples, 0);
+        return new Result(estimate.getValue(), false, estimate.getStandardError(), estimate.getSamples());
+    }
+
+    /**
+     * Exact hypervolume in the calling thread, without a time budget.
+     */
+    static double exact(double[] points, int n, int k) {
+        double[] p = contributingPoints(points, n, k);
+        return hv(p, p.length / k, k, Long.MAX_VALUE);
+    }
+
+    /**
+     * Copy of the points that can add volume: strictly inside the reference box and not
+     * weakly dominated by another point.
+     */
+    static double[] contributingPoints(double[] points, int n, int k) {
+        int[] inside = Hypervolume.insideReference(points, n, k);
+        double[] p = new double[inside.length * k];
+        for (int i = 0; i < inside.length; i++) {
+            System.arraycopy(points, inside[i] * k, p, i * k, k);
+        }
+        int m = removeWeaklyDominated(p, inside.length, k);
+        return Arrays.copyOf(p, m * k);
+    }
+
+    private static boolean isBudgetExceeded(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof BudgetExceeded) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Hypervolume of points inside the reference box, without weakly dominated points.
+     * Used for every subproblem of the recursion, which gives up once the deadline passes.
+     */
+    private static double hv(double[] p, int n, int k, long deadline) {
+        if (System.nanoTime() > deadline) throw new BudgetExceeded();
+        if (n == 0) return 0.0;
+        if (n == 1) return inclusive(p, 0, k);
+        if (k == 2) return Hypervolume.hv2D(p, n);
+        if (k == 3) return Hypervolume.hv3D(p, n);
+
+        double[] q = worstFirst(p, n, k);
+        if (n < PARALLEL_THRESHOLD) {
+            return sumTerms(q, n, k, 0, n, deadline);
+        }
+        return ForkJoinTask.inForkJoinPool()
+                ? new Terms(q, n, k, 0, n, deadline).invoke()
+                : sumTree(q, n, k, 0, n, deadline);
+    }
+
+    /**
+     * Copy of the points ordered from the largest to the smallest last objective.
+     */
+    private static double[] worstFirst(double[] p, int n, int k) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Dominance.sortIndicesByObjective(order, p, k, k - 1);
+
+        double[] q = new double[n * k];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(p, order[n - 1 - i] * k, q, i * k, k);
+        }
+        return q;
+    }
+
+    /**
+     * Sum of the slab terms lo..hi-1: the slab of point i along the last objective times
+     * its exclusive hypervolume in the other objectives against the points after it.
+     */
+    private static double sumTerms(double[] q, int n, int k, int lo, int hi, long deadline) {
+        double volume = 0.0;
+        for (int i = lo; i < hi; i++) {
+            volume += (1.0 - q[i * k + k - 1]) * exclusive(q, n, k, i, deadline);
+        }
+        return volume;
+    }
+
+    /**
+     * Sequential version of {@link Terms}, with the same summation order.
+     */
+    private static double sumTree(double[] q, int n, int k, int lo, int hi, long deadline) {
+        if (hi - lo <= TERMS_PER_TASK) {
+            return sumTerms(q, n, k, lo, hi, deadline);
+        }
+        int mid = (lo + hi) >>> 1;
+        return sumTree(q, n, k, lo, mid, deadline) + sumTree(q, n, k, mid, hi, deadline);
+    }
+
+    /**
+     * Exclusive hypervolume of point i against points i+1..n-1, in the first k-1 objectives.
+     */
+    private static double exclusive(double[] q, int n, int k, int i, long deadline) {
+        int dims = k - 1;
+        double volume = inclusive(q, i, k, dims);
+        if (i == n - 1) return volume;
+
+        // Limit the later points to point i's box
+        int count = n - 1 - i;
+        double[] limited = new double[count * dims];
+        for (int j = 0; j < count; j++) {
+            int from = (i + 1 + j) * k;
+            for (int d = 0; d < dims; d++) {
+                limited[j * dims + d] = Math.max(q[i * k + d], q[from + d]);
+            }
+        }
+        int m = removeWeaklyDominated(limited, count, dims);
+        return volume - hv(limited, m, dims, deadline);
+    }
+
+    private static double inclusive(double[] p, int i, int k) {
+        return inclusive(p, i, k, k);
+    }
+
+    /**
+     * Volume of the box between point i (stride k) and the reference point, in the first dims objectives.
+     */
+    private static double inclusive(double[] p, int i, int k, int dims) {
+        double volume = 1.0;
+        for (int d = 0; d < dims; d++) {
+            volume *= 1.0 - p[i * k + d];
+        }
+        return volume;
+    }
+
+    /**
+     * Two-objective version of {@link #removeWeaklyDominated}: in (obj1, obj2) order a point
+     * is kept only if its obj2 is below that of every point before it.
+     */
+    private static int removeWeaklyDominated2D(double[] p, int n) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        // Stable sorts: by obj2, then by obj1
+        Dominance.sortIndicesByObjective(order, p, 2, 1);
+        Dominance.sortIndicesByObjective(order, p, 2, 0);
+
+        double[] kept = new double[2 * n];
+        int count = 0;
+        double minY = Double.POSITIVE_INFINITY;
+        for (int i : order) {
+            if (p[2 * i + 1] < minY) {
+                minY = p[2 * i + 1];
+                kept[2 * count] = p[2 * i];
+                kept[2 * count + 1] = minY;
+                count++;
+            }
+        }
+        System.arraycopy(kept, 0, p, 0, 2 * count);
+        return count;
+    }
+
+    /**
+     * Compact the points in place, dropping every point weakly dominated by (or equal to)
+     * another one. A weak dominator never has a larger coordinate sum, so points are visited
+     * in sum order and only compared with the points kept so far.
+     *
+     * @return Number of points kept, at the front of the array
+     */
+    static int removeWeaklyDominated(double[] p, int n, int k) {
+        if (n < 2) return n;
+        if (k == 2) return removeWeaklyDominated2D(p, n);
+
+        double[] sums = new double[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            double sum = 0;
+            for (int d = 0; d < k; d++) sum += p[i * k + d];
+            sums[i] = sum;
+            order[i] = i;
+        }
+        Dominance.sortIndicesByObjective(order, sums, 1, 0);
+
+        double[] kept = new double[n * k];
+        int count = 0;
+        for (int i : order) {
+            boolean dominated = false;
+            for (int r = 0; r < count && !dominated; r++) {
+                dominated = true;
+                for (int d = 0; d < k && dominated; d++) {
+                    dominated = kept[r * k + d] <= p[i * k + d];
+                }
+            }
+            if (!dominated) {
+                System.arraycopy(p, i * k, kept, count * k, k);
+                count++;
+            }
+        }
+        System.arraycopy(kept, 0, p, 0, count * k);
+        return count;
+    }
+
+    /**
+     * Whole hypervolume as the root task of the pool.
+     */
+    private static class Volume extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] p;
+        private final int n;
+        private final int k;
+        private final long deadline;
+
+        Volume(double[] p, int n, int k, long deadline) {
+            this.p = p;
+            this.n = n;
+            this.k = k;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected Double compute() {
+            return hv(p, n, k, deadline);
+        }
+    }
+
+    /**
+     * Sum of a range of slab terms, split in halves down to a few terms per task.
+     */
+    private static class Terms extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] q;
+        private final int n;
+        private final int k;
+        private final int lo;
+        private final int hi;
+        private final long deadline;
+
+        Terms(double[] q, int n, int k, int lo, int hi, long deadline) {
+            this.q = q;
+            this.n = n;
+            this.k = k;
+            this.lo = lo;
+            this.hi = hi;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected Double compute() {
+            if (hi - lo <= TERMS_PER_TASK) {
+                return sumTerms(q, n, k, lo, hi, deadline);
+            }
+            int mid = (lo + hi) >>> 1;
+            Terms left = new Terms(q, n, k, lo, mid, deadline);
+            Terms right = new Terms(q, n, k, mid, hi, deadline);
+            left.fork();
+            double rightVolume = right.compute();
+            return left.join() + rightVolume;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+#!/bin/bash
+#
+# Build script for the unit tests
+#
+# Compiles the taskprocessor sources and the JUnit 5 tests against them.
+#
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+SRC_DIR="$SCRIPT_DIR/src"
+OUT_DIR="$SCRIPT_DIR/out"
+LIB_DIR="$PROJECT_ROOT/lib"
+
+echo "========================================"
+echo "  Building Tests"
+echo "========================================"
+
+MAVEN_REPO="https://repo1.maven.org/maven2"
+
+declare -a JARS=(
+    "org/apache/poi/poi/5.2.3/poi-5.2.3.jar"
+    "org/apache/poi/poi-ooxml/5.2.3/poi-ooxml-5.2.3.jar"
+    "org/apache/poi/poi-ooxml-lite/5.2.3/poi-ooxml-lite-5.2.3.jar"
+    "org/apache/commons/commons-compress/1.21/commons-compress-1.21.jar"
+    "org/apache/xmlbeans/xmlbeans/5.1.1/xmlbeans-5.1.1.jar"
+    "commons-io/commons-io/2.11.0/commons-io-2.11.0.jar"
+    "org/apache/commons/commons-collections4/4.4/commons-collections4-4.4.jar"
+    "org/apache/logging/log4j/log4j-api/2.18.0/log4j-api-2.18.0.jar"
+    "org/junit/platform/junit-platform-console-standalone/1.10.2/junit-platform-console-standalone-1.10.2.jar"
+)
+
+# Download missing dependencies
+mkdir -p "$LIB_DIR"
+for jar_path in "${JARS[@]}"; do
+    jar_name=$(basename "$jar_path")
+    if [ ! -f "$LIB_DIR/$jar_name" ]; then
+        echo "Downloading $jar_name..."
+        curl -sLko "$LIB_DIR/$jar_name" "$MAVEN_REPO/$jar_path"
+    fi
+done
+
+SEP=":"
+if [[ "$OSTYPE" == "msys" || "$OSTYPE" == "cygwin" || "$OSTYPE" == "win32" ]]; then
+    # Windows uses semicolons
+    SEP=";"
+fi
+
+# Always rebuild taskprocessor so the tests run against the current sources
+echo "Compiling taskprocessor..."
+mkdir -p "$PROJECT_ROOT/out"
+javac -cp "$LIB_DIR/*" -d "$PROJECT_ROOT/out" "$PROJECT_ROOT"/src/taskprocessor/*.java
+
+echo "Compiling tests..."
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR"
+javac -cp "$LIB_DIR/*${SEP}$PROJECT_ROOT/out" -d "$OUT_DIR" \
+    $(find "$SRC_DIR" -name "*.java")
+
+echo ""
+echo "Build successful!"
+echo "Run with:"
+echo "  tests/run.sh"
@@ -0,0 +1,38 @@
+#!/bin/bash
+#
+# Run the unit tests
+#
+# Examples:
+#   ./run.sh                                  # All tests
+#   ./run.sh --select-class taskprocessor.DominanceTest
+#
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+OUT_DIR="$SCRIPT_DIR/out"
+LIB_DIR="$PROJECT_ROOT/lib"
+
+if [ ! -d "$OUT_DIR/taskprocessor" ]; then
+    echo "Tests not built. Running build first..."
+    "$SCRIPT_DIR/build.sh" || exit 1
+fi
+
+SEP=":"
+if [[ "$OSTYPE" == "msys" || "$OSTYPE" == "cygwin" || "$OSTYPE" == "win32" ]]; then
+    SEP=";"
+fi
+
+# The console launcher does not expand "lib/*", so every jar is listed
+CLASSPATH="$OUT_DIR${SEP}$PROJECT_ROOT/out"
+for jar in "$LIB_DIR"/*.jar; do
+    CLASSPATH="$CLASSPATH${SEP}$jar"
+done
+
+# Default to every test on the class path
+SELECT_ARGS=("$@")
+if [ $# -eq 0 ]; then
+    SELECT_ARGS=(--scan-classpath "$OUT_DIR")
+fi
+
+cd "$PROJECT_ROOT"
+java -jar "$LIB_DIR/junit-platform-console-standalone-1.10.2.jar" execute -cp "$CLASSPATH" "${SELECT_ARGS[@]}"
@@ -0,0 +1,156 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class AttainmentSurfacesTest {
+
+    /**
+     * Runs of points on an integer grid, so that objectives tie within and across runs; a few
+     * points have a NaN objective.
+     */
+    private static List<double[]> randomRuns(SplittableRandom random, int count) {
+        List<double[]> runs = new ArrayList<>();
+        for (int r = 0; r < count; r++) {
+            double[] points = new double[2 * random.nextInt(0, 8)];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = random.nextInt(10);
+            }
+            if (points.length > 0 && random.nextInt(4) == 0) {
+                points[random.nextInt(points.length)] = Double.NaN;
+            }
+            runs.add(points);
+        }
+        return runs;
+    }
+
+    /**
+     * Lowest second objective of a run among its points with first objective at most x.
+     */
+    private static double runBest(double[] run, double x) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < run.length; i += 2) {
+            if (run[i] <= x && !Double.isNaN(run[i + 1])) {
+                best = Math.min(best, run[i + 1]);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Number of runs with a point weakly dominating (x, y).
+     */
+    private static int attained(List<double[]> runs, double x, double y) {
+        int count = 0;
+        for (double[] run : runs) {
+            if (runBest(run, x) <= y) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Second objective of a surface at x: that of its last vertex at or before x.
+     */
+    private static double surfaceAt(double[] surface, double x) {
+        double y = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < surface.length && surface[i] <= x; i += 2) {
+            y = surface[i + 1];
+        }
+        return y;
+    }
+
+    @Test
+    void surfacesMatchKthSmallestRunBest() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 300; trial++) {
+            List<double[]> runs = randomRuns(random, random.nextInt(1, 7));
+            double[][] surfaces = AttainmentSurfaces.surfaces(runs);
+            assertEquals(runs.size(), surfaces.length);
+
+            for (int k = 1; k <= runs.size(); k++) {
+                double[] surface = surfaces[k - 1];
+                // Minimal points only: obj1 strictly ascending, obj2 strictly descending
+                for (int i = 2; i < surface.length; i += 2) {
+                    assertTrue(surface[i - 2] < surface[i] && surface[i - 1] > surface[i + 1], "trial " + trial + ", k=" + k);
+                }
+                for (double x = -0.5; x <= 9.5; x += 0.5) {
+                    double[] bests = new double[runs.size()];
+                    for (int r = 0; r < runs.size(); r++) {
+                        bests[r] = runBest(runs.get(r), x);
+                    }
+                    Arrays.sort(bests);
+                    assertEquals(bests[k - 1], surfaceAt(surface, x), "trial " + trial + ", k=" + k + ", x=" + x);
+                }
+            }
+        }
+    }
+
+    @Test
+    void surfacesOfKnownRuns() {
+        List<double[]> runs = List.of(new double[] {1, 3, 3, 1}, new double[] {2, 2}, new double[] {1, 4, 4, 1});
+        double[][] surfaces = AttainmentSurfaces.surfaces(runs);
+        assertArrayEquals(new double[] {1, 3, 2, 2, 3, 1}, surfaces[0]);
+        assertArrayEquals(new double[] {1, 4, 2, 3, 3, 2, 4, 1}, surfaces[1]);
+        assertArrayEquals(new double[] {2, 4, 4, 2}, surfaces[2]);
+        assertEquals(2, AttainmentSurfaces.level(50, 3));
+    }
+
+    @Test
+    void differenceMatchesPointSampledAttainment() {
+        SplittableRandom random = new SplittableRandom(1200);
+        int sampled = 0;
+        for (int trial = 0; trial < 300; trial++) {
+            List<double[]> runsA = randomRuns(random, random.nextInt(1, 5));
+            List<double[]> runsB = randomRuns(random, random.nextInt(1, 5));
+            List<double[]> rectangles = AttainmentSurfaces.difference(runsA, runsB);
+
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (List<double[]> runs : List.of(runsA, runsB)) {
+                for (double[] run : runs) {
+                    for (int i = 0; i < run.length; i += 2) {
+                        if (!Double.isNaN(run[i]) && !Double.isNaN(run[i + 1])) {
+                            maxX = Math.max(maxX, run[i]);
+                            maxY = Math.max(maxY, run[i + 1]);
+                        }
+                    }
+                }
+            }
+
+            // Sample at half-integers, never on a rectangle edge, inside the clipping box
+            for (double x = -0.5; x < maxX; x += 1.0) {
+                for (double y = -0.5; y < maxY; y += 1.0) {
+                    double fractionA = (double) attained(runsA, x, y) / runsA.size();
+                    double fractionB = (double) attained(runsB, x, y) / runsB.size();
+                    List<double[]> containing = new ArrayList<>();
+                    for (double[] rectangle : rectangles) {
+                        if (rectangle[0] < x && x < rectangle[2] && rectangle[1] < y && y < rectangle[3]) {
+                            containing.add(rectangle);
+                        }
+                    }
+
+                    String at = "trial " + trial + " at (" + x + ", " + y + ")";
+                    if (fractionA == fractionB) {
+                        assertEquals(0, containing.size(), at);
+                    } else {
+                        assertEquals(1, containing.size(), at);
+                        assertEquals(fractionA, containing.get(0)[4], at);
+                        assertEquals(fractionB, containing.get(0)[5], at);
+                        sampled++;
+                    }
+                }
+            }
+        }
+        assertTrue(sampled > 1000);
+    }
+}
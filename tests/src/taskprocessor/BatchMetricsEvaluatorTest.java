@@ -0,0 +1,149 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class BatchMetricsEvaluatorTest {
+
+    // Universal front and one algorithm's pooled front, interleaved (f1, f2)
+    private static final double[] REFERENCE = {0, 10, 5, 5, 10, 0};
+    private static final double[] POOLED = {1, 11, 6, 6, 11, 1};
+    // A seed that lies entirely beyond the reference front's bounds
+    private static final double[] WORSE_SEED = {3, 14, 9, 9, 14, 3};
+
+    @Test
+    void seedEqualToPooledFrontScoresTheSame() throws InterruptedException {
+        BatchMetricsEvaluator evaluator = new BatchMetricsEvaluator(
+                REFERENCE, BatchMetricsEvaluator.Normalization.PER_PAIR, 1);
+        List<double[]> pooled = List.of(POOLED);
+        List<double[]> seeds = List.of(POOLED.clone(), WORSE_SEED);
+        BatchMetricsEvaluator.Bounds bounds = evaluator.globalBounds(List.of(POOLED, POOLED, WORSE_SEED));
+
+        double[] pooledScores = evaluator.evaluate(pooled, bounds).getMetrics(0);
+        double[] seedScores = evaluator.evaluate(seeds, bounds).getMetrics(0);
+
+        assertArrayEquals(pooledScores, seedScores, 1e-12);
+    }
+
+    @Test
+    void seedBeyondReferenceBoundsKeepsHypervolume() throws InterruptedException {
+        BatchMetricsEvaluator evaluator = new BatchMetricsEvaluator(
+                REFERENCE, BatchMetricsEvaluator.Normalization.PER_PAIR, 2);
+        BatchMetricsEvaluator.Bounds bounds = evaluator.globalBounds(List.of(POOLED, WORSE_SEED));
+
+        double[][] scores = {
+                evaluator.evaluate(List.of(POOLED), bounds).getMetrics(0),
+                evaluator.evaluate(List.of(WORSE_SEED), bounds).getMetrics(0),
+        };
+
+        assertTrue(scores[1][BatchMetricsEvaluator.HV] > 0, Arrays.toString(scores[1]));
+        assertTrue(scores[1][BatchMetricsEvaluator.HV] < scores[0][BatchMetricsEvaluator.HV]);
+        assertTrue(scores[1][BatchMetricsEvaluator.IGD] > scores[0][BatchMetricsEvaluator.IGD]);
+    }
+
+    @Test
+    void sharedBoundsCoverEveryFront() throws InterruptedException {
+        BatchMetricsEvaluator evaluator = new BatchMetricsEvaluator(
+                REFERENCE, BatchMetricsEvaluator.Normalization.GLOBAL, 1);
+        List<double[]> fronts = List.of(POOLED, WORSE_SEED);
+
+        // Under GLOBAL the evaluator's own bounds are the shared bounds of the same fronts
+        double[][] own = {evaluator.evaluate(fronts).getMetrics(0), evaluator.evaluate(fronts).getMetrics(1)};
+        BatchMetricsEvaluator.Result shared = evaluator.evaluate(fronts, evaluator.globalBounds(fronts));
+
+        assertArrayEquals(own[0], shared.getMetrics(0), 1e-12);
+        assertArrayEquals(own[1], shared.getMetrics(1), 1e-12);
+    }
+
+    /**
+     * Non-dominated front of up to n random points on a grid, so fronts share values.
+     */
+    private static double[] randomFront(SplittableRandom random, int n) {
+        double[] points = new double[2 * n];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = random.nextInt(40) * 0.25;
+        }
+        int[] kept = Dominance.nonDominatedIndices2D(points, n);
+        double[] front = new double[2 * kept.length];
+        for (int k = 0; k < kept.length; k++) {
+            front[2 * k] = points[2 * kept[k]];
+            front[2 * k + 1] = points[2 * kept[k] + 1];
+        }
+        return front;
+    }
+
+    @Test
+    void perPairScoresEqualMetricsEngineOnEachPair() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 50; trial++) {
+            double[] reference = randomFront(random, random.nextInt(1, 30));
+            List<double[]> fronts = new ArrayList<>();
+            for (int f = 0; f < 6; f++) {
+                fronts.add(randomFront(random, random.nextInt(0, 30)));
+            }
+
+            BatchMetricsEvaluator.Result result = new BatchMetricsEvaluator(
+                    reference, BatchMetricsEvaluator.Normalization.PER_PAIR, 1 + trial % 4).evaluate(fronts);
+            for (int f = 0; f < fronts.size(); f++) {
+                // Documented: identical to MetricsEngine over [front, ref, ref]
+                MetricsEngine engine = new MetricsEngine(fronts.get(f), reference, reference);
+                double[] expected = {engine.HV(0), engine.GD(0), engine.IGD(0)};
+                assertArrayEquals(expected, result.getMetrics(f), "trial " + trial + ", front " + f);
+            }
+            assertEquals(new MetricsEngine(reference, reference, reference).HV(2), result.getReferenceHV());
+        }
+    }
+
+    @Test
+    void globalScoresShareOneScaleOverAllFronts() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(1200);
+        for (int trial = 0; trial < 50; trial++) {
+            double[] reference = randomFront(random, random.nextInt(1, 30));
+            List<double[]> fronts = new ArrayList<>();
+            for (int f = 0; f < 6; f++) {
+                fronts.add(randomFront(random, random.nextInt(0, 30)));
+            }
+
+            BatchMetricsEvaluator evaluator = new BatchMetricsEvaluator(
+                    reference, BatchMetricsEvaluator.Normalization.GLOBAL, 1 + trial % 4);
+            BatchMetricsEvaluator.Result result = evaluator.evaluate(fronts);
+
+            // Documented: one set of bounds over every front and the reference, i.e. one
+            // MetricsEngine over all of them with the reference at index 2
+            double[][] all = new double[3 + fronts.size()][];
+            all[0] = all[1] = all[2] = reference;
+            for (int f = 0; f < fronts.size(); f++) {
+                all[3 + f] = fronts.get(f);
+            }
+            MetricsEngine engine = new MetricsEngine(all);
+            for (int f = 0; f < fronts.size(); f++) {
+                double[] expected = {engine.HV(3 + f), engine.GD(3 + f), engine.IGD(3 + f)};
+                assertArrayEquals(expected, result.getMetrics(f), "trial " + trial + ", front " + f);
+            }
+            assertEquals(engine.HV(2), result.getReferenceHV());
+
+            BatchMetricsEvaluator.Bounds bounds = evaluator.globalBounds(fronts);
+            assertEquals(engine.f1min, bounds.getF1Min());
+            assertEquals(engine.f1max, bounds.getF1Max());
+            assertEquals(engine.f2min, bounds.getF2Min());
+            assertEquals(engine.f2max, bounds.getF2Max());
+        }
+    }
+
+    @Test
+    void normalizationParsesCommandLineValues() {
+        assertEquals(BatchMetricsEvaluator.Normalization.PER_PAIR, BatchMetricsEvaluator.Normalization.parse("pair"));
+        assertEquals(BatchMetricsEvaluator.Normalization.PER_PAIR, BatchMetricsEvaluator.Normalization.parse("Per-Pair"));
+        assertEquals(BatchMetricsEvaluator.Normalization.GLOBAL, BatchMetricsEvaluator.Normalization.parse("GLOBAL"));
+        assertThrows(IllegalArgumentException.class, () -> BatchMetricsEvaluator.Normalization.parse("local"));
+    }
+}
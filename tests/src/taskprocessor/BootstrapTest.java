@@ -0,0 +1,129 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class BootstrapTest {
+
+    private static final double[] REFERENCE = {0, 10, 5, 5, 10, 0};
+
+    // Solutions of three seeds, dominated ones included; the last seed lies beyond the reference
+    private static final double[][] SEEDS = {
+            {1, 11, 6, 6, 7, 8, 11, 1},
+            {2, 9, 4, 12, 8, 4, 12, 2},
+            {3, 14, 9, 9, 14, 3},
+    };
+
+    @Test
+    void estimateIsMeanPerSeedMetricOnFullSample() throws InterruptedException {
+        BatchMetricsEvaluator evaluator = new BatchMetricsEvaluator(
+                REFERENCE, BatchMetricsEvaluator.Normalization.PER_PAIR, 1);
+
+        List<double[]> fronts = new ArrayList<>();
+        fronts.add(nonDominated(concat(SEEDS)));
+        for (double[] seed : SEEDS) {
+            fronts.add(nonDominated(seed));
+        }
+        BatchMetricsEvaluator.Bounds bounds = evaluator.globalBounds(fronts);
+        BatchMetricsEvaluator.Result perSeed = evaluator.evaluate(fronts.subList(1, fronts.size()), bounds);
+        double hv = 0.0;
+        double igd = 0.0;
+        for (int s = 0; s < SEEDS.length; s++) {
+            hv += perSeed.getMetrics(s)[BatchMetricsEvaluator.HV] / SEEDS.length;
+            igd += perSeed.getMetrics(s)[BatchMetricsEvaluator.IGD] / SEEDS.length;
+        }
+
+        double[][] seedPoints = new double[SEEDS.length][];
+        for (int s = 0; s < SEEDS.length; s++) {
+            seedPoints[s] = bounds.normalize(SEEDS[s]);
+        }
+        Bootstrap.Interval[] intervals = new Bootstrap(bounds.normalize(REFERENCE), 200, 0.95, 2).run(seedPoints, 1200);
+
+        assertTrue(hv > 0);
+        assertEquals(hv, intervals[Bootstrap.HV].getEstimate(), 1e-12);
+        assertEquals(igd, intervals[Bootstrap.IGD].getEstimate(), 1e-12);
+    }
+
+    @Test
+    void intervalsContainEstimateForAnyThreads() throws InterruptedException {
+        // Ten seeds of noisy fronts of varying quality around the line x + y = 1
+        SplittableRandom random = new SplittableRandom(700);
+        double[][] seedPoints = new double[10][];
+        for (int s = 0; s < seedPoints.length; s++) {
+            double offset = 0.05 + 0.02 * random.nextDouble();
+            seedPoints[s] = new double[60];
+            for (int i = 0; i < 30; i++) {
+                double x = random.nextDouble();
+                seedPoints[s][2 * i] = x;
+                seedPoints[s][2 * i + 1] = 1.0 - x + offset + 0.1 * random.nextDouble();
+            }
+        }
+        double[] reference = new double[22];
+        for (int i = 0; i <= 10; i++) {
+            reference[2 * i] = i / 10.0;
+            reference[2 * i + 1] = 1.0 - i / 10.0;
+        }
+
+        Bootstrap.Interval[] single = new Bootstrap(reference, 1000, 0.95, 1).run(seedPoints, 1200);
+        Bootstrap.Interval[] parallel = new Bootstrap(reference, 1000, 0.95, 4).run(seedPoints, 1200);
+        for (int m : new int[] {Bootstrap.HV, Bootstrap.IGD}) {
+            Bootstrap.Interval a = single[m];
+            Bootstrap.Interval b = parallel[m];
+            assertEquals(a.getEstimate(), b.getEstimate());
+            assertEquals(a.getStandardError(), b.getStandardError());
+            assertEquals(a.getPercentileLow(), b.getPercentileLow());
+            assertEquals(a.getPercentileHigh(), b.getPercentileHigh());
+            assertEquals(a.getBcaLow(), b.getBcaLow());
+            assertEquals(a.getBcaHigh(), b.getBcaHigh());
+
+            assertTrue(a.hasBca(), "metric " + m);
+            assertTrue(a.getStandardError() > 0, "metric " + m);
+            assertTrue(a.getPercentileLow() < a.getEstimate() && a.getEstimate() < a.getPercentileHigh(), "metric " + m);
+            assertTrue(a.getBcaLow() < a.getEstimate() && a.getEstimate() < a.getBcaHigh(), "metric " + m);
+        }
+    }
+
+    @Test
+    void estimateAtEdgeOfReplicatesHasNoBca() throws InterruptedException {
+        // A single seed: every resample reproduces the estimate
+        Bootstrap.Interval[] intervals = new Bootstrap(new double[] {0, 0.5, 0.5, 0}, 100, 0.95, 2)
+                .run(new double[][] {{0.25, 0.25}}, 1200);
+        for (Bootstrap.Interval interval : intervals) {
+            assertFalse(interval.hasBca());
+            assertTrue(Double.isNaN(interval.getBcaHigh()));
+            assertEquals(interval.getEstimate(), interval.getPercentileLow());
+            assertEquals(interval.getEstimate(), interval.getPercentileHigh());
+        }
+        assertEquals(0.5625, intervals[Bootstrap.HV].getEstimate(), 1e-15);
+
+        assertNull(new Bootstrap(new double[] {0, 1}, 100, 0.95, 1).run(new double[][] {{}, {Double.NaN, 1}}, 1200));
+    }
+
+    private static double[] concat(double[][] parts) {
+        List<Double> values = new ArrayList<>();
+        for (double[] part : parts) {
+            for (double value : part) {
+                values.add(value);
+            }
+        }
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static double[] nonDominated(double[] points) {
+        int[] indices = Dominance.nonDominatedIndices2D(points, points.length / 2);
+        double[] front = new double[2 * indices.length];
+        for (int k = 0; k < indices.length; k++) {
+            front[2 * k] = points[2 * indices[k]];
+            front[2 * k + 1] = points[2 * indices[k] + 1];
+        }
+        return front;
+    }
+}
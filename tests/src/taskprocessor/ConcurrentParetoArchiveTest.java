@@ -0,0 +1,120 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentParetoArchiveTest {
+
+    private static final int PRODUCERS = 8;
+
+    @Test
+    void snapshotMatchesNonDominatedSetWithManyProducers() throws Exception {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 30; trial++) {
+            // Continuous values, a coarse grid for exact ties and duplicates, or grid values
+            // nudged by less than EPSILON; some first objectives fall outside [0, 1)
+            int n = 5000;
+            double[] points = new double[2 * n];
+            for (int i = 0; i < n; i++) {
+                double x = random.nextDouble() * 1.2 - 0.1;
+                switch (trial % 3) {
+                    case 0:
+                        points[2 * i] = x;
+                        points[2 * i + 1] = 1 - x + random.nextDouble() * 0.3;
+                        break;
+                    case 1:
+                        points[2 * i] = Math.round(x * 20) / 20.0;
+                        points[2 * i + 1] = Math.round((1 - x + random.nextDouble() * 0.3) * 20) / 20.0;
+                        break;
+                    default:
+                        points[2 * i] = Math.round(x * 20) / 20.0 + (random.nextInt(3) - 1) * 0.4 * Dominance.EPSILON;
+                        points[2 * i + 1] = Math.round((1 - x) * 20) / 20.0 + (random.nextInt(3) - 1) * 0.4 * Dominance.EPSILON;
+                        break;
+                }
+            }
+
+            ConcurrentParetoArchive archive = new ConcurrentParetoArchive(0, 1, 4 * PRODUCERS);
+            int[] indices = produce(archive, points, n);
+
+            assertArrayEquals(Dominance.nonDominatedIndices2D(points, n), indices, "trial " + trial);
+            List<double[]> solutions = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                solutions.add(new double[]{points[2 * i], points[2 * i + 1]});
+            }
+            List<double[]> expected = Dominance.getNonDominatedSet(solutions);
+            assertEquals(expected.size(), indices.length);
+            for (int i = 0; i < indices.length; i++) {
+                assertArrayEquals(expected.get(i), solutions.get(indices[i]));
+            }
+            assertArrayEquals(indices, archive.indices());
+
+            for (int i : indices) {
+                assertFalse(archive.isDominated(points[2 * i], points[2 * i + 1]));
+            }
+        }
+    }
+
+    /**
+     * Add every point from PRODUCERS threads, each taking every PRODUCERS-th position, while
+     * another thread keeps reading snapshots; every snapshot read meanwhile must be mutually
+     * non-dominated.
+     *
+     * @return The snapshot after all adds returned
+     */
+    private static int[] produce(ConcurrentParetoArchive archive, double[] points, int n) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(PRODUCERS + 1);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean done = new AtomicBoolean();
+            List<Future<?>> producers = new ArrayList<>();
+            for (int t = 0; t < PRODUCERS; t++) {
+                final int first = t;
+                producers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = first; i < n; i += PRODUCERS) {
+                        archive.add(points[2 * i], points[2 * i + 1], i);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> reader = pool.submit(() -> {
+                start.await();
+                while (!done.get()) {
+                    int[] snapshot = archive.indices();
+                    for (int a : snapshot) {
+                        for (int b : snapshot) {
+                            if (points[2 * a] < points[2 * b] && points[2 * a + 1] < points[2 * b + 1]) {
+                                throw new AssertionError("Snapshot point " + b + " is dominated by " + a);
+                            }
+                        }
+                    }
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> producer : producers) {
+                producer.get();
+            }
+            done.set(true);
+            reader.get();
+            return archive.indices();
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
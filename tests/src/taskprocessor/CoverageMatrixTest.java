@@ -0,0 +1,125 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class CoverageMatrixTest {
+
+    /**
+     * Non-dominated front on a coarse grid, so its points share one objective with points of
+     * the other fronts; optionally followed by points with a NaN objective, which the
+     * archives keep.
+     */
+    private static double[] randomFront(SplittableRandom random, int n, boolean withNaN) {
+        double[] points = new double[2 * n];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = 10 + random.nextInt(8) * 2.5;
+        }
+        int[] kept = Dominance.nonDominatedIndices2D(points, n);
+        int nans = withNaN ? random.nextInt(1, 3) : 0;
+        double[] front = new double[2 * (kept.length + nans)];
+        for (int i = 0; i < kept.length; i++) {
+            front[2 * i] = points[2 * kept[i]];
+            front[2 * i + 1] = points[2 * kept[i] + 1];
+        }
+        for (int i = kept.length; i < kept.length + nans; i++) {
+            front[2 * i] = random.nextBoolean() ? Double.NaN : 10 + random.nextInt(8) * 2.5;
+            front[2 * i + 1] = Double.isNaN(front[2 * i]) ? 12.5 : Double.NaN;
+        }
+        return front;
+    }
+
+    /**
+     * C(a, b) by the pairwise loop of MetricsEngine.C_Metric, on the raw values.
+     */
+    private static double pairwise(double[] a, double[] b) {
+        if (a.length == 0 || b.length == 0) return 0.0;
+        int count = 0;
+        for (int j = 0; j < b.length; j += 2) {
+            for (int i = 0; i < a.length; i += 2) {
+                if (a[i] < b[j] && a[i + 1] < b[j + 1]) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return (double) count / (b.length / 2);
+    }
+
+    @Test
+    void matchesMetricsEngineForEveryPair() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(700);
+        int compared = 0;
+        for (int trial = 0; trial < 200; trial++) {
+            List<double[]> fronts = new ArrayList<>();
+            int count = random.nextInt(1, 6);
+            for (int f = 0; f < count; f++) {
+                fronts.add(randomFront(random, random.nextInt(0, 12), trial % 2 == 0));
+            }
+
+            double[][] matrix = CoverageMatrix.compute(fronts, 1 + trial % 3);
+            for (int a = 0; a < count; a++) {
+                for (int b = 0; b < count; b++) {
+                    String pair = "trial " + trial + ", C(" + a + ", " + b + ")";
+                    assertEquals(pairwise(fronts.get(a), fronts.get(b)), matrix[a][b], pair);
+
+                    // MetricsEngine compares after normalizing; a NaN point at either end of a
+                    // sorted front makes its bounds NaN, and then every comparison fails
+                    MetricsEngine engine = new MetricsEngine(fronts.get(a), fronts.get(b));
+                    if (Double.isFinite(engine.f1min + engine.f1max + engine.f2min + engine.f2max)) {
+                        assertEquals(engine.C_Metric(0, 1), matrix[a][b], pair);
+                        compared++;
+                    }
+                }
+            }
+        }
+        assertTrue(compared > 500);
+    }
+
+    @Test
+    void tiesOnOneObjectiveDoNotDominate() throws InterruptedException {
+        double[] a = {1, 5, 3, 3};
+        double[] b = {1, 6, 2, 3, 4, 4};    // Tied with a on obj1, on obj2, and strictly dominated
+        double[][] matrix = CoverageMatrix.compute(List.of(a, b), 2);
+
+        assertEquals(1.0 / 3, matrix[0][1], 1e-15);
+        assertEquals(0.0, matrix[1][0]);
+        assertEquals(0.0, matrix[0][0]);
+        assertEquals(new MetricsEngine(a, b).C_Metric(0, 1), matrix[0][1]);
+    }
+
+    @Test
+    void nanPointsDominateNothingButCountInTheSize() throws InterruptedException {
+        // The NaN points stay inside the sorted fronts, so MetricsEngine's bounds are finite
+        double[] a = {1, 4, 2, Double.NaN, 3, 1};
+        double[] b = {0, 5, 2, 5, Double.NaN, 2, 2.5, 0.5, 5, 0};
+        double[][] matrix = CoverageMatrix.compute(List.of(a, b), 1);
+
+        // (1, 4) dominates (2, 5) and (2.5, 0.5) dominates (3, 1); NaN points are neither dominated nor dominating
+        assertEquals(0.2, matrix[0][1]);
+        assertEquals(1.0 / 3, matrix[1][0], 1e-15);
+        assertEquals(new MetricsEngine(a, b).C_Metric(0, 1), matrix[0][1]);
+        assertEquals(new MetricsEngine(b, a).C_Metric(0, 1), matrix[1][0]);
+    }
+
+    @Test
+    void resultDoesNotDependOnThreads() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(1200);
+        List<double[]> fronts = new ArrayList<>();
+        for (int f = 0; f < 9; f++) {
+            fronts.add(randomFront(random, 40, false));
+        }
+        double[][] single = CoverageMatrix.compute(fronts, 1);
+        double[][] parallel = CoverageMatrix.compute(fronts, 4);
+        for (int a = 0; a < fronts.size(); a++) {
+            assertArrayEquals(single[a], parallel[a]);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class DominanceTest {
+
+    @Test
+    void twoObjectiveFilterMatchesReferenceArchive() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 300; trial++) {
+            // Coarse grids give exact ties in one or both objectives and exact duplicates
+            int grid = trial % 3 == 0 ? 1_000_000 : 2 + trial % 20;
+            List<double[]> solutions = new ArrayList<>();
+            int n = random.nextInt(1, 200);
+            for (int i = 0; i < n; i++) {
+                solutions.add(new double[]{random.nextInt(grid), random.nextInt(grid)});
+            }
+
+            assertSameSolutions(Dominance.getNonDominatedSetReference(solutions), Dominance.getNonDominatedSet(solutions));
+        }
+    }
+
+    @Test
+    void twoObjectiveFilterMatchesReferenceOnLargeInput() {
+        // Enough points for the pivot prefilter to drop most of them
+        SplittableRandom random = new SplittableRandom(1200);
+        List<double[]> solutions = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            double x = random.nextDouble();
+            solutions.add(new double[]{Math.round(x * 500) / 500.0, Math.round((1 - x + random.nextDouble()) * 500) / 500.0});
+        }
+
+        assertSameSolutions(Dominance.getNonDominatedSetReference(solutions), Dominance.getNonDominatedSet(solutions));
+    }
+
+    @Test
+    void twoObjectiveFilterDecidesDominancePerPoint() {
+        // p0 and p1 are EPSILON-duplicates and p2 strictly dominates p0 only. The reference
+        // archive collapses p1 into p0 before p2 arrives and then drops both; the filter keeps
+        // p1, which nothing strictly dominates
+        List<double[]> solutions = List.of(
+                new double[]{1 - 6e-10, 1 + 6e-10},
+                new double[]{1 - 6e-10, 1},
+                new double[]{0, 1});
+
+        assertSameSolutions(List.of(solutions.get(2)), Dominance.getNonDominatedSetReference(solutions));
+        assertSameSolutions(List.of(solutions.get(1), solutions.get(2)), Dominance.getNonDominatedSet(solutions));
+    }
+
+    @Test
+    void kernelsMatchReferenceFilter() {
+        SplittableRandom random = new SplittableRandom(900);
+        for (int k = 2; k <= 4; k++) {
+            for (int trial = 0; trial < 300; trial++) {
+                int n = random.nextInt(1, 150);
+                double[] points = new double[n * k];
+                switch (trial % 3) {
+                    case 0:
+                        // Continuous values: no ties
+                        for (int i = 0; i < points.length; i++) {
+                            points[i] = random.nextDouble();
+                        }
+                        break;
+                    case 1:
+                        // Small grid: exact ties per objective and exact duplicates
+                        int grid = 2 + trial % 5;
+                        for (int i = 0; i < points.length; i++) {
+                            points[i] = random.nextInt(grid);
+                        }
+                        break;
+                    default:
+                        // Grid values nudged by less than EPSILON: ties only within EPSILON
+                        for (int i = 0; i < points.length; i++) {
+                            points[i] = random.nextInt(4) + (random.nextInt(3) - 1) * 0.4 * Dominance.EPSILON;
+                        }
+                        break;
+                }
+
+                int[] expected = Dominance.nonDominatedIndicesReference(points, n, k);
+                assertArrayEquals(expected, Dominance.nonDominatedIndices(points, n, k), "k=" + k + ", trial " + trial);
+                assertArrayEquals(expected, Dominance.nonDominatedIndicesK(points, n, k), "k=" + k + ", trial " + trial);
+            }
+        }
+    }
+
+    @Test
+    void kObjectiveListFilterMatchesReferenceFilter() {
+        SplittableRandom random = new SplittableRandom(1201);
+        for (int k = 2; k <= 4; k++) {
+            List<double[]> solutions = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                double[] solution = new double[k];
+                for (int d = 0; d < k; d++) {
+                    solution[d] = random.nextInt(10);
+                }
+                solutions.add(solution);
+            }
+
+            int[] expected = Dominance.nonDominatedIndicesReference(flatten(solutions, k), solutions.size(), k);
+            List<double[]> nonDominated = Dominance.getNonDominatedSet(solutions, k);
+            assertEquals(expected.length, nonDominated.size());
+            for (int i = 0; i < expected.length; i++) {
+                assertSame(solutions.get(expected[i]), nonDominated.get(i));
+            }
+        }
+    }
+
+    @Test
+    void nanPointsAreKeptAndNeverDominate() {
+        double[] points = {
+                Double.NaN, 0, 0,
+                1, 1, 1,
+                2, 2, 2,
+                0, Double.NaN, 5,
+        };
+
+        assertArrayEquals(new int[]{0, 1, 3}, Dominance.nonDominatedIndices(points, 4, 3));
+        assertArrayEquals(new int[]{0, 1, 3}, Dominance.nonDominatedIndicesReference(points, 4, 3));
+    }
+
+    private static double[] flatten(List<double[]> solutions, int k) {
+        double[] points = new double[solutions.size() * k];
+        for (int i = 0; i < solutions.size(); i++) {
+            System.arraycopy(solutions.get(i), 0, points, i * k, k);
+        }
+        return points;
+    }
+
+    private static void assertSameSolutions(List<double[]> expected, List<double[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class EpsilonGridTest {
+
+    private static final String[] ALGORITHMS = {"MOEA_AMOSA", "MOEA_NSGAII", "MOEA_SPEAII", "SO_GA_Energy"};
+
+    // Offsets in multiples of epsilon: inside, exactly on and beyond the tolerance
+    private static final double[] OFFSETS = {0, 0.5, -0.5, 0.999, 1, -1, 1.001, 1.5, 2, -2, 3};
+
+    @Test
+    void pointsExactlyEpsilonApartAreNotEqual() {
+        // Dyadic values, so the differences are exact
+        double epsilon = 0.25;
+        EpsilonGrid grid = new EpsilonGrid(new double[] {1.0, 1.25, 1.0, 0.75}, new double[] {2.0, 2.0, 2.25, 2.125}, epsilon);
+
+        int[] matches = new int[4];
+        assertEquals(1, grid.findEqual(1.0, 2.0, matches));
+        assertEquals(0, matches[0]);
+        assertEquals(0, grid.findEqual(1.5, 2.0, matches));
+        assertEquals(3, grid.findEqual(1.125, 2.125, matches));
+        assertEquals(Set.of(0, 1, 2), asSet(matches, 3));
+        assertEquals(0, grid.findEqual(0.5, 2.125, matches));
+    }
+
+    @Test
+    void pointsStraddlingCellEdgeAreFound() {
+        // Cell size is 2 * epsilon = 0.5: the edges lie on multiples of 0.5
+        double epsilon = 0.25;
+        double[] xs = {0.49, 0.51, -0.01, 0.01, 0.4999999, 0.5};
+        double[] ys = {0.99, 1.01, -0.51, -0.49, 1.0, 1.0};
+        EpsilonGrid grid = new EpsilonGrid(xs, ys, epsilon);
+
+        int[] matches = new int[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            int count = grid.findEqual(xs[i], ys[i], matches);
+            assertEquals(bruteForce(xs, ys, xs[i], ys[i], epsilon), asSet(matches, count));
+        }
+        assertEquals(Set.of(0, 1, 4, 5), asSet(matches, grid.findEqual(0.5, 1.0, matches)));
+        assertEquals(Set.of(2, 3), asSet(matches, grid.findEqual(0.0, -0.5, matches)));
+    }
+
+    @Test
+    void findEqualMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(1200);
+        for (double epsilon : new double[] {Dominance.EPSILON, 0.25, 1e-3}) {
+            for (int trial = 0; trial < 20; trial++) {
+                int n = 1 + random.nextInt(300);
+                double[] xs = new double[n];
+                double[] ys = new double[n];
+                for (int i = 0; i < n; i++) {
+                    xs[i] = jittered(random, epsilon);
+                    ys[i] = jittered(random, epsilon);
+                }
+                EpsilonGrid grid = new EpsilonGrid(xs, ys, epsilon);
+
+                int[] matches = new int[n];
+                for (int q = 0; q < 200; q++) {
+                    double x = jittered(random, epsilon);
+                    double y = jittered(random, epsilon);
+                    int count = grid.findEqual(x, y, matches);
+                    assertEquals(bruteForce(xs, ys, x, y, epsilon), asSet(matches, count));
+                    assertEquals(count, asSet(matches, count).size());
+                }
+            }
+        }
+    }
+
+    @Test
+    void contributionsMatchPairwiseLoop() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 20; trial++) {
+            SolutionTable table = new SolutionTable("Energy", "Makespan");
+            int rows = 50 + random.nextInt(400);
+            for (int row = 0; row < rows; row++) {
+                // Few distinct base points, so algorithms and seeds find the same ones
+                int base = random.nextInt(30);
+                double energy = base * 10 * Dominance.EPSILON + offset(random) * Dominance.EPSILON;
+                double makespan = (30 - base) * 10 * Dominance.EPSILON + offset(random) * Dominance.EPSILON;
+                table.add(ALGORITHMS[random.nextInt(ALGORITHMS.length)], 700, 1200 + random.nextInt(5), row, energy, makespan);
+            }
+
+            SolutionTable.Grouping byAlgorithm = table.groupBy(SolutionTable.ALGORITHM);
+            List<SolutionTable.View> views = new ArrayList<>();
+            for (String algo : table.algorithms()) {
+                views.add(byAlgorithm.view(table.findAlgorithm(algo)));
+            }
+            List<double[]> all = new ArrayList<>();
+            for (SolutionTable.View view : views) {
+                for (int i = 0; i < view.size(); i++) {
+                    all.add(view.point(i));
+                }
+            }
+            List<double[]> paretoSet = Dominance.getNonDominatedSet(all, 2);
+
+            List<int[]> credited = TaskProcessor.creditParetoPoints(paretoSet, views);
+            int[] expected = pairwiseContributions(paretoSet, views);
+            for (int a = 0; a < views.size(); a++) {
+                assertEquals(expected[a], credited.get(a).length);
+                assertEquals(credited.get(a).length, asSet(credited.get(a), credited.get(a).length).size());
+            }
+        }
+    }
+
+    @Test
+    void contributionsCreditOncePerAlgorithmAndPoint() {
+        SolutionTable table = new SolutionTable("Energy", "Makespan");
+        table.add("A", 700, 1, 0, 1.0, 2.0);
+        table.add("A", 700, 2, 1, 1.0 + 0.5 * Dominance.EPSILON, 2.0);
+        table.add("B", 700, 1, 2, 1.0, 2.0 - 0.5 * Dominance.EPSILON);
+        table.add("B", 700, 1, 3, 2.0 + Dominance.EPSILON, 1.0);
+        SolutionTable.Grouping byAlgorithm = table.groupBy(SolutionTable.ALGORITHM);
+        List<SolutionTable.View> views = List.of(byAlgorithm.view(0), byAlgorithm.view(1));
+
+        List<int[]> credited = TaskProcessor.creditParetoPoints(List.of(new double[] {1.0, 2.0}, new double[] {2.0, 1.0}), views);
+        assertArrayEquals(new int[] {0}, credited.get(0));
+        assertArrayEquals(new int[] {0}, credited.get(1));
+        assertFalse(Dominance.arePointsEqual(new double[] {2.0 + Dominance.EPSILON, 1.0}, new double[] {2.0, 1.0}));
+        assertTrue(Dominance.arePointsEqual(new double[] {1.0, 2.0 - 0.5 * Dominance.EPSILON}, new double[] {1.0, 2.0}));
+    }
+
+    /**
+     * Contribution counts as computed before the grid: every Pareto point against every solution.
+     */
+    private static int[] pairwiseContributions(List<double[]> paretoSet, List<SolutionTable.View> views) {
+        int[] counts = new int[views.size()];
+        for (double[] paretoSol : paretoSet) {
+            Set<Integer> creditedAlgos = new HashSet<>();
+            for (int a = 0; a < views.size(); a++) {
+                SolutionTable.View view = views.get(a);
+                for (int i = 0; i < view.size(); i++) {
+                    if (Dominance.arePointsEqual(view.point(i), paretoSol) && creditedAlgos.add(a)) {
+                        counts[a]++;
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static Set<Integer> bruteForce(double[] xs, double[] ys, double x, double y, double epsilon) {
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < xs.length; i++) {
+            if (Dominance.arePointsEqual(new double[] {xs[i], ys[i]}, new double[] {x, y}, epsilon)) {
+                expected.add(i);
+            }
+        }
+        return expected;
+    }
+
+    /**
+     * Value near a multiple of epsilon, often on or next to a grid cell edge.
+     */
+    private static double jittered(SplittableRandom random, double epsilon) {
+        return (random.nextInt(41) - 20) * epsilon + offset(random) * epsilon;
+    }
+
+    private static double offset(SplittableRandom random) {
+        return OFFSETS[random.nextInt(OFFSETS.length)];
+    }
+
+    private static Set<Integer> asSet(int[] values, int count) {
+        Set<Integer> set = new HashSet<>();
+        for (int v : Arrays.copyOf(values, count)) {
+            set.add(v);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,129 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExcelReaderTest {
+
+    private static final String[] FIXTURE_DIRS = {"Multi-Objective Algorithms", "Single - Objective Algorithms"};
+
+    @TempDir
+    Path dir;
+
+    private final ExcelReader reader = new ExcelReader();
+
+    /**
+     * Every 100th workbook of the repository's result folders, run and summary files alike.
+     */
+    private static List<File> fixtures() throws IOException {
+        List<Path> all = new ArrayList<>();
+        for (String name : FIXTURE_DIRS) {
+            Path root = Paths.get(name);
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> files = Files.walk(root)) {
+                    all.addAll(files.filter(p -> p.toString().endsWith(".xlsx")).sorted().collect(Collectors.toList()));
+                }
+            }
+        }
+        List<File> sample = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += 100) {
+            sample.add(all.get(i).toFile());
+        }
+        return sample;
+    }
+
+    @Test
+    void streamingModeMatchesDomMode() throws Exception {
+        List<File> fixtures = fixtures();
+        assertTrue(fixtures.size() >= 50, "fixtures found: " + fixtures.size());
+        for (File file : fixtures) {
+            Map<String, Double> dom = reader.readExcelFile(file.getPath());
+            assertFalse(dom.isEmpty(), file.getPath());
+            assertEquals(dom, reader.readExcelFile(file.getPath(), null), file.getPath());
+        }
+    }
+
+    @Test
+    void streamingModeProjectsColumns() throws Exception {
+        for (File file : fixtures().subList(0, 10)) {
+            Map<String, Double> dom = reader.readExcelFile(file.getPath());
+            List<String> names = new ArrayList<>(dom.keySet());
+            Set<String> wanted = new LinkedHashSet<>();
+            for (int i = 0; i < names.size(); i += 3) {
+                wanted.add(names.get(i));
+            }
+            wanted.add("No Such Column");
+
+            Map<String, Double> expected = new HashMap<>(dom);
+            expected.keySet().retainAll(wanted);
+            assertEquals(expected, reader.readExcelFile(file.getPath(), wanted), file.getPath());
+        }
+    }
+
+    @Test
+    void missingHeaderOrDataRowFailsInBothModes() throws Exception {
+        // Only a data row at index 1
+        File noHeader = workbook("no_header.xlsx", false, true);
+        Exception dom = assertThrows(Exception.class, () -> reader.readExcelFile(noHeader.getPath()));
+        Exception streaming = assertThrows(Exception.class, () -> reader.readExcelFile(noHeader.getPath(), null));
+        assertTrue(dom.getMessage().startsWith("No header row"));
+        assertEquals(dom.getMessage(), streaming.getMessage());
+
+        File noData = workbook("no_data.xlsx", true, false);
+        dom = assertThrows(Exception.class, () -> reader.readExcelFile(noData.getPath()));
+        streaming = assertThrows(Exception.class, () -> reader.readExcelFile(noData.getPath(), Set.of("Energy")));
+        assertTrue(dom.getMessage().startsWith("No data row"));
+        assertEquals(dom.getMessage(), streaming.getMessage());
+
+        // Text, blank and numeric cells of a complete workbook
+        File complete = workbook("complete.xlsx", true, true);
+        Map<String, Double> values = reader.readExcelFile(complete.getPath());
+        assertEquals(Map.of("Makespan", 12.5, "Energy", 3.0), values);
+        assertEquals(values, reader.readExcelFile(complete.getPath(), null));
+    }
+
+    private File workbook(String name, boolean header, boolean data) throws IOException {
+        File file = dir.resolve(name).toFile();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            XSSFSheet sheet = workbook.createSheet("Results");
+            if (header) {
+                XSSFRow row = sheet.createRow(0);
+                row.createCell(0).setCellValue("Makespan");
+                row.createCell(1).setCellValue("Label");
+                row.createCell(3).setCellValue("Energy");
+            }
+            if (data) {
+                XSSFRow row = sheet.createRow(1);
+                row.createCell(0).setCellValue(12.5);
+                row.createCell(1).setCellValue("text");
+                row.createCell(3).setCellValue(3.0);
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+}
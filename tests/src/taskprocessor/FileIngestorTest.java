@@ -0,0 +1,147 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+class FileIngestorTest {
+
+    @Test
+    void streamsResultsInInputOrder() throws InterruptedException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            files.add(new File("file" + i));
+        }
+
+        // Early files take longest, so later ones finish first on the other workers
+        List<Integer> indices = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        new FileIngestor(4, false).ingest(files, file -> {
+            int i = Integer.parseInt(file.getName().substring(4));
+            Thread.sleep(Math.max(0, 10 - i));
+            if (i == 7) throw new IllegalStateException("unreadable");
+            return file.getName();
+        }, (index, value) -> {
+            indices.add(index);
+            values.add(value);
+        });
+
+        assertEquals(files.size(), indices.size());
+        for (int i = 0; i < files.size(); i++) {
+            assertEquals(i, indices.get(i));
+            if (i == 7) {
+                assertNull(values.get(i));
+            } else {
+                assertEquals("file" + i, values.get(i));
+            }
+        }
+    }
+
+    private static List<File> files(int count) {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(new File("file" + i));
+        }
+        return files;
+    }
+
+    private static int index(File file) {
+        return Integer.parseInt(file.getName().substring(4));
+    }
+
+    @Test
+    void resultsDoNotDependOnWorkers() throws InterruptedException {
+        List<File> files = files(200);
+        List<String> expected = null;
+        for (int workers : new int[] {1, 2, 3, 8, 32}) {
+            for (boolean virtualThreads : new boolean[] {false, true}) {
+                AtomicIntegerArray parsed = new AtomicIntegerArray(files.size());
+                List<String> values = new FileIngestor(workers, virtualThreads).ingest(files, file -> {
+                    int i = index(file);
+                    parsed.incrementAndGet(i);
+                    if (i % 17 == 0) Thread.sleep(1);
+                    return "parsed " + i;
+                });
+
+                String run = "workers=" + workers + ", virtual=" + virtualThreads;
+                for (int i = 0; i < files.size(); i++) {
+                    assertEquals(1, parsed.get(i), run);
+                }
+                if (expected == null) {
+                    expected = values;
+                }
+                assertEquals(expected, values, run);
+            }
+        }
+        assertEquals("parsed 199", expected.get(199));
+    }
+
+    @Test
+    void parseFailuresGiveNullAndAreReportedInInputOrder() throws InterruptedException {
+        PrintStream err = System.err;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(captured, true));
+        List<Integer> values;
+        try {
+            values = new FileIngestor(4, false).ingest(files(30), file -> {
+                int i = index(file);
+                // Later failures finish first
+                Thread.sleep(i < 10 ? 5 : 0);
+                if (i % 9 == 3) throw new IllegalArgumentException("bad " + i);
+                return i;
+            });
+        } finally {
+            System.setErr(err);
+        }
+
+        for (int i = 0; i < 30; i++) {
+            if (i % 9 == 3) {
+                assertNull(values.get(i));
+            } else {
+                assertEquals(i, values.get(i));
+            }
+        }
+        String report = captured.toString();
+        int previous = -1;
+        for (int i : new int[] {3, 12, 21}) {
+            int at = report.indexOf("Error reading file: file" + i + " - bad " + i);
+            assertTrue(at > previous, report);
+            previous = at;
+        }
+    }
+
+    @Test
+    void consumerFailureIsRethrownAfterWorkersFinish() {
+        List<File> files = files(50);
+        AtomicIntegerArray parsed = new AtomicIntegerArray(files.size());
+        List<Integer> delivered = new ArrayList<>();
+        IllegalStateException failure = new IllegalStateException("consumer failed");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+                new FileIngestor(4, false).ingest(files, file -> {
+                    parsed.incrementAndGet(index(file));
+                    return index(file);
+                }, (index, value) -> {
+                    delivered.add(index);
+                    if (index == 5) throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        // Nothing is delivered after the failure, but every file is still parsed
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), delivered);
+        for (int i = 0; i < files.size(); i++) {
+            assertEquals(1, parsed.get(i));
+        }
+    }
+}
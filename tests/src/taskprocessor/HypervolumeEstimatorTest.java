@@ -0,0 +1,78 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class HypervolumeEstimatorTest {
+
+    /**
+     * Random points with stride k, some outside the reference box and many dominated.
+     */
+    private static double[] randomPoints(SplittableRandom random, int n, int k) {
+        double[] points = new double[n * k];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = random.nextDouble() * 1.1;
+        }
+        return points;
+    }
+
+    @Test
+    void estimateDoesNotDependOnThreads() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int k = 2; k <= 4; k++) {
+            double[] points = randomPoints(random, 40, k);
+            for (double target : new double[] {0, 0.01}) {
+                HypervolumeEstimator.Estimate single = new HypervolumeEstimator(1200, 1).estimate(points, 40, k, 300_000, target);
+                HypervolumeEstimator.Estimate parallel = new HypervolumeEstimator(1200, 4).estimate(points, 40, k, 300_000, target);
+
+                assertEquals(single.getValue(), parallel.getValue(), "k=" + k);
+                assertEquals(single.getStandardError(), parallel.getStandardError(), "k=" + k);
+                assertEquals(single.getSamples(), parallel.getSamples(), "k=" + k);
+            }
+        }
+    }
+
+    @Test
+    void estimateIsCloseToExactValue() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(900);
+        for (int k = 2; k <= 4; k++) {
+            for (int trial = 0; trial < 5; trial++) {
+                int n = random.nextInt(1, 30);
+                double[] points = randomPoints(random, n, k);
+                double exact = Hypervolume.of(points, n, k);
+
+                HypervolumeEstimator.Estimate estimate = new HypervolumeEstimator(1200 + trial, 2).estimate(points, n, k, 200_000, 0);
+                assertEquals(200_000, estimate.getSamples());
+                assertEquals(exact, estimate.getValue(), 5 * estimate.getStandardError() + 1e-12,
+                        "k=" + k + ", trial " + trial);
+            }
+        }
+    }
+
+    @Test
+    void targetErrorStopsSamplingEarly() throws InterruptedException {
+        double[] points = randomPoints(new SplittableRandom(1200), 30, 3);
+        long budget = 10_000_000;
+
+        HypervolumeEstimator.Estimate estimate = new HypervolumeEstimator(1200, 2).estimate(points, 30, 3, budget, 0.01);
+        assertTrue(estimate.getSamples() < budget);
+        assertTrue(estimate.getRelativeError() <= 0.01);
+
+        // A tighter target needs more samples
+        HypervolumeEstimator.Estimate tighter = new HypervolumeEstimator(1200, 2).estimate(points, 30, 3, budget, 0.0005);
+        assertTrue(tighter.getSamples() > estimate.getSamples() && tighter.getSamples() < budget);
+        assertTrue(tighter.getRelativeError() <= 0.0005);
+    }
+
+    @Test
+    void emptyFrontGivesZero() throws InterruptedException {
+        double[] outside = {1.0, 0.5, 0.5, 1.2};
+        HypervolumeEstimator.Estimate estimate = new HypervolumeEstimator(1200, 2).estimate(outside, 2, 2, 10_000, 0);
+        assertEquals(0.0, estimate.getValue());
+        assertEquals(0, estimate.getSamples());
+    }
+}
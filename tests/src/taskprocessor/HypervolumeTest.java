@@ -0,0 +1,86 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class HypervolumeTest {
+
+    private static final double TOLERANCE = 1e-12;
+
+    /**
+     * Random points with stride k: continuous values, or a coarse grid for shared coordinates
+     * and duplicates. Some points lie outside the reference box and many are dominated.
+     */
+    private static double[] randomPoints(SplittableRandom random, int n, int k, boolean grid) {
+        double[] points = new double[n * k];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = grid ? random.nextInt(10) / 8.0 : random.nextDouble() * 1.1;
+        }
+        return points;
+    }
+
+    @Test
+    void sweepsMatchReference() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int k = 2; k <= 3; k++) {
+            for (int trial = 0; trial < 200; trial++) {
+                int n = random.nextInt(0, 25);
+                double[] points = randomPoints(random, n, k, trial % 2 == 0);
+                assertEquals(Hypervolume.hvReference(points, n, k), Hypervolume.of(points, n, k), TOLERANCE,
+                        "k=" + k + ", trial " + trial);
+            }
+        }
+    }
+
+    @Test
+    void contributionsMatchLeaveOneOutDifferences() {
+        SplittableRandom random = new SplittableRandom(900);
+        for (int k = 2; k <= 3; k++) {
+            for (int trial = 0; trial < 200; trial++) {
+                int n = random.nextInt(1, 20);
+                double[] points = randomPoints(random, n, k, trial % 2 == 0);
+                if (k == 2) {
+                    // The two-objective sweep expects a set without strictly dominated points
+                    int[] kept = Dominance.nonDominatedIndices(points, n, 2);
+                    points = select(points, kept, 2);
+                    n = kept.length;
+                }
+
+                double[] contributions = Hypervolume.contributions(points, n, k);
+                double total = Hypervolume.hvReference(points, n, k);
+                for (int i = 0; i < n; i++) {
+                    double[] rest = new double[(n - 1) * k];
+                    System.arraycopy(points, 0, rest, 0, i * k);
+                    System.arraycopy(points, (i + 1) * k, rest, i * k, (n - 1 - i) * k);
+                    assertEquals(total - Hypervolume.hvReference(rest, n - 1, k), contributions[i], TOLERANCE,
+                            "k=" + k + ", trial " + trial + ", point " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void contributionsNeedTwoOrThreeObjectives() {
+        assertThrows(IllegalArgumentException.class, () -> Hypervolume.contributions(new double[4], 1, 4));
+    }
+
+    @Test
+    void nanPointsAddNothing() {
+        double[] points = {0.5, 0.5, 0.5, Double.NaN, 0.1, 0.1, 0.2, 0.9, 0.9};
+        double[] without = {0.5, 0.5, 0.5, 0.2, 0.9, 0.9};
+
+        assertEquals(Hypervolume.hvReference(without, 2, 3), Hypervolume.of(points, 3, 3), TOLERANCE);
+    }
+
+    private static double[] select(double[] points, int[] indices, int k) {
+        double[] selected = new double[indices.length * k];
+        for (int i = 0; i < indices.length; i++) {
+            System.arraycopy(points, indices[i] * k, selected, i * k, k);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,236 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class KObjectiveProcessorTest {
+
+    // Algorithm (with objective suffix) of the generated Multi-Objective runs
+    private static final String[] RUN_ALGORITHMS = {"MOEA_NSGAII", "MOEA_SPEAII", "MOEA_AMOSA_eVSs"};
+
+    private static final String[] OBJECTIVES = {"Makespan", "Energy", "max:HostUtil"};
+    private static final int K = OBJECTIVES.length;
+
+    // CSV column of the first seed count and of HV
+    private static final int FIRST_SEED = 5;
+    private static final int HV = FIRST_SEED + TaskProcessor.SEEDS.length;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resolveColumnAcceptsShortAndColumnNames() {
+        assertEquals("Makespan", KObjectiveProcessor.resolveColumn("Makespan"));
+        assertEquals("Energy Use Wh", KObjectiveProcessor.resolveColumn("Energy"));
+        assertEquals("Avg Waiting Time", KObjectiveProcessor.resolveColumn("AvgWait"));
+        assertEquals("Avg Host Utilization %", KObjectiveProcessor.resolveColumn("HostUtil"));
+        assertEquals("Avg Host IDLE Time (s)", KObjectiveProcessor.resolveColumn("HostIdle"));
+        for (String column : ResultRow.COLUMNS) {
+            assertEquals(column, KObjectiveProcessor.resolveColumn(column));
+        }
+        assertNull(KObjectiveProcessor.resolveColumn("Throughput"));
+        assertNull(KObjectiveProcessor.resolveColumn("energy"));
+        // The prefix belongs to the objective, not the column
+        assertNull(KObjectiveProcessor.resolveColumn("max:HostUtil"));
+    }
+
+    @Test
+    void constructorResolvesMaximizedObjectives() {
+        new KObjectiveProcessor(700, false, new String[]{"max:VmUtil", "max:Avg Host Utilization %", "Energy"}, ".");
+        assertThrows(IllegalArgumentException.class,
+                () -> new KObjectiveProcessor(700, false, new String[]{"Makespan", "max:Throughput"}, "."));
+        assertThrows(IllegalArgumentException.class,
+                () -> new KObjectiveProcessor(700, false, new String[]{"Makespan", "min:Energy"}, "."));
+    }
+
+    @Test
+    void threeObjectiveRunMatchesReferenceFrontsAndHypervolume() throws Exception {
+        // Objective values on a small grid, so that points tie and repeat within and across runs
+        SplittableRandom random = new SplittableRandom(700);
+        File moDir = dir.resolve("Multi-Objective Algorithms").resolve("700 Task").toFile();
+        assertTrue(moDir.mkdirs());
+        Map<String, List<double[]>> solutions = new LinkedHashMap<>();
+        Map<String, int[]> seedCounts = new HashMap<>();
+        for (String algo : RUN_ALGORITHMS) {
+            solutions.put(algo, new ArrayList<>());
+            seedCounts.put(algo, new int[TaskProcessor.SEEDS.length]);
+            for (int sol = 0; sol < 12; sol++) {
+                int seedIndex = random.nextInt(TaskProcessor.SEEDS.length);
+                double makespan = 100 + random.nextInt(6);
+                double energy = 20 + random.nextInt(6) * 0.5;
+                double hostUtil = 40 + random.nextInt(6) * 5;
+                String name = algo + "_rnd_" + TaskProcessor.SEEDS[seedIndex] + "_10_00_00_sol_" + sol + ".xlsx";
+
+                // One run per algorithm lacks the maximized objective and is left out
+                boolean complete = sol != 5;
+                workbook(new File(moDir, name), makespan, energy, complete ? hostUtil : Double.NaN);
+                if (complete) {
+                    solutions.get(algo).add(new double[]{makespan, energy, -hostUtil});
+                    seedCounts.get(algo)[seedIndex]++;
+                }
+            }
+        }
+
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        KObjectiveProcessor processor = new KObjectiveProcessor(700, false, OBJECTIVES, dir.toString());
+        processor.setUseResultCache(false);
+        processor.setOutput(new PrintStream(log, true));
+        processor.process();
+        Map<String, String[]> report = report(dir.resolve("PerformanceCalculations")
+                .resolve("results_700_Makespan_vs_Energy_vs_maxHostUtil.csv"));
+
+        // Fronts by the k-objective filter, bounds over all of them
+        Map<String, double[]> fronts = new LinkedHashMap<>();
+        List<double[]> all = new ArrayList<>();
+        for (String algo : RUN_ALGORITHMS) {
+            fronts.put(algo, front(solutions.get(algo)));
+            all.addAll(solutions.get(algo));
+        }
+        double[] universal = front(all);
+        double[] min = new double[K];
+        double[] max = new double[K];
+        bounds(universal, min, max, true);
+        for (double[] front : fronts.values()) {
+            bounds(front, min, max, false);
+        }
+
+        int universalSize = universal.length / K;
+        String[] reference = report.get("Universal_Pareto_Set");
+        assertEquals(universalSize, Integer.parseInt(reference[3]));
+        assertEquals(Hypervolume.hvReference(normalize(universal, min, max), universalSize, K),
+                Double.parseDouble(reference[HV]), 1e-6);
+        assertTrue(log.toString().contains("Universal Pareto Set size: " + universalSize + " from " + all.size()));
+
+        for (String algo : RUN_ALGORITHMS) {
+            String[] row = report.get(algo);
+            double[] front = fronts.get(algo);
+            int n = front.length / K;
+            assertEquals(solutions.get(algo).size(), Integer.parseInt(row[2]), algo);
+            assertEquals(n, Integer.parseInt(row[3]), algo);
+            assertEquals(sharedPoints(universal, front), Integer.parseInt(row[4]), algo);
+            for (int s = 0; s < TaskProcessor.SEEDS.length; s++) {
+                assertEquals(seedCounts.get(algo)[s], Integer.parseInt(row[FIRST_SEED + s]), algo);
+            }
+            assertEquals(Hypervolume.hvReference(normalize(front, min, max), n, K), Double.parseDouble(row[HV]), 1e-6, algo);
+        }
+
+        // Algorithms without runs are reported empty
+        String[] empty = report.get("MOEA_eNSGAII_mVSs");
+        assertEquals("0", empty[2]);
+        assertEquals(0.0, Double.parseDouble(empty[HV]));
+    }
+
+    /**
+     * Non-dominated points of a list of solutions, flattened with stride K.
+     */
+    private static double[] front(List<double[]> solutions) {
+        int n = solutions.size();
+        double[] points = new double[K * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(solutions.get(i), 0, points, i * K, K);
+        }
+        int[] indices = Dominance.nonDominatedIndices(points, n, K);
+        double[] front = new double[K * indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            System.arraycopy(points, indices[i] * K, front, i * K, K);
+        }
+        return front;
+    }
+
+    private static void bounds(double[] points, double[] min, double[] max, boolean first) {
+        for (int d = 0; d < K; d++) {
+            if (first) {
+                min[d] = Double.POSITIVE_INFINITY;
+                max[d] = Double.NEGATIVE_INFINITY;
+            }
+            for (int i = d; i < points.length; i += K) {
+                min[d] = Math.min(min[d], points[i]);
+                max[d] = Math.max(max[d], points[i]);
+            }
+        }
+    }
+
+    private static double[] normalize(double[] points, double[] min, double[] max) {
+        double[] normalized = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            int d = i % K;
+            double range = max[d] - min[d];
+            normalized[i] = (points[i] - min[d]) / (range == 0 ? 1 : range);
+        }
+        return normalized;
+    }
+
+    /**
+     * Number of universal Pareto points that also occur in a front; the grid values compare exactly.
+     */
+    private static int sharedPoints(double[] universal, double[] front) {
+        int count = 0;
+        for (int p = 0; p < universal.length; p += K) {
+            for (int i = 0; i < front.length; i += K) {
+                if (universal[p] == front[i] && universal[p + 1] == front[i + 1] && universal[p + 2] == front[i + 2]) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static Map<String, String[]> report(Path csv) throws IOException {
+        List<String> lines = Files.readAllLines(csv);
+        Map<String, String[]> rows = new HashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] cells = line.split(",");
+            rows.put(cells[0], cells);
+        }
+        return rows;
+    }
+
+    /**
+     * Result workbook with every result column; a NaN value leaves its cell out.
+     */
+    private static void workbook(File file, double makespan, double energy, double hostUtil) throws IOException {
+        Map<String, Double> values = new HashMap<>();
+        for (int c = 0; c < ResultRow.COLUMNS.length; c++) {
+            values.put(ResultRow.COLUMNS[c], 1.0 + c);
+        }
+        values.put("Makespan", makespan);
+        values.put("Energy Use Wh", energy);
+        values.put("Avg Host Utilization %", hostUtil);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            XSSFRow header = workbook.createSheet("Results").createRow(0);
+            XSSFRow data = workbook.getSheet("Results").createRow(1);
+            for (int c = 0; c < ResultRow.COLUMNS.length; c++) {
+                header.createCell(c).setCellValue(ResultRow.COLUMNS[c]);
+                double value = values.get(ResultRow.COLUMNS[c]);
+                if (!Double.isNaN(value)) {
+                    data.createCell(c).setCellValue(value);
+                }
+            }
+            workbook.write(out);
+        }
+    }
+}
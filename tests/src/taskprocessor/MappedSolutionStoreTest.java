@@ -0,0 +1,110 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedSolutionStoreTest {
+
+    private static final String[] ALGORITHMS = {"MOEA_AMOSA", "MOEA_NSGAII", "SO_GA_Energy"};
+    private static final int[] SEEDS = {1200, 1201, 1202};
+
+    @TempDir
+    File dir;
+
+    private static SolutionTable table() {
+        SolutionTable table = new SolutionTable("Energy", "Makespan");
+        SplittableRandom random = new SplittableRandom(1200);
+        for (int row = 0; row < 500; row++) {
+            double energy = Math.round(random.nextDouble() * 100) / 4.0;   // Some duplicates
+            double makespan = 50 + random.nextDouble() * 50 - energy;
+            table.add(ALGORITHMS[row % 3], 700, SEEDS[(row / 3) % 3], row, energy, makespan);
+        }
+        return table;
+    }
+
+    @Test
+    void roundTripKeepsEveryRow() throws IOException {
+        SolutionTable table = table();
+        File file = new File(dir, "solutions.bin");
+        MappedSolutionStore.write(table, file);
+        MappedSolutionStore store = MappedSolutionStore.open(file);
+
+        assertEquals(table.size(), store.size());
+        assertEquals("Makespan", store.columnName(1));
+        for (int row = 0; row < table.size(); row++) {
+            assertEquals(table.value(0, row), store.value(0, row));
+            assertEquals(table.value(1, row), store.value(1, row));
+            assertEquals(table.algorithm(row), store.algorithm(row));
+            assertEquals(table.seed(row), store.seed(row));
+            assertEquals(table.file(row), store.file(row));
+        }
+    }
+
+    @Test
+    void nonDominatedRowsMatchTheTable() throws IOException {
+        SolutionTable table = table();
+        File file = new File(dir, "solutions.bin");
+        MappedSolutionStore.write(table, file);
+        MappedSolutionStore store = MappedSolutionStore.open(file);
+
+        SolutionTable.Grouping byAlgorithm = table.groupBy(SolutionTable.ALGORITHM);
+        for (String algorithm : ALGORITHMS) {
+            SolutionTable.View view = byAlgorithm.view(table.findAlgorithm(algorithm));
+            int[] expected = Dominance.nonDominatedIndices2D(view.flatten(0, 1), view.size());
+            for (int k = 0; k < expected.length; k++) {
+                expected[k] = view.row(expected[k]);
+            }
+            int[] rows = store.nonDominatedRows(0, 1, store.findAlgorithm(algorithm),
+                    MappedSolutionStore.ANY, MappedSolutionStore.ANY);
+            assertArrayEquals(expected, rows, algorithm);
+        }
+    }
+
+    @Test
+    void attachedTableReadsTheMapping() throws IOException {
+        SolutionTable table = table();
+        SolutionTable.Grouping bySeed = table.groupBy(SolutionTable.ALGORITHM, SolutionTable.SEED);
+        SolutionTable.View view = bySeed.view(table.findAlgorithm("MOEA_NSGAII"), table.findSeed(1201));
+        double[] before = view.flatten(0, 1);
+
+        File file = new File(dir, "solutions.bin");
+        MappedSolutionStore.write(table, file);
+        table.attach(MappedSolutionStore.open(file));
+
+        assertTrue(table.isAttached());
+        assertArrayEquals(before, view.flatten(0, 1));
+        assertArrayEquals(new double[]{before[0], before[1]}, view.point(0));
+        assertThrows(IllegalStateException.class, () -> table.add("MOEA_AMOSA", 700, 1200, 0, 1, 2));
+    }
+
+    @Test
+    void attachRejectsAnotherTable() throws IOException {
+        SolutionTable other = new SolutionTable("Energy", "AvgWait");
+        other.add("MOEA_AMOSA", 700, 1200, 0, 1, 2);
+        File file = new File(dir, "other.bin");
+        MappedSolutionStore.write(other, file);
+
+        assertThrows(IllegalArgumentException.class, () -> table().attach(MappedSolutionStore.open(file)));
+    }
+
+    @Test
+    void rowLimitFitsOneMappingPerColumn() throws IOException {
+        File file = new File(dir, "large.bin");
+        assertTrue(8L * MappedSolutionStore.MAX_ROWS <= Integer.MAX_VALUE);
+        assertTrue(8L * (MappedSolutionStore.MAX_ROWS + 1) > Integer.MAX_VALUE);
+
+        MappedSolutionStore.checkRows(MappedSolutionStore.MAX_ROWS, file);
+        IOException failure = assertThrows(IOException.class,
+                () -> MappedSolutionStore.checkRows(MappedSolutionStore.MAX_ROWS + 1, file));
+        assertTrue(failure.getMessage().contains(String.valueOf(MappedSolutionStore.MAX_ROWS)));
+    }
+}
@@ -0,0 +1,242 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsEngineTest {
+
+    /**
+     * The boxed PerformanceMetrics as it was before MetricsEngine replaced it, kept verbatim
+     * apart from names, as the reference for the numbers.
+     */
+    private static class LegacyMetrics {
+        double f1min, f1max, f2min, f2max;
+        final ArrayList<ArrayList<ArrayList<Double>>> allParetos;
+        final ArrayList<ArrayList<ArrayList<Double>>> normalizedParetos = new ArrayList<>();
+
+        LegacyMetrics(ArrayList<ArrayList<ArrayList<Double>>> allParetos) {
+            for (int i = 0; i < allParetos.size(); i++) {
+                allParetos.get(i).sort(new FitnessComparator());
+            }
+            this.allParetos = allParetos;
+            findMinMax();
+            normalize();
+        }
+
+        private void findMinMax() {
+            if (allParetos.isEmpty() || allParetos.get(0).isEmpty()) {
+                f1min = f1max = f2min = f2max = 0;
+                return;
+            }
+            f1min = f1max = allParetos.get(0).get(0).get(0);
+            f2min = f2max = allParetos.get(0).get(0).get(1);
+            for (int i = 0; i < allParetos.size(); i++) {
+                if (allParetos.get(i).isEmpty()) continue;
+                int first = 0, last = allParetos.get(i).size() - 1;
+                if (allParetos.get(i).get(first).get(0) < f1min) f1min = allParetos.get(i).get(first).get(0);
+                if (allParetos.get(i).get(last).get(0) > f1max) f1max = allParetos.get(i).get(last).get(0);
+                if (allParetos.get(i).get(last).get(1) < f2min) f2min = allParetos.get(i).get(last).get(1);
+                if (allParetos.get(i).get(first).get(1) > f2max) f2max = allParetos.get(i).get(first).get(1);
+            }
+        }
+
+        private void normalize() {
+            double f1Range = f1max - f1min;
+            double f2Range = f2max - f2min;
+            if (f1Range == 0) f1Range = 1;
+            if (f2Range == 0) f2Range = 1;
+            for (ArrayList<ArrayList<Double>> front : allParetos) {
+                ArrayList<ArrayList<Double>> normalizedP = new ArrayList<>();
+                for (ArrayList<Double> solution : front) {
+                    ArrayList<Double> nSolution = new ArrayList<>();
+                    nSolution.add((solution.get(0) - f1min) / f1Range);
+                    nSolution.add((solution.get(1) - f2min) / f2Range);
+                    normalizedP.add(nSolution);
+                }
+                normalizedParetos.add(normalizedP);
+            }
+        }
+
+        double HV(int paretoIndex) {
+            ArrayList<ArrayList<Double>> p = normalizedParetos.get(paretoIndex);
+            if (p.isEmpty()) return 0.0;
+            double volume = Math.abs(1.0 - p.get(0).get(0)) * Math.abs(1.0 - p.get(0).get(1));
+            for (int i = 1; i < p.size(); i++) {
+                volume += Math.abs(1.0 - p.get(i).get(0)) * Math.abs(p.get(i - 1).get(1) - p.get(i).get(1));
+            }
+            return volume;
+        }
+
+        private static double euclid(ArrayList<Double> x, ArrayList<Double> y) {
+            return Math.sqrt(Math.pow(x.get(0) - y.get(0), 2) + Math.pow(x.get(1) - y.get(1), 2));
+        }
+
+        double IGD(int paretoIndex) {
+            if (normalizedParetos.size() < 3 || normalizedParetos.get(2).isEmpty()) return Double.MAX_VALUE;
+            if (normalizedParetos.get(paretoIndex).isEmpty()) return Double.MAX_VALUE;
+            double distance = 0.0;
+            for (ArrayList<Double> trueSolution : normalizedParetos.get(2)) {
+                double minDistance = Double.MAX_VALUE;
+                for (ArrayList<Double> solution : normalizedParetos.get(paretoIndex)) {
+                    minDistance = Math.min(minDistance, euclid(trueSolution, solution));
+                }
+                distance += minDistance;
+            }
+            return distance / normalizedParetos.get(2).size();
+        }
+
+        double GD(int paretoIndex) {
+            if (normalizedParetos.size() < 3 || normalizedParetos.get(2).isEmpty()) return Double.MAX_VALUE;
+            if (normalizedParetos.get(paretoIndex).isEmpty()) return Double.MAX_VALUE;
+            double distance = 0.0;
+            ArrayList<ArrayList<Double>> pareto = normalizedParetos.get(paretoIndex);
+            for (ArrayList<Double> solution : pareto) {
+                double minDistance = Double.MAX_VALUE;
+                for (ArrayList<Double> refSolution : normalizedParetos.get(2)) {
+                    minDistance = Math.min(minDistance, euclid(solution, refSolution));
+                }
+                distance += minDistance;
+            }
+            return distance / pareto.size();
+        }
+
+        double C_Metric(int first, int second) {
+            if (normalizedParetos.get(first).isEmpty() || normalizedParetos.get(second).isEmpty()) return 0.0;
+            int count = 0;
+            for (ArrayList<Double> secondSolution : normalizedParetos.get(second)) {
+                for (ArrayList<Double> firstSolution : normalizedParetos.get(first)) {
+                    if (Dominance.compare(firstSolution, secondSolution) == -1) {
+                        count++;
+                        break;
+                    }
+                }
+            }
+            return (double) count / normalizedParetos.get(second).size();
+        }
+
+        double Spacing(int paretoIndex) {
+            ArrayList<ArrayList<Double>> p = normalizedParetos.get(paretoIndex);
+            if (p.size() < 2) return 0.0;
+            ArrayList<Double> distance = new ArrayList<>();
+            distance.add(Math.abs(p.get(1).get(0) - p.get(0).get(0)) + Math.abs(p.get(0).get(1) - p.get(1).get(1)));
+            double total = distance.get(0);
+            double prevDist = distance.get(0);
+            for (int i = 1; i < p.size() - 1; i++) {
+                double nextDist = Math.abs(p.get(i + 1).get(0) - p.get(i).get(0))
+                        + Math.abs(p.get(i).get(1) - p.get(i + 1).get(1));
+                distance.add(Math.min(prevDist, nextDist));
+                total += distance.get(i);
+                prevDist = nextDist;
+            }
+            int last = p.size() - 1;
+            distance.add(p.get(last).get(0) - p.get(last - 1).get(0) + p.get(last - 1).get(1) - p.get(last).get(1));
+            total += distance.get(last);
+            double dAvg = total / distance.size();
+            double space = 0;
+            for (Double d : distance) {
+                space += Math.pow(dAvg - d, 2);
+            }
+            return Math.sqrt((1.0 / (p.size() - 1)) * space);
+        }
+    }
+
+    /**
+     * Random fronts; on a coarse grid most points share values or repeat exactly. The
+     * reference (index 2) is a non-dominated set, the others need not be.
+     */
+    private static double[][] randomFronts(SplittableRandom random, int count, int grid, boolean nonDominated) {
+        double[][] fronts = new double[count][];
+        for (int f = 0; f < count; f++) {
+            int n = random.nextInt(f == 0 ? 1 : 0, 40);
+            double[] points = new double[2 * n];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = random.nextInt(grid) * 0.5 + 10;
+            }
+            if (nonDominated || f == 2) {
+                int[] kept = Dominance.nonDominatedIndices2D(points, n);
+                double[] front = new double[2 * kept.length];
+                for (int i = 0; i < kept.length; i++) {
+                    front[2 * i] = points[2 * kept[i]];
+                    front[2 * i + 1] = points[2 * kept[i] + 1];
+                }
+                points = front;
+            }
+            fronts[f] = points;
+        }
+        return fronts;
+    }
+
+    private static ArrayList<ArrayList<ArrayList<Double>>> boxed(double[][] fronts) {
+        ArrayList<ArrayList<ArrayList<Double>>> boxed = new ArrayList<>();
+        for (double[] front : fronts) {
+            ArrayList<ArrayList<Double>> list = new ArrayList<>();
+            for (int i = 0; i < front.length; i += 2) {
+                ArrayList<Double> solution = new ArrayList<>();
+                solution.add(front[i]);
+                solution.add(front[i + 1]);
+                list.add(solution);
+            }
+            boxed.add(list);
+        }
+        return boxed;
+    }
+
+    private static void assertSameMetrics(double[][] fronts, String label) {
+        LegacyMetrics legacy = new LegacyMetrics(boxed(fronts));
+        MetricsEngine engine = new MetricsEngine(fronts);
+        PerformanceMetrics adapter = new PerformanceMetrics(boxed(fronts));
+
+        assertEquals(legacy.f1min, engine.f1min, label);
+        assertEquals(legacy.f1max, engine.f1max, label);
+        assertEquals(legacy.f2min, engine.f2min, label);
+        assertEquals(legacy.f2max, engine.f2max, label);
+        for (int f = 0; f < fronts.length; f++) {
+            String front = label + ", front " + f;
+            assertEquals(legacy.HV(f), engine.HV(f), front + " HV");
+            assertEquals(legacy.GD(f), engine.GD(f), front + " GD");
+            assertEquals(legacy.IGD(f), engine.IGD(f), front + " IGD");
+            assertEquals(legacy.Spacing(f), engine.Spacing(f), front + " Spacing");
+            assertEquals(engine.HV(f), adapter.HV(f), front);
+            assertEquals(engine.GD(f), adapter.GD(f), front);
+            assertEquals(engine.IGD(f), adapter.IGD(f), front);
+            assertEquals(engine.Spacing(f), adapter.Spacing(f), front);
+            for (int g = 0; g < fronts.length; g++) {
+                assertEquals(legacy.C_Metric(f, g), engine.C_Metric(f, g), front + " C vs " + g);
+                assertEquals(engine.C_Metric(f, g), adapter.C_Metric(f, g), front);
+            }
+        }
+    }
+
+    @Test
+    void matchesLegacyMetricsOnRandomFronts() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 300; trial++) {
+            double[][] fronts = randomFronts(random, 3 + trial % 3, 1_000_000, trial % 2 == 0);
+            assertSameMetrics(fronts, "trial " + trial);
+        }
+    }
+
+    @Test
+    void matchesLegacyMetricsOnDuplicateHeavyFronts() {
+        SplittableRandom random = new SplittableRandom(1200);
+        for (int trial = 0; trial < 300; trial++) {
+            double[][] fronts = randomFronts(random, 3 + trial % 3, 2 + trial % 6, trial % 2 == 0);
+            assertSameMetrics(fronts, "trial " + trial);
+        }
+    }
+
+    @Test
+    void matchesLegacyMetricsWhenFrontsAreShared() {
+        // The report passes the same front at several indices, e.g. the universal set as
+        // both the approximation and the reference
+        SplittableRandom random = new SplittableRandom(1201);
+        double[][] fronts = randomFronts(random, 3, 50, true);
+        fronts[1] = fronts[2];
+        assertSameMetrics(fronts, "shared");
+        assertEquals(0.0, new MetricsEngine(fronts).IGD(1));
+    }
+}
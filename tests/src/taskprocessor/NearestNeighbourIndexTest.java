@@ -0,0 +1,100 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class NearestNeighbourIndexTest {
+
+    private static final double TOLERANCE = 1e-12;
+
+    /**
+     * Random points with stride k: continuous values, or a coarse grid for tied first
+     * objectives and duplicates.
+     */
+    private static double[] randomPoints(SplittableRandom random, int n, int k, boolean grid) {
+        double[] points = new double[n * k];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = grid ? random.nextInt(6) / 4.0 : random.nextDouble() * 1.1;
+        }
+        return points;
+    }
+
+    /**
+     * Mean nearest distance by a full scan, for any number of objectives.
+     */
+    private static double bruteForce(double[] from, int fromSize, double[] to, int toSize, int k) {
+        double distance = 0.0;
+        for (int i = 0; i < fromSize; i++) {
+            double minDistance = Double.MAX_VALUE;
+            for (int j = 0; j < toSize; j++) {
+                double squared = 0.0;
+                for (int m = 0; m < k; m++) {
+                    double d = from[i * k + m] - to[j * k + m];
+                    squared += d * d;
+                }
+                minDistance = Math.min(minDistance, Math.sqrt(squared));
+            }
+            distance += minDistance;
+        }
+        return distance / fromSize;
+    }
+
+    @Test
+    void sortedFrontMatchesReference() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 400; trial++) {
+            boolean grid = trial % 2 == 0;
+            int fromSize = random.nextInt(1, 40);
+            int toSize = random.nextInt(1, 40);
+            double[] from = randomPoints(random, fromSize, 2, grid);
+            double[] to = MetricsEngine.sortedCopy(randomPoints(random, toSize, 2, grid), toSize);
+
+            double expected = MetricsEngine.meanNearestDistanceReference(from, fromSize, to, toSize);
+            double actual = NearestNeighbourIndex.meanNearestDistance(from, fromSize, 2,
+                    NearestNeighbourIndex.forSortedFront(to, toSize));
+            assertEquals(expected, actual, TOLERANCE, "trial " + trial);
+        }
+    }
+
+    @Test
+    void sortedFrontWithEqualFirstObjectives() {
+        // Every target point shares the same first objective: the scan must not stop early
+        double[] to = {0.5, 0.0, 0.5, 0.3, 0.5, 0.6, 0.5, 0.9, 0.5, 1.2};
+        double[] from = {0.5, 0.65, 0.0, 1.0, 0.5, 0.3, 1.0, -0.2};
+        double expected = MetricsEngine.meanNearestDistanceReference(from, 4, to, 5);
+        double actual = NearestNeighbourIndex.meanNearestDistance(from, 4, 2, NearestNeighbourIndex.forSortedFront(to, 5));
+        assertEquals(expected, actual, TOLERANCE);
+    }
+
+    @Test
+    void builtIndexMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(1200);
+        for (int k = 2; k <= 5; k++) {
+            for (int trial = 0; trial < 200; trial++) {
+                boolean grid = trial % 2 == 0;
+                int fromSize = random.nextInt(1, 60);
+                int toSize = random.nextInt(1, 60);
+                double[] from = randomPoints(random, fromSize, k, grid);
+                double[] to = randomPoints(random, toSize, k, grid);
+
+                double expected = bruteForce(from, fromSize, to, toSize, k);
+                double actual = NearestNeighbourIndex.meanNearestDistance(from, fromSize, k,
+                        NearestNeighbourIndex.build(to, toSize, k));
+                assertEquals(expected, actual, TOLERANCE, "k=" + k + ", trial " + trial);
+                if (k == 2) {
+                    assertEquals(MetricsEngine.meanNearestDistanceReference(from, fromSize, to, toSize), actual, TOLERANCE);
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptyTargetGivesMaxValue() {
+        double[] from = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6};
+        assertEquals(Double.MAX_VALUE, NearestNeighbourIndex.build(new double[0], 0, 3).nearestDistance(from, 0));
+        assertEquals(Double.MAX_VALUE, NearestNeighbourIndex.forSortedFront(new double[0], 0).nearestDistance(from, 0));
+    }
+}
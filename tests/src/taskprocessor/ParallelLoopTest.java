@@ -0,0 +1,66 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelLoopTest {
+
+    @Test
+    void visitsEveryIndexOnce() throws InterruptedException {
+        for (int threads : new int[] {1, 3, 8}) {
+            AtomicIntegerArray visits = new AtomicIntegerArray(1000);
+            ParallelLoop.forEachIndex(visits.length(), threads, i -> visits.incrementAndGet(i));
+            for (int i = 0; i < visits.length(); i++) {
+                assertEquals(1, visits.get(i), "threads=" + threads);
+            }
+        }
+    }
+
+    @Test
+    void rethrowsFailureOfBody() {
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () ->
+                ParallelLoop.forEachIndex(100, 4, i -> {
+                    if (i == 42) throw new IllegalStateException("index 42");
+                }));
+        assertEquals("index 42", failure.getMessage());
+    }
+
+    @Test
+    void workerUsageIsChargedToOpenStage() throws InterruptedException {
+        StageProfiler profiler = new StageProfiler("test");
+        StageProfiler.Stage stage = profiler.begin("parallel");
+        assertSame(stage, StageProfiler.active());
+        long callerStart = StageProfiler.currentThreadCpuNanos();
+
+        // Busy work and scratch buffers on the lanes only; the calling thread just waits
+        double[] sums = new double[8];
+        ParallelLoop.forEachIndex(sums.length, 4, () -> {
+            double[] scratch = new double[100_000];
+            return i -> {
+                double sum = 0;
+                for (int j = 0; j < 2_000_000; j++) {
+                    sum += Math.sqrt(j + i);
+                }
+                sums[i] = sum + scratch.length;
+            };
+        });
+        long callerCpu = StageProfiler.currentThreadCpuNanos() - callerStart;
+        profiler.end();
+        assertNull(StageProfiler.active());
+
+        if (callerStart >= 0) {
+            assertTrue(stage.getCpuNanos() - callerCpu > 1_000_000,
+                    "stage " + stage.getCpuNanos() + " ns, calling thread " + callerCpu + " ns");
+        }
+        if (stage.getAllocatedBytes() >= 0) {
+            assertTrue(stage.getAllocatedBytes() >= 4 * 8 * 100_000);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ParetoArchiveTest {
+
+    /**
+     * Random interleaved points: continuous values, a coarse grid for exact ties and
+     * duplicates, or grid values nudged by less than EPSILON.
+     */
+    private static double[] randomPoints(SplittableRandom random, int n, int kind) {
+        double[] points = new double[2 * n];
+        for (int i = 0; i < points.length; i++) {
+            switch (kind) {
+                case 0:
+                    points[i] = random.nextDouble();
+                    break;
+                case 1:
+                    points[i] = random.nextInt(8);
+                    break;
+                default:
+                    points[i] = random.nextInt(5) + (random.nextInt(3) - 1) * 0.4 * Dominance.EPSILON;
+                    break;
+            }
+        }
+        return points;
+    }
+
+    private static List<double[]> solutions(double[] points) {
+        List<double[]> solutions = new ArrayList<>();
+        for (int i = 0; i < points.length / 2; i++) {
+            solutions.add(new double[]{points[2 * i], points[2 * i + 1]});
+        }
+        return solutions;
+    }
+
+    @Test
+    void snapshotMatchesNonDominatedSet() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 600; trial++) {
+            int n = random.nextInt(0, 300);
+            double[] points = randomPoints(random, n, trial % 3);
+
+            ParetoArchive archive = new ParetoArchive(4);
+            for (int i = 0; i < n; i++) {
+                archive.add(points[2 * i], points[2 * i + 1]);
+            }
+            int[] indices = archive.indices();
+
+            assertArrayEquals(Dominance.nonDominatedIndices2D(points, n), indices, "trial " + trial);
+            List<double[]> solutions = solutions(points);
+            List<double[]> expected = Dominance.getNonDominatedSet(solutions);
+            assertEquals(expected.size(), indices.length);
+            for (int i = 0; i < indices.length; i++) {
+                assertArrayEquals(expected.get(i), solutions.get(indices[i]));
+            }
+            assertEquals(n, archive.inputs());
+        }
+    }
+
+    @Test
+    void outOfOrderAndMergedSequencesMatchInOrderSequence() {
+        SplittableRandom random = new SplittableRandom(900);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = random.nextInt(1, 200);
+            double[] points = randomPoints(random, n, trial % 3);
+            int[] expected = Dominance.nonDominatedIndices2D(points, n);
+
+            // Shuffled positions
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = order[i];
+                order[i] = order[j];
+                order[j] = t;
+            }
+            ParetoArchive shuffled = new ParetoArchive();
+            for (int i : order) {
+                shuffled.add(points[2 * i], points[2 * i + 1], i);
+            }
+            assertArrayEquals(expected, shuffled.indices(), "shuffled, trial " + trial);
+
+            // Disjoint parts of the sequence merged, and a prefix and suffix appended
+            ParetoArchive even = new ParetoArchive();
+            ParetoArchive odd = new ParetoArchive();
+            for (int i = 0; i < n; i++) {
+                (i % 2 == 0 ? even : odd).add(points[2 * i], points[2 * i + 1], i);
+            }
+            even.merge(odd);
+            assertArrayEquals(expected, even.indices(), "merged, trial " + trial);
+
+            int cut = random.nextInt(n + 1);
+            ParetoArchive prefix = new ParetoArchive();
+            ParetoArchive suffix = new ParetoArchive();
+            for (int i = 0; i < n; i++) {
+                (i < cut ? prefix : suffix).add(points[2 * i], points[2 * i + 1]);
+            }
+            prefix.addAll(suffix);
+            assertArrayEquals(expected, prefix.indices(), "appended, trial " + trial);
+            assertEquals(n, prefix.inputs());
+        }
+    }
+
+    @Test
+    void dominanceQueriesMatchPairwiseComparison() {
+        SplittableRandom random = new SplittableRandom(1200);
+        for (int trial = 0; trial < 100; trial++) {
+            int n = random.nextInt(1, 100);
+            double[] points = randomPoints(random, n, trial % 2);
+            ParetoArchive archive = new ParetoArchive();
+            List<Integer> archived = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                boolean dominated = false;
+                for (int a : archived) {
+                    dominated |= points[2 * a] < points[2 * i] && points[2 * a + 1] < points[2 * i + 1];
+                }
+                assertEquals(!dominated, archive.add(points[2 * i], points[2 * i + 1]));
+                if (!dominated) {
+                    double px = points[2 * i], py = points[2 * i + 1];
+                    archived.removeIf(a -> px < points[2 * a] && py < points[2 * a + 1]);
+                    archived.add(i);
+                }
+            }
+            assertEquals(archived.size(), archive.size());
+
+            double x = random.nextInt(8), y = random.nextInt(8);
+            boolean dominated = false;
+            List<Integer> dominatedBy = new ArrayList<>();
+            for (int a : archived) {
+                dominated |= points[2 * a] < x && points[2 * a + 1] < y;
+                if (x < points[2 * a] && y < points[2 * a + 1]) {
+                    dominatedBy.add(a);
+                }
+            }
+            assertEquals(dominated, archive.isDominated(x, y));
+            int[] found = archive.dominatedBy(x, y);
+            assertEquals(dominatedBy.size(), found.length);
+            for (int position : found) {
+                assertTrue(dominatedBy.contains(position));
+            }
+        }
+    }
+
+    @Test
+    void nanPointsAreKeptAndNeverDominate() {
+        double[] points = {Double.NaN, 0, 1, 1, 2, 2, 0, Double.NaN};
+        ParetoArchive archive = new ParetoArchive();
+        for (int i = 0; i < 4; i++) {
+            archive.add(points[2 * i], points[2 * i + 1]);
+        }
+
+        assertArrayEquals(new int[]{0, 1, 3}, archive.indices());
+        assertArrayEquals(Dominance.nonDominatedIndices2D(points, 4), archive.indices());
+    }
+}
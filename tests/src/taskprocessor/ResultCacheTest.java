@@ -0,0 +1,170 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultCacheTest {
+
+    private static final PrintStream QUIET = new PrintStream(new ByteArrayOutputStream());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void saveAndLoadReproducesRows() throws IOException {
+        File cacheFile = dir.resolve("cache.bin").toFile();
+        File first = resultFile("first.xlsx", "a");
+        File second = resultFile("second.xlsx", "bb");
+        double[] firstValues = values(1);
+        double[] secondValues = values(2);
+        secondValues[3] = Double.NaN;
+
+        ResultCache cache = ResultCache.open(cacheFile, QUIET);
+        assertNull(cache.getValues(first));
+        cache.put(first, new ResultRow("MOEA_NSGAII", "_eVSs", 3, 1, firstValues));
+        cache.put(second, new ResultRow("SO_GA_Energy", null, 7, 0, secondValues));
+        cache.save();
+
+        ResultCache reopened = ResultCache.open(cacheFile, QUIET);
+        assertArrayEquals(firstValues, reopened.getValues(first));
+        assertArrayEquals(secondValues, reopened.getValues(second));
+        assertEquals(2, reopened.getHits());
+        assertEquals(0, reopened.getMisses());
+
+        // Loaded entries survive a save that only adds new ones
+        File third = resultFile("third.xlsx", "ccc");
+        double[] thirdValues = values(3);
+        reopened.put(third, new ResultRow("MOEA_SPEAII", "", 1, 2, thirdValues));
+        reopened.save();
+
+        ResultCache merged = ResultCache.open(cacheFile, QUIET);
+        assertArrayEquals(firstValues, merged.getValues(first));
+        assertArrayEquals(secondValues, merged.getValues(second));
+        assertArrayEquals(thirdValues, merged.getValues(third));
+    }
+
+    @Test
+    void changedSizeOrMtimeInvalidatesEntry() throws IOException {
+        File cacheFile = dir.resolve("cache.bin").toFile();
+        File resized = resultFile("resized.xlsx", "a");
+        File touched = resultFile("touched.xlsx", "b");
+
+        ResultCache cache = ResultCache.open(cacheFile, QUIET);
+        cache.put(resized, new ResultRow("MOEA_NSGAII", "", 1, 0, values(1)));
+        cache.put(touched, new ResultRow("MOEA_NSGAII", "", 2, 0, values(2)));
+
+        // Stale entries parsed in this run are not returned either
+        long mtime = resized.lastModified();
+        Files.writeString(resized.toPath(), "ab");
+        assertTrue(resized.setLastModified(mtime));
+        assertNull(cache.getValues(resized));
+        cache.put(resized, new ResultRow("MOEA_NSGAII", "", 1, 0, values(1)));
+        cache.save();
+
+        ResultCache reopened = ResultCache.open(cacheFile, QUIET);
+        Files.writeString(resized.toPath(), "abc");
+        assertTrue(resized.setLastModified(mtime));
+        assertTrue(touched.setLastModified(touched.lastModified() + 5000));
+
+        assertNull(reopened.getValues(resized));
+        assertNull(reopened.getValues(touched));
+        assertEquals(0, reopened.getHits());
+        assertEquals(2, reopened.getMisses());
+    }
+
+    @Test
+    void corruptOrIncompatibleFileGivesEmptyCache() throws IOException {
+        File cacheFile = dir.resolve("cache.bin").toFile();
+        File result = resultFile("result.xlsx", "a");
+        ResultCache cache = ResultCache.open(cacheFile, QUIET);
+        cache.put(result, new ResultRow("MOEA_NSGAII", "", 1, 0, values(1)));
+        cache.save();
+        byte[] valid = Files.readAllBytes(cacheFile.toPath());
+
+        // Truncated
+        Files.write(cacheFile.toPath(), Arrays.copyOf(valid, valid.length / 2));
+        assertEmpty(cacheFile, result);
+
+        // Garbage
+        byte[] garbage = new byte[valid.length];
+        Arrays.fill(garbage, (byte) 0x7f);
+        Files.write(cacheFile.toPath(), garbage);
+        assertEmpty(cacheFile, result);
+
+        // Other version
+        byte[] otherVersion = valid.clone();
+        ByteBuffer.wrap(otherVersion).putInt(4, 99);
+        Files.write(cacheFile.toPath(), otherVersion);
+        assertEmpty(cacheFile, result);
+
+        // Other column layout
+        byte[] otherColumns = valid.clone();
+        ByteBuffer.wrap(otherColumns).putInt(12, ResultRow.COLUMNS.length - 1);
+        Files.write(cacheFile.toPath(), otherColumns);
+        assertEmpty(cacheFile, result);
+
+        // Dictionary offset beyond the file
+        byte[] farDictionary = valid.clone();
+        ByteBuffer.wrap(farDictionary).putLong(16, Long.MAX_VALUE / 2);
+        Files.write(cacheFile.toPath(), farDictionary);
+        assertEmpty(cacheFile, result);
+
+        // Huge string count or string length in the dictionary: no allocation attempted
+        int dictionaryOffset = (int) ByteBuffer.wrap(valid).getLong(16);
+        byte[] hugeCount = valid.clone();
+        ByteBuffer.wrap(hugeCount).putInt(dictionaryOffset, Integer.MAX_VALUE - 8);
+        Files.write(cacheFile.toPath(), hugeCount);
+        assertEmpty(cacheFile, result);
+
+        byte[] hugeLength = valid.clone();
+        ByteBuffer.wrap(hugeLength).putInt(dictionaryOffset + 4, Integer.MAX_VALUE - 8);
+        Files.write(cacheFile.toPath(), hugeLength);
+        assertEmpty(cacheFile, result);
+
+        // An empty cache can be saved over the broken file
+        ResultCache rebuilt = ResultCache.open(cacheFile, QUIET);
+        rebuilt.put(result, new ResultRow("MOEA_NSGAII", "", 1, 0, values(4)));
+        rebuilt.save();
+        assertArrayEquals(values(4), ResultCache.open(cacheFile, QUIET).getValues(result));
+    }
+
+    private static void assertEmpty(File cacheFile, File result) {
+        PrintStream err = System.err;
+        System.setErr(QUIET);
+        try {
+            ResultCache cache = ResultCache.open(cacheFile, QUIET);
+            assertNull(cache.getValues(result));
+            assertEquals(1, cache.getMisses());
+        } finally {
+            System.setErr(err);
+        }
+    }
+
+    private File resultFile(String name, String content) throws IOException {
+        File file = dir.resolve(name).toFile();
+        Files.writeString(file.toPath(), content);
+        return file;
+    }
+
+    private static double[] values(int seed) {
+        double[] values = new double[ResultRow.COLUMNS.length];
+        for (int c = 0; c < values.length; c++) {
+            values[c] = seed * 100.0 + c + 0.25;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,231 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SolutionTableTest {
+
+    private static final String[] ALGORITHMS = {"MOEA_NSGAII", "MOEA_AMOSA", "SO_GA_Energy", "MOEA_SPEAII"};
+    private static final int[] TASK_COUNTS = {700, 1200};
+    private static final int[] SEEDS = {1200, 1201, 1202, 1203, 1204};
+
+    @TempDir
+    File dir;
+
+    /**
+     * Table of random rows, keys drawn independently so that some combinations stay empty.
+     */
+    private static SolutionTable randomTable(SplittableRandom random, int rows) {
+        SolutionTable table = new SolutionTable("Energy", "Makespan", "AvgWait");
+        for (int row = 0; row < rows; row++) {
+            table.add(ALGORITHMS[random.nextInt(ALGORITHMS.length)], TASK_COUNTS[random.nextInt(TASK_COUNTS.length)],
+                    SEEDS[random.nextInt(SEEDS.length)], row,
+                    random.nextInt(100) * 0.5, random.nextDouble(), row);
+        }
+        return table;
+    }
+
+    /**
+     * Rows whose key codes match, in row order; a null code matches every row.
+     */
+    private static List<Integer> matching(SolutionTable table, Integer algorithm, Integer taskCount, Integer seed) {
+        List<Integer> rows = new ArrayList<>();
+        for (int row = 0; row < table.size(); row++) {
+            if ((algorithm == null || table.code(SolutionTable.ALGORITHM, row) == algorithm)
+                    && (taskCount == null || table.code(SolutionTable.TASK_COUNT, row) == taskCount)
+                    && (seed == null || table.code(SolutionTable.SEED, row) == seed)) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Rows of a prefix view as groupBy orders them: matching rows, sorted by the codes of the
+     * keys after the prefix and then by row.
+     */
+    private static List<Integer> grouped(SolutionTable table, int[] keys, int... prefix) {
+        List<Integer> rows = new ArrayList<>();
+        for (int row = 0; row < table.size(); row++) {
+            boolean match = true;
+            for (int k = 0; k < prefix.length; k++) {
+                match &= table.code(keys[k], row) == prefix[k];
+            }
+            if (match) {
+                rows.add(row);
+            }
+        }
+        for (int k = keys.length - 1; k >= prefix.length; k--) {
+            int key = keys[k];
+            rows.sort(Comparator.comparingInt(row -> table.code(key, row)));
+        }
+        return rows;
+    }
+
+    private static List<Integer> rows(SolutionTable.View view) {
+        List<Integer> rows = new ArrayList<>();
+        for (int i = 0; i < view.size(); i++) {
+            rows.add(view.row(i));
+        }
+        return rows;
+    }
+
+    @Test
+    void viewsHoldExactlyTheMatchingRows() {
+        SolutionTable table = randomTable(new SplittableRandom(700), 1000);
+        int algorithms = table.algorithms().size();
+        int taskCounts = table.taskCounts().length;
+        int seeds = table.seeds().length;
+
+        SolutionTable.Grouping grouping = table.groupBy(SolutionTable.ALGORITHM, SolutionTable.TASK_COUNT, SolutionTable.SEED);
+        assertEquals(algorithms * taskCounts * seeds, grouping.groupCount());
+        int[] keys = {SolutionTable.ALGORITHM, SolutionTable.TASK_COUNT, SolutionTable.SEED};
+        assertEquals(grouped(table, keys), rows(grouping.view()));
+        for (int a = 0; a < algorithms; a++) {
+            assertEquals(grouped(table, keys, a), rows(grouping.view(a)));
+            for (int t = 0; t < taskCounts; t++) {
+                assertEquals(grouped(table, keys, a, t), rows(grouping.view(a, t)));
+                for (int s = 0; s < seeds; s++) {
+                    SolutionTable.View view = grouping.view(a, t, s);
+                    assertEquals(matching(table, a, t, s), rows(view), a + "/" + t + "/" + s);
+                    for (int i = 0; i < view.size(); i++) {
+                        assertEquals(table.value(1, view.row(i)), view.get(i, 1));
+                    }
+                }
+            }
+        }
+
+        // Another key order groups the same rows
+        int[] seedFirst = {SolutionTable.SEED, SolutionTable.ALGORITHM};
+        SolutionTable.Grouping bySeed = table.groupBy(seedFirst);
+        for (int s = 0; s < seeds; s++) {
+            assertEquals(grouped(table, seedFirst, s), rows(bySeed.view(s)));
+            for (int a = 0; a < algorithms; a++) {
+                assertEquals(matching(table, a, null, s), rows(bySeed.view(s, a)));
+            }
+        }
+    }
+
+    @Test
+    void keysRoundTripThroughTheirCodes() {
+        SolutionTable table = new SolutionTable("Energy", "Makespan");
+        assertEquals(0, table.algorithmCode("MOEA_AMOSA"));
+        int row = table.add("MOEA_NSGAII", 700, 1201, 9, 1.5, 2.5);
+
+        assertEquals("MOEA_NSGAII", table.algorithm(row));
+        assertEquals(700, table.taskCount(row));
+        assertEquals(1201, table.seed(row));
+        assertEquals(9, table.file(row));
+        assertEquals(List.of("MOEA_AMOSA", "MOEA_NSGAII"), table.algorithms());
+        assertEquals(-1, table.findAlgorithm("SO_GA_Energy"));
+        assertEquals(-1, table.findSeed(1200));
+        assertEquals(0, table.findTaskCount(700));
+        assertTrue(table.groupBy(SolutionTable.ALGORITHM).view(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> table.add("MOEA_NSGAII", 700, 1201, 0, 1.0));
+    }
+
+    @Test
+    void viewsKeepTheirRowsWhenRowsAreAppended() {
+        SplittableRandom random = new SplittableRandom(1200);
+        SolutionTable table = randomTable(random, 50);
+        SolutionTable.Grouping before = table.groupBy(SolutionTable.ALGORITHM, SolutionTable.SEED);
+        SolutionTable.View view = before.view(0, 0);
+        List<Integer> viewRows = rows(view);
+        double[] viewValues = view.flatten(0, 1, 2);
+
+        // Enough rows to grow the columns, with a seed that is new to the table
+        for (int row = 50; row < 500; row++) {
+            table.add(table.algorithm(0), 700, row % 2 == 0 ? SEEDS[0] : 999, row, row, row + 0.5, -row);
+        }
+
+        assertEquals(viewRows, rows(view));
+        assertArrayEquals(viewValues, view.flatten(0, 1, 2));
+        assertEquals(50, before.view().size());
+
+        SolutionTable.Grouping after = table.groupBy(SolutionTable.ALGORITHM, SolutionTable.SEED);
+        int newSeed = table.findSeed(999);
+        assertEquals(matching(table, 0, null, 0), rows(after.view(0, 0)));
+        assertEquals(matching(table, 0, null, newSeed), rows(after.view(0, newSeed)));
+        assertEquals(225, after.view(0, newSeed).size());
+        assertEquals(499.5, table.value(1, 499));
+    }
+
+    @Test
+    void concatJoinsViewsInOrder() {
+        SolutionTable table = randomTable(new SplittableRandom(1201), 300);
+        SolutionTable.Grouping grouping = table.groupBy(SolutionTable.ALGORITHM);
+        List<SolutionTable.View> others = List.of(grouping.view(2), table.emptyView(), grouping.view(1));
+        SolutionTable.View joined = grouping.view(3).concat(others);
+
+        List<Integer> expected = new ArrayList<>(rows(grouping.view(3)));
+        expected.addAll(rows(grouping.view(2)));
+        expected.addAll(rows(grouping.view(1)));
+        assertEquals(expected, rows(joined));
+
+        double[] flat = joined.flatten(2, 0);
+        for (int i = 0; i < joined.size(); i++) {
+            assertEquals(table.value(2, expected.get(i)), flat[2 * i]);
+            assertEquals(table.value(0, expected.get(i)), flat[2 * i + 1]);
+        }
+        assertEquals(0, table.emptyView().concat(List.of()).size());
+    }
+
+    @Test
+    void attachKeepsEveryValue() throws IOException {
+        SolutionTable table = randomTable(new SplittableRandom(1202), 700);
+        SolutionTable.Grouping grouping = table.groupBy(SolutionTable.ALGORITHM, SolutionTable.TASK_COUNT, SolutionTable.SEED);
+        SolutionTable.View joined = grouping.view(1).concat(List.of(grouping.view(0, 1)));
+
+        double[][] values = new double[table.columnCount()][table.size()];
+        for (int c = 0; c < table.columnCount(); c++) {
+            for (int row = 0; row < table.size(); row++) {
+                values[c][row] = table.value(c, row);
+            }
+        }
+        double[][] groups = new double[grouping.groupCount()][];
+        for (int g = 0; g < groups.length; g++) {
+            groups[g] = viewOfGroup(grouping, g).flatten(0, 1, 2);
+        }
+        double[] joinedValues = joined.flatten(1, 2);
+        double[] point = joined.point(3);
+
+        File file = new File(dir, "solutions.bin");
+        MappedSolutionStore.write(table, file);
+        table.attach(MappedSolutionStore.open(file));
+
+        assertTrue(table.isAttached());
+        for (int c = 0; c < table.columnCount(); c++) {
+            for (int row = 0; row < table.size(); row++) {
+                assertEquals(values[c][row], table.value(c, row));
+            }
+        }
+        for (int g = 0; g < groups.length; g++) {
+            assertArrayEquals(groups[g], viewOfGroup(grouping, g).flatten(0, 1, 2));
+        }
+        assertArrayEquals(joinedValues, joined.flatten(1, 2));
+        assertArrayEquals(point, joined.point(3));
+        assertEquals(values[2][joined.row(3)], joined.get(3, 2));
+
+        // A store of another size does not attach
+        SolutionTable other = randomTable(new SplittableRandom(1203), 10);
+        assertThrows(IllegalArgumentException.class, () -> other.attach(MappedSolutionStore.open(file)));
+    }
+
+    private static SolutionTable.View viewOfGroup(SolutionTable.Grouping grouping, int g) {
+        int seeds = SEEDS.length;
+        int taskCounts = TASK_COUNTS.length;
+        return grouping.view(g / (taskCounts * seeds), g / seeds % taskCounts, g % seeds);
+    }
+}
@@ -0,0 +1,148 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class StatisticalTestsTest {
+
+    private static final double TOLERANCE = 1e-12;
+
+    /**
+     * Two-sided rank-sum p-value by enumerating every way to pick |a| of the pooled midranks.
+     */
+    private static double enumeratedPValue(double[] a, double[] b) {
+        int n1 = a.length;
+        int n = a.length + b.length;
+        double[] pooled = new double[n];
+        System.arraycopy(a, 0, pooled, 0, n1);
+        System.arraycopy(b, 0, pooled, n1, b.length);
+        double[] ranks = StatisticalTests.midranks(pooled);
+
+        double observed = 0;
+        for (int i = 0; i < n1; i++) observed += ranks[i];
+        double mean = n1 * (n + 1) / 2.0;
+        double distance = Math.abs(observed - mean);
+
+        long extreme = 0;
+        long all = 0;
+        for (int mask = 0; mask < 1 << n; mask++) {
+            if (Integer.bitCount(mask) != n1) continue;
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                if ((mask & 1 << i) != 0) sum += ranks[i];
+            }
+            all++;
+            if (Math.abs(sum - mean) >= distance - 1e-9) extreme++;
+        }
+        return (double) extreme / all;
+    }
+
+    @Test
+    void rankSumPValueMatchesFullEnumeration() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int trial = 0; trial < 300; trial++) {
+            // Few distinct values, so most samples have ties within and across them
+            double[] a = new double[random.nextInt(1, 7)];
+            double[] b = new double[random.nextInt(1, 7)];
+            int levels = random.nextInt(2, 8);
+            for (int i = 0; i < a.length; i++) a[i] = random.nextInt(levels) * 0.5;
+            for (int i = 0; i < b.length; i++) b[i] = random.nextInt(levels) * 0.5 + (trial % 3 == 0 ? 1 : 0);
+
+            assertEquals(enumeratedPValue(a, b), StatisticalTests.rankSumPValue(a, b), TOLERANCE, "trial " + trial);
+        }
+    }
+
+    @Test
+    void rankSumPValueKnownCases() {
+        // Complete separation of 3 and 3 values: 2 of 20 picks are as extreme
+        assertEquals(0.1, StatisticalTests.rankSumPValue(new double[] {1, 2, 3}, new double[] {4, 5, 6}), TOLERANCE);
+        assertEquals(1.0, StatisticalTests.rankSumPValue(new double[] {1, 1}, new double[] {1, 1, 1}), TOLERANCE);
+        assertEquals(1.0, StatisticalTests.rankSumPValue(new double[0], new double[] {1, 2}));
+    }
+
+    @Test
+    void rankSumPValuesMatrixIsSymmetric() throws InterruptedException {
+        double[][] samples = {{1, 2, 3, 4}, {2, 3, 3, 5}, {7, 8, 9, 9}};
+        double[][] single = StatisticalTests.rankSumPValues(samples, 1);
+        double[][] parallel = StatisticalTests.rankSumPValues(samples, 4);
+        for (int a = 0; a < samples.length; a++) {
+            assertArrayEquals(single[a], parallel[a]);
+            assertEquals(1.0, single[a][a]);
+            for (int b = 0; b < samples.length; b++) {
+                assertEquals(single[a][b], single[b][a]);
+                if (a != b) {
+                    assertEquals(StatisticalTests.rankSumPValue(samples[a], samples[b]), single[a][b]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void holmAdjustsKnownVector() {
+        double[] adjusted = StatisticalTests.holm(new double[] {0.01, 0.04, 0.03, 0.005});
+        assertArrayEquals(new double[] {0.03, 0.06, 0.06, 0.02}, adjusted, 1e-15);
+
+        // Capped at 1, and the order is kept for equal values
+        assertArrayEquals(new double[] {1.0, 1.0, 0.3}, StatisticalTests.holm(new double[] {0.5, 0.5, 0.1}), 1e-15);
+        assertEquals(0, StatisticalTests.holm(new double[0]).length);
+    }
+
+    @Test
+    void kruskalWallisHKnownCases() {
+        // Ranks 1..9 in three blocks: 12 / 90 * (36 + 225 + 576) / 3 - 30
+        assertEquals(7.2, StatisticalTests.kruskalWallisH(new double[][] {{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}), TOLERANCE);
+
+        // Three pairs of ties: 3.047619... divided by 1 - 18 / 210
+        assertEquals(10.0 / 3, StatisticalTests.kruskalWallisH(new double[][] {{1, 1, 2}, {2, 3, 3}}), TOLERANCE);
+
+        // Empty samples are ignored; all values tied gives 0
+        assertEquals(7.2, StatisticalTests.kruskalWallisH(new double[][] {{1, 2, 3}, {}, {4, 5, 6}, {7, 8, 9}}), TOLERANCE);
+        assertEquals(0.0, StatisticalTests.kruskalWallisH(new double[][] {{2, 2}, {2, 2, 2}}));
+    }
+
+    @Test
+    void kruskalWallisPValueDoesNotDependOnThreads() throws InterruptedException {
+        double[][] groups = {{0.61, 0.64, 0.59, 0.66, 0.62}, {0.58, 0.60, 0.57, 0.61, 0.59}, {0.66, 0.69, 0.64, 0.70, 0.66}};
+        double single = StatisticalTests.kruskalWallisPValue(groups, 5500, 1200, 1);
+        for (int threads : new int[] {2, 4, 7}) {
+            assertEquals(single, StatisticalTests.kruskalWallisPValue(groups, 5500, 1200, threads), "threads=" + threads);
+        }
+        assertTrue(single > 0 && single < 0.05);
+
+        // Identical groups: every relabeling is as extreme
+        assertEquals(1.0, StatisticalTests.kruskalWallisPValue(new double[][] {{1, 2}, {1, 2}}, 999, 1200, 2), TOLERANCE);
+        assertEquals(1.0, StatisticalTests.kruskalWallisPValue(new double[][] {{1, 2}, {}}, 999, 1200, 2));
+    }
+
+    @Test
+    void a12BoundaryValues() {
+        assertEquals(1.0, StatisticalTests.a12(new double[] {5, 6}, new double[] {1, 2, 3}));
+        assertEquals(0.0, StatisticalTests.a12(new double[] {1, 2, 3}, new double[] {5, 6}));
+        assertEquals(0.5, StatisticalTests.a12(new double[] {3, 3}, new double[] {3, 3, 3}));
+        assertEquals(0.5, StatisticalTests.a12(new double[0], new double[] {1}));
+        assertEquals(0.5, StatisticalTests.a12(new double[] {1}, new double[0]));
+        // One win and one tie out of four pairs
+        assertEquals(0.375, StatisticalTests.a12(new double[] {2, 3}, new double[] {2, 4}));
+    }
+
+    @Test
+    void effectMagnitudeBoundaryValues() {
+        double[][] thresholds = {{0.06, 0}, {0.14, 1}, {0.21, 2}};
+        String[] names = {"negligible", "small", "medium", "large"};
+        for (double[] threshold : thresholds) {
+            int below = (int) threshold[1];
+            for (int sign : new int[] {1, -1}) {
+                assertEquals(names[below], StatisticalTests.effectMagnitude(0.5 + sign * (threshold[0] - 1e-9)));
+                assertEquals(names[below + 1], StatisticalTests.effectMagnitude(0.5 + sign * (threshold[0] + 1e-9)));
+            }
+        }
+        assertEquals("negligible", StatisticalTests.effectMagnitude(0.5));
+        assertEquals("large", StatisticalTests.effectMagnitude(0.0));
+        assertEquals("large", StatisticalTests.effectMagnitude(1.0));
+    }
+}
@@ -0,0 +1,86 @@
+package taskprocessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class WfgHypervolumeTest {
+
+    private static final double TOLERANCE = 1e-12;
+
+    @Test
+    void exactMatchesReference() {
+        SplittableRandom random = new SplittableRandom(700);
+        for (int k = 2; k <= 5; k++) {
+            for (int trial = 0; trial < 60; trial++) {
+                // Coarse grids give shared coordinates and duplicates; some points lie outside
+                // the reference box and many are dominated
+                int n = random.nextInt(0, k == 5 ? 10 : 16);
+                double[] points = new double[n * k];
+                for (int i = 0; i < points.length; i++) {
+                    points[i] = trial % 2 == 0 ? random.nextInt(6) / 5.0 : random.nextDouble() * 1.1;
+                }
+
+                assertEquals(Hypervolume.hvReference(points, n, k), WfgHypervolume.exact(points, n, k), TOLERANCE,
+                        "k=" + k + ", trial " + trial);
+            }
+        }
+    }
+
+    @Test
+    void valueDoesNotDependOnThreads() throws InterruptedException {
+        // Points on the simplex are mutually non-dominated, enough to split into parallel tasks
+        int n = 300, k = 5;
+        double[] points = simplexPoints(new SplittableRandom(1200), n, k);
+
+        double exact = WfgHypervolume.exact(points, n, k);
+        WfgHypervolume.Result single = new WfgHypervolume(1, 0).compute(points, n, k);
+        WfgHypervolume.Result parallel = new WfgHypervolume(4, 0).compute(points, n, k);
+
+        assertTrue(single.isExact() && parallel.isExact());
+        assertEquals(exact, single.getValue());
+        assertEquals(exact, parallel.getValue());
+    }
+
+    @Test
+    void exhaustedBudgetFallsBackToEstimate() throws InterruptedException {
+        int n = 400, k = 6;
+        double[] points = simplexPoints(new SplittableRandom(900), n, k);
+
+        WfgHypervolume wfg = new WfgHypervolume(2, 1);
+        wfg.setFallbackSamples(50_000);
+        wfg.setSeed(700);
+        WfgHypervolume.Result result = wfg.compute(points, n, k);
+
+        // Same samples as a direct estimate with that seed
+        HypervolumeEstimator.Estimate estimate = new HypervolumeEstimator(700, 1).estimate(points, n, k, 50_000, 0);
+        assertFalse(result.isExact());
+        assertEquals(50_000, result.getSamples());
+        assertEquals(estimate.getValue(), result.getValue());
+        assertEquals(estimate.getStandardError(), result.getStandardError());
+        assertTrue(result.getStandardError() > 0);
+        assertEquals(1.959963984540054 * result.getStandardError(), result.getConfidenceHalfWidth(), 1e-15);
+    }
+
+    /**
+     * Points on the simplex, mutually non-dominated.
+     */
+    private static double[] simplexPoints(SplittableRandom random, int n, int k) {
+        double[] points = new double[n * k];
+        for (int i = 0; i < n; i++) {
+            double sum = 0;
+            for (int d = 0; d < k; d++) {
+                points[i * k + d] = -Math.log(random.nextDouble());
+                sum += points[i * k + d];
+            }
+            for (int d = 0; d < k; d++) {
+                points[i * k + d] /= sum;
+            }
+        }
+        return points;
+    }
+}